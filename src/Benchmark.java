@@ -0,0 +1,489 @@
+import java.util.Random;
+
+// Fixed reference positions and measurements for the search, run from SuperNova
+class Benchmark {
+
+    private static final long SEED = 20180101;
+    private static final int POSITIONS = 20;
+
+    public static void run() {
+        moveOrdering();
+        transpositionTable();
+        endgameSolver();
+        parallelSolver();
+        sharedTable();
+        monteCarlo();
+        zeroWindow();
+        boundCutoffs();
+        coinBucketing();
+        symmetry();
+        accumulator();
+        batchInference();
+    }
+
+    // Boards with brown cells and random moves up to the given ply, the same on every run
+    public static Board[] getReferencePositions(int ply, int count) {
+        Random random = new Random(SEED + ply);
+        Board[] boards = new Board[count];
+        for(int i=0; i<count; i++) {
+            Board board = new Board();
+            for(int brown=0; brown<SuperNova.BROWNCOINS; brown++) {
+                long emptyCells = board.getEmptyCells();
+                board.setBrownSpot(Board.getNthCell(emptyCells, random.nextInt(Long.bitCount(emptyCells))));
+            }
+            while(board.getPly() < ply) {
+                long emptyCells = board.getEmptyCells();
+                int remainingCoins = board.getRemainingCoins(board.getColorToMove());
+                int cell = Board.getNthCell(emptyCells, random.nextInt(Long.bitCount(emptyCells)));
+                int value = Board.getNthCoin(remainingCoins, random.nextInt(Integer.bitCount(remainingCoins)));
+                board.makeMove(Move.encode(cell, value));
+            }
+            boards[i] = board;
+        }
+        return boards;
+    }
+
+    private static void moveOrdering() {
+        System.out.println("Move ordering: ply | nodes unordered | nodes ordered | first move cutoffs unordered | ordered");
+        for(int ply = 25; ply >= 21; ply--) {
+            long[] nodes = new long[2];
+            double[] firstMoveCutoffs = new double[2];
+            for(int ordering=0; ordering<2; ordering++) {
+                for(Board board: getReferencePositions(ply, POSITIONS)) {
+                    Search search = new Search(board);
+                    search.setMoveOrdering(ordering == 1);
+                    search.findBestMove();
+                    nodes[ordering] += search.getNodes();
+                    firstMoveCutoffs[ordering] += search.getFirstMoveCutoffRate() / POSITIONS;
+                }
+            }
+            System.out.println(ply + " | " + nodes[0] / POSITIONS + " | " + nodes[1] / POSITIONS + " | "
+                    + String.format("%.3f", firstMoveCutoffs[0]) + " | " + String.format("%.3f", firstMoveCutoffs[1]));
+        }
+    }
+
+    private static void transpositionTable() {
+        System.out.println("Transposition table: ply | nodes without | nodes with | ms without | ms with");
+        for(int ply = 25; ply >= 19; ply--) {
+            long[] nodes = new long[2];
+            long[] time = new long[2];
+            for(int hashing=0; hashing<2; hashing++) {
+                if(ply < 21 && hashing == 0) {
+                    continue;
+                }
+                for(Board board: getReferencePositions(ply, POSITIONS)) {
+                    Search search = hashing == 1 ? new Search(board, new TranspositionTable(20)) : new Search(board);
+                    long start = System.nanoTime();
+                    search.findBestMove();
+                    time[hashing] += System.nanoTime() - start;
+                    nodes[hashing] += search.getNodes();
+                }
+            }
+            System.out.println(ply + " | " + nodes[0] / POSITIONS + " | " + nodes[1] / POSITIONS + " | "
+                    + time[0] / POSITIONS / 1000000 + " | " + time[1] / POSITIONS / 1000000);
+        }
+    }
+
+    private static void endgameSolver() {
+        System.out.println("Endgame solver: ply | exact ms | exact nodes | outcome ms | outcome nodes");
+        for(int ply = 23; ply >= 18; ply--) {
+            long[] nodes = new long[2];
+            long[] time = new long[2];
+            for(int exact=0; exact<2; exact++) {
+                for(Board board: getReferencePositions(ply, POSITIONS)) {
+                    EndgameSolver solver = new EndgameSolver(board, new TranspositionTable(22));
+                    long start = System.nanoTime();
+                    if(exact == 0) {
+                        solver.solve();
+                    } else {
+                        solver.solveOutcome();
+                    }
+                    time[exact] += System.nanoTime() - start;
+                    nodes[exact] += solver.getNodes();
+                }
+            }
+            System.out.println(ply + " | " + time[0] / POSITIONS / 1000000 + " | " + nodes[0] / POSITIONS + " | "
+                    + time[1] / POSITIONS / 1000000 + " | " + nodes[1] / POSITIONS);
+        }
+    }
+
+    // The sequential solver is the baseline, the workers run on the SuperNova.THREADS threads of the pool
+    private static void parallelSolver() {
+        System.out.println("Parallel solver (" + SuperNova.THREADS + " threads): ply | sequential ms | parallel ms | speedup"
+                + " | sequential nodes | parallel nodes | same scores");
+        for(int ply = 21; ply >= 18; ply--) {
+            long[] time = new long[2];
+            long[] nodes = new long[2];
+            int sameScores = 0;
+            for(Board board: getReferencePositions(ply, POSITIONS)) {
+                EndgameSolver sequential = new EndgameSolver(board, new TranspositionTable(20));
+                long start = System.nanoTime();
+                sequential.solve();
+                time[0] += System.nanoTime() - start;
+                nodes[0] += sequential.getNodes();
+
+                ParallelSolver parallel = new ParallelSolver(board, new TranspositionTable(20));
+                start = System.nanoTime();
+                parallel.solve();
+                time[1] += System.nanoTime() - start;
+                nodes[1] += parallel.getNodes();
+                if(parallel.getScore() == sequential.getScore()) {
+                    sameScores++;
+                }
+            }
+            System.out.println(ply + " | " + time[0] / POSITIONS / 1000000 + " | " + time[1] / POSITIONS / 1000000
+                    + " | " + String.format("%.2f", (double) time[0] / time[1])
+                    + " | " + nodes[0] / POSITIONS + " | " + nodes[1] / POSITIONS + " | " + sameScores + "/" + POSITIONS);
+        }
+    }
+
+    private static void sharedTable() {
+        int threads = Math.max(4, SuperNova.THREADS);
+        System.out.println("Shared table (" + threads + " threads): ply | hit rate | replaced slots | torn writes (total) | nodes");
+        for(int ply = 21; ply >= 18; ply--) {
+            double hitRate = 0;
+            long collisions = 0;
+            long tornWrites = 0;
+            long nodes = 0;
+            for(Board board: getReferencePositions(ply, POSITIONS)) {
+                ParallelSolver solver = new ParallelSolver(board, new TranspositionTable(20), threads);
+                solver.solve();
+                hitRate += solver.getHitRate() / POSITIONS;
+                collisions += solver.getCollisions();
+                tornWrites += solver.getTornWrites();
+                nodes += solver.getNodes();
+            }
+            System.out.println(ply + " | " + String.format("%.3f", hitRate) + " | " + collisions / POSITIONS
+                    + " | " + tornWrites + " | " + nodes / POSITIONS);
+        }
+    }
+
+    private static void monteCarlo() {
+        System.out.println("Monte Carlo (" + SuperNova.THREADS + " threads): ply | playouts per second");
+        for(int ply = 0; ply <= 16; ply += 4) {
+            long playouts = 0;
+            long time = 0;
+            for(Board board: getReferencePositions(ply, 5)) {
+                MonteCarlo monteCarlo = new MonteCarlo(board);
+                long start = System.nanoTime();
+                monteCarlo.findBestMove(start + 200000000L);
+                time += System.nanoTime() - start;
+                playouts += monteCarlo.getPlayouts();
+            }
+            System.out.println(ply + " | " + playouts * 1000000000L / time);
+        }
+
+        int moveTime = 200;
+        NeuralNetwork neuralNetwork = new NeuralNetwork(new int[]{72, 50, 40, 36});
+        neuralNetwork.initializeWeights();
+        //MCTS hands the turns from SOLVETURN on to the solver, MCTS_ONLY shows what the trees do by themselves
+        for(Strategy strategy: new Strategy[]{Strategy.MCTS, Strategy.MCTS_ONLY}) {
+            System.out.println(strategy + " against COMBINE_MAIN (" + moveTime + " ms per move): games | wins | draws | losses | mean score difference");
+            Random random = new Random(SEED);
+            int wins = 0;
+            int draws = 0;
+            int difference = 0;
+            for(int game=0; game<POSITIONS; game++) {
+                String[] brownCells = new String[SuperNova.BROWNCOINS];
+                long emptyCells = Board.ALLCELLS;
+                for(int brown=0; brown<SuperNova.BROWNCOINS; brown++) {
+                    int cell = Board.getNthCell(emptyCells, random.nextInt(Long.bitCount(emptyCells)));
+                    emptyCells &= ~(1L << cell);
+                    brownCells[brown] = Cell.getName(cell);
+                }
+                //Both colors on every layout
+                Color ours = game % 2 == 0 ? Color.RED : Color.BLUE;
+                Judge judge = ours == Color.RED
+                        ? new Judge(strategy, Strategy.COMBINE_MAIN, brownCells, neuralNetwork, moveTime)
+                        : new Judge(Strategy.COMBINE_MAIN, strategy, brownCells, neuralNetwork, moveTime);
+                judge.run();
+                //Only blue's board has the last move, red's score is the other side of the same hole
+                int blueScore = judge.getScore(Color.BLUE);
+                int score = (ours == Color.BLUE ? 1 : -1) * (blueScore - (2 * SuperNova.DEFAULTSCORE - blueScore));
+                difference += score;
+                if(score > 0) {
+                    wins++;
+                } else if(score == 0) {
+                    draws++;
+                }
+            }
+            System.out.println(POSITIONS + " | " + wins + " | " + draws + " | " + (POSITIONS - wins - draws)
+                    + " | " + String.format("%.1f", (double) difference / POSITIONS));
+        }
+    }
+
+    private static void zeroWindow() {
+        System.out.println("Zero window: ply | full window us | outcome first us | MTD(f) us | MTD(f) nodes / full | WDL window us | WDL zero window us");
+        Evaluator evaluator = new HolePotentialEvaluator();
+        for(int ply = 25; ply >= 20; ply--) {
+            long[] time = new long[5];
+            long[] nodes = new long[5];
+            for(Board board: getReferencePositions(ply, POSITIONS)) {
+                int[] scores = new int[3];
+                for(int driver=0; driver<5; driver++) {
+                    EndgameSolver solver = new EndgameSolver(board, new TranspositionTable(22));
+                    long start = System.nanoTime();
+                    if(driver == 0) {
+                        solver.solveFullWindow();
+                    } else if(driver == 1) {
+                        solver.solve();
+                    } else if(driver == 2) {
+                        solver.solveMtdf(evaluator.evaluate(board));
+                    } else if(driver == 3) {
+                        solver.solveOutcome();
+                    } else {
+                        solver.solveOutcomeZeroWindow();
+                    }
+                    time[driver] += System.nanoTime() - start;
+                    nodes[driver] += solver.getNodes();
+                    if(driver < 3) {
+                        scores[driver] = solver.getScore();
+                    } else if(solver.getScore() != Integer.signum(scores[0])) {
+                        System.out.println("[ERROR] Outcome differs from the exact score");
+                    }
+                }
+                if(scores[1] != scores[0] || scores[2] != scores[0]) {
+                    System.out.println("[ERROR] Drivers disagree on the exact score");
+                }
+            }
+            System.out.println(ply + " | " + time[0] / POSITIONS / 1000 + " | " + time[1] / POSITIONS / 1000
+                    + " | " + time[2] / POSITIONS / 1000 + " | " + String.format("%.2f", (double) nodes[2] / nodes[0])
+                    + " | " + time[3] / POSITIONS / 1000 + " | " + time[4] / POSITIONS / 1000);
+        }
+    }
+
+    private static void boundCutoffs() {
+        System.out.println("Bound cutoffs: ply | nodes without | nodes with | bound cutoffs | ms without | ms with");
+        for(int ply = 25; ply >= 19; ply--) {
+            long[] nodes = new long[2];
+            long[] time = new long[2];
+            long cutoffs = 0;
+            for(Board board: getReferencePositions(ply, POSITIONS)) {
+                int[] scores = new int[2];
+                for(int bounds=0; bounds<2; bounds++) {
+                    Search search = new Search(board, new TranspositionTable(20));
+                    search.setBoundCutoffs(bounds == 1);
+                    long start = System.nanoTime();
+                    search.findBestMove();
+                    time[bounds] += System.nanoTime() - start;
+                    nodes[bounds] += search.getNodes();
+                    scores[bounds] = search.getBestScore();
+                    cutoffs += search.getBoundCutoffs();
+                }
+                if(scores[0] != scores[1]) {
+                    System.out.println("[ERROR] Bound cutoffs changed the score");
+                }
+            }
+            System.out.println(ply + " | " + nodes[0] / POSITIONS + " | " + nodes[1] / POSITIONS + " | " + cutoffs / POSITIONS
+                    + " | " + time[0] / POSITIONS / 1000000 + " | " + time[1] / POSITIONS / 1000000);
+        }
+    }
+
+    private static void coinBucketing() {
+        System.out.println("Coin bucketing: ply | reduced plies | full ms | reduced ms | full nodes | reduced nodes | fallbacks | optimal moves");
+        for(int ply = 20; ply >= 17; ply--) {
+            Board[] boards = getReferencePositions(ply, POSITIONS);
+            for(int reducedPlies = 1; reducedPlies <= 3; reducedPlies += 2) {
+                long[] time = new long[2];
+                long[] nodes = new long[2];
+                int fallbacks = 0;
+                int optimal = 0;
+                for(Board board: boards) {
+                    EndgameSolver full = new EndgameSolver(board, new TranspositionTable(22));
+                    long start = System.nanoTime();
+                    full.solve();
+                    time[0] += System.nanoTime() - start;
+                    nodes[0] += full.getNodes();
+
+                    EndgameSolver reduced = new EndgameSolver(board, new TranspositionTable(22));
+                    start = System.nanoTime();
+                    int move = reduced.solveReduced(reducedPlies);
+                    time[1] += System.nanoTime() - start;
+                    nodes[1] += reduced.getNodes();
+                    if(!reduced.isVerified()) {
+                        fallbacks++;
+                    }
+                    if(full.solveMove(move, -Search.INFINITY, Search.INFINITY) == full.getScore()) {
+                        optimal++;
+                    }
+                }
+                System.out.println(ply + " | " + reducedPlies + " | " + time[0] / POSITIONS / 1000000 + " | " + time[1] / POSITIONS / 1000000
+                        + " | " + nodes[0] / POSITIONS + " | " + nodes[1] / POSITIONS + " | " + fallbacks + " | " + optimal + "/" + POSITIONS);
+            }
+        }
+    }
+
+    // Brown layouts that a reflection maps onto themselves: two pairs of mirrored cells and one on the axis
+    private static Board[] getSymmetricPositions(int count) {
+        Random random = new Random(SEED);
+        Board[] boards = new Board[count];
+        for(int i=0; i<count; i++) {
+            Board board = new Board();
+            int reflection = 1 + random.nextInt(3);
+            while(Long.bitCount(~board.getEmptyCells() & Board.ALLCELLS) < SuperNova.BROWNCOINS - 1) {
+                int cell = random.nextInt(SuperNova.TOTALCELLS);
+                int mirror = Symmetry.CELLS[reflection][cell];
+                if(cell != mirror && board.isEmpty(cell) && board.isEmpty(mirror)) {
+                    board.setBrownSpot(cell);
+                    board.setBrownSpot(mirror);
+                }
+            }
+            while(true) {
+                int cell = random.nextInt(SuperNova.TOTALCELLS);
+                if(Symmetry.CELLS[reflection][cell] == cell && board.isEmpty(cell)) {
+                    board.setBrownSpot(cell);
+                    break;
+                }
+            }
+            boards[i] = board;
+        }
+        return boards;
+    }
+
+    private static void symmetry() {
+        System.out.println("Symmetry: positions | depth | nodes without | nodes with | ms without | ms with");
+        for(int set=0; set<2; set++) {
+            Board[] boards = set == 0 ? getSymmetricPositions(POSITIONS) : getReferencePositions(19, POSITIONS);
+            int depth = set == 0 ? 3 : SuperNova.TURNS * 2;
+            long[] nodes = new long[2];
+            long[] time = new long[2];
+            for(Board board: boards) {
+                int[] scores = new int[2];
+                for(int symmetric=0; symmetric<2; symmetric++) {
+                    Search search = new Search(board, new TranspositionTable(20));
+                    search.setSymmetry(symmetric == 1);
+                    long start = System.nanoTime();
+                    search.findBestMoveToDepth(depth);
+                    time[symmetric] += System.nanoTime() - start;
+                    nodes[symmetric] += search.getNodes();
+                    scores[symmetric] = search.getBestScore();
+                }
+                if(scores[0] != scores[1]) {
+                    System.out.println("[ERROR] Symmetry changed the score");
+                }
+            }
+            System.out.println((set == 0 ? "symmetric ply 0" : "reference ply 19") + " | " + Math.min(depth, SuperNova.TURNS * 2 - boards[0].getPly())
+                    + " | " + nodes[0] / POSITIONS + " | " + nodes[1] / POSITIONS
+                    + " | " + time[0] / POSITIONS / 1000000 + " | " + time[1] / POSITIONS / 1000000);
+        }
+    }
+
+    private static void accumulator() {
+        System.out.println("Accumulator: ply | depth | nodes | ms without | ms with | best moves changed");
+        NeuralNetwork neuralNetwork = new NeuralNetwork(new int[]{72, 50, 40, 36});
+        neuralNetwork.initializeWeights();
+        int depth = 3;
+        for(int ply = 0; ply <= 16; ply += 4) {
+            long nodes = 0;
+            long[] time = new long[2];
+            int changed = 0;
+            for(Board position: getReferencePositions(ply, POSITIONS)) {
+                int[] moves = new int[2];
+                for(int accumulated=0; accumulated<2; accumulated++) {
+                    Board board = new Board();
+                    board.copyFrom(position);
+                    if(accumulated == 1) {
+                        board.setAccumulator(neuralNetwork.newAccumulator());
+                    }
+                    Search search = new Search(board, new TranspositionTable(20));
+                    search.setEvaluator(new NeuralNetEvaluator(neuralNetwork));
+                    long start = System.nanoTime();
+                    moves[accumulated] = search.findBestMoveToDepth(depth);
+                    time[accumulated] += System.nanoTime() - start;
+                    nodes += search.getNodes();
+                }
+                if(moves[0] != moves[1]) {
+                    changed++;
+                }
+            }
+            System.out.println(ply + " | " + depth + " | " + nodes / 2 / POSITIONS
+                    + " | " + time[0] / POSITIONS / 1000000 + " | " + time[1] / POSITIONS / 1000000 + " | " + changed);
+        }
+    }
+
+    private static void batchInference() {
+        System.out.println("Batch inference: batch | evaluations/s one by one | evaluations/s batched | outputs differing");
+        int positions = 64;
+        int networks = 500;
+        int evaluations = 200000;
+
+        NeuralNetwork neuralNetwork = new NeuralNetwork(new int[]{72, 50, 40, 36});
+        neuralNetwork.initializeWeights();
+        NeuralNetwork[] population = new NeuralNetwork[networks];
+        for(int k=0; k<networks; k++) {
+            population[k] = new NeuralNetwork(new int[]{72, 50, 40, 36});
+            population[k].initializeWeights();
+        }
+        Board[] boards = getReferencePositions(10, positions);
+        NeuralNetwork.Scratch scratch = neuralNetwork.newScratch();
+        NeuralNetwork.Batch batch = neuralNetwork.newBatch(positions);
+        double[][] single = new double[positions][SuperNova.TOTALCELLS];
+        double[][] batched = new double[positions][SuperNova.TOTALCELLS];
+
+        //The second round is measured, the first one lets the JIT compile both ways
+        for(int round=0; round<2; round++) {
+            long start = System.nanoTime();
+            for(int r=0; r<evaluations/positions; r++) {
+                for(int p=0; p<positions; p++) {
+                    neuralNetwork.evaluate(boards[p], Color.BLUE, scratch, single[p]);
+                }
+            }
+            long oneByOne = System.nanoTime() - start;
+            start = System.nanoTime();
+            for(int r=0; r<evaluations/positions; r++) {
+                neuralNetwork.evaluate(boards, positions, Color.BLUE, batch, batched);
+            }
+            long together = System.nanoTime() - start;
+            if(round == 1) {
+                System.out.println(positions + " positions, 1 network | " + perSecond(evaluations, oneByOne)
+                        + " | " + perSecond(evaluations, together) + " | " + countDifferences(single, batched, positions));
+            }
+        }
+
+        //A population on a single position shares no weights between evaluations, on more positions it does
+        double[][][] populationSingle = new double[networks][positions][SuperNova.TOTALCELLS];
+        double[][][] populationBatched = new double[networks][positions][SuperNova.TOTALCELLS];
+        for(int count = 1; count <= 16; count *= 16) {
+            for(int round=0; round<2; round++) {
+                long start = System.nanoTime();
+                for(int r=0; r<evaluations/networks/count; r++) {
+                    for(int k=0; k<networks; k++) {
+                        for(int p=0; p<count; p++) {
+                            population[k].evaluate(boards[p], Color.BLUE, scratch, populationSingle[k][p]);
+                        }
+                    }
+                }
+                long oneByOne = System.nanoTime() - start;
+                start = System.nanoTime();
+                for(int r=0; r<evaluations/networks/count; r++) {
+                    NeuralNetwork.evaluate(population, boards, count, Color.BLUE, batch, populationBatched);
+                }
+                long together = System.nanoTime() - start;
+                if(round == 1) {
+                    int differences = 0;
+                    for(int k=0; k<networks; k++) {
+                        differences += countDifferences(populationSingle[k], populationBatched[k], count);
+                    }
+                    System.out.println(count + " positions, " + networks + " networks | " + perSecond(evaluations, oneByOne)
+                            + " | " + perSecond(evaluations, together) + " | " + differences);
+                }
+            }
+        }
+    }
+
+    private static long perSecond(long evaluations, long nanos) {
+        return evaluations * 1000000000L / nanos;
+    }
+
+    private static int countDifferences(double[][] one, double[][] two, int count) {
+        int differences = 0;
+        for(int i=0; i<count; i++) {
+            for(int cell=0; cell<SuperNova.TOTALCELLS; cell++) {
+                if(one[i][cell] != two[i][cell]) {
+                    differences++;
+                }
+            }
+        }
+        return differences;
+    }
+}
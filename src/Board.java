@@ -1,151 +1,309 @@
-import java.util.ArrayList;
+import java.util.Random;
 
 class Board {
 
-    private ArrayList<Cell> allCells = new ArrayList<>();
-    private ArrayList<ArrayList<Cell>> cells = new ArrayList<>();
-    private Coin[] redCoins = new Coin[SuperNova.COINS];
-    private Coin[] blueCoins = new Coin[SuperNova.COINS];
-    private Coin[] brownCoins = new Coin[SuperNova.BROWNCOINS];
+    public static final long ALLCELLS = (1L << SuperNova.TOTALCELLS) - 1;
+    public static final int ALLCOINS = (1 << SuperNova.COINS) - 1;
+    public static final int COINSUM = SuperNova.COINS * (SuperNova.COINS + 1) / 2;
 
-    public void buildBoard() {
-        if(cells.isEmpty()) {
-            SuperNova.debug("Building board");
-            buildCells();
-            buildConnections();
-            buildCoins();
-            SuperNova.debug("Building board complete");
+    // Zobrist keys per cell, color and coin value
+    private static final long[] ZOBRIST = new long[SuperNova.TOTALCELLS * 3 * 16];
+
+    static {
+        Random random = new Random(1801);
+        for(int i=0; i<ZOBRIST.length; i++) {
+            ZOBRIST[i] = random.nextLong();
         }
     }
 
-    private void buildCoins() {
-        for(int i = 1; i<= SuperNova.COINS; i++) {
-            redCoins[i-1] = new Coin(Color.RED, i);
-            blueCoins[i-1] = new Coin(Color.BLUE, i);
+    // Bit i is set when cell i holds a coin (brown ones included)
+    private long occupied = 0;
+    // Signed coin value per cell: red positive, blue negative, brown and empty 0
+    private final byte[] values = new byte[SuperNova.TOTALCELLS];
+    // Bit v-1 is set while the coin with value v is still in hand
+    private int redCoins = ALLCOINS;
+    private int blueCoins = ALLCOINS;
+    // Sum of the values still in hand
+    private int redSum = COINSUM;
+    private int blueSum = COINSUM;
+
+    // Red minus blue sum of the coins around each cell, kept up to date on every placement
+    private final int[] adjSums = new int[SuperNova.TOTALCELLS];
+    // Number of empty neighbours of each cell
+    private final int[] emptyNeighbours = new int[SuperNova.TOTALCELLS];
+
+    // Moves made so far, red moves on even plies and blue on odd ones
+    private final int[] undoStack = new int[SuperNova.TURNS * 2];
+    private int ply = 0;
+
+    // Zobrist hash of all coins on the board, brown ones included, as seen through every symmetry
+    private final long[] hashes = new long[Symmetry.COUNT];
+
+    // First layer of a neural network that follows every move, if one is attached
+    private NeuralNetwork.Accumulator accumulator = null;
+
+    public Board() {
+        for(int cell=0; cell<SuperNova.TOTALCELLS; cell++) {
+            emptyNeighbours[cell] = Topology.ADJ[cell].length;
         }
     }
 
-    public void setBrownSpot(String spot, int i) {
-        brownCoins[i] = new Coin(Color.BROWN, 0);
-        brownCoins[i].setSpot(getCell(spot));
-        getCell(spot).setCoin(brownCoins[i]);
+    // Makes this board an exact copy of the other one, without allocating
+    public void copyFrom(Board other) {
+        occupied = other.occupied;
+        redCoins = other.redCoins;
+        blueCoins = other.blueCoins;
+        redSum = other.redSum;
+        blueSum = other.blueSum;
+        ply = other.ply;
+        System.arraycopy(other.hashes, 0, hashes, 0, hashes.length);
+        System.arraycopy(other.values, 0, values, 0, values.length);
+        System.arraycopy(other.adjSums, 0, adjSums, 0, adjSums.length);
+        System.arraycopy(other.emptyNeighbours, 0, emptyNeighbours, 0, emptyNeighbours.length);
+        System.arraycopy(other.undoStack, 0, undoStack, 0, undoStack.length);
+        if(accumulator != null) {
+            accumulator.refresh(this);
+        }
     }
 
-    private void buildCells() {
+    // Attaches the accumulator, or detaches with null. The accumulator is only used by this board from then on.
+    public void setAccumulator(NeuralNetwork.Accumulator accumulator) {
+        this.accumulator = accumulator;
+        if(accumulator != null) {
+            accumulator.refresh(this);
+        }
+    }
 
-        for(int i = 0; i< SuperNova.ROWS; i++) {
-            ArrayList<Cell> newRow = new ArrayList<>();
-            for(int j = 0; j< SuperNova.ROWS-i; j++) {
-                Cell newCell = new Cell(i, j);
-                newRow.add(newCell);
-                allCells.add(newCell);
-            }
-            cells.add(newRow);
+    public NeuralNetwork.Accumulator getAccumulator() {
+        return accumulator;
+    }
+
+    public void setBrownSpot(int cell) {
+        occupied |= 1L << cell;
+        values[cell] = 0;
+        updateHashes(cell, Color.BROWN, 0);
+        for(int neighbour: Topology.ADJ[cell]) {
+            emptyNeighbours[neighbour]--;
+        }
+    }
+
+    public void makeMove(int move) {
+        int cell = Move.getCell(move);
+        setCoin(cell, getColorToMove(), Move.getValue(move));
+        undoStack[ply++] = move;
+        if(accumulator != null) {
+            accumulator.push(cell, values[cell]);
+        }
+    }
+
+    public void unmakeMove() {
+        removeCoin(Move.getCell(undoStack[--ply]));
+        if(accumulator != null) {
+            accumulator.pop();
+        }
+    }
+
+    private void setCoin(int cell, Color color, int value) {
+        occupied |= 1L << cell;
+        if(color == Color.RED) {
+            values[cell] = (byte) value;
+            redCoins &= ~(1 << (value-1));
+            redSum -= value;
+        } else {
+            values[cell] = (byte) -value;
+            blueCoins &= ~(1 << (value-1));
+            blueSum -= value;
+        }
+
+        updateHashes(cell, color, value);
+
+        int signed = values[cell];
+        for(int neighbour: Topology.ADJ[cell]) {
+            adjSums[neighbour] += signed;
+            emptyNeighbours[neighbour]--;
         }
     }
 
-    private void buildConnections() {
+    private void removeCoin(int cell) {
+        int value = values[cell];
+        if(value > 0) {
+            redCoins |= 1 << (value-1);
+            redSum += value;
+            updateHashes(cell, Color.RED, value);
+        } else if(value < 0) {
+            blueCoins |= 1 << (-value-1);
+            blueSum -= value;
+            updateHashes(cell, Color.BLUE, -value);
+        }
+        occupied &= ~(1L << cell);
+        values[cell] = 0;
+
+        for(int neighbour: Topology.ADJ[cell]) {
+            adjSums[neighbour] -= value;
+            emptyNeighbours[neighbour]++;
+        }
+    }
+
+    public void printBoard() {
         for(int i = 0; i< SuperNova.ROWS; i++) {
             for(int j = 0; j< SuperNova.ROWS-i; j++) {
-                Cell cell = getCell(i, j);
-
-                //Up
-                if(i>0) {
-                    cell.getAdj().add(getCell(i-1, j));
-                    cell.getAdj().add(getCell(i-1, j+1));
-                }
-
-                //Left
-                if(j>0) {
-                    cell.getAdj().add(getCell(i, j-1));
-                }
-
-                //Right
-                if(j< SuperNova.ROWS-i-1){
-                    cell.getAdj().add(getCell(i, j+1));
-                }
-
-                //Down
-                if(i< SuperNova.ROWS-1){
-                    //Left down
-                    if(j>0) {
-                        cell.getAdj().add(getCell(i+1, j-1));
-                    }
-
-                    //Right down
-                    if(j< SuperNova.ROWS-i-1) {
-                        cell.getAdj().add(getCell(i+1, j));
-                    }
-                }
+                System.out.print(Cell.getName(Cell.getIndex(i, j))+" ");
             }
+            System.out.println("");
         }
     }
 
-    public Cell getCell(int i, int j) {
+    private static long getZobrist(int cell, Color color, int value) {
+        return ZOBRIST[(cell * 3 + color.ordinal()) * 16 + value];
+    }
 
-        return cells.get(i).get(j);
+    private void updateHashes(int cell, Color color, int value) {
+        for(int s=0; s<Symmetry.COUNT; s++) {
+            hashes[s] ^= getZobrist(Symmetry.CELLS[s][cell], color, value);
+        }
     }
 
-    public Cell getCell(String name) {
-        char letter = name.charAt(0);
-        int number = name.charAt(1)-'0';
-        return getCell(letter-'A', number-1);
+    public long getHash() {
+        return hashes[Symmetry.IDENTITY];
     }
 
-    public void printBoard() {
-        for(ArrayList<Cell> row: cells) {
-            for(Cell cell: row) {
-                System.out.print(cell.getName()+" ");
+    // Hash of the position as seen through the symmetry
+    public long getHash(int symmetry) {
+        return hashes[symmetry];
+    }
+
+    // The symmetry under which the position has its lowest hash, the same for all symmetric positions
+    public int getCanonicalSymmetry() {
+        int best = Symmetry.IDENTITY;
+        for(int s=1; s<Symmetry.COUNT; s++) {
+            if(hashes[s] < hashes[best]) {
+                best = s;
+            }
+        }
+        return best;
+    }
+
+    // Mask with bit s set for every symmetry s that maps the position onto itself
+    public int getSelfSymmetries() {
+        int symmetries = 0;
+        for(int s=1; s<Symmetry.COUNT; s++) {
+            if(hashes[s] == hashes[Symmetry.IDENTITY]) {
+                symmetries |= 1 << s;
             }
-            System.out.println("");
         }
+        return symmetries;
     }
 
-    public Coin getHighestRemainingCoin(Color color) {
-        ArrayList<Coin> remainingCoins = getRemainingCoins(color);
-        return remainingCoins.get(remainingCoins.size()-1);
+    public int getLastMove() {
+        return ply == 0 ? Move.INVALID : undoStack[ply - 1];
     }
 
-    public ArrayList<Cell> getAllCells() {
-        return allCells;
+    public Color getColorToMove() {
+        return (ply & 1) == 0 ? Color.RED : Color.BLUE;
     }
 
-    public ArrayList<ArrayList<Cell>> getCells() {
-        return cells;
+    public int getPly() {
+        return ply;
     }
 
-    public Coin[] getCoins(Color color){
-        if(color == Color.RED) {
-            return redCoins;
-        } else if(color == Color.BLUE){
-            return blueCoins;
-        } else {
-            return brownCoins;
+    public boolean isFinished() {
+        return ply == SuperNova.TURNS * 2;
+    }
+
+    // The cell left open at the end of the game (the lowest empty one before that)
+    public int getHole() {
+        return Long.numberOfTrailingZeros(~occupied & ALLCELLS);
+    }
+
+    public boolean isEmpty(int cell) {
+        return (occupied & (1L << cell)) == 0;
+    }
+
+    // Signed value of the coin on a cell, red positive and blue negative
+    public int getValue(int cell) {
+        return values[cell];
+    }
+
+    public long getEmptyCells() {
+        return ~occupied & ALLCELLS;
+    }
+
+    public int getRemainingCoins(Color color) {
+        return color == Color.RED ? redCoins : blueCoins;
+    }
+
+    public int getRemainingSum(Color color) {
+        return color == Color.RED ? redSum : blueSum;
+    }
+
+    public int getHighestRemainingCoin(Color color) {
+        return 32 - Integer.numberOfLeadingZeros(getRemainingCoins(color));
+    }
+
+    public int getEmptyNeighbours(int cell) {
+        return emptyNeighbours[cell];
+    }
+
+    // Red minus blue sum of the coins around a cell
+    public int getAdjSum(int cell) {
+        return adjSums[cell];
+    }
+
+    public int getScore(int cell, Color color) {
+        return SuperNova.DEFAULTSCORE + (color == Color.RED ? adjSums[cell] : -adjSums[cell]);
+    }
+
+    // Highest final score the cell can give the color if it ends up as the hole:
+    // its empty neighbours get the color's highest coins and, when those run out, the opponent's lowest
+    public int getScoreUpperBound(int cell, Color color) {
+        int own = getRemainingCoins(color);
+        int opp = getRemainingCoins(color == Color.RED ? Color.BLUE : Color.RED);
+        int empty = emptyNeighbours[cell];
+        int ownFilled = Math.min(empty, Integer.bitCount(own));
+        return getScore(cell, color) + sumHighestCoins(own, ownFilled) - sumLowestCoins(opp, empty - ownFilled);
+    }
+
+    // Lowest final score the cell can give the color if it ends up as the hole
+    public int getScoreLowerBound(int cell, Color color) {
+        int own = getRemainingCoins(color);
+        int opp = getRemainingCoins(color == Color.RED ? Color.BLUE : Color.RED);
+        int empty = emptyNeighbours[cell];
+        int oppFilled = Math.min(empty, Integer.bitCount(opp));
+        return getScore(cell, color) - sumHighestCoins(opp, oppFilled) + sumLowestCoins(own, empty - oppFilled);
+    }
+
+    private static int sumHighestCoins(int coins, int count) {
+        int sum = 0;
+        for(int i=0; i<count; i++) {
+            int highest = 31 - Integer.numberOfLeadingZeros(coins);
+            sum += highest + 1;
+            coins &= ~(1 << highest);
         }
+        return sum;
     }
 
-    public Coin getCoin(Color color, int value) {
-        return getCoins(color)[value-1];
+    private static int sumLowestCoins(int coins, int count) {
+        int sum = 0;
+        for(int i=0; i<count; i++) {
+            sum += Integer.numberOfTrailingZeros(coins) + 1;
+            coins &= coins - 1;
+        }
+        return sum;
     }
 
-    public ArrayList<Cell> getEmptyCells() {
-        ArrayList<Cell> emptyCells = new ArrayList<>();
-        for(Cell cell: allCells) {
-            if(cell.getCoin() == null) {
-                emptyCells.add(cell);
-            }
+    // Index of the n-th (0 based) set bit of a cell mask
+    public static int getNthCell(long mask, int n) {
+        for(int i=0; i<n; i++) {
+            mask &= mask - 1;
         }
-        return emptyCells;
+        return Long.numberOfTrailingZeros(mask);
     }
 
-    public ArrayList<Coin> getRemainingCoins(Color color) {
-        ArrayList<Coin> remainingCoins = new ArrayList<>();
-        Coin[] coins = getCoins(color);
-        for(Coin coin: coins) {
-            if(coin.getSpot() == null) {
-                remainingCoins.add(coin);
-            }
+    // Value of the n-th (0 based) coin in a remaining coin mask
+    public static int getNthCoin(int mask, int n) {
+        for(int i=0; i<n; i++) {
+            mask &= mask - 1;
         }
-        return remainingCoins;
+        return Integer.numberOfTrailingZeros(mask) + 1;
     }
 }
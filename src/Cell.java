@@ -1,59 +1,45 @@
-import java.util.ArrayList;
-
+// Cells are identified by their index in board order (A1..A8, B1..B7, ..., H1)
 class Cell {
 
-    private final int i, j;
-    private final ArrayList<Cell> adj = new ArrayList<>();
-    private Coin coin;
-
-    public Cell(int i, int j) {
-        this.i = i;
-        this.j = j;
-    }
-
-    public String getName() {
-        String let = ""+(char)('A'+i);
-        return let+(j+1);
-    }
-
-    public void printAdjacent() {
-        for(Cell cell: adj) {
-            System.out.print(cell.getName()+" ");
+    private static final int[] ROWSTART = new int[SuperNova.ROWS + 1];
+    private static final int[] ROW = new int[SuperNova.TOTALCELLS];
+    private static final String[] NAMES = new String[SuperNova.TOTALCELLS];
+
+    static {
+        int index = 0;
+        for(int i = 0; i< SuperNova.ROWS; i++) {
+            ROWSTART[i] = index;
+            for(int j = 0; j< SuperNova.ROWS-i; j++) {
+                ROW[index] = i;
+                NAMES[index] = (char)('A'+i) + "" + (j+1);
+                index++;
+            }
         }
-        System.out.println("");
+        ROWSTART[SuperNova.ROWS] = index;
     }
 
-    public void setCoin(Coin coin) {
-        this.coin = coin;
+    private Cell() {
     }
 
-    public int getI() {
-        return i;
+    public static int getIndex(int i, int j) {
+        return ROWSTART[i] + j;
     }
 
-    public int getJ() {
-        return j;
+    public static int getIndex(String name) {
+        char letter = name.charAt(0);
+        int number = name.charAt(1)-'0';
+        return getIndex(letter-'A', number-1);
     }
 
-    public ArrayList<Cell> getAdj() {
-        return adj;
+    public static int getI(int index) {
+        return ROW[index];
     }
 
-    public Coin getCoin() {
-        return coin;
+    public static int getJ(int index) {
+        return index - ROWSTART[ROW[index]];
     }
 
-    public int getScore(Color color) {
-        int score = SuperNova.DEFAULTSCORE;
-        for(Cell cell: adj){
-            if(cell.getCoin() != null) {
-                if (cell.getCoin().getColor() == color) {
-                    score += cell.getCoin().getValue();
-                } else if (cell.getCoin().getColor() == Color.BLUE || cell.getCoin().getColor() == Color.RED) {
-                    score -= cell.getCoin().getValue();
-                }
-            }
-        }
-        return score;
+    public static String getName(int index) {
+        return NAMES[index];
     }
 }
@@ -0,0 +1,491 @@
+// Exact solver for the last turns. Only the cell that stays empty and the coins around it decide the game,
+// so every node bounds the final score of each candidate hole and stops as soon as the bounds decide it.
+// Scores are relative to the player on turn, like in Search.
+class EndgameSolver {
+
+    public static final int WIN = 1;
+    public static final int DRAW = 0;
+    public static final int LOSS = -1;
+
+    private static final int MAXPLY = SuperNova.TURNS * 2;
+    private static final int MAXMOVES = (SuperNova.TOTALCELLS - SuperNova.BROWNCOINS) * SuperNova.COINS;
+
+    private final Board board;
+    private final TranspositionTable transpositionTable;
+
+    private final int[][] moves = new int[MAXPLY][MAXMOVES];
+    private final int[][] moveScores = new int[MAXPLY][MAXMOVES];
+
+    private final int[][] killers = new int[MAXPLY][2];
+    private final int[] history = new int[SuperNova.TOTALCELLS << 4];
+
+    private int bestMove = Move.INVALID;
+    private int rootScore = 0;
+
+    // The opponent's plies from reducedFrom to below reducedUntil only try the lowest, median and highest coin on
+    // cells that can touch the hole
+    private int reducedFrom = 0;
+    private int reducedUntil = 0;
+    private boolean verified = true;
+
+    // Set from another thread to give up on the running solve, its result is meaningless then
+    private volatile boolean stopped = false;
+    private boolean aborted = false;
+
+    private long nodes = 0;
+    private long boundCutoffs = 0;
+    private long probes = 0;
+    private long hits = 0;
+    private long collisions = 0;
+    private long tornWrites = 0;
+
+    public EndgameSolver(Board board, TranspositionTable transpositionTable) {
+        this.board = board;
+        this.transpositionTable = transpositionTable;
+    }
+
+    // Proves whether the player on turn wins, draws or loses and returns the move that does it
+    public int solveOutcome() {
+        start();
+        rootScore = Integer.signum(solve(-1, 1, true));
+        return bestMove;
+    }
+
+    // Solves the exact final score, the outcome is proven first so that search fills the table cheaply
+    public int solve() {
+        start();
+        int outcome = solve(-1, 1, true);
+        if(aborted) {
+            return bestMove;
+        }
+        if(outcome == 0) {
+            rootScore = 0;
+        } else if(outcome > 0) {
+            rootScore = solve(0, Search.INFINITY, true);
+        } else {
+            rootScore = solve(-Search.INFINITY, 0, true);
+        }
+        return bestMove;
+    }
+
+    // MTD(f): narrows the exact score with null-window searches only, starting from a guess of it.
+    // Final scores are small integers and the table keeps the bounds of every pass, so few passes are needed.
+    public int solveMtdf(int guess) {
+        start();
+        int lower = -Search.INFINITY;
+        int upper = Search.INFINITY;
+        int score = guess;
+        int move = Move.INVALID;
+        while(lower < upper) {
+            int beta = score == lower ? score + 1 : score;
+            score = solve(beta - 1, beta, true);
+            if(aborted) {
+                return move;
+            }
+            if(score >= beta) {
+                // Only a fail high proves its move reaches the score
+                lower = score;
+                move = bestMove;
+            } else {
+                upper = score;
+            }
+        }
+        rootScore = score;
+        bestMove = move;
+        return bestMove;
+    }
+
+    // Win, draw or loss with two null-window searches at most: is it a win, and if not, is it a draw
+    public int solveOutcomeZeroWindow() {
+        start();
+        int score = solve(0, 1, true);
+        if(aborted) {
+            return bestMove;
+        }
+        if(score >= 1) {
+            rootScore = WIN;
+            return bestMove;
+        }
+        score = solve(-1, 0, true);
+        rootScore = score >= 0 ? DRAW : LOSS;
+        return bestMove;
+    }
+
+    // Picks a move with only representative coins tried for the opponent on the first reducedPlies plies below the
+    // root, then verifies it. Our own moves are never reduced, so the reduced score of every root move is at least
+    // its exact score: if the chosen move solves exactly to the reduced score of the root, no other move can beat
+    // it. Otherwise the position is solved in full after all. Reduced nodes are inexact, so they never go into
+    // the table.
+    public int solveReduced(int reducedPlies) {
+        start();
+        reducedFrom = board.getPly() + 1;
+        reducedUntil = reducedFrom + reducedPlies;
+        int reducedScore = solve(-Search.INFINITY, Search.INFINITY, true);
+        reducedUntil = 0;
+        int move = bestMove;
+        if(aborted || move == Move.INVALID) {
+            return move;
+        }
+
+        int score = solveMove(move, -Search.INFINITY, Search.INFINITY);
+        if(aborted) {
+            return move;
+        }
+        if(score < reducedScore) {
+            //solve() resets the statistics, keep the nodes of the reduced pass and record the fallback afterwards
+            long reducedNodes = nodes;
+            int fullMove = solve();
+            nodes += reducedNodes;
+            verified = false;
+            return fullMove;
+        }
+        rootScore = score;
+        bestMove = move;
+        return bestMove;
+    }
+
+    // False if the last reduced solve had to fall back to the full search
+    public boolean isVerified() {
+        return verified;
+    }
+
+    // Plain full-window search, to compare the drivers against
+    public int solveFullWindow() {
+        start();
+        rootScore = solve(-Search.INFINITY, Search.INFINITY, true);
+        return bestMove;
+    }
+
+    public void start() {
+        startWorker();
+        transpositionTable.newSearch();
+    }
+
+    // Resets the statistics and move ordering tables, but leaves the shared transposition table alone
+    public void startWorker() {
+        nodes = 0;
+        boundCutoffs = 0;
+        probes = 0;
+        hits = 0;
+        collisions = 0;
+        tornWrites = 0;
+        aborted = false;
+        verified = true;
+        bestMove = Move.INVALID;
+        for(int[] killer: killers) {
+            killer[0] = Move.INVALID;
+            killer[1] = Move.INVALID;
+        }
+        for(int i=0; i<history.length; i++) {
+            history[i] >>= 1;
+        }
+    }
+
+    // Score of a single root move within the window, for searches that split the root moves
+    public int solveMove(int move, int alpha, int beta) {
+        board.makeMove(move);
+        int score = -solve(-beta, -alpha, false);
+        board.unmakeMove();
+        return score;
+    }
+
+    // Fills the array with the root moves in the order the solver would try them, returns the count
+    public int getOrderedMoves(int[] out) {
+        int ply = board.getPly();
+        int canonical = board.getCanonicalSymmetry();
+        long data = transpositionTable.probe(board.getHash(canonical));
+        int hashMove = TranspositionTable.isHit(data)
+                ? Symmetry.mapMove(TranspositionTable.getMove(data), Symmetry.INVERSE[canonical]) : Move.INVALID;
+        int count = generateMoves(ply, board.getColorToMove(), hashMove, board.getSelfSymmetries());
+        for(int i=0; i<count; i++) {
+            out[i] = pickMove(ply, i, count);
+        }
+        return count;
+    }
+
+    private int solve(int alpha, int beta, boolean root) {
+        nodes++;
+
+        if((nodes & 1023) == 0 && stopped) {
+            aborted = true;
+        }
+        if(aborted) {
+            return 0;
+        }
+
+        Color turn = board.getColorToMove();
+
+        if(board.isFinished()) {
+            return board.getScore(board.getHole(), turn) - SuperNova.DEFAULTSCORE;
+        }
+
+        int ply = board.getPly();
+        int depth = MAXPLY - ply;
+
+        if(depth == 1 && !root) {
+            return solveLastMove(turn);
+        } else if(depth == 2 && !root) {
+            return solveLastTwoMoves(turn);
+        }
+
+        int alphaOrig = alpha;
+        int hashMove = Move.INVALID;
+
+        // The table holds every position as seen through its canonical symmetry, moves included
+        int canonical = board.getCanonicalSymmetry();
+        long data = transpositionTable.probe(board.getHash(canonical));
+        countProbe(data);
+        if(TranspositionTable.isHit(data)) {
+            hashMove = Symmetry.mapMove(TranspositionTable.getMove(data), Symmetry.INVERSE[canonical]);
+            if(!root && TranspositionTable.getDepth(data) >= depth) {
+                int score = TranspositionTable.getScore(data);
+                int flag = TranspositionTable.getFlag(data);
+                if(flag == TranspositionTable.EXACT
+                        || (flag == TranspositionTable.LOWER && score >= beta)
+                        || (flag == TranspositionTable.UPPER && score <= alpha)) {
+                    return score;
+                }
+            }
+        }
+
+        // The final score is the score of one of the empty cells, so it lies between
+        // the lowest lower bound and the highest upper bound of the candidate holes
+        int lowest = Search.INFINITY;
+        int highest = -Search.INFINITY;
+        int liveHoles = 0;
+        for(long cells = board.getEmptyCells(); cells != 0; cells &= cells - 1) {
+            int cell = Long.numberOfTrailingZeros(cells);
+            int upper = board.getScoreUpperBound(cell, turn) - SuperNova.DEFAULTSCORE;
+            int lower = board.getScoreLowerBound(cell, turn) - SuperNova.DEFAULTSCORE;
+            highest = Math.max(highest, upper);
+            lowest = Math.min(lowest, lower);
+            // A hole that ends below alpha for certain can not lift this node, whoever leaves it open
+            if(upper > alpha) {
+                liveHoles++;
+            }
+        }
+        if(!root) {
+            if(liveHoles == 0) {
+                boundCutoffs++;
+                return highest;
+            }
+            if(lowest >= beta) {
+                boundCutoffs++;
+                return lowest;
+            }
+        }
+
+        int count = generateMoves(ply, turn, hashMove, root ? board.getSelfSymmetries() : 0);
+        int bestScore = -Search.INFINITY;
+        int bestNodeMove = Move.INVALID;
+
+        for(int i=0; i<count; i++) {
+            int move = pickMove(ply, i, count);
+            board.makeMove(move);
+            int score = -solve(-beta, -alpha, false);
+            board.unmakeMove();
+            if(aborted) {
+                return 0;
+            }
+
+            if(score > bestScore) {
+                bestScore = score;
+                bestNodeMove = move;
+                if(root) {
+                    bestMove = move;
+                }
+                if(score > alpha) {
+                    alpha = score;
+                    if(alpha >= beta) {
+                        if(killers[ply][0] != move) {
+                            killers[ply][1] = killers[ply][0];
+                            killers[ply][0] = move;
+                        }
+                        history[move] = Math.min(history[move] + depth * depth, 1 << 13);
+                        break;
+                    }
+                }
+            }
+        }
+
+        if(ply >= reducedUntil) {
+            int flag = bestScore <= alphaOrig ? TranspositionTable.UPPER
+                    : bestScore >= beta ? TranspositionTable.LOWER : TranspositionTable.EXACT;
+            transpositionTable.store(board.getHash(canonical), bestScore, depth, flag, Symmetry.mapMove(bestNodeMove, canonical));
+        }
+
+        return bestScore;
+    }
+
+    // The last coin goes in one of the two empty cells, the other one is the hole
+    private int solveLastMove(Color turn) {
+        long emptyCells = board.getEmptyCells();
+        int first = Long.numberOfTrailingZeros(emptyCells);
+        int second = 63 - Long.numberOfLeadingZeros(emptyCells);
+        int value = board.getHighestRemainingCoin(turn);
+        int bonus = (Topology.ADJMASK[first] & (1L << second)) != 0 ? value : 0;
+        return Math.max(board.getScore(first, turn), board.getScore(second, turn)) + bonus - SuperNova.DEFAULTSCORE;
+    }
+
+    // Both players have one coin left for three empty cells: we pick a cell, the opponent picks
+    // one of the other two and the last one is the hole
+    private int solveLastTwoMoves(Color turn) {
+        long emptyCells = board.getEmptyCells();
+        int ourValue = board.getHighestRemainingCoin(turn);
+        int oppValue = board.getHighestRemainingCoin(turn == Color.RED ? Color.BLUE : Color.RED);
+
+        int bestScore = -Search.INFINITY;
+        for(long ours = emptyCells; ours != 0; ours &= ours - 1) {
+            int ourCell = Long.numberOfTrailingZeros(ours);
+            long rest = emptyCells & ~(1L << ourCell);
+            int worstScore = Search.INFINITY;
+            for(long theirs = rest; theirs != 0; theirs &= theirs - 1) {
+                int oppCell = Long.numberOfTrailingZeros(theirs);
+                int hole = Long.numberOfTrailingZeros(rest & ~(1L << oppCell));
+                int score = board.getScore(hole, turn);
+                if((Topology.ADJMASK[hole] & (1L << ourCell)) != 0) {
+                    score += ourValue;
+                }
+                if((Topology.ADJMASK[hole] & (1L << oppCell)) != 0) {
+                    score -= oppValue;
+                }
+                worstScore = Math.min(worstScore, score);
+            }
+            bestScore = Math.max(bestScore, worstScore);
+        }
+        return bestScore - SuperNova.DEFAULTSCORE;
+    }
+
+    // Moves that one of the given self symmetries maps to a lower one are left out
+    private int generateMoves(int ply, Color turn, int hashMove, int symmetries) {
+        int[] plyMoves = moves[ply];
+        int[] plyScores = moveScores[ply];
+        int remainingCoins = board.getRemainingCoins(turn);
+        int lowestCoin = Integer.numberOfTrailingZeros(remainingCoins) + 1;
+        int highestCoin = board.getHighestRemainingCoin(turn);
+        int medianCoin = Board.getNthCoin(remainingCoins, Integer.bitCount(remainingCoins) / 2);
+        boolean reduced = ply < reducedUntil && ((ply - reducedFrom) & 1) == 0;
+        int count = 0;
+
+        for(long cells = board.getEmptyCells(); cells != 0; cells &= cells - 1) {
+            int cell = Long.numberOfTrailingZeros(cells);
+
+            // Fill the holes the opponent hopes for first
+            int cellScore = (Search.INFINITY - board.getScore(cell, turn)) << 5;
+
+            // A coin on a cell without empty neighbours never touches the final hole,
+            // and a higher coin kept in hand is never worse, so only the lowest one is tried
+            if(board.getEmptyNeighbours(cell) == 0) {
+                int move = Move.encode(cell, lowestCoin);
+                if(symmetries != 0 && !Symmetry.isCanonicalMove(move, symmetries)) {
+                    continue;
+                }
+                plyMoves[count] = move;
+                plyScores[count] = scoreMove(ply, move, hashMove, cellScore);
+                count++;
+                continue;
+            }
+
+            for(int coins = remainingCoins; coins != 0; coins &= coins - 1) {
+                int value = Integer.numberOfTrailingZeros(coins) + 1;
+                if(reduced && value != lowestCoin && value != medianCoin && value != highestCoin) {
+                    continue;
+                }
+                int move = Move.encode(cell, value);
+                if(symmetries != 0 && !Symmetry.isCanonicalMove(move, symmetries)) {
+                    continue;
+                }
+                plyMoves[count] = move;
+                // Extreme coins first, they swing the candidate holes around this cell the most
+                int extreme = Math.max(highestCoin - value, value - lowestCoin);
+                plyScores[count] = scoreMove(ply, move, hashMove, cellScore + extreme);
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    private int scoreMove(int ply, int move, int hashMove, int staticScore) {
+        if(move == hashMove) {
+            return 1 << 30;
+        } else if(move == killers[ply][0]) {
+            return (1 << 29) + 1;
+        } else if(move == killers[ply][1]) {
+            return 1 << 29;
+        }
+        return staticScore + (history[move] << 15);
+    }
+
+    private int pickMove(int ply, int i, int count) {
+        int[] plyMoves = moves[ply];
+        int[] plyScores = moveScores[ply];
+
+        int best = i;
+        for(int j=i+1; j<count; j++) {
+            if(plyScores[j] > plyScores[best]) {
+                best = j;
+            }
+        }
+
+        int move = plyMoves[best];
+        plyMoves[best] = plyMoves[i];
+        plyMoves[i] = move;
+        int score = plyScores[best];
+        plyScores[best] = plyScores[i];
+        plyScores[i] = score;
+
+        return move;
+    }
+
+    public void setStopped(boolean stopped) {
+        this.stopped = stopped;
+    }
+
+    // True if the last solve was stopped before it finished
+    public boolean isAborted() {
+        return aborted;
+    }
+
+    // Exact score after solve(), or WIN, DRAW or LOSS after solveOutcome(), relative to the player on turn
+    public int getScore() {
+        return rootScore;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public long getBoundCutoffs() {
+        return boundCutoffs;
+    }
+
+    private void countProbe(long data) {
+        probes++;
+        if(data == TranspositionTable.COLLISION) {
+            collisions++;
+        } else if(data == TranspositionTable.TORN) {
+            tornWrites++;
+        } else if(data != 0) {
+            hits++;
+        }
+    }
+
+    public long getProbes() {
+        return probes;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    // Probes that found a slot holding another position
+    public long getCollisions() {
+        return collisions;
+    }
+
+    // Probes that found the halves of two different writes, from threads racing on the slot
+    public long getTornWrites() {
+        return tornWrites;
+    }
+}
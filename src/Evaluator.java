@@ -0,0 +1,5 @@
+// Static evaluation for depth-limited search: an estimate of the final score of the player on turn minus DEFAULTSCORE
+interface Evaluator {
+
+    int evaluate(Board board);
+}
@@ -1,27 +1,5 @@
-import java.util.ArrayList;
-
-// CodeCup has no javafx.util.Pair so made my own
-class Pair<O1, O2> {
-
-    O1 key;
-    O2 value;
-
-    Pair(O1 key, O2 value) {
-        this.key = key;
-        this.value = value;
-    }
-
-    public O1 getKey() {
-        return key;
-    }
-
-    public O2 getValue() {
-        return value;
-    }
-}
-
 enum Strategy {
-    RANDOM, HIGHESTOPEN, LEASTLOSS, COMBINE_MAIN, COMBINE_TEST, NEURAL_NET, MINMAX
+    RANDOM, HIGHESTOPEN, LEASTLOSS, COMBINE_MAIN, COMBINE_TEST, NEURAL_NET, MINMAX, ALPHABETA, DEEPENING, SOLVER, PARALLEL, MCTS, MCTS_ONLY, FIXEDDEPTH, FIXEDDEPTH_NN, COMBINE_SOLVER
 }
 
 class GameHandler {
@@ -31,7 +9,23 @@ class GameHandler {
     private Color ourColor;
     private Color oppColor;
 
+    private static final int HASHBITS = 20;
+    private static final int SOLVETURN = 10;
+    private static final int SEARCHDEPTH = 3;
+    // The turn before SOLVETURN is solved with only representative coins for the opponent's reply, then verified
+    private static final int REDUCEDPLIES = 1;
+
     private final Board board = new Board();
+    private final Search search;
+    private final EndgameSolver endgameSolver;
+    private final ParallelSolver parallelSolver;
+    private final TimeManager timeManager;
+    private final MonteCarlo monteCarlo;
+    private final Ponderer ponderer;
+
+    // Loaded on first use and shared by all games, null if there is no book file
+    private static OpeningBook openingBook;
+    private static boolean openingBookLoaded = false;
 
     private int turn = -1;
 
@@ -39,16 +33,61 @@ class GameHandler {
     private boolean canInput = false;
 
     private NeuralNetwork neuralNetwork;
+    // Our own activations, the network itself may be shared with other games
+    private NeuralNetwork.Scratch scratch;
+    private final double[] neuralOutputs = new double[SuperNova.TOTALCELLS];
+
+    // Best move found by the last root call of minMax
+    private int minMaxMove;
 
     public GameHandler(Strategy strategy, NeuralNetwork neuralNetwork) {
+        this(strategy, neuralNetwork, 0);
+    }
+
+    // With a move time in ms every move gets exactly that long instead of a share of TIMELIMIT
+    public GameHandler(Strategy strategy, NeuralNetwork neuralNetwork, int moveTime) {
         this.strategy = strategy;
-        board.buildBoard();
+        timeManager = new TimeManager(SuperNova.TIMELIMIT, moveTime);
+
+        //Only searching strategies need the memory for a transposition table, it is kept for the whole game
+        if(strategy == Strategy.ALPHABETA || strategy == Strategy.DEEPENING
+                || strategy == Strategy.SOLVER || strategy == Strategy.PARALLEL
+                || strategy == Strategy.MCTS || strategy == Strategy.MCTS_ONLY || strategy == Strategy.FIXEDDEPTH
+                || strategy == Strategy.FIXEDDEPTH_NN || strategy == Strategy.COMBINE_SOLVER) {
+            TranspositionTable transpositionTable = new TranspositionTable(HASHBITS);
+            search = new Search(board, transpositionTable);
+            endgameSolver = new EndgameSolver(board, transpositionTable);
+            parallelSolver = new ParallelSolver(board, transpositionTable);
+            monteCarlo = strategy == Strategy.MCTS || strategy == Strategy.MCTS_ONLY ? new MonteCarlo(board) : null;
+            //Only in the contest the opponent's turn takes real time
+            ponderer = SuperNova.SINGLEMODE ? new Ponderer(board, transpositionTable, monteCarlo) : null;
+        } else {
+            search = new Search(board);
+            endgameSolver = null;
+            parallelSolver = null;
+            monteCarlo = null;
+            ponderer = null;
+        }
 
         if(neuralNetwork != null) {
             this.neuralNetwork = neuralNetwork;
-        } else if(strategy == Strategy.NEURAL_NET) {
+        } else if(strategy == Strategy.NEURAL_NET || strategy == Strategy.FIXEDDEPTH_NN) {
             this.neuralNetwork = new NeuralNetwork(new int[]{72, 50, 40, 36});
-            neuralNetwork.initializeWeights();
+            this.neuralNetwork.initializeWeights();
+        }
+        if(this.neuralNetwork != null) {
+            scratch = this.neuralNetwork.newScratch();
+        }
+        //Only strategies that evaluate the network pay for keeping its first layer up to date on every move
+        if(strategy == Strategy.NEURAL_NET || strategy == Strategy.FIXEDDEPTH_NN) {
+            board.setAccumulator(this.neuralNetwork.newAccumulator());
+        }
+        if(strategy == Strategy.FIXEDDEPTH_NN) {
+            search.setEvaluator(new NeuralNetEvaluator(this.neuralNetwork));
+            //Its own evaluator, the scratch of one must not be used from two threads
+            if(ponderer != null) {
+                ponderer.setEvaluator(new NeuralNetEvaluator(this.neuralNetwork));
+            }
         }
     }
 
@@ -71,8 +110,8 @@ class GameHandler {
         SuperNova.debug("Reading preamble");
         //Read preamble brown cells
         for(int i = 0; i< SuperNova.BROWNCOINS; i++) {
-            String spot = Judge.readLine(this);
-            board.setBrownSpot(spot, i);
+            int spot = Judge.readMove(this);
+            board.setBrownSpot(Move.getCell(spot));
         }
         turn = 0;
         canInput = true;
@@ -86,15 +125,15 @@ class GameHandler {
         }
 
         // Handle first line of input ("Start" or Assignment)
-        String nextLine = Judge.readLine(this);
-        if(nextLine.equals("Start")) {
+        int nextMove = Judge.readMove(this);
+        if(nextMove == Move.START) {
             //We are red
             ourColor = Color.RED;
             oppColor = Color.BLUE;
         } else {
             ourColor = Color.BLUE;
             oppColor = Color.RED;
-            computeInput(nextLine, oppColor);
+            computeInput(nextMove, oppColor);
         }
 
         canOutput = true;
@@ -110,7 +149,15 @@ class GameHandler {
         if(turn == 0) {
             readFirstLine();
         } else {
-            computeInput(Judge.readLine(ourColor), oppColor);
+            boolean pondering = ponderer != null && !board.isFinished() && usesPondering();
+            if(pondering) {
+                ponderer.start(isSolving());
+            }
+            int move = Judge.readMove(ourColor);
+            if(pondering) {
+                ponderer.stop();
+            }
+            computeInput(move, oppColor);
 
             canOutput = true;
             canInput = false;
@@ -123,33 +170,35 @@ class GameHandler {
             SuperNova.endGame();
         }
 
-        Judge.outputLine(ourColor, computeOutput());
+        Judge.outputMove(ourColor, computeOutput());
         turn++;
 
         canInput = true;
         canOutput = false;
     }
 
-    private void computeInput(String input, Color player) {
-        if(input.equals("Quit")) {
+    private void computeInput(int move, Color player) {
+        if(move == Move.QUIT) {
             SuperNova.endGame();
             return;
         }
 
-        Cell cell = board.getCell(input.substring(0, 2));
-        int value = Integer.parseInt(input.substring(3, input.length()));
-
-        if(cell.getCoin() != null) {
-            SuperNova.debug("[ERROR] Wanted to set a coin that was already set");
+        if(player != board.getColorToMove()) {
+            SuperNova.debug("[ERROR] Got a move from the player that is not on turn");
             SuperNova.endGame();
-        } else if(value == 0 || value > 15) {
+        } else if(move < 0 || Move.getValue(move) == 0) {
             SuperNova.debug("[ERROR] Invalid coin value parsed");
             SuperNova.endGame();
+        } else if(!board.isEmpty(Move.getCell(move))) {
+            SuperNova.debug("[ERROR] Wanted to set a coin that was already set");
+            SuperNova.endGame();
         } else {
 
             //Set the coin
-            cell.setCoin(board.getCoin(player, value));
-            board.getCoin(player, value).setSpot(cell);
+            board.makeMove(move);
+            if(monteCarlo != null) {
+                monteCarlo.advance(move);
+            }
 
         }
     }
@@ -158,8 +207,22 @@ class GameHandler {
         return board;
     }
 
-    private String computeOutput() {
-        String output = "";
+    private int computeOutput() {
+        long deadline = timeManager.startTurn(turn);
+        int output = turn == 0 && usesOpeningBook() ? getBookMove() : Move.INVALID;
+        if(output == Move.INVALID) {
+            output = computeOutputStrategy(deadline);
+        }
+
+        //Actually set the info (and check if it is correct)
+        computeInput(output, ourColor);
+        timeManager.endTurn();
+
+        return output;
+    }
+
+    private int computeOutputStrategy(long deadline) {
+        int output = Move.INVALID;
         switch (strategy) {
             case RANDOM:
                 output = computeOutputRandom();
@@ -173,12 +236,37 @@ class GameHandler {
             case MINMAX:
                 output = computeOutputMinMax();
                 break;
+            case ALPHABETA:
+                output = computeOutputAlphaBeta();
+                break;
+            case DEEPENING:
+                output = computeOutputDeepening(deadline);
+                break;
+            case SOLVER:
+                output = computeOutputSolver();
+                break;
+            case PARALLEL:
+                output = computeOutputParallel();
+                break;
+            case FIXEDDEPTH:
+            case FIXEDDEPTH_NN:
+                output = computeOutputFixedDepth();
+                break;
+            case MCTS:
+                output = computeOutputMonteCarlo(deadline);
+                break;
+            case MCTS_ONLY:
+                output = computeOutputTrees(deadline);
+                break;
             case COMBINE_MAIN:
                 output = computeOutputCombinedMain();
                 break;
             case COMBINE_TEST:
                 output = computeOutputCombinedTest();
                 break;
+            case COMBINE_SOLVER:
+                output = computeOutputCombinedSolver();
+                break;
             case NEURAL_NET:
                 output = computeOutputNeuralNet();
                 break;
@@ -187,109 +275,212 @@ class GameHandler {
                 SuperNova.endGame();
                 break;
         }
+        return output;
+    }
 
-        //Actually set the info (and check if it is correct)
-        computeInput(output, ourColor);
+    // Strategies that search from the first turn on with the evaluator the book was built with.
+    // FIXEDDEPTH_NN evaluates with its network, so the book moves are not its moves.
+    private boolean usesOpeningBook() {
+        return strategy == Strategy.DEEPENING || strategy == Strategy.FIXEDDEPTH;
+    }
 
-        return output;
+    private static synchronized OpeningBook getOpeningBook() {
+        if(!openingBookLoaded) {
+            openingBook = OpeningBook.load(SuperNova.BOOKFILE);
+            openingBookLoaded = true;
+        }
+        return openingBook;
     }
 
-    private String computeOutputRandom() {
+    private int getBookMove() {
+        OpeningBook book = getOpeningBook();
+        int move = book != null ? book.getMove(board) : Move.INVALID;
+        if(move != Move.INVALID) {
+            SuperNova.debug("Opening book move " + Move.toString(move));
+        }
+        return move;
+    }
+
+    private int computeOutputRandom() {
 
         //Get a random empty cell
-        ArrayList<Cell> emptyCells = board.getEmptyCells();
-        Cell cell = emptyCells.get((int)(Math.random()*emptyCells.size()));
+        long emptyCells = board.getEmptyCells();
+        int cell = Board.getNthCell(emptyCells, (int)(Math.random()*Long.bitCount(emptyCells)));
 
         //Get a random value
-        ArrayList<Coin> remainingCoins = board.getRemainingCoins(ourColor);
-        Coin coin = remainingCoins.get((int)(Math.random()*remainingCoins.size()));
+        int remainingCoins = board.getRemainingCoins(ourColor);
+        int value = Board.getNthCoin(remainingCoins, (int)(Math.random()*Integer.bitCount(remainingCoins)));
 
-        return cell.getName()+"="+coin.getValue();
+        return Move.encode(cell, value);
     }
 
-    private String computeOutputHighFree() {
+    private int computeOutputHighFree() {
         //Get the most open cell
-        Cell mostOpenCell = board.getEmptyCells().get(0);
+        long emptyCells = board.getEmptyCells();
+        int mostOpenCell = Long.numberOfTrailingZeros(emptyCells);
         int maxOpenness = Integer.MIN_VALUE;
-        for(Cell cell: board.getEmptyCells()) {
-            int numEmpty = 0;
-            for(Cell empty: cell.getAdj()) {
-                if(empty.getCoin() == null) {
-                    numEmpty++;
-                }
-            }
+        for(long cells = emptyCells; cells != 0; cells &= cells - 1) {
+            int cell = Long.numberOfTrailingZeros(cells);
+            int numEmpty = board.getEmptyNeighbours(cell);
             if(numEmpty > maxOpenness) {
                 maxOpenness = numEmpty;
                 mostOpenCell = cell;
             }
         }
 
-        Coin coin = board.getHighestRemainingCoin(ourColor);
+        int value = board.getHighestRemainingCoin(ourColor);
 
-        return mostOpenCell.getName()+"="+coin.getValue();
+        return Move.encode(mostOpenCell, value);
     }
 
-    private String computeOutputLeastLoss() {
+    private int computeOutputLeastLoss() {
         //Put a high number in the spot that leads to the least decrease of score
-        Cell leastDecreseCell = board.getEmptyCells().get(0);
+        long emptyCells = board.getEmptyCells();
+        int leastDecreseCell = Long.numberOfTrailingZeros(emptyCells);
         int leastDecrease = Integer.MAX_VALUE;
-        for(Cell cell: board.getEmptyCells()) {
-            int score = cell.getScore(ourColor);
+        for(long cells = emptyCells; cells != 0; cells &= cells - 1) {
+            int cell = Long.numberOfTrailingZeros(cells);
+            int score = board.getScore(cell, ourColor);
             if(score < leastDecrease) {
                 leastDecrease = score;
                 leastDecreseCell = cell;
             }
         }
 
-        Coin coin = board.getHighestRemainingCoin(ourColor);
+        int value = board.getHighestRemainingCoin(ourColor);
 
-        return leastDecreseCell.getName()+"="+coin.getValue();
+        return Move.encode(leastDecreseCell, value);
     }
 
-    private String computeOutputMinMax() {
-        return minMax(ourColor).getValue();
+    private int computeOutputMinMax() {
+        minMax(ourColor, true);
+        return minMaxMove;
     }
 
-    private Pair<Integer, String> minMax(Color turn) {
+    private int minMax(Color turn, boolean root) {
 
         //Detect end of game
-        if(board.getRemainingCoins(turn).isEmpty()) {
-            return new Pair<>(board.getEmptyCells().get(0).getScore(ourColor), "");
+        int remainingCoins = board.getRemainingCoins(turn);
+        if(remainingCoins == 0) {
+            return board.getScore(board.getHole(), ourColor);
         }
 
         boolean ourTurn = turn == ourColor;
 
         int bestScore = ourTurn ? Integer.MIN_VALUE : Integer.MAX_VALUE;
-        String bestDecision = "";
-
-        for(int c=0; c < board.getEmptyCells().size(); c++) {
-            Cell cell = board.getEmptyCells().get(c);
-            for(int i=0; i<board.getRemainingCoins(turn).size(); i++) {
-                Coin coin = board.getRemainingCoins(turn).get(i);
-                cell.setCoin(coin);
-                coin.setSpot(cell);
-                int score = minMax(ourTurn ? oppColor : ourColor).getKey();
+        int bestDecision = Move.INVALID;
+
+        for(long cells = board.getEmptyCells(); cells != 0; cells &= cells - 1) {
+            int cell = Long.numberOfTrailingZeros(cells);
+            for(int coins = remainingCoins; coins != 0; coins &= coins - 1) {
+                int move = Move.encode(cell, Integer.numberOfTrailingZeros(coins) + 1);
+                board.makeMove(move);
+                int score = minMax(ourTurn ? oppColor : ourColor, false);
                 if(ourTurn) {
                     if(score > bestScore) {
                         bestScore = score;
-                        bestDecision = cell.getName() + "=" + coin.getValue();
+                        bestDecision = move;
                     }
                 } else {
                     if(score < bestScore) {
                         bestScore = score;
-                        bestDecision = cell.getName() + "=" + coin.getValue();
+                        bestDecision = move;
                     }
                 }
-                cell.setCoin(null);
-                coin.setSpot(null);
+                board.unmakeMove();
             }
         }
 
-        return new Pair<>(bestScore, bestDecision);
+        if(root) {
+            minMaxMove = bestDecision;
+        }
+        return bestScore;
 
     }
 
-    private String computeOutputCombinedMain() {
+    private int computeOutputAlphaBeta() {
+        int move = search.findBestMove();
+        SuperNova.debug("Alpha-beta searched " + search.getNodes() + " nodes");
+        return move;
+    }
+
+    private int computeOutputDeepening(long deadline) {
+        int move = search.findBestMove(deadline);
+        SuperNova.debug("Deepening reached depth " + search.getCompletedDepth() + " in " + search.getNodes() + " nodes");
+        return move;
+    }
+
+    // Whether our next move is played by the exact solver
+    private boolean isSolving() {
+        return strategy == Strategy.SOLVER || strategy == Strategy.PARALLEL
+                || ((strategy == Strategy.MCTS || strategy == Strategy.COMBINE_SOLVER) && turn >= SOLVETURN);
+    }
+
+    // Whether our next move reads what pondering leaves behind: the table of the search or the solver, or the
+    // Monte Carlo trees. The other turns of COMBINE_SOLVER would only have the pondering thread compete for the CPU.
+    private boolean usesPondering() {
+        return isSolving() || strategy == Strategy.ALPHABETA || strategy == Strategy.DEEPENING
+                || strategy == Strategy.FIXEDDEPTH || strategy == Strategy.FIXEDDEPTH_NN || strategy == Strategy.MCTS
+                || strategy == Strategy.MCTS_ONLY;
+    }
+
+    // The answer solved while pondering, if the opponent played the reply we expected
+    private int getPonderedMove() {
+        int move = ponderer != null ? ponderer.getAnswer(board) : Move.INVALID;
+        if(move != Move.INVALID) {
+            SuperNova.debug("Pondering already solved this position");
+        }
+        return move;
+    }
+
+    private int computeOutputSolver() {
+        int pondered = getPonderedMove();
+        if(pondered != Move.INVALID) {
+            return pondered;
+        }
+        int move = endgameSolver.solve();
+        SuperNova.debug("Solver proved score " + endgameSolver.getScore() + " in " + endgameSolver.getNodes() + " nodes");
+        return move;
+    }
+
+    private int computeOutputReduced() {
+        int move = endgameSolver.solveReduced(REDUCEDPLIES);
+        SuperNova.debug("Reduced solver " + (endgameSolver.isVerified() ? "verified" : "fell back to the full search for")
+                + " score " + endgameSolver.getScore() + " in " + endgameSolver.getNodes() + " nodes");
+        return move;
+    }
+
+    private int computeOutputParallel() {
+        int pondered = getPonderedMove();
+        if(pondered != Move.INVALID) {
+            return pondered;
+        }
+        int move = parallelSolver.solve();
+        SuperNova.debug("Parallel solver proved score " + parallelSolver.getScore() + " in " + parallelSolver.getNodes() + " nodes");
+        return move;
+    }
+
+    private int computeOutputFixedDepth() {
+        int move = search.findBestMoveToDepth(SEARCHDEPTH);
+        SuperNova.debug("Searched depth " + search.getCompletedDepth() + " in " + search.getNodes() + " nodes");
+        return move;
+    }
+
+    private int computeOutputMonteCarlo(long deadline) {
+        if(turn >= SOLVETURN) {
+            return computeOutputSolver();
+        }
+        return computeOutputTrees(deadline);
+    }
+
+    // The trees alone, also on the endgame turns MCTS hands to the solver
+    private int computeOutputTrees(long deadline) {
+        int move = monteCarlo.findBestMove(deadline);
+        SuperNova.debug("Monte Carlo ran " + monteCarlo.getPlayouts() + " playouts");
+        return move;
+    }
+
+    private int computeOutputCombinedMain() {
         if(turn < 7) {
             return  computeOutputNeuralNet();
         } else if(turn < 12) {
@@ -299,7 +490,7 @@ class GameHandler {
         }
     }
 
-    private String computeOutputCombinedTest() {
+    private int computeOutputCombinedTest() {
         if(turn < 7) {
             return  computeOutputHighFree();
         } else if(turn < 12) {
@@ -309,10 +500,22 @@ class GameHandler {
         }
     }
 
-    private String computeOutputNeuralNet() {
-        neuralNetwork.setInputs(board.getAllCells(), oppColor);
-        neuralNetwork.caluculateOutput();
-        int node = neuralNetwork.getOutput(board.getAllCells());
-        return board.getAllCells().get(node).getName() + "=" + board.getHighestRemainingCoin(ourColor).getValue();
+    // COMBINE_TEST with the exact solver for the endgame, and a verified reduced solve on the turn before
+    private int computeOutputCombinedSolver() {
+        if(turn < 7) {
+            return  computeOutputHighFree();
+        } else if(turn < SOLVETURN - 1) {
+            return computeOutputLeastLoss();
+        } else if(turn < SOLVETURN) {
+            return computeOutputReduced();
+        } else {
+            return computeOutputSolver();
+        }
+    }
+
+    private int computeOutputNeuralNet() {
+        neuralNetwork.evaluate(board, oppColor, scratch, neuralOutputs);
+        int node = NeuralNetwork.getOutput(board, neuralOutputs);
+        return Move.encode(node, board.getHighestRemainingCoin(ourColor));
     }
 }
@@ -0,0 +1,27 @@
+// Scores every empty cell by its hole potential: its current score plus what its empty neighbours are expected
+// to get, half of them our mean remaining coin and half of them the opponent's. The final hole is one of these
+// cells, the evaluation is their mean. Board keeps the neighbour sums, empty neighbour counts and coin sums
+// up to date on every move, so this costs a single pass over the empty cells.
+class HolePotentialEvaluator implements Evaluator {
+
+    @Override
+    public int evaluate(Board board) {
+        Color turn = board.getColorToMove();
+        Color opp = turn == Color.RED ? Color.BLUE : Color.RED;
+        int ownCount = Integer.bitCount(board.getRemainingCoins(turn));
+        int oppCount = Integer.bitCount(board.getRemainingCoins(opp));
+
+        // Expected gain per empty neighbour, times 2 * ownCount * oppCount to stay in integers
+        int scale = 2 * Math.max(1, ownCount) * Math.max(1, oppCount);
+        int gain = board.getRemainingSum(turn) * oppCount - board.getRemainingSum(opp) * ownCount;
+
+        long emptyCells = board.getEmptyCells();
+        long sum = 0;
+        for(long cells = emptyCells; cells != 0; cells &= cells - 1) {
+            int cell = Long.numberOfTrailingZeros(cells);
+            int score = board.getScore(cell, turn) - SuperNova.DEFAULTSCORE;
+            sum += (long) score * scale + (long) board.getEmptyNeighbours(cell) * gain;
+        }
+        return (int) (sum / ((long) scale * Long.bitCount(emptyCells)));
+    }
+}
@@ -1,4 +1,3 @@
-import java.util.ArrayList;
 import java.util.Scanner;
 
 class Judge {
@@ -8,8 +7,8 @@ class Judge {
 
     private static Scanner scanner = new Scanner(System.in);
 
-    private static ArrayList<String> redInput;
-    private static ArrayList<String> blueInput;
+    private static MoveQueue redInput;
+    private static MoveQueue blueInput;
 
     private static int redTime;
     private static int blueTime;
@@ -19,16 +18,21 @@ class Judge {
     private boolean finished = false;
 
     public Judge(Strategy stratRed, Strategy stratBlue, String[] brownCells, NeuralNetwork neuralNetwork) {
-        gameRed = new GameHandler(stratRed, neuralNetwork);
-        gameBlue = new GameHandler(stratBlue, neuralNetwork);
+        this(stratRed, stratBlue, brownCells, neuralNetwork, 0);
+    }
+
+    // A move time in ms gives both players a fixed time per move instead of a share of TIMELIMIT
+    public Judge(Strategy stratRed, Strategy stratBlue, String[] brownCells, NeuralNetwork neuralNetwork, int moveTime) {
+        gameRed = new GameHandler(stratRed, neuralNetwork, moveTime);
+        gameBlue = new GameHandler(stratBlue, neuralNetwork, moveTime);
 
-        redInput = new ArrayList<>();
-        blueInput = new ArrayList<>();
+        redInput = new MoveQueue();
+        blueInput = new MoveQueue();
         for(String brownCell: brownCells) {
-            redInput.add(brownCell);
-            blueInput.add(brownCell);
+            redInput.add(Move.parse(brownCell));
+            blueInput.add(Move.parse(brownCell));
         }
-        redInput.add("Start");
+        redInput.add(Move.START);
 
         redTime = 0;
         blueTime = 0;
@@ -61,38 +65,38 @@ class Judge {
             SuperNova.debug("[ERROR] Judge failed: no 1 input left in redInput after last turn");
             SuperNova.endGame();
         }
-        redInput.remove(0);
+        redInput.remove();
         if(!redInput.isEmpty() || !blueInput.isEmpty()) {
             SuperNova.debug("[ERROR] Judge failed: One input is not empty after all turns");
             SuperNova.endGame();
         }
 
         //Append "Quit"s for completeness
-        redInput.add("Quit");
-        blueInput.add("Quit");
+        redInput.add(Move.QUIT);
+        blueInput.add(Move.QUIT);
 
         finished = true;
     }
 
-    public static String readLine(GameHandler game) {
+    public static int readMove(GameHandler game) {
         if(SuperNova.SINGLEMODE) {
-            return readLine(Color.BROWN);
+            return readMove(Color.BROWN);
         } else if(game.equals(gameRed)) {
-            return readLine(Color.RED);
+            return readMove(Color.RED);
         } else if(game.equals(gameBlue)) {
-            return readLine(Color.BLUE);
+            return readMove(Color.BLUE);
         } else {
             SuperNova.debug("[ERROR] We should not end up here, readline of gamehandler failed");
-            return readLine(Color.BROWN);
+            return readMove(Color.BROWN);
         }
 
     }
 
-    public static String readLine(Color player) {
+    public static int readMove(Color player) {
         if(SuperNova.SINGLEMODE) {
-            return scanner.nextLine();
+            return Move.parse(scanner.nextLine());
         } else {
-            ArrayList<String> input;
+            MoveQueue input;
             if(player == Color.RED) {
                 input = redInput;
             } else {
@@ -105,15 +109,15 @@ class Judge {
             }
 
             //Remove the newest line from the input it had left
-            return input.remove(0);
+            return input.remove();
         }
     }
 
-    public static void outputLine(Color player, String output) {
+    public static void outputMove(Color player, int output) {
         if(SuperNova.SINGLEMODE) {
-            System.out.println(output);
+            System.out.println(Move.toString(output));
         } else {
-            ArrayList<String> oppInput;
+            MoveQueue oppInput;
             if(player == Color.RED) {
                 oppInput = blueInput;
             } else if(player == Color.BLUE) {
@@ -176,7 +180,8 @@ class Judge {
             return 0;
         }
 
-        return game.getBoard().getEmptyCells().get(0).getScore(color);
+        Board board = game.getBoard();
+        return board.getScore(board.getHole(), color);
     }
 
     public int getTime(Color color) {
@@ -195,4 +200,24 @@ class Judge {
             return 0;
         }
     }
+
+    // Moves a player still has to read, in order
+    private static class MoveQueue {
+
+        private final int[] moves = new int[SuperNova.BROWNCOINS + 2*SuperNova.TURNS + 2];
+        private int head = 0;
+        private int tail = 0;
+
+        void add(int move) {
+            moves[tail++] = move;
+        }
+
+        int remove() {
+            return moves[head++];
+        }
+
+        boolean isEmpty() {
+            return head == tail;
+        }
+    }
 }
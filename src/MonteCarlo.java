@@ -0,0 +1,273 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+
+// Monte Carlo tree search with UCT and random playouts. Every thread grows its own tree on its own board copy
+// (root parallelisation) and the visits of the root moves are summed to pick the move. The subtree of every
+// move actually played is kept, so the next turn starts with the statistics gathered so far.
+class MonteCarlo {
+
+    private static final double EXPLORATION = 0.7;
+
+    // The trees together stop growing past this many nodes and only run playouts from their leaves
+    private static final int MAXNODES = 2000000;
+
+    private final Board board;
+    private final Tree[] trees;
+
+    private final int[] rootVisits = new int[SuperNova.TOTALCELLS << 4];
+    private long playouts = 0;
+
+    // Set from another thread to end the running search early
+    private volatile boolean stopped = false;
+
+    public MonteCarlo(Board board) {
+        this(board, SuperNova.THREADS);
+    }
+
+    public MonteCarlo(Board board, int threads) {
+        this.board = board;
+        trees = new Tree[threads];
+        for(int i=0; i<threads; i++) {
+            trees[i] = new Tree(board.getPly(), 0x9E3779B97F4A7C15L * (i + 1));
+        }
+    }
+
+    // Follows a move played on the game board in every tree
+    public void advance(int move) {
+        for(Tree tree: trees) {
+            tree.advance(move);
+        }
+    }
+
+    // Grows the trees until the deadline (System.nanoTime()) and returns the most visited root move
+    public int findBestMove(long deadline) {
+        growTrees(true, deadline);
+
+        Arrays.fill(rootVisits, 0);
+        int bestMove = Move.INVALID;
+        for(Tree tree: trees) {
+            Node root = tree.root;
+            for(int i=0; i<root.expanded; i++) {
+                Node child = root.children[i];
+                rootVisits[child.move] += child.visits;
+                if(bestMove == Move.INVALID || rootVisits[child.move] > rootVisits[bestMove]) {
+                    bestMove = child.move;
+                }
+            }
+        }
+
+        //Not a single playout finished, fall back to the first legal move
+        if(bestMove == Move.INVALID) {
+            bestMove = Move.encode(Long.numberOfTrailingZeros(board.getEmptyCells()),
+                    board.getHighestRemainingCoin(board.getColorToMove()));
+        }
+        return bestMove;
+    }
+
+    // Grows the trees until stopped, for the opponent's turn: the subtree of their actual move is kept
+    public void ponder() {
+        growTrees(false, 0);
+    }
+
+    // Grows the trees until stopped, or before that until the deadline if timed
+    private void growTrees(boolean timed, long deadline) {
+        ArrayList<Callable<Void>> tasks = new ArrayList<>();
+        for(Tree tree: trees) {
+            tree.start(board);
+            tasks.add(() -> {
+                tree.run(timed, deadline);
+                return null;
+            });
+        }
+        try {
+            for(Future<Void> result: SuperNova.POOL.invokeAll(tasks)) {
+                result.get();
+            }
+        } catch (Exception e) {
+            SuperNova.debug("[ERROR] Monte Carlo search failed: " + e);
+            SuperNova.endGame();
+        }
+
+        playouts = 0;
+        for(Tree tree: trees) {
+            playouts += tree.playouts;
+        }
+    }
+
+    public void setStopped(boolean stopped) {
+        this.stopped = stopped;
+    }
+
+    // Playouts of the last search over all threads
+    public long getPlayouts() {
+        return playouts;
+    }
+
+    private static class Node {
+
+        final int move;
+        int visits = 0;
+        // Sum of the results, seen from the player that made the move: 1 win, 0.5 draw, 0 loss
+        double wins = 0;
+
+        // Legal moves in random order, the first expanded ones have a child
+        int[] moves;
+        Node[] children;
+        int expanded = 0;
+
+        Node(int move) {
+            this.move = move;
+        }
+    }
+
+    private class Tree {
+
+        private final Board board = new Board();
+        private final Node[] path = new Node[SuperNova.TURNS * 2 + 1];
+
+        private Node root = new Node(Move.INVALID);
+        private int rootPly;
+        private int nodes = 1;
+        private long random;
+        private long playouts = 0;
+
+        Tree(int rootPly, long seed) {
+            this.rootPly = rootPly;
+            random = seed;
+        }
+
+        void advance(int move) {
+            Node next = null;
+            for(int i=0; i<root.expanded; i++) {
+                if(root.children[i].move == move) {
+                    next = root.children[i];
+                    break;
+                }
+            }
+            root = next != null ? next : new Node(move);
+            rootPly++;
+        }
+
+        void start(Board gameBoard) {
+            board.copyFrom(gameBoard);
+            if(rootPly != board.getPly()) {
+                root = new Node(Move.INVALID);
+                rootPly = board.getPly();
+            }
+            playouts = 0;
+            // Nodes no longer reachable are garbage now, the kept subtree still takes its memory
+            nodes = countNodes(root);
+        }
+
+        private int countNodes(Node node) {
+            int count = 1;
+            for(int i=0; i<node.expanded; i++) {
+                count += countNodes(node.children[i]);
+            }
+            return count;
+        }
+
+        void run(boolean timed, long deadline) {
+            while((playouts & 63) != 0 || (!stopped && (!timed || System.nanoTime() - deadline < 0))) {
+                iterate();
+                playouts++;
+            }
+        }
+
+        private void iterate() {
+            Node node = root;
+            path[0] = root;
+            int depth = 0;
+
+            //Selection
+            while(node.moves != null && node.expanded == node.moves.length) {
+                node = select(node);
+                board.makeMove(node.move);
+                path[++depth] = node;
+            }
+
+            //Expansion
+            if(!board.isFinished() && nodes < MAXNODES / trees.length) {
+                if(node.moves == null) {
+                    initMoves(node);
+                }
+                Node child = new Node(node.moves[node.expanded]);
+                node.children[node.expanded++] = child;
+                nodes++;
+                board.makeMove(child.move);
+                path[++depth] = child;
+            }
+
+            //Playout
+            int playoutMoves = 0;
+            while(!board.isFinished()) {
+                long emptyCells = board.getEmptyCells();
+                int remainingCoins = board.getRemainingCoins(board.getColorToMove());
+                int cell = Board.getNthCell(emptyCells, nextInt(Long.bitCount(emptyCells)));
+                int value = Board.getNthCoin(remainingCoins, nextInt(Integer.bitCount(remainingCoins)));
+                board.makeMove(Move.encode(cell, value));
+                playoutMoves++;
+            }
+            int score = board.getScore(board.getHole(), Color.RED) - SuperNova.DEFAULTSCORE;
+            double redResult = score > 0 ? 1 : score == 0 ? 0.5 : 0;
+            for(int i=0; i<playoutMoves; i++) {
+                board.unmakeMove();
+            }
+
+            //Backpropagation, the move of path[d] was made on ply rootPly + d - 1
+            for(int d = depth; d > 0; d--) {
+                Node pathNode = path[d];
+                pathNode.visits++;
+                pathNode.wins += ((rootPly + d - 1) & 1) == 0 ? redResult : 1 - redResult;
+                board.unmakeMove();
+            }
+            root.visits++;
+        }
+
+        private Node select(Node node) {
+            double logVisits = Math.log(node.visits);
+            Node best = node.children[0];
+            double bestValue = Double.NEGATIVE_INFINITY;
+            for(int i=0; i<node.expanded; i++) {
+                Node child = node.children[i];
+                double value = child.wins / child.visits + EXPLORATION * Math.sqrt(logVisits / child.visits);
+                if(value > bestValue) {
+                    bestValue = value;
+                    best = child;
+                }
+            }
+            return best;
+        }
+
+        private void initMoves(Node node) {
+            long emptyCells = board.getEmptyCells();
+            int remainingCoins = board.getRemainingCoins(board.getColorToMove());
+            int[] moves = new int[Long.bitCount(emptyCells) * Integer.bitCount(remainingCoins)];
+            int count = 0;
+            for(long cells = emptyCells; cells != 0; cells &= cells - 1) {
+                int cell = Long.numberOfTrailingZeros(cells);
+                for(int coins = remainingCoins; coins != 0; coins &= coins - 1) {
+                    moves[count++] = Move.encode(cell, Integer.numberOfTrailingZeros(coins) + 1);
+                }
+            }
+            for(int i = count - 1; i > 0; i--) {
+                int j = nextInt(i + 1);
+                int move = moves[i];
+                moves[i] = moves[j];
+                moves[j] = move;
+            }
+            node.moves = moves;
+            node.children = new Node[count];
+        }
+
+        // Xorshift, much cheaper than a shared java.util.Random in the playouts
+        private int nextInt(int bound) {
+            random ^= random << 13;
+            random ^= random >>> 7;
+            random ^= random << 17;
+            return (int) ((random >>> 33) * bound >>> 31);
+        }
+    }
+}
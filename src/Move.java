@@ -0,0 +1,53 @@
+// Moves are packed in a single int: cell index * 16 + coin value.
+// Brown cells in the preamble are moves with value 0.
+final class Move {
+
+    public static final int START = -1;
+    public static final int QUIT = -2;
+    public static final int INVALID = -3;
+
+    private Move() {
+    }
+
+    public static int encode(int cell, int value) {
+        return cell << 4 | value;
+    }
+
+    public static int getCell(int move) {
+        return move >> 4;
+    }
+
+    public static int getValue(int move) {
+        return move & 15;
+    }
+
+    // Parses a line of the protocol ("A1=15", "A1", "Start" or "Quit")
+    public static int parse(String line) {
+        if(line.equals("Start")) {
+            return START;
+        } else if(line.equals("Quit")) {
+            return QUIT;
+        }
+
+        int cell = Cell.getIndex(line);
+        int value = 0;
+        for(int i=3; i<line.length(); i++) {
+            value = value * 10 + line.charAt(i) - '0';
+        }
+        if(value > SuperNova.COINS) {
+            return INVALID;
+        }
+        return encode(cell, value);
+    }
+
+    public static String toString(int move) {
+        if(move == START) {
+            return "Start";
+        } else if(move == QUIT) {
+            return "Quit";
+        } else if(getValue(move) == 0) {
+            return Cell.getName(getCell(move));
+        }
+        return Cell.getName(getCell(move)) + "=" + getValue(move);
+    }
+}
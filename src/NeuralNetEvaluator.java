@@ -0,0 +1,29 @@
+// Lets the network judge the position: it rates every empty cell as a place for the coin of the player on turn,
+// so the cells it rates low are the likely holes. The evaluation is the score of the empty cells weighted by that.
+class NeuralNetEvaluator implements Evaluator {
+
+    private final NeuralNetwork neuralNetwork;
+    private final NeuralNetwork.Scratch scratch;
+    private final double[] outputs = new double[SuperNova.TOTALCELLS];
+
+    public NeuralNetEvaluator(NeuralNetwork neuralNetwork) {
+        this.neuralNetwork = neuralNetwork;
+        scratch = neuralNetwork.newScratch();
+    }
+
+    @Override
+    public int evaluate(Board board) {
+        Color turn = board.getColorToMove();
+        neuralNetwork.evaluate(board, turn == Color.RED ? Color.BLUE : Color.RED, scratch, outputs);
+
+        double sum = 0;
+        double weights = 0;
+        for(long cells = board.getEmptyCells(); cells != 0; cells &= cells - 1) {
+            int cell = Long.numberOfTrailingZeros(cells);
+            double weight = 1 - outputs[cell];
+            sum += weight * (board.getScore(cell, turn) - SuperNova.DEFAULTSCORE);
+            weights += weight;
+        }
+        return weights > 0 ? (int) Math.round(sum / weights) : 0;
+    }
+}
@@ -1,9 +1,27 @@
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Random;
 
+// The weights are only written while training, between games. Evaluating keeps all activations in a Scratch
+// owned by the caller, so one network can serve any number of games and search threads at the same time.
 class NeuralNetwork {
 
+    // Exact sigmoid of every coin value an input can hold, from -COINS to COINS
+    private static final double[] COINSIGMOID = new double[2 * SuperNova.COINS + 1];
+
+    // Sigmoid sampled for the hidden and output layers, see fastSigmoid
+    private static final int SIGMOIDRANGE = 24;
+    private static final int SIGMOIDSTEPS = 32;
+    private static final double[] SIGMOIDTABLE = new double[2 * SIGMOIDRANGE * SIGMOIDSTEPS + 1];
+
+    static {
+        for(int value = -SuperNova.COINS; value <= SuperNova.COINS; value++) {
+            COINSIGMOID[value + SuperNova.COINS] = sigmoid(value);
+        }
+        for(int i=0; i<SIGMOIDTABLE.length; i++) {
+            SIGMOIDTABLE[i] = sigmoid((double) i / SIGMOIDSTEPS - SIGMOIDRANGE);
+        }
+    }
+
     private Random random;
 
     public int score;
@@ -17,13 +35,10 @@ class NeuralNetwork {
     private int numL2;
     private int numOutput;
 
-    private double[] inputs;
-    public double[][] w0;
-    private double[] layer1;
-    public double[][] w1;
-    private double[] layer2;
-    public double[][] w2;
-    private double[] outputs;
+    // Weights of each layer as one block in row-major order: the weight from input x to node y is at y * inputs + x
+    public final double[] w0;
+    public final double[] w1;
+    public final double[] w2;
 
     NeuralNetwork (int[] layerSizes) {
         this.layerSizes = layerSizes;
@@ -34,14 +49,9 @@ class NeuralNetwork {
         numL2 = layerSizes[2];
         numOutput = layerSizes[numLayers-1];
 
-        inputs = new double[numInput];
-        layer1 = new double[numL1];
-        layer2 = new double[numL2];
-        outputs = new double[numOutput];
-
-        w0 = new double[numL1][numInput];
-        w1 = new double[numL2][numL1];
-        w2 = new double[numOutput][numL2];
+        w0 = new double[numL1 * numInput];
+        w1 = new double[numL2 * numL1];
+        w2 = new double[numOutput * numL2];
 
         random = new Random(123456789);
     }
@@ -49,25 +59,25 @@ class NeuralNetwork {
     public void initializeWeights() {
         for(int x=0; x<numInput; x++) {
             for(int y=0; y<numL1; y++) {
-                w0[y][x] = random.nextFloat() * 2 - 1;
+                w0[y * numInput + x] = random.nextFloat() * 2 - 1;
             }
         }
 
         for(int x=0; x<numL1; x++) {
             for(int y=0; y<numL2; y++) {
-                w1[y][x] = random.nextFloat() * 2 - 1;
+                w1[y * numL1 + x] = random.nextFloat() * 2 - 1;
             }
         }
 
         for(int x=0; x<numL2; x++) {
             for(int y=0; y<numOutput; y++) {
-                w2[y][x] = random.nextFloat() * 2 - 1;
+                w2[y * numL2 + x] = random.nextFloat() * 2 - 1;
             }
         }
 
-        w0 = new double[][]{{-0.6531561386317521, 0.6875023981509623, 0.018994406513130786, 0.03204535743485026, 0.5227810409609226, -0.7964212000745376, -0.1621612150668116, -0.1719635140091778, 0.8096178154836247, 0.43000781988156955, -0.08897481656444295, 0.47435368902314634, 0.8254208081237773, -0.6406518669537302, -0.7800777793245925, -1.1828043339297167, -0.6968991339758812, -0.8503393725274504, 0.4721540844423282, -0.0029366168371230323, 1.411123269384408, -0.9236116320385734, 0.09340212948423025, -0.6514126930724413, 0.19914402104109094, -0.15003688977131452, 0.29351845040732955, 0.8274955642995447, -0.14740910690054693, 0.839821729552942, 1.2756564536065327, -1.6105419060988515, -0.3299832782426606, 0.20097102570687592, 0.44579334713103935, 0.1734046527917758, -0.11468709757117655, -0.9534149758944248, 0.034050034902474074, 0.07021640867637131, -0.23464164458320913, 0.8951372423824263, -0.8337688676347542, 0.6897686754532175, 0.9953371574515999, 0.04836301157636934, -0.6393359929009883, -0.01946477588570272, 0.780268083650236, 0.22301487839077527, -0.13213684549524718, -0.7357933772085317, 0.9456477515826216, -0.053843099704225024, -0.8364903004861282, 0.06950214652424025, -0.25551068193270976, 0.2210100441313167, -0.30538545888779023, 0.8347899833058998, 0.12084227303349326, -0.3689294851094956, 0.13020897245228547, 0.5686912246863751, 0.9210966143827262, 0.7272373071474894, 0.3906860159590573, -1.1562566641406324, -0.4714110447407283, 0.34631037173229307, -0.6334992883760697, 0.38947495286475253}, {-0.09255071237855939, 0.1983963848338901, -0.07174543388190757, -0.4375308242572298, 0.28353015660795355, 0.007213120473930372, -0.023323905728533215, -0.6835857563546812, 0.527499230699976, 0.49914618665015176, 0.570168556705219, -0.2227727102121623, -0.0021742619426456363, 0.6788866152002662, 0.5650039815531642, -0.36818533802631337, -0.10411903831505485, 1.6775295579504876, -0.17545029159747205, -0.6703563543065918, -1.3941512221362695, 0.010690363817808237, 1.5231085733291962, 0.5809543933482455, 0.36105178257078663, 0.21080684709437705, -0.836267473916702, -0.326021441704585, 0.6655478492913542, 0.26248935956322994, -0.17898544050788256, 0.4127919269053473, 1.1100327003894852, 0.4247466379163156, -1.0534425579020301, 0.7322848974423937, -0.408712124305467, -0.01800504603779757, 0.06193593189019082, 1.2236863294076574, -0.8357289698576851, -0.8872500279825428, 0.8951871975459695, -0.3632077182262039, 0.0986297864173896, -2.1136633256059148E-5, 0.5622821315470279, 0.3740863388417879, 0.25531669202779284, 0.7913871132043162, -0.1667909890339668, -1.6830651037642606, -0.11171322571487985, 0.5076165703764619, 0.25439300055799174, -1.5646272071712017, -0.11772004839668475, 0.0846396184889642, 0.9372852352948449, -0.37686830425055073, -0.05821527709748577, 0.1563943231012861, 0.8015653408954773, -0.1982451471677753, 0.04502332545785671, -0.005993198464168781, -0.5438419176858011, -0.016604226985115135, 0.2606368765539122, 0.9060234701290063, 0.4612811816411211, -0.7632309911858727}, {0.1348555345535727, 0.3451918200972317, -0.4831964422132087, 0.02141969073783458, -0.4352303324255786, -0.22241966734643492, -0.38524972453272066, 0.4232908302422047, 0.5467487955666581, -0.7712711781476143, -0.44594114101838156, 0.6069665238356241, -0.20008358339495858, 0.27446849442435883, 0.3919740534483611, -0.052990171306719624, 0.09176488182755847, 0.13696248855344706, -0.0684456717026436, -0.6420608838564164, -0.39923044102192307, -0.5846202274033507, -0.2844776702895204, -1.6946426084910757, -0.6330394646044788, 0.9222562392535416, -0.5089955818012922, -0.5932554171218889, 1.890700400936303, -0.7447495006877956, -1.188551780863016, -1.4703859446634826, 0.6652867196530525, 0.9299684338854385, -0.7905118776109412, -1.6133448456016712, 0.15273679141048582, 0.44465320326597735, 0.031959292502527256, -0.0662510173107822, 0.0856820023604501, -0.23573869622690347, 0.1936121791354155, 0.4180224831229271, 0.3573382909727587, -0.7543636899010622, -0.8296809790584887, -0.5482161809836952, 0.74884026897717, 0.787961418854882, -0.8639574054984869, 0.45973511241815246, -0.5479313965607584, -0.08909210413753321, -0.05785822464545451, 0.8633728646596697, -1.9169540677000527, -0.8352204065206448, -0.39202520054307155, 0.04332431729078645, -1.2278559321026075, 0.6810255207237863, 0.8742544574601314, 0.4820338617013896, 0.842750279923784, 0.46700889216551444, 0.031183245851402752, -0.28389474292043637, -1.1559308514170576, -0.41941367542401986, -0.43397209614211135, 0.63545349633952}, {0.6874565472420779, -0.04919151543906941, -0.34992491852659785, -1.636900274265627, -0.9748379357609878, -0.5670983349430188, -0.034271651648607515, -0.34489105923327945, -0.01570549563158582, -0.4135715511639199, -0.19086692630742472, -0.7091966377131858, -0.5361830665523011, 0.9778743239754091, 0.46710654304787624, -0.7463572197357777, -0.9347878011451178, 0.20855615701145067, -0.5040735992485736, -0.21455125419908527, 0.757459270186188, -0.046044780041374085, -0.6636114093191572, -0.06898190311279441, -0.5227359652679132, 0.02523605470031609, -0.9681969165363637, -0.28088690035955133, 0.7292178755229644, -0.48904809234844526, -0.38479217054665926, 0.05394359111221735, 1.5394697955338776, -0.2711133441667162, 0.11139873462280359, 0.36068723148086557, -0.15327267822753576, 0.058518680979666504, -0.9466531914446665, -0.08054939240977353, 0.007307709938588401, 0.2703875271299957, 1.0304063070099458, 0.3640129279709386, -0.11434210978655229, -0.1879234069945728, 0.5534408026448114, -0.72079341631194, 0.6850929650207477, 0.47582732276751444, 0.6923854678254682, -0.18947645885817055, 0.5937535615329277, 0.9359711902869305, 0.5865425425667298, 0.6454942135127413, 0.446070118587623, 0.1624129590432175, -0.2476661992009473, 0.6699544685415177, 0.2585967427349469, 1.2308813688311133, -0.8926005429342065, 0.37750796633145645, 0.6612024024293963, 0.4073717507641934, 0.7137956994946382, -0.763229189744127, 0.7783484245871322, -0.8726209225529067, -0.5436042223379196, -0.6522471473159575}, {-0.8959637736868736, -0.10562825760417592, 0.2832881880103777, 0.26643750183580883, -1.576721995689987, 0.7429530215506563, -0.01708237314643186, -0.7620305465781239, -0.5321496348588337, -0.4037749167887029, 0.03592668645701178, 0.34474755225757914, -0.25189372010981503, -0.18004562337485952, -0.9611927658641164, -0.46994838379551207, -0.04494041074843591, -0.02934487760667001, -0.37994812216439017, -0.12783890324608205, -0.9623875247232039, 0.915542727862622, 0.3861684787458212, -0.08043835081312506, -0.03840858848182584, 0.9640506858765251, 0.34368225958891063, 0.17249598573758806, -0.10810385278295996, 0.7751050443095164, -0.7454706932051554, -0.08469944078500613, -0.14667386877926403, -0.20261590869097262, 0.20629899174810995, -0.6662171677553674, 0.541477946821637, -0.1161493716319697, -0.30447755188849324, -2.054514471259899, -0.023586194253828685, 0.41826989603766607, -0.06345970250768525, -1.360739440197594, -0.6510573380088434, 0.26873017783653125, 8.812132739576646E-6, 1.9157550793653804, 0.5282723265774758, -0.5144898248054048, 0.16507227329627083, 0.927097560082899, -0.8954335121834514, 1.5481750740355071, 0.8244056735921321, 0.84982840465333, 0.5019984475998829, 0.8089727480348179, 0.6287923564042819, 0.02472484899012005, -0.013428698452081077, 0.1521994938078488, 0.7204990778947784, -0.37444322021880133, -1.0099462551150251, -0.8721460591199003, -0.18072511330303764, -0.4762774644190343, 0.29512856323122194, -0.12364193324296036, 0.11092561971905934, 0.08797039349010645}, {-0.04094975652299134, -0.4143494573782194, -0.27824034537970554, 0.6249270297180975, 0.8049554761356217, 0.06454514937370644, -0.36479695451774546, 0.10488298210299613, 1.9884373304783198, -0.08147054163056511, 0.8010751350521772, 0.887789178717137, -0.06881635479183346, -0.47816717006365317, 0.49890428616681937, -0.019345443091471563, -1.1764572277689773, 0.63585297154375, 0.6047662494091816, -0.1439000816146464, -0.0021842008935585378, -0.40092009664425327, 0.8278661652193805, 0.03358771747939767, -0.029528668366391342, -0.9652933556216514, -0.2582954404970439, -0.2673581342109013, 0.9222087767408613, -0.8387168695368581, 0.06983102596210783, 1.4386057668760186, -1.1130676230215142, -0.18744715716181948, 0.6119155824666269, -0.39418842478974647, 0.4884604701455506, 0.22802965981791767, 0.5450981974855116, -0.0023543994528200094, 0.08151838819969645, -0.5424241103931898, 0.6891456090837489, 0.23460885681535126, -1.01273875183226, 0.8048104941016653, -0.2917553227658647, -0.1345225346248386, -0.9433880644044235, -0.37901198422345006, -0.982512059484159, -0.24634588979551997, -0.45143800688279784, 0.001730064750827593, 0.022713921130978434, 0.021132371391647326, -0.32253962831891264, 0.16391880837907125, -0.11486453299039945, -0.8363610866325406, 0.7307623296490668, 0.02105378463899006, -0.5304211817145681, -0.0447907119726878, -0.07026416024460001, 0.031887834515765406, -0.9753455017294658, 0.025664648552763847, 0.9111731498404532, 0.8975806149560671, -0.002770437156269643, 0.21076451980934907}, {-0.4906252656812677, -0.9783200753011829, -0.8547968874536942, 0.015622249407678996, 1.4771461863932134, 0.2177144010645348, -0.3258391737976738, 2.325289944790118, -0.12739654963344127, 0.012882096964901188, 0.020565740439296022, -3.1968388080533257, -0.006829852874221643, -1.388934151657054, -0.13234466872025807, 0.5229568408254435, 0.16943122054606996, 0.048885971384495575, 0.043201328032112185, -0.04458193244228714, 0.6734188995267005, -1.2673403746783667, 0.2842241644110199, 0.005102801475755221, -0.14541817900191625, 0.846396187112954, -0.9995100555541356, -0.5284427226809805, 0.7517191718833758, 0.2001474726594533, 0.001978046763587482, -0.01001982607084802, -1.0300342856445808, -0.004074874512821324, -0.13928595529981158, -2.5088881500819027, -0.060675848436267076, -0.5086458931023758, -0.41982637179128823, 0.01749896896513059, -0.032525147190332455, -0.8730030514667555, 0.8142266014209394, -0.3752825423811881, 0.17081381250041505, -0.7591999233053233, -0.13843986916179588, 0.4346467425960796, -0.2735435696880869, -0.7254309219722994, -0.4331138916746884, 0.01984260729180927, -0.02023690465559605, -0.325585638426082, 0.00310197103935639, 0.6896275985112776, -0.43480888528515277, 0.21823237980879032, -0.5338223026843474, 0.43833517152148804, 0.8434756223679085, 0.8434955258328269, 0.5807881928483964, -0.307183161570619, 0.6045989462028922, -0.15877502124817178, 1.16955718058525, -0.7286099040027783, 0.3487343518446948, -0.02441484316707634, -0.8618763043880102, -0.6810911403362994}, {-0.46687480368021606, 0.8222314563714649, -0.34891799241010957, -0.6356465268579645, -0.1348841914475323, 0.468712737068634, 0.2913134173534304, 0.6411915699934125, 0.016176319150695603, -0.08947142449976661, -1.359440533124621, -0.15914764192724773, 0.851389946586349, 0.24865093062315866, 0.2706401209706135, 0.8281714857311084, -0.19295127225925768, 0.6976474999597817, 0.19932680331262165, 0.8565239472844768, 0.39143669859269026, -0.5575102618468135, -0.33296395956194774, 0.7534035039600899, -0.011069056961720556, 0.7843333756138458, 0.6101191748750578, -0.9345774034958922, -0.12111364516505309, 0.16224732066293093, 0.2873589762532181, 0.5123474021885672, -0.016332835801473506, 0.15821174707215835, -0.11220119382581362, -0.14852299673735825, -0.017793497867797315, 0.34760710372714976, -0.09379552346596065, -0.011430825921604493, 0.6321803996562304, 0.7657155493381766, -0.725277946682895, 1.0661317677614015, 0.38140789903472094, -0.33632755974826234, 0.1158997532189908, -1.106313058295884, 0.09270471011274277, 0.25660532702404115, -0.08868170144549681, 0.16984157448762982, 0.2299127145773754, 0.28369557352981756, -0.025212684840858885, -0.987259359411746, -0.11234230692139069, 1.2613438103577943, 1.0290299355923, -1.3978001428122662, -0.08735593049558697, 0.6770418985322288, 0.03437887227394732, -0.4704707583241843, -0.6509230809698328, -0.73647417512825, 0.12812149074349488, -0.727051548149886, 0.33462695495634986, -0.5358213123887476, 1.0507086056999517, 0.4773653894909814}, {0.4123145063992373, 0.06522832961705266, 0.5093757846044111, 0.08441193592494534, 1.507431697175023, -0.8743855311904705, 0.8605691465085421, 0.7270443399118862, -0.1401557854371678, -0.4266946184845093, -0.6046002365286647, -0.21246133847595627, -1.1493443954088565, -0.32685212172061373, 0.6463584036581553, 0.04935270443205503, 1.3961856524929965, -0.16366793478053168, 0.2423986039953714, 0.8290021584725153, 0.5960579036143261, -0.14445804795564454, 0.6245757519522954, 0.7811184532086579, 0.23447318549922008, -1.1097793199744324, -0.4500119616966036, -0.22460173253226168, 0.07414239775047915, -0.07386690476209821, -0.8523969145671266, 0.020801609707084667, -0.8160085536489953, -0.23317963247740833, -0.3206460209025326, -0.26992539856710346, -0.025425118267012145, 1.4052288753136926, 0.8431113876403584, 0.9849503441319534, -0.25556825596833765, 0.03779457194954983, -0.5679810590998758, -0.8450485221732744, -0.015915825074526043, 0.7025180252455616, 0.14661509603255118, -0.05823039311800647, -8.179385162889393E-6, -0.2808214694503735, 0.024373912012677225, 0.9318738500390804, 0.3723810931535021, 0.4823932502016477, 0.5144526379042063, 0.5501117925056194, 0.811922574114879, -0.803305543064869, 0.5921206379742878, -0.24639930514899389, 0.7100303554439547, -0.43674779850483025, -0.3613008253531175, 0.3124737983427657, 8.643838383668445E-4, -0.16585012074526356, 0.7766715129832527, 0.20069486403788517, -0.5810454099088831, -0.3505782837787026, 0.7945073435747263, -0.7322882736988225}, {0.35993961756697357, -0.406486934740701, 0.23849407717933535, -0.793560212142646, 0.11135706574035592, -0.8710098142354055, 0.2096304613192444, 0.7131246791924714, 0.6068583299569847, -0.4102080316518655, 0.35446542115586044, 0.10560382161272125, -0.03575761073344695, -0.0404089591014003, 0.4247089477527602, -0.6696973575987317, -0.0010853366753705402, 0.1100339034331197, 0.16995808635116783, 0.6971467868925425, -0.09665710540632874, -0.9081124088110666, -0.02464179634428132, 0.2684148577403981, -0.037015153058619264, -0.02684720907054861, -0.8863517498553154, 0.28852329585108216, -0.06912736620645799, 0.2958546623412508, -2.499515473954849, -0.6319710554614251, 0.46650698653173084, 0.794700154120834, 0.14352831046659634, 0.1507179057724089, 0.019458690274462426, 0.11380277674610963, -0.6428059422501202, 0.06211361659157065, -0.7394463008486116, 0.20763260746869383, -1.2805592115272564, 0.04600705645441781, 0.4291884790298248, -0.2648782395418433, -0.12740307287060215, -0.19273439800820152, 0.4729116381589942, 0.6448443549550862, -0.638660298689301, -0.7964896864109849, 0.9524161192686036, 0.5508969283149212, 0.11162477634218115, -0.015243182425110913, 0.20196486681870573, 0.9247623278172317, -0.6058728539004041, -0.9018924335596141, 0.3106969638453694, 1.6086306169287667, 0.1157252448633178, -0.8144210939927277, -0.7190094675367531, 0.160380776773406, 0.005522259152164335, -0.3095586512337323, 0.040712558918078776, -0.7418370406989552, -0.8505900902068892, 0.4532982218416315}, {-1.261324565658783, 0.06126719216344089, 0.0676508394705511, 0.0794160544073319, -0.11214382076620377, 0.028954996697759815, -0.8432721436807094, 0.036561825098794465, 0.0028805623207448505, 0.5391974859369191, 0.30954792746668186, 0.5859171857151059, 0.49708593670968493, 0.25211136478108476, -0.057416710341469196, -0.02938795438302222, -0.11979404289079731, -0.41787333925506265, -0.9231262278820742, -0.2802293479066313, -0.0335020195998704, -0.28739772564632954, -0.48879868114601877, -0.30205504966621777, -0.5039584086948252, -0.10922946080201776, -0.11852349260920066, 0.2946638086137243, -0.1870579327543512, 0.0031125726343608864, 0.7999986219445032, 0.30341026613723887, 0.5073699410839856, 0.40445148020617516, -0.813376300378496, 1.2919598934276453, -0.7413916356185263, -0.1653004465710445, -0.07608714875569707, -0.44042346186422565, -0.7521500314358283, -0.3228473424690302, 0.5000164084869712, 0.7154210371104834, 0.7955015483241505, -0.5459523990531686, -0.6557578037955556, 0.5636226485458165, 0.6811457433835041, -0.3701909583222555, 0.5764957334223184, -0.059729541862026725, -0.2741134715359388, 0.09043345901947109, -0.3274873947707173, -0.23939810999050096, -0.0867133097894479, -0.5482434568426884, 0.31994877139026107, 0.1354666550530308, 0.2054870068472587, -0.8452245831923824, -0.02016439405623336, 0.21006782859664042, -1.0055032294780697, 0.3282833066657742, 0.6756487947911082, -0.24934555377846795, -0.9985168095081544, 0.033227224044722226, -0.8793331990064507, -0.669727426266739}, {0.09042551618337277, -3.214438810409378, 0.11675220373265766, -0.4204057650070663, -0.23125369228730341, -1.4102050875172991, 0.7002106366201188, -0.11150048337121596, 0.1840516590474992, 0.02253891571263809, -0.4054800467318491, 0.9655382300927324, 1.22268502025364, -0.8882026852099241, 0.2670483926883603, -0.7736116136482838, -0.9594579770189589, 0.004280080788391495, 0.12944528848890768, 0.25841830427447143, 0.7870865049245572, -0.15363808539951648, 0.24855008132952383, 0.8545105676037873, 0.30877371936202724, -1.309190499349882, -0.7713640598269194, -0.04349163818089459, 0.8679569988152223, -0.722210133656318, -0.3437329579210129, 0.5543212411953327, 1.3016438945017759, -0.013169196384634582, 0.5264731781433325, 0.5013411719963523, -1.5681823497866823, 0.5427309761715029, 0.33750911471499445, 0.4247177091805683, -0.14805817550094308, 0.8382334727732974, -0.3508158902098939, 1.4168271051778374, -0.22614575820198635, 0.14191272586908482, 0.7037537148622051, 0.5502399273993501, -0.40294988692806527, 0.21212542241333274, 1.047277518975881, 0.2271584198134467, 1.1188263907092706, 0.2239349970644466, 0.5511963215235387, 0.17310880958602276, 0.3164494848533834, 1.0295826292584112, 0.10531765962954123, -0.06212652419181278, 0.4211318363242149, 0.24118669954582272, 1.236195992143161, -0.25905583659419446, -0.21416111550310957, -1.7542020652303447, 1.6734669119592647, -0.5408233748402946, 0.6152889283959102, 0.05917690517176075, -0.8145641970929571, -0.7405669931427921}, {0.5550562739729368, 1.0532636544966, 1.7146852490207227, -0.7175707181456263, -0.007090236950399564, 0.4771280642899045, 0.6745910237031041, -0.02274733301557963, 0.43224935247099094, 0.21615401413469626, -0.48026257317918786, 0.0029360771066116436, -0.002175712393702233, 0.035264008045721607, -0.01089698951356198, 0.05616628043060472, -0.6693827254864818, 0.35099367862920894, 0.1485339805585959, 0.022306152480352805, 0.9306015746828319, 0.9028788199429196, -0.1147228082341174, 0.628698495825319, -0.6601976544634662, 0.9005365815280737, -0.5248238132277274, 0.4191254504706996, -0.9206105528692574, 0.7132040124713637, -0.058854605775654045, -0.2005578465649843, 0.1772111974809194, 1.8297220580985687, 0.910000951622923, -0.7015266791525951, -0.9244978356231413, 0.8080334856716309, -0.5229464855307988, 0.10895480435615051, 0.16909139831422076, 0.28166897907476485, 0.4342867603093526, -1.1932556810756423, 0.3752299059145354, -1.2026206674273763, -0.04093676001986202, -1.3625930132728559, 0.5317785985123176, 0.6964745119468658, -0.727399662957007, 0.31171286835089473, 0.004592415304675986, 0.2716028315746301, 0.3420403914107931, 0.008928423822869513, 0.6414153323586007, 0.07261952471234873, 0.42373053218645557, 1.2388512799538218, 0.414891449685171, 0.5715695288750406, -0.6938859166184881, -0.4841260360087958, -0.6757759348990183, -0.9430188577821645, -1.9933432446297574, 0.3496890700765062, 0.6247102421509638, -0.9397905709747854, 0.8823642225200616, 0.5149758767864994}, {-0.7775078963326323, 0.16679994734826176, -0.030994904234874984, -0.9546284276190298, -0.023655616971825166, 0.21760767681835583, -0.5997926418121518, -0.2467369748494912, 0.2851950340586522, -0.8097367958671237, 1.2139988352872262, -0.9379492263790246, 0.004491742235091841, -0.11641161312266035, -0.5932738744772728, -0.10267022395840036, -0.8558934595513221, 0.1365821479712202, 0.5272200335823956, -0.0629895782145886, -0.8064740504813634, -0.15749487759454953, -6.764555805096844E-6, 0.175021608906102, 0.08349186494050144, -0.17728895624650415, 0.6847759746172817, 0.896403168348819, -0.7284136553483358, 0.2186021761753394, 0.2504701275176793, 0.3452145421278045, 0.010600440190495905, -0.17796212781709064, -0.14484453333376757, -0.3546398206813777, -0.993387597722508, 0.03004139375183041, 0.4225853096693899, -0.33497028098123316, 0.7238140280677189, -0.017949869862651582, -0.18978569229383888, -1.107706525921419, 0.3263360027472748, 0.15947690790669108, 0.29953774713177683, -0.12928283180165182, -0.5278434181387517, -0.9992471683081864, -0.8793243899084864, -0.80775192967414, -0.14695604138225746, 0.40637392296738395, 0.0018706509458072498, 0.0017269448602490966, 0.12766133182393768, -0.5457070183122827, -0.5148337375606185, 0.37458801734389463, -1.6813891280478737, -0.615870051892677, -0.8274075603403315, 0.5216840176167692, 1.008853885402701, -0.168430018759558, 0.13580883011156228, -0.6666596603665966, 0.08866739419513976, 0.26211047358344125, 0.27684237817869217, -0.12575568775998303}, {-0.4751936318497423, 1.4831325568944629, 0.010947258633906332, 0.7713104133543115, -0.46717802765748034, 0.9397779338274586, -0.22128556788815268, 0.0772469974379506, -0.5339256918439506, 0.6197182790587136, 0.4063334756105812, 0.22855902381613902, 0.08653091095191301, 0.1017192670944567, 0.21261809444670454, -1.6776574211546178, -2.221025156646065E-4, 0.17603421931246566, 0.8861784100247274, -0.020375824010683524, -0.9523052166839279, 0.051298882775866694, 0.34908973010957717, -0.4748823573382026, 0.5136613641543553, 0.7099357035836731, 0.8524041181178821, -0.7375324913260319, -0.15171060972253292, 0.2515274576165272, -0.013645574201618793, 0.6486341355142193, -0.08700194607211609, 0.5619751159390995, 0.2846797801483718, -0.6714657683262066, -3.135459308998155E-4, -0.21664745945171693, -0.014655733950323978, -1.5721944841490452, -0.7718651433617052, -0.7048519041757608, 0.2029723113664823, 0.8363083224671054, 0.12992092650223963, 0.5066683065600355, -0.15404318051736493, 0.5030416740994976, -0.7532350006980617, 0.0015977041683522925, -0.2475896078868144, -0.5018815981364617, 0.9260655080016287, 3.52580266384426E-5, -0.6374902837060643, 0.7453447115910806, 0.15626175750155613, -0.14074362882750813, 1.129751430976222, -0.15819110128242703, -0.9790914814272316, -0.2118510213042999, -0.33463806825033804, 0.7849275047366016, -0.6632273892026054, -0.23433721012109388, 0.8304492306497224, -0.3839810857422725, 0.24631019174195257, 0.7887183009992702, -0.7551255759753188, -0.6536299805663044}, {0.7325654338520649, 0.132568969356897, 0.3511995357991613, -0.06945603156222149, -0.033242096013391106, 0.4647906469284313, 0.4709207532187325, 1.2111768053544008, -0.6797007002124908, -0.924010269064182, 0.010126285105397764, 0.7639570087167011, 0.534959114154137, 0.6677785469603286, -1.4013485206452447, -0.43462017923932295, -0.5167363926032877, 0.29737545292828543, -0.315543420058444, 0.291782100945579, -0.37846163680317174, -0.2109365411662727, 0.1468212047867629, -0.3911902963110873, -1.3390285888587439, 0.009650516378457824, 0.04981565967659665, 0.43273905177675154, -0.08001535160307771, -0.27192759438084757, -0.46524418759519887, 0.49841803566141807, -0.49347443428009435, 0.8996346316160467, -0.39771060630971083, 0.637505205884412, -0.4318577718726404, -0.04734195087999214, -0.13959783071044218, 0.4440765721880626, -0.5530552657470336, -1.3075853256314531, -0.00534451875755643, -0.10390834980578116, 0.7510108784245779, 0.3465239467589729, 0.969257416949735, 0.7273888630577678, -0.3120312323772545, -0.02723498476319408, -1.5939353187384862E-4, 0.033559530088679554, 0.05658389162160948, 1.8477235672821437, 0.3971588999917097, -0.44620948270274, 0.5981703525985183, 0.017557967298854994, -0.6058244390767356, 0.07003009058134557, -0.4638391522761694, 0.8156269577057016, 0.2360436305228253, 0.0870331512882343, -0.30949237509879013, -0.12054707332025279, -0.8396877688930706, 0.4639719791994785, 0.4324622883618292, 0.013070149779128388, 0.3399751008126764, 2.503078819281271}, {0.8452785237322322, -0.20134738026457782, -0.07779729517813848, 0.3347055672061767, -0.807479903848562, 0.10804487970136442, -0.31652653311975265, -0.08854178636086552, -0.6481754883172806, 1.1842552683919276, -0.26028661111218443, 0.9661054432462679, -0.8329993911812954, -0.4360233561356115, 0.6403717314276813, -0.929449257072035, -0.08490812851580527, 0.37637373146774444, 0.6616645500629108, -0.5311353992358996, 0.44071481873932417, 0.6375896793614362, 0.972897009770769, 0.025942514414013296, -0.33618664070380827, -0.9125467255939212, -0.4515961089015501, 0.176616272379007, -0.5191132561595995, -0.23941285738096998, 2.5036617317076306, 0.2701250217251967, 0.8126607346973713, -0.09405950049494982, 0.4964917418223391, -0.3350940220688201, 0.9151814475885056, 0.6014046224794314, -0.6870077989349106, -0.06720801114309151, -0.38542328976573104, -0.2849002412191041, -0.6520741243732606, -0.08599776723285601, -0.41406254936835724, 0.3181219863631197, 0.34944436377021537, -0.853641978830084, -1.0314615012220607, -0.03776032814997299, 0.25305004542797327, -0.5871859949368186, 0.8058066398820145, -0.2597054522225598, -0.9566957293695001, -0.6194806712719783, -0.48383963918949924, 0.32984248347609624, -0.6583811102838691, -0.6758982942990814, -0.3837883980925781, -0.2196639807963736, -0.8043031049400038, -0.050015991867263215, -1.1445517903613123, 0.8192637885362772, -0.3106548710428716, 1.8142737669448417, -0.6649417534154294, -0.8176452581808561, -0.9577232780291688, -1.5059939830550886}, {-0.26310270054124296, 0.25356252837856275, -0.004095279595908541, -0.10725408038201056, -0.7419567100645379, -0.12647463926807528, -0.27733389241343465, 0.5263522325539509, 0.13615096818910377, 0.6796044782722284, 3.73274532577191, -0.09315232898127435, 0.7846979466704973, -0.24660838670630514, 0.898318665139316, 0.36173151179517754, 0.0029831038228086094, -0.41204853955622545, 0.5367557328419974, 0.9118050829541762, 0.6464648882212534, 0.7523373743145615, -0.5152741479061949, -0.36365002241698297, -0.919666098265539, -0.33616293315803975, 0.15587503128908642, -0.20504646523951478, 0.9066093832989042, 0.5435058610230585, 0.8044842568463191, 0.6889041031647569, -0.33964544990254475, 0.7224742870810508, 0.2248498219879371, 0.19088498088666506, -0.3642197052693761, -0.004008341119222578, -0.9169634280259646, -0.41597808437315287, -0.5445849338708204, -0.41070748592695533, 0.6060311589973488, 0.8787271091567765, -0.9437367602154793, -0.03548270893726353, 0.004936446659537243, 0.6032255607823788, -0.7510704390884186, 0.3401857395781759, -0.0034967775867688167, 0.69034408836482, -0.5698113767441748, -0.039156113846492646, 0.02296955137760537, -0.12048392561879556, 0.35105677750924535, 0.4256231818275294, 0.1836199033221464, -0.42302193734087035, -0.46126777345436354, 0.19649969558223623, 1.9840692140078682, 0.014629864980873375, 0.6057301251433205, 4.6074918173555E-4, -0.3108963416502647, 0.8680065230682148, 0.3801409125433546, 0.785470045244854, -0.9908593333009466, -0.9634420853060812}, {1.6355264373431747E-4, -0.02322025693377448, 0.010503317514509492, -0.3630256864205528, 0.9318561272676763, -0.43397501961514884, 0.06287146064614661, 0.20557362690049785, -0.012882872460686152, 0.7555956615036987, 0.1485127601717299, 0.25194589030917225, 0.974992264541138, 0.9236255372390766, 0.7734670257330434, -0.10438162460882668, 0.02027394495561066, -0.020308492236864373, -0.2842253282489122, -0.933747611541418, 0.22750164756406988, 0.6487706119183867, -0.4237160692450324, -0.2234622418316238, 0.8140931349002607, 0.3415036477814961, -1.3085820325065363, -0.010548433059777875, -0.16252808218601356, -0.24450379065529226, 0.1233158719783145, -0.12105581800447296, -0.2781523511160393, -0.9215399218544912, -0.6314957800808882, -0.3548440962901743, -0.6758900472324323, -0.6117459033407644, 0.5744873641108232, -0.4576432500690455, -0.5932081495185364, -0.7121952838207268, -0.45509834712707176, 0.6382207300826588, -0.011525593820927549, 0.8867108403458857, -0.8024219679375997, 0.13689481636413703, -0.030978276923777637, 0.3342240792268798, 0.006150172101276795, 0.34514287007196187, -0.40863672666282075, 0.9240542513541479, -0.18808616819957916, -0.29233844278402543, 0.3332236727564737, -0.18375823898045682, -0.6874359738337292, -0.7262110498829306, -0.6565133105453009, -0.484342299542228, -0.4080743889558329, 0.9161913397986985, -0.08811712047752529, -0.09440607720394145, -0.5996856977117964, 0.4543030430524668, 0.6270576527528242, -0.2368866248389066, 0.026282376620279914, -0.15021022054380231}, {0.302766878161893, 0.18836678020331288, 0.005305540717660984, -0.1335619945456452, -0.7174028697844186, -0.43585830666907355, 0.005819221564100386, 0.850273816593085, 0.27836773552931726, 0.0696944394460588, -0.2370148011749708, -0.3708757823223807, -0.3858227861791217, -0.38269834054844654, -0.4902096962880689, 0.7608563524944361, 0.22801766694395953, 0.8945905923639541, -0.2741474951003682, -0.9959554130711266, -0.8945070445385992, 0.2614904440563184, -0.8508389499565021, -0.10521766681629696, -0.1740875878603787, -0.0714162860765472, -0.9513522906469611, -0.45751786216661183, 0.44796441033818213, -0.3988121290071177, -0.8176742619248614, 1.4502007495553888, 0.7740892888435129, 0.4171553084728536, -0.1041787147199561, 0.0611047135611307, 0.959446164716911, 0.9389067292608699, 1.9988104172637653, -0.3339127884337985, 0.7261970798219224, 0.3309277622614762, -0.10254681765467547, -0.2091290269443991, -1.1658496655640895, -0.6767390012517542, 0.033940845917835305, -0.9429625090253417, -0.24581833809917453, -0.3780356425570366, 0.9896419047881029, 0.9589494375810975, -1.9680326573051459, 0.5024650998079712, 0.02262589896954248, 0.2435378871721574, 0.1877272819539906, 0.5260271275569406, 0.4104597157341424, 0.04651770168574293, -0.14050961549529806, 0.06430425433619937, -0.0041604370738745795, -0.2693584117932382, -0.1853257283049794, 0.22057615665761957, -0.7892157411245124, -0.4443378342949831, -1.8203117698910338, 3.2362385114151584, 0.1453610615349206, -0.15030497598501197}, {-0.5668954229942642, -0.8000588250518422, -1.0677895676775815, -0.1638906607396895, 0.013064046342045412, 0.16066236053251215, 0.39140100938171507, 0.9035428347798209, -0.9541135783895864, 0.06042377986864156, -0.5229049175327108, 0.13181356435812677, -0.02445297781537466, -0.5447525024781056, -0.6802156750623043, 1.4041616928172853, -0.7119806395402573, -0.27850950894693605, -0.5046879510469597, 0.03383047620008323, -0.462821349405552, -0.21256722819827625, -0.06994304845071864, 0.21683118569463714, -0.03753775223653277, -0.17588786451147076, 0.3004045970963247, -0.7488126276704481, -0.142523447463478, -0.2074658996136618, 0.19390137491866932, -0.0680791076518017, -0.6006144463050789, -0.10671931003350434, -0.4814475250635426, -0.48682112690330204, -0.4619086721088207, -0.7483177445297433, 0.07303256828459159, 0.19571626575626233, -0.8601105345152122, 0.8560301728711635, -0.013526771985681973, 0.2636753621971663, -0.27096793637757033, 0.8835166266066719, 1.8647443454773618, -0.4114761557353699, 0.07436227255243741, 0.14448553046090964, -0.43603568197281817, -0.14467611045126727, -0.05297298723285568, 0.047710980957987294, 0.33532444211939105, 0.9872963523040181, -0.47405168754047006, -0.6231577926700658, -0.7271603423966708, -0.8622602578818965, -0.9558362603820654, -0.23195989229663766, -0.11986156912700874, 0.554712936996544, 0.6042496106804446, 0.25652023439442595, 0.2363265530176848, -0.2884504329948303, -0.8022707432984009, 0.4303205677432537, 0.501501016618146, -0.36991490856878134}, {-1.3209738716408552, 0.9388091848797688, 0.06031436589436342, -0.799479626592746, 0.21315693569837468, -0.04300021267206544, -0.3416269588335654, 0.10633514190312916, -0.3973180260038043, 0.9159020814233754, -0.09756243936609432, 0.390095614792648, 0.26082816574010953, -0.9534127541359885, 0.678010568297942, 0.2988311777901227, -0.459842870326445, 0.6604901594204814, -0.9871072980659286, 0.30849631272213096, -0.16890376848005295, -0.43201701134823955, 1.3599894047712964, 0.16680088079727945, -0.2441475823840293, 0.5716805684641939, -0.1974699473218287, -0.901014671436247, -0.09130317653535204, 1.2868938989226326, 0.2910355841603527, -0.9505376159180732, 0.05261955993880639, -0.4853071932451866, -0.39763805469879165, -0.3517995808957488, -0.056797471383639435, 0.5666747233195262, 0.28575468259465114, 0.3350150277237356, 0.7386847051996199, -0.8450266189111388, 0.22746784343476925, 0.4884299446866611, 0.926857785517831, 0.007855366934428258, -1.0772337616666119, -0.12480460100184487, 0.5048609733282805, -0.6356933168273589, 0.002490988954141334, 1.1412376396219284, -0.03146671559071303, 0.0029389790364184295, -1.140807773384759, 0.07222556930427726, 0.021261812796713905, 0.011228021219641724, -0.029453223685153646, 0.27819440717686317, 0.4665588857575633, 0.6069192288991128, 0.23959817722807397, -0.24128245736498433, 0.45615364649832313, 0.034862817798843704, -0.19812367390559849, -0.35441919425196744, 0.43125169612294245, -0.8948037025091, -0.0028309948089345533, -0.04316972359260651}, {-0.8144944342151051, -0.3642157726679458, 0.14195744417982076, 0.6541609964622179, -0.5826346312434508, -0.4797543288530095, 0.5787921468504753, -0.4585036183900967, 1.0731139339564293, 0.7418550421514521, -1.1574318377428974, -0.09751219003851341, 0.0316310802861941, 0.6099500166801308, -0.15394070327271642, 0.3369777126095348, -0.08639659581308742, -0.3287687529775636, -0.4908836843927755, 0.38956019485150506, -0.44241422367877825, -0.9461007298275579, 0.939766518045327, 0.01276957630848035, -0.8209656388618349, 0.3362064154368485, 0.4924828793624174, 0.03399071810360077, 0.4165415436761566, -0.8456834363085968, 8.708640865714132, 0.0922098928361358, -0.17963498853694876, -0.16310443152480136, 0.7481979514079862, -1.1018738172307443, 0.41364171336981426, 0.378974807084583, 0.15186863900419384, 0.22156632561168463, 0.039137834100929844, 0.045485376792256726, -0.2765979015345585, 0.4066260966221256, -0.3417978967128682, -0.9859250178428982, -0.5537555408184909, 0.8928913224201769, -0.9066869015215722, -0.13035226222880492, -0.12019149575803939, -0.3191995358359474, -0.6469529618009362, 0.5513111224230234, -0.044265158139723045, 0.3400067595811429, -0.43704832235150093, 0.28104309650714976, 0.8633339210053337, -0.19803791843530533, -0.32713518999287916, 0.3463760833083285, -0.0018115426414500235, 0.5457503768673038, 0.5653524233160356, -0.37069324940196724, -0.20912877909445848, -0.4684581135140511, 0.7889159585558401, -0.009570500348950751, -0.9499769352726771, -0.5578191474849576}, {-0.0054321890226973705, 0.1614386090788551, -0.7843621626864503, 0.627048067521527, 0.1569382153015281, 1.2263356652666606, -3.6483770000294746, 0.682675013544683, -0.3916800481050522, 0.05456054421106615, -0.789245501143313, -0.8533582160609523, -0.911577719068817, 0.036939664417330945, 0.7128697096319083, 0.6281121260236968, 0.08119149639591014, 0.25715234426075195, 1.240269307008348, -0.9908490447042346, 1.1911677401085075, 0.5933251424465178, 0.7091311881123821, -1.4366678060981557, -0.13304846199106193, 0.39738127572890836, -0.004667353215721049, 0.13799042930591043, 0.08061873184927659, 0.18276707676818416, -0.6961671515623113, 0.01079896947803026, 0.6352333036660633, 0.07229737155757171, -0.8010298943551581, -0.707659185280655, -0.02702617708290445, 0.18198110045285976, -0.22956275638607612, -0.2537442813032523, 0.11637762343352977, 0.8659032713382324, -0.4039838464080589, -0.3150527057580497, 0.9756407239723235, 0.13868441801632114, -0.8354088728850975, 0.637738254904135, -0.6576588546617573, 0.08594718476302865, -0.7848050605172872, -0.5635099864193633, -0.015749591045545852, -0.0213781946520129, -0.12059994874278868, 0.14792452356347324, -0.3780397686860257, 0.5285823817539455, -0.0114061077101216, -0.6374848512505236, -0.03192692194207536, -0.4107929963268928, 0.9682947436811118, 0.3654995560666865, -0.8638040523473598, -1.06964278574143, 0.48812488722487135, -0.6262306862683418, 0.18799854516037123, 0.017507132423993488, 1.6165493225906904, -1.675980366787526}, {0.5725804640267438, 0.5988608045638342, -0.07999349479984849, 0.6322415030935613, 0.7729825031319828, 0.7821738297764051, -0.7014332120920876, -0.27699011584520705, 0.05056622174481868, -0.6478070906686817, 0.8594506711322911, 0.30746184867980375, 0.5313541643778549, -0.012062943122969644, 0.2936729676694324, -0.4627180887078746, -0.5404991066331386, 0.8066703693343316, -1.2860990366585332, 0.14338792247335586, -0.5178117336844962, -0.528676026984547, -0.004157609905306695, -0.9713223448134451, -0.9990012255339569, 0.907744378858639, 0.6364831196869867, 0.028748553805404878, -0.026490618557461376, 0.6126572822592842, 0.08140114666053869, -0.9299183654766274, 0.7093502985493585, 0.5626359328901338, 5.897364980683203E-4, -0.5375471807953667, 0.22660750394184448, 0.9263856315030985, 0.664142100286715, 0.9619657154272601, -0.22309485491925146, -0.27280184433478394, 0.1860352024862228, -0.624556993085869, 0.030153575700578163, 1.237818068340712, 0.5332682748078104, 0.6918314515455031, 0.9168020933426027, 0.2995433374350894, 0.3443663684704208, -0.5282263550845594, 0.012569720626180114, 0.12441570225304988, 0.0472897119377066, 0.5764674136890231, 0.7177130399925606, 0.6998465885678764, 0.758653000625185, 0.8723074294277535, 0.3358396328069431, 0.528363913648255, 1.3542642812935823, -0.10266735707470488, 0.16421833732432947, -0.31313914815583077, -0.04715936433163588, -0.27774516225561574, 0.710984390086645, -0.2503137251411213, -0.00401753273844096, 0.2847512494003632}, {-0.32386136196624293, 0.031214345806758415, 1.248295751722351, -0.40909394322094067, 0.2152019324662769, -0.10914913203294785, -0.07500762470564443, -0.1185219048326176, 0.07856167526407513, 0.005319471950776369, -0.8617250677605002, 0.0065604088964084095, 0.904224955309934, 0.2423070765086468, 0.1706380779500707, -0.48291397777307693, 0.08271377208956232, 0.8107129176154957, -0.26564881502107096, -0.5170732305341825, -0.03882673109792235, -0.9982889744497436, 0.08709410380130755, 0.7187603731525588, -0.33127395260450115, -0.7866178451758329, -0.2154154572024516, -0.3435151700597938, 0.3957289923235037, -0.8586875933111149, 0.08077482400540181, 0.0580783811161647, 0.037001257437666066, 0.551643700759523, -0.05266543321342998, 0.6832875243292975, 0.97638973236524, 0.5632192813571346, 0.10844914769627265, 0.08982711290207446, -3.62748068514751, -0.7805751594192651, 3.3539722749852636, 0.1756222496814194, 0.034944437282858454, -1.5227442828314044, -0.6480947428638697, 0.27490494893115874, -0.017164891051828886, 0.44671825329475845, 0.0011403742101053313, -0.44810721159538014, -1.8398448418151618, -0.6484531419116474, 0.49132569621145894, 0.6419244804585811, -0.6554429745944723, 0.9603262258105304, 0.0445982011446521, 0.08631812482842972, -0.6581403531964055, 1.0253023707080737, -0.6482577553901685, 0.745580729667713, -0.43083016618282266, 0.01764178500648045, 0.08978231873555687, 0.49829572857823434, -0.8447349633687938, -0.5691656628970941, -0.04858810618417117, 1.1286672959709572}, {0.3411515060001771, -0.03419746257799139, -0.5529910865141158, 0.0034796345640473233, -0.16782049541206678, -0.30730517051655415, 0.0021413766955968023, -1.7858539800481412, 0.02061003794829942, 0.02606856542158889, -0.1325723626021904, -0.007873447747687525, 0.6940735976893233, -0.4984273062386598, -1.1634624061491832, -0.5519910757325743, 0.34486286220980467, -0.17364861312569937, -10.306879615818254, 0.01574992496965255, -0.04886768015093024, 0.14964593726570355, 0.056004218692810984, -0.7883032306239781, 0.06579529061681487, 1.0901949791732357, -0.6101676814287029, 0.215782803968313, 0.08739065629860092, -0.7657177233861738, -0.06317314130805352, 0.6853576904251536, -0.08666524851872726, -0.11045997937288891, -0.2840355848324936, -0.26078736519752344, -0.33538365648826013, 0.48527870416751556, 0.5879114921470663, -0.6898304929913885, -0.9936527982557617, -0.3940797280080919, 0.37250673614797525, 1.2956921052445811, -0.7595792119694749, -0.9956508562080275, 0.7407008621916169, 0.9644752691500718, 0.4421013142415211, -0.024254151775625944, -1.2530323081834953, -0.870069600302778, -0.6891640589624162, 1.542446488690132, -0.7625062942591936, 0.536274047124661, 0.004465487251338546, -0.037306163173586634, -0.6743962242469117, -0.122265651810324, -0.00227595455549821, 0.49031063837940114, -0.21817952799635432, -4.54310387359958, -0.13050326922672087, 0.14321340816459793, 0.4810118664009049, 0.45887148503867614, -0.10046564596113826, -0.8184152684155794, -0.7747111234810922, -0.6479055691811317}, {0.3254201881274854, -0.2868023783807889, 0.6187921631456547, -0.3499469713477174, 1.2529837122971361, -0.19545542853013884, 0.03597023414772926, -0.8782526241783071, 0.9531284281395269, 0.06592885477585897, -0.6265585230476944, -0.6772168493881896, -0.8095708163212785, -0.7240939845871837, 0.007756861386427932, -0.08713294201567628, -0.2585201038458872, 0.4463050402903075, -0.02865195821523678, -0.7286933763901595, 0.6256157675687748, -0.45999916910354277, 0.15742411391303834, -0.9835164272866463, -0.0292154095014292, -0.20680378669693963, 0.5094011189869303, 0.9810468039858149, -0.46178106040571876, 0.2323041768045626, 0.8561489232167914, 0.39156493044961094, -0.247537649201389, 1.1335984167000452, -0.05363393647934028, 0.6772144173454973, -0.2078064175373134, 0.39948870789759283, 0.6684057690313339, -0.5684363869277977, -0.42118148476391126, 0.7327332292535749, -0.2771391811998967, 0.8920087809448582, 0.7441317609528231, 0.7477349064679543, -0.30974999541652326, -0.16425271848840572, 0.5358540494954177, -0.6462264916499452, -0.6527836065500408, -0.16264139704381306, 0.45625426933005664, -0.9191380292703937, 1.9191262574497732, -0.8287737260054846, 0.16211455989153922, 0.8809435994344099, 0.586493443458985, -0.9781599833107961, -0.9535444536098865, -0.49424977827867766, -0.7703584776174311, 7.751930405898298E-4, -0.8474892487806156, 0.48853536761682426, -1.2276586960677675E-4, -0.11614572782948507, -0.893492547533691, 0.0710473434159089, 7.066310274035628E-4, 0.3725606992508532}, {-0.17228414863295402, 0.3329357951205327, -0.2537641610022176, 0.17020827006153574, -0.02428904191577108, 9.373888349221457E-4, 1.6949131002460793, 0.39960618837320916, -0.6947944433028378, 0.7988404674801746, -0.723398472659698, -0.8579235148312272, -0.08262983991646404, -0.024362384143160522, -0.4753629106618652, -0.13535750617143277, -0.19205540118558267, -0.7362600065846177, 0.17344302799005631, -0.2665995200382587, -0.996725309018549, -0.41526248739535526, 0.8050350424529145, -0.22134284993571365, -0.07496662669963913, -0.05203150987313233, -0.7191832031531831, 0.3585157202696334, -0.6009452550269879, -0.1934712562740708, -0.006774015445116456, 0.4019009703406876, -1.0835568489064122, 0.46490725751030615, 0.9233577568800313, 1.32640799126731, -0.06674285118708631, 1.4993162607469668, 0.6675853092069064, 0.8772219510223676, -0.5589735999100374, 0.009566961876712025, -0.13423100951855807, 0.2774202410872981, -0.44142560630637195, -0.2228544458206989, -0.826972958583607, -0.3396912430419703, 0.4393127979201168, 0.3098693226330749, -0.4208228091784163, 0.5526800364451876, 0.01240684656441382, -0.47021719828774144, -0.2753575911816068, -0.7878503369654424, -0.23909997261032848, 0.2559332045380458, -0.09208908130060496, 0.8794807752571256, -0.8537349139933661, 0.36797751441077, -0.08949252211776548, 0.44211428910221917, 0.19150868269744215, -0.37241951969238984, -0.7448695972816266, -0.9994099923782878, 0.03219585180129607, -0.012047593884186695, 0.2007183679998375, -0.6510345221010261}, {-0.3860992885475485, -0.6473008589972179, -0.16717511258900666, -0.7820362483708032, -0.04931214550946373, -0.16261836592223547, 0.03686268305006105, -1.005013197704525, 0.5499542438621057, 0.2523032995193143, 0.3057498857646821, -0.13915504949634472, -0.6876230151496506, -0.9452396444218352, -0.2977022479593052, 0.432853076266666, 0.005290309966179201, 0.09527566189438334, 0.20788186255330388, -0.022382005087336454, -0.33858973573111484, -0.5992309803689505, -0.40376475132682893, -0.45450969695500654, 0.09977794519480154, 0.3079409000270708, -0.19912464660668047, 0.5280250272168825, 0.9142424751208872, -0.7311372413296251, -1.0961975437732143, -0.23051845583464936, 0.7678465046903225, 0.5270700103798988, 0.4815583286554512, -0.11020141852797916, 0.574649190438649, 0.7508304388668763, 0.9543459560546659, 0.20241510147256525, 0.09733958953947407, 0.163949455925718, -1.0691284174861642, 0.0070443930916753855, 0.4203592210581981, 0.5397521618592129, -0.5007755213189166, -0.4751685237527039, -0.8884504058845539, 0.13213138224561116, -0.6671824859895763, 0.44324222757591814, -0.014181099643116002, 0.8233453333484758, -0.002997796464762617, 0.13890983897525375, 0.6957036626097985, 0.7316774841274356, 0.24991624991830474, -0.07185143399562853, 0.07400779118709488, -0.09670820744512021, -0.6201243725814525, 0.9384803086833133, 0.41673020727646226, 0.07035331578641735, -0.4685594364166082, 0.6967867673793564, 0.25836983517069567, -0.6995425486259779, 0.288021112527894, -0.10322709740912894}, {-0.7885522652727508, 2.251171711128294, -0.20426879769915737, 0.28022715136092513, -0.7015588444261811, 0.29915272718181196, -4.256589624895854, 0.5510841478597415, -0.1550611517204657, 0.9433743854691254, -0.19068818935346757, -0.004080657411837929, 0.8566873040797873, -0.8582280619664802, 0.28176627858589715, -0.05797898848449767, -0.5999263318378731, -0.39298957936825163, 4.418067987781815E-5, 0.6990170580719135, 0.4386324834933433, -0.8319815784059877, 0.021313351963729896, -0.3004983200904534, -0.2069430907623715, -0.5520647951462518, -0.9030699341898332, 0.03333209355884366, -0.17814416722330462, 0.3015465320208451, 0.004865331061329137, 0.023454562674031315, -0.06489326235500524, 0.1070885997799984, 1.491942998594288E-4, 0.05884589382862382, 0.6795950808178712, -0.7985194204192128, -0.8246243775615008, -0.21461116300806699, -1.1231979627449986, -0.1650479399954734, 0.4738896851483303, -0.840267114209473, -0.3883375912788005, 0.09165274605349505, 0.06847717129288537, 0.10240790067437655, -0.4628906320671957, -0.332748103560625, 0.9329924729476756, 0.002590545617209582, -0.6551998994754153, 1.6826573298359522, 0.026661308589936622, 1.8159179904764586, 0.4904476748095403, 0.04897321763669993, 0.4104084087915074, -0.014750334935974602, 0.09462437800094103, 0.17241374159655365, 0.9948936652040681, 0.9494820502677845, 0.9624391531560422, 1.02963672918905, 0.8878136325654145, -1.4075110273400728, -0.38375817286120983, -0.21717234998139445, -0.043055767673511935, 0.11395604125881942}, {0.61717219570999, 0.7431830826370085, 0.8702705614583979, 0.8537004118382536, -0.8517533353653504, 0.1773425542576513, 0.8481528941840369, -0.2187922166061293, 1.799711512941531, 0.1841637260821125, 0.841008249750353, 0.1883590725084341, 0.5726421516777709, -0.8205797747663768, -0.025161105944296658, 0.33615466513982395, 0.012302305999037637, -0.4710997836404578, -0.5916817681126596, 0.631581020831425, 0.4062356348592242, -0.5532095423586089, -0.6305256240494205, 1.6604112250797043, 0.14394371147161528, 1.4481931635283685, 0.25006456298986807, 0.19250200665333214, 1.1326612159225316, 0.14545438543260036, -0.7172192919266638, -0.608305715835223, -0.4462108673518665, -0.24566109161023525, -1.6914993005683883, 0.6601366174673713, -0.08244075950433122, -0.3661159284422333, -0.9166410153120523, -0.16525233572475706, 0.015033199409857367, -0.4871522054242361, -0.03476079988992864, 0.08114132315528937, 0.7054040593336961, -0.7363498553783867, -0.10395536390980853, -0.1244356262454872, -0.6707173555433086, 0.37624982325584155, 0.9011943990100988, 0.2035648602870055, 0.06157595094983353, -0.8520848704461027, 0.5848841010573862, 0.9263151438635109, -0.740744509675316, 0.23974950186197652, 0.299412543957172, -0.34774688510508, -0.34960302689530937, 0.362364890697046, -0.036317426367524774, 0.454877509620819, 0.7136545629705823, -2.88156228879917, 1.4336108826234413, 0.27929844977677454, 0.7334839336320784, 0.6231329784822894, 0.08391656027279536, -0.7346167439458995}, {-0.2127621319869306, -0.18518091733024233, -0.417308452527966, 0.17321504869157833, 0.1009039974059367, 0.3264825810951182, 0.08595901687828116, 0.7561153430440484, 0.2643211991884704, 1.6386872782132866, 0.16360291836929913, -0.0016040508275233464, 0.1456732128815091, -0.35491051207331226, -0.06179972656224756, 0.17850313699664677, 0.07816117640477872, 0.8471292174970373, -0.2585709680888752, -0.11114989357239491, -0.06565030262584726, 0.23907956215538917, 0.9436820283356535, -0.8232555331418916, 0.39574266429756094, 0.23348568942968148, -0.46901439848835635, -0.006713306146773413, -0.1594424210534644, 0.37030563695371477, 0.6122401610747388, 0.1407598498299083, -0.5624074978079343, -0.8977102690973399, 0.14623819664747173, 1.5548556105811284, -0.8651299000313043, -0.7697655226981842, 0.09518536593248603, -0.458916044069114, 0.7035323891060729, -0.5000696769909884, -0.15911474288567737, -0.7591118352069072, -0.7758292700418123, 0.04910616031131918, -1.0760477149855672, 0.10043918027198995, 0.6650615021871169, 0.6242153886338457, 0.013040858189076049, 0.4190047649558602, 2.0234329511851055, -0.40125840014906694, 0.13169186608192684, -0.8073802165962203, -0.016417197489372946, 0.5347705097478432, -0.4409300490765291, -0.23005212081431775, 1.249730361014704, -0.7474680023015041, -0.5888083505693844, -0.15649179947711356, 0.0628385547153556, 0.5585331301918482, -0.016255772683058445, -0.5737425946762054, 0.7923863612598392, 0.8451925555962359, 0.02590967276646929, -2.8772101968844495}, {-0.19606284409513353, -0.1837711567186788, -0.22611611786427321, -0.8843349308419342, 0.4799343483071903, -0.20288396769044204, -0.03883604954290557, 0.012074762404588636, -0.9455961043156029, -0.19226344007795215, 0.03182551691457225, 0.3114723973170046, 0.8874826279377843, 0.8280857231026104, -0.6659749926222815, 0.2610869511906466, 0.4665021515257013, -0.30625845363616444, -0.44660518654476467, 0.23153539575036364, -0.1694845746393029, 0.2640471233321988, -0.24616482395222658, -0.4935627148927575, 0.023835453680825482, 0.309329611074138, 0.7303607889331252, -0.8037282781391495, 0.06849042072055041, -1.0120888703536741, 0.10846213270675446, 0.22291898888939818, 0.5292855262099461, 0.07778306518111364, -0.9362946642959125, 0.511532517101572, -0.7579221696154079, 0.6978043470041682, 0.8247826857062386, -0.1889415892311004, 1.0443093628116868, 0.00686151004083149, -0.044089277654589504, 0.8635070058698624, 0.13645176617921417, -0.10471254931498142, -0.8548407616807804, 0.8428665567400442, 0.49655473451999876, 0.11103402125713746, -0.07658839384775518, -0.0379913944363488, -0.9620563628737264, -0.9024490880824132, -0.17878811315851165, 0.6003753059441019, -0.01928860370797842, 0.1370979605127201, 0.17749077810975836, -0.4962633279963137, -0.2406090778524086, -0.2259822568252933, -0.022464032495939392, -0.2545338693312882, -0.6617122569157474, -1.227230266971017, 0.0023358234444879056, -0.035663900990343445, -0.8650381762970081, -0.14860670687857136, -0.546340536698285, 0.8621374408345215}, {-1.3720042060690976, 0.9981245779948127, -0.3154078437721961, -0.8563267269840874, -0.3315080074340202, 0.17426867074344374, 0.04089915314590302, 0.510900039663958, 0.6472721876540944, 0.4316269362113376, 0.5859860203442973, 0.36597564700538315, -0.5797065159468329, -0.8278192975095414, -0.25206910488663103, 0.558354391399251, -0.8572885709561218, -0.3470848541657582, -0.867070934783279, -0.007571463795382948, -0.6541881954863208, 0.29359800092567334, -0.48307589999401895, -0.7124764802180447, -0.7283066588761506, 0.060978299178744984, -1.2926263199083583, -0.39225245575840995, -0.1989747595405642, 0.23386895075725067, 0.02908405416353581, -0.9843011839981577, 0.1602537485597686, 0.8075855809485195, -0.5050485500994557, -0.8879640352161928, 0.3871353034463154, -0.03948250849244128, 0.19409480179488062, -0.00468489742407724, -0.23801712094931848, 0.3684846916564114, 0.4559448920212217, 0.6101726892837179, -0.31962428734876713, -0.24349817030084725, -0.6240200913557974, 0.41974790883466473, -0.49004162062707324, -0.45049157616680024, 0.4924526209802562, 1.0070013624955405, 0.07595642415207893, 0.9102959462311171, 0.07336757559179824, 0.06211357794012516, 1.4104170082336756, -0.9042798612111131, 0.019237433310093015, -0.1620193330043913, 1.077047905587201, -0.06823069401058812, 0.19150954488793834, -0.5606637590731816, -0.3237197636253708, -0.7482515110291175, 0.23628613131413778, -0.16881697180861338, -0.009488709538162311, -1.862050707022127, 0.3865809936932959, -0.38387360499038925}, {-0.10624877396957927, -0.1413601618896445, -0.570534744267468, -0.3776997795572248, 0.2362416936640408, -0.7397967643909173, -0.5595111394898744, -0.807081049637266, 0.6604855500000195, 0.8572042696497145, -0.20281949702533375, 0.4237032818119308, 0.8165712157725409, 0.9310728059785462, -0.4257286065664907, 1.1729186493324795, 0.1087488965914317, -0.03038412830047147, 0.19522462682546057, 0.6815260270698316, -0.3885432585783797, 0.07022879390401451, -0.7346334228180342, -0.2797070605578427, 0.32232607841442107, -0.8548342537456853, 0.6183102036931649, 0.4794761393634771, -0.5549668319909811, -0.9968135452243541, -0.3032285503382306, 0.6350730047892525, 0.002006597086462225, -0.21390501567877407, -0.10593998965996156, -0.8604739144126533, -0.980950576743268, 0.2151088805981271, 0.1314470502909651, -0.21426970259961076, 0.7905468953012025, -0.22339545486682244, 0.08023370765812456, -2.0757234028470815, -0.16225118287132467, 0.49602443809477365, -0.2943336801239149, -0.037687257226884964, -0.8837323604541936, -1.1505148263734246, -1.4817691602442558, -2.867583072457558, 0.7211098810174912, 0.9868434332440892, -0.42434308988266356, 0.8910567087929901, -0.30654393703232263, -0.4755693045718013, 0.0384324444920463, -0.3116290183684486, -0.5467945009084996, 0.667700702905744, 0.36608794706098124, 0.2798823552228312, -0.9753277729842114, 0.9063901533505851, 0.07176998610693874, 0.007836160450859886, 0.1479109079229732, 0.811322840815778, 0.3636220126853251, -0.9087531613087483}, {-0.7492265263116169, 1.5067452388695768, -0.23977816125598106, 0.9395601876067398, -0.10494550616916304, -0.6220575968900066, -0.04834214997073283, -0.03862531179330243, 0.7632387607650108, -0.3429868713010733, -0.6401036149526347, -0.3490390054054131, -0.7164635391603262, -0.0011135239582458613, 0.2671914043546044, -0.719455036934963, -0.6066992983902689, 0.31679580816685077, 0.03139827630622732, -0.4800185788520914, 0.8641771687621176, 0.013662048914211189, 0.16939266516095194, -1.718445088029417, 0.014947548554886001, -0.590324356157917, 0.7713234770000896, 0.9230775380614942, 1.8213427005714153, -0.00789195567220169, 0.16275473625035175, -0.462433568436486, -0.7585812649095962, 0.184585384001706, -0.028596596155486362, 0.061553748773120365, 0.16102608465135826, 0.6271966282549566, -0.23090403421098232, -0.27781755339302916, 0.047998583465407516, -0.3332045480113737, -0.9266675679579701, 0.9154406590323814, -0.9096422612504445, -0.047541641510861155, 0.01701526280312145, -0.023337774816476142, -0.17032786242314674, -0.004633216081052123, 0.07410752245661832, -0.2176111789994264, -0.409547589883004, -0.16811145157596463, 0.04724334024542353, -0.21851226834772053, -0.8636472035496326, 0.3783077100141159, -0.23134668367389274, -0.8727279515399282, 0.26269548279326504, -0.8809809606274854, 2.599225296384472, 0.5555633356517915, -0.6626548485402979, 0.011101269809851067, -0.14933491305022084, -0.264627680026054, -0.09451490717526223, -0.48657875430093495, 0.5174115855752026, 0.25386692715826986}, {0.7806050620512084, -0.28502210603146105, -0.7162403542461309, -0.7874516684099249, 0.305807306744007, 1.167689249964812, -0.06591142347801457, -0.7174377127784768, -0.8544100376009278, 0.1105503813444817, -1.0520500743747931, -0.10338443567103946, -0.020199670359022148, 0.1266969636944324, -1.7088559408695139, -0.42986255743788004, 1.274673879195889, 4.761526248372209, 0.01587031435784201, 0.22593790494806254, -0.7414397026202282, 1.7860591087800182, 0.3752531840832958, -0.9189283201213314, -1.0254918504810142, 0.9559373351833134, 0.6404494740893976, -0.21166824543423512, -0.2787283523699699, 1.235737334406786, 0.9303247149737612, 0.38587199935249006, -0.10671189042226059, 0.006275216138777901, 0.5173625849276056, 0.0059508383235134755, 0.1954766850614969, -0.8527759204037704, -0.10430779776898907, -0.5794743641560884, -0.7403111103055025, 0.34150757558713885, 0.08636630799720502, 0.36953088980376214, -0.2823991179127737, 0.18756011040710918, 0.7782413544578253, 0.7998705129976416, 0.11972116709642311, 2.4197253575555324, 0.16444825674560648, 0.054931273680722884, 0.9844212102702818, -0.5444579939592993, -0.4048346882713614, 0.2021765553547618, -0.14330501531295647, 0.7110130427582311, -0.3798620991059091, -0.009270581307436743, -0.60594860363802, -0.5379700827489262, -0.5317462005184456, 0.6399493498034248, 0.4687388159153958, 0.0239500649341773, -0.23556186163881576, -0.09967840926635163, 0.6935245943223369, -0.5570945111660717, 0.08079808433616065, -0.14416500924634001}, {0.3590513846364902, 0.2588740644687131, -0.7319081895975852, 0.13787229465526912, 1.6050107208460607, -0.4290429077875559, 0.9165851125686182, -0.09351624420686591, -0.2668600639197021, -0.18990575433996404, -0.017035392006128438, 0.36141019933969964, -0.2836208499539287, -0.17193447473043033, -0.9792391495677615, -0.16334059791578026, -0.14220450370073667, 0.023641969979975332, -0.9487991824438551, 0.2903135000891796, -0.3049612681387601, 0.5339791131077338, -0.909223357092102, -0.17810840052071297, 0.003951854974079155, -0.03214091007571233, -0.17667352890208488, 0.1618867281122851, -0.43287251795454607, -0.14308876473785404, 1.217221358998059, -0.6562787487211542, -0.7543008681801953, 0.011321552672135901, -0.0671727409923375, -0.02361561597961113, -0.048758394761433614, -0.7157558837576017, -0.5820840354645482, -0.34417844706547407, 0.7450915526124533, -0.10859294999952766, 1.2626927358349944, 0.38480297103018235, -0.8276647188224118, -0.10187574801207891, -0.30117992692978013, 0.19635491422056986, -0.4119484471496586, 0.0879279417181621, -0.07720015269603141, 0.23592024883570195, 0.7580189525315854, -0.9348777594521391, -0.9851509785928618, 0.43497951217364766, 0.7192389254896576, 0.3669137202833244, 0.4767663951027872, -0.022432884122078445, -0.6811889316654494, 0.7431382111838474, -0.6116974622562958, -0.4061475183212079, 0.8324309234518117, -0.21057758742850963, 0.42458701731279014, -0.08734814826944863, -0.7084022600990463, -0.3015250488312745, -1.4007199493462303, 0.4391423269849957}, {-0.9733406980919637, 0.04372873834667327, -0.610626410062352, -0.22719023261300253, 0.6349479457650404, -0.04445910299096134, -0.00992423133466581, 0.06834594024324787, 0.47820647710225417, 0.40112191777646683, 0.8853263954192512, -0.11767250207642355, 0.9283553996268217, -0.338639273015261, -0.3031555536805264, -0.17921209637532742, -1.1542949586625615, 0.24706900300376744, 0.16413806772053613, 0.46316371722941785, 0.3049179919870802, 0.1007712439828017, -0.6722414306580089, 0.61132049402459, -0.8769475638982311, -0.050791742306856555, 0.862685832147903, 0.26751539218130493, -0.7815105586449544, 1.196280544436236, -0.5709683394745808, -0.5606856628103547, 0.10790026728503554, 0.9853891279385554, 0.03831308522492007, 0.03508891928331588, -0.8119017146241376, -0.03050304046509213, 1.4320542352607717, 0.9969345531316751, 0.691461663720022, -0.8326606549441662, -0.07120514915414788, -0.0021866492081113265, 0.8286342509311806, -0.588332277262966, 0.3619453150735254, 0.022194397990986384, 0.2999065877647283, 0.8614103624378064, 1.4168175774400766, -1.083505817155112, 0.45427086906141023, -0.5104606591412238, 0.8688597871858112, 0.004612128197395867, 0.8858056651719367, -0.49258997484377254, -0.036023916326856635, -1.1899026221511735, -0.0336207946411331, -0.12182616364297139, -0.7365360217103114, -0.12470894914166175, -0.2897411890771781, -0.34707031147955725, -0.16379868680212595, -0.23377074243612997, 0.8991069663789162, -1.0808169013219528, -0.9725982223525617, 3.479661621747708}, {-0.14131473912450465, -0.035133739291508884, -0.7316128013577285, 0.12390564709658758, 0.003361496673934405, 0.08570796908574582, -0.7678483088848237, 0.8644689400273322, -0.1862026909662795, -0.4573632782817281, 1.2033802913923533, 0.9433508048151091, -0.9741454525545464, -0.8612718384229343, -0.10780951777456066, -1.3412845957342714, -0.52678309158786, -0.9186666972250717, 0.19099422217830778, -0.09430787660985426, -0.5306848322030451, -0.71608758457759, 1.010906727691999, 0.5460228520215074, -0.7933864127995974, 1.178265134506215, 1.6416841379295006, 0.19053204157218986, -0.14506753291362284, -0.3214298478584012, -0.7393943592034806, 0.0674357122751732, -0.042804231321360374, 0.5176382999174192, 0.05609953774847403, -0.6157845608224264, -0.46645897831029837, 0.05762849163693746, -0.059957365554458845, -0.8453450242678866, 1.9872110011211355, 0.4522457750328539, -0.6801163344384558, 0.56658932141051, 0.9652043556439405, -0.5944335873606075, -0.6907476496842822, -0.7717434341057476, 0.9142381580931256, 0.47929217060663865, 0.009489398321114909, -0.47717233010072296, 0.9902955416147128, -0.6995390178640746, -0.03711267947979108, 0.06976779223011786, -0.04288282513211415, 1.8245950919547012, -0.5117633747651177, 0.11531873334261489, 0.9529135959924675, -0.8516965266228791, -0.6616446382587226, -0.003954627402742278, -0.060008404753248534, 0.7106300369830798, -0.6480797081589993, -0.04179419929783533, 1.0318190609010984, -0.4143956798764067, 0.8026843187499995, 0.35388819771996877}, {-0.5969647149489347, -0.8567139768340162, 0.9131401842731601, 0.3035546860573599, 0.8236393240486327, -0.587361312143349, 0.1711052346542004, -0.9872087941471441, -1.1559396705841651, -0.5458837536321608, 0.10552426988421494, -0.013550813776699472, -0.9954960791387708, 0.11536190492756138, -0.2931510122534049, -0.1476568788583484, 0.019771155949363795, 0.6404033421343351, 0.8751857981601472, -0.3710646895188904, -0.2612606643798377, -0.6702627211547554, -0.09706027407054078, 0.015169167887517267, -1.1787485406872529, -0.32464702978474347, -0.5764589315301232, 0.6823603965412269, 0.27712440433254293, -0.247854805653132, -0.8146181677866497, 0.4811301329440745, -0.19719980135837906, -0.6423819991909328, 0.09659971886203067, -0.11081607188975506, 0.3018425752451752, 0.18577648427837606, 0.004315466934181772, 0.5045086633752063, -0.34348845033110886, 1.1049338088674105, -0.2711228815817717, -0.06362705049002845, 0.844470072625841, -1.0394744295100569, 0.19416162757879785, 0.6600880522899926, 0.8627481035203254, 0.36768285375345133, 0.8346015741909361, -0.10823128531500004, -0.04951111322332924, -0.3969835006473259, -0.1910960156672723, 0.6930111569666728, -0.4192354891598369, -0.04389347226845369, -0.12289882274174692, -0.6778145828890783, -0.527675821582413, -0.12310246360728949, -0.06292585699648172, -0.7069775247798761, -0.6489126228192716, 1.3686987914301016, 0.14233533122718361, 0.0235208087528036, 0.895794313093807, 0.4587478026771874, -0.9627019203229565, 0.8045835066725725}, {0.3633652424834073, 0.5252954791240236, 0.012067982409221144, 0.14763603679715437, -0.29965355231850355, -0.8008809217802302, -0.8287925648230958, 0.10977860502287352, -0.4370705062032239, 0.9577455721655073, -0.2162971421443977, -0.2851369881981744, 0.29849969169945273, 0.5916430632627283, 0.17271062781134874, -0.1514466213361858, 0.09089811284992866, 0.3968451823599439, 0.11222703983749788, 0.4552635208965088, 0.22759169635543486, 0.3471197130650745, -0.8136675924536791, -0.13661241819515557, 1.0257808425922479, 0.048340572540546196, -0.27021216657367064, 0.5838828890976029, -0.6905990824045213, -0.001142731759249433, -0.13563747564180895, -0.631185257397521, -0.019456694285187218, 1.1261237912830666, -0.08888860078662209, 0.348402058157233, 0.8660972478877141, 0.7068608294544796, 0.199081969713088, -0.13573949031569077, 1.7531909579042269, -0.6385411796780779, -0.0659697301622518, -0.2511790719236304, 2.8786842730028703, -0.5652132967740879, 0.5670970407520111, -0.6576351387081507, -0.3824582494751546, -0.7419294767681872, -0.48150608064768674, 0.9615238258928358, 0.6980897255251953, 0.07422874922539688, -0.8064445427358373, 0.0532419868636746, 0.8639042176281226, 0.8821078546273414, 0.13125168243245144, 0.01084328418935169, 0.2911360592611203, -0.11779985503956372, -0.4259875963067863, 0.12965728718131364, -0.054676524584117425, -0.12229470826652475, 0.5348601807915646, 0.2950538896377751, -0.3183782408853584, 0.26206304740635944, 0.0751473908591173, 0.7280401477179022}, {0.15215703253415902, -0.02296770357530396, 0.5227448272597534, 1.2558654624305285, -0.05970052905702564, -1.5965129134760911, 0.7583075635324219, 0.9869513360119265, 0.08708947579159979, -1.6936289969202845, -0.422740062017819, -0.2818825331058315, -0.3980147779123957, 0.3846615285992445, -0.6148723200947717, 0.043040799778478966, -0.9533452358891993, -0.029840101648270535, 0.010562405286617818, 0.10026813418056384, 0.17449989040097202, -0.03144923676948971, 0.19668328398038049, -0.5521823726328121, 0.4457676070773888, -0.8624059015570846, 0.1406907052676738, -1.0711211938517022, 0.2264232586663284, -1.073020181279926, -0.4258975230622186, 0.5611413658528948, -0.8277047861882654, 0.46366724615409316, -0.8137418875085298, -0.29625528798852047, 0.10261796716053524, 0.1396642874329601, -0.2500901043331658, -0.011009628479877936, 0.2334660848373955, -0.16110191680881406, 0.021971050928784264, -0.5440341627859581, -0.052363992564924855, 0.3697380644610883, 0.3470541865587231, -0.1785913478000751, 0.399117324513965, 0.3845543616415217, 0.40748333211376186, 0.8652339550919954, -0.5872175076919688, 1.7693528522008746, -0.8760736191431556, 0.2586322447827667, -0.858021374639331, -0.8796693008316772, 0.16379072455898513, 0.6839468718245965, -0.5793917005160159, 0.3825818374778953, 0.5610478018955574, -0.8557881351050014, -0.3903099787093143, -1.7866857559832379, -0.18954928193300333, 0.018775486334765248, -0.5756426711470326, -0.2069730785143286, 0.036526917023984105, -0.0491417252364883}, {-0.13522570833846226, -0.7412944289432033, -0.5733008040492502, -0.5715471964832732, 0.2804425778559538, -0.6959821312650036, 0.03226145511644353, 0.10023085790098485, -0.010417669586184593, 0.28047391393122556, -0.22816705789795777, 0.9434542628944609, 0.725607780934699, -0.8045975450235707, 1.0716207352018599, 0.4360616229181604, 0.00875459230003107, -0.5861057976591434, -0.7839581747471129, 0.019362838742312555, -0.3473019152977012, 0.8260816209220607, -0.9947285045599871, -0.035571161398961125, 0.12420894737484267, 0.31142994128301993, -0.007081132105449893, -0.21240012465632785, -0.6184997006326305, 0.2257935778211478, -0.2953306555553414, 0.2654990460718394, -0.03311746443319386, -0.08644028496443584, -0.3450954059863658, -0.15979914874325146, 0.3042820588865103, -0.3612445670581018, 0.5406844712741754, 0.606361486078028, -0.25041352619172064, -0.3003269355820639, -0.26508336529309245, -0.7996086011943502, 0.5167008952736174, -0.9904996291137851, -0.17148090944636354, -0.6651449015158517, 1.5119084851506903, 0.5066616624414435, 0.9112372195617573, -0.8841913628591367, 0.9875107923884019, 0.5030169586833488, 1.9632248024291286, 7.557902555108032E-4, 0.5066874656485016, 0.13121372418889465, 0.45166418655687823, -0.7156933092601401, 3.3798465196603, 0.3581756700345886, 0.012312253732416322, -0.15222296810570346, -0.8399981661732137, 0.07676668252751855, 0.439254545944753, 0.5312189200045518, 0.36065808003579103, -0.12295671630066175, -0.015954117649537816, -0.23648204064427186}, {0.7981248401209533, 0.7759329721620336, 0.03519265361570671, -0.19571906480912368, 0.32211086286532997, 0.4919252899958815, 0.5360549219123636, 0.8921428315783113, 0.003214004688043337, -0.6271345987312876, 0.19989989914813053, -0.3928591423364445, -0.17390280853348639, -0.8052642292992309, 0.547756308219585, -0.33155249875867027, -0.984797832401688, 0.06757757148751678, -0.6683782665178777, 0.644971120339873, 0.1361137674977377, 0.9777652021985441, -0.5533324326799326, 0.9843370752772453, 0.6586208209442417, -0.007079287208577311, -0.7396512617105961, -0.1270597067662943, 0.9717763262297809, 0.6727688658485468, -0.33964572161190065, -0.29726249797425386, 0.19860704944515906, -1.3235331306585195E-5, -0.3249474542707331, 0.9060380063560998, 0.5260519222146613, -0.32989315776021466, -0.16793704554813077, 7.595638391353354E-4, -0.4415704766864361, 0.06878630090615223, 0.35329532971491084, -0.22847562611165362, 0.14741684967469268, -0.32209392318021135, 0.9912727175026589, 0.050076670485389455, 0.32340549981695177, -0.09601008364930094, 0.8817683868828814, 0.45879535434878194, 0.9693026185897187, -0.033653506620233475, 0.7469461134280916, -0.0938002347394325, -0.9333900988147306, -0.17182225261632111, -0.13399164155453794, -0.3653477937440681, 2.6865458288424957, 0.31566738326454913, -0.07365846663229084, -0.9197969929943878, 0.690854076956612, 0.2739012501135235, -0.9608601886718877, 0.4832143508944149, -2.5953945306967565, -0.8258927429974849, 1.117906389356254, 0.010228568144974748}, {0.16916192725695356, 1.9136106849737282, -0.08445941755513311, 0.02907332702427377, 0.6292302728256753, 0.3046183921753019, 0.12693666103177065, -0.4842203625101005, -0.8508000236252813, 0.13424403701339194, 0.9764268799136646, -0.01786269872694959, 0.4608437402574985, -0.09774444781402236, 2.0555732123388077, 0.01680327889324491, 0.08093974971002475, -0.3619892800216895, 0.8902735104020423, 0.038788397475660055, 0.3011406138856323, 0.7298150198007503, -0.00600990998442318, -0.6956831226569842, 0.7725368050210297, -1.0230478603062996, -0.5143588839081801, -0.6294984725992414, 0.2758156157943644, 0.826113382683384, -0.4144309659903451, 0.8270457126992361, 0.05577808668911784, 0.48113673089015974, 0.27692301062065705, 0.7973850107845946, 0.5083007750213274, -0.5942174313457291, 0.07581842924690951, 0.5327356934863806, -1.2664320020997848, -0.519010617151145, -0.17348870630339586, -0.31703523723489513, -0.008796728825018585, -0.4525969794105382, -0.08898017715332984, 0.1506037340027866, 2.2091219795104133, -0.008407995794315636, 0.6541316094983596, -0.2966481211177236, -0.6387616490420693, 0.48865808580052605, -0.21929959690012213, -0.1683648880749009, 0.8038152480074845, -0.29596273255882827, 0.09600416940571146, 0.3995890849745445, -0.3510432070851563, 0.5934885701484547, 0.16109387209844966, 0.4245241191419531, 0.09144854795957783, -0.9398750379267881, -0.5417273598506698, -0.9902530167467818, 0.0416812114085313, 0.05625534543062516, 0.6813515661810945, 0.7334097759895666}, {-0.6621882642841685, 0.002493711160374319, 0.555923164605403, -0.12376570021562953, 0.1805697030576081, -0.9018624023828179, -0.163568996231632, -0.8045369785595751, -1.3094219220257288, -0.5217531225324079, 0.9406462509698821, 0.15907715625560875, 0.4645027141312734, -0.3090451635112547, 0.36548483071030813, -0.3505805360285477, -0.10569687876386633, 0.4541480800878181, -0.8122773627938285, 0.724034457077638, -0.5433103741337153, -0.8110135291129714, -0.5064409477964258, 0.11760277579434311, 0.18376605913686617, -0.055001009883984264, -0.5465959358905684, -0.2372014426257881, 0.5578702662169694, 0.04246006184488651, 1.63741977085903, 0.4786413850676743, 0.9211249376787618, 0.6375925117875356, 0.5675295158667402, -0.9344927849144014, 0.4944972898966076, -1.3814783723851902, -0.8555641953606599, -0.7454887228005556, 0.3286329912272117, 0.37031671228526797, -3.009450047100418, -0.39089826226769064, 0.7962031898934658, -0.7361826253387118, -0.5313282597255686, -0.7294575226661397, 0.04673705597232603, -2.7416439940056067E-4, 1.2666993540078633, -0.9831224473696756, -0.8437846482592378, 0.4058010140164465, -0.37850554260350444, -0.41594112717749243, 0.597065739521174, 0.028538215299186112, -0.14619083002409586, -0.27055988830643285, -0.2152855059688081, -0.1157982699080545, 0.0654213237706115, -0.6044454121535906, 0.0043303623152870134, -0.5998486140144739, 0.1748294589212993, 0.9291397251089548, 0.15062010528973366, 0.12577114873441225, 0.3542565329634597, 0.03616356536549126}, {-0.6233852714200674, 0.5733720412784262, 0.8883595842346588, 0.7561726875002526, -0.12751021565604687, 0.04092977485973043, 0.4845596621854191, 0.16033359990524554, -0.07456192795655148, 0.5605879138351132, -0.021206809778794394, 0.9548469285076187, 1.1068049346447018, -0.4852700465047951, 0.0047608212982844745, -0.12111763270101639, -0.1466665291121217, 1.439524985877682E-4, -0.915471378900544, 0.9833849461616986, -0.5170107723591695, 0.7838461551897569, -0.4473874277492938, -0.4271335284154021, 0.7597488785720965, -1.1317120631030113, -1.6045357077406954, -0.5278457129776943, -0.30635767590053486, -2.094778428893381, 0.004293069789335127, 0.15035330775687653, -0.02496996320526077, -0.8755606840797225, 0.5522311414812793, 0.742933561334477, -0.10169782031874952, -0.559754548697099, -0.022265599082981424, -0.10218670006832142, -0.9837124730999773, 0.6776811399518916, -0.8380798942798986, -0.46230376015705327, -0.2568301077333306, -0.28479512221475883, 0.5643990643534256, 0.003141736753248327, -0.4418235669518802, 0.43709954076304697, 1.8261193598706555, -1.2924836362401033, 0.844099698430085, -1.026136827800954, 0.021215900042809113, -0.08818484830297679, -0.05372648006856771, 0.6665119550779035, -0.34195175769508057, 0.3684780002026724, -0.16071746625853692, 0.6827276915990566, -0.12433868029800796, -0.5738647393693612, 0.027433117946045565, -2.3339114395062093, 0.02564474351222425, -0.009448315786501786, -0.3782565669983573, -0.8262984388601777, -0.003084278160699713, -0.9345934355412255}, {-0.19172746341582192, 1.5461853633980074, 0.16305083355889327, -0.053221075394678005, -0.2181858306583615, -0.138512394297456, -0.09949526230181953, 0.15478345818928085, -0.37391216414797457, -0.8936257493077815, -0.49871972056849456, -0.28657447410716375, -0.7061153562608984, -0.4259335457485285, 0.8198999994471625, 0.6674895271388024, 0.36002315554365394, 0.0708542153558049, 0.41276128702019377, 0.011210835300762723, -0.7859746334204012, -0.6174319507015206, 0.4796962489767691, 0.1716905146122441, -0.4908872038253515, 0.3952439635026204, -1.3373925741161767, -0.4747362259703591, 0.19138664259155092, 0.7784677273658285, 0.2595785311634935, 0.14095235239499715, -0.4130841521952273, 0.004332210249617973, 0.46596117664890935, 0.45713924733431455, 0.6166332829866921, -0.08334219782894803, 0.6062294488380215, -0.03408423190420446, -0.5358765944983421, 3.086773008641419, -0.8201453514927544, -0.4548660635721118, 0.374343438036733, -0.5743355903981493, -0.7413735549769302, 0.09218712980058719, -0.9375649909001988, -0.08315025830140965, -2.3264508326580446, -0.1773138685569203, 0.1371795652413379, -0.4182532339839635, -0.20260576762518726, 0.25048914414950796, 0.751797253017889, 0.21940672184621945, -0.8131826201010136, -0.25303431916449814, 0.9694979910695734, -0.08974347741103572, 0.6144405708001334, -0.018725924325558863, 0.1660547154477161, -0.6316815888651588, 0.19362401867886336, 0.14270216759678825, -0.34200415367477066, -0.08049533580982518, 0.7022856031784361, 0.8339347724418125}};
-        w1 = new double[][]{{-0.9052793668356798, 0.042063329297820466, 1.4265864321044743, -0.6819353517286166, 0.9464396853333616, 0.7464121768804799, -0.27191133373877074, -0.03559960532559543, -0.07207158662083389, 0.30725761230431886, 0.36692224569683507, 0.17586852731943847, -0.34281272282029107, -0.5744551306667327, 1.2393536189021446, 0.05048163131345729, 4.949140186498092, 0.9213649840735598, -0.10613592808726753, 0.26015937980874515, 0.13221483904823983, -0.0031196304540518694, -0.3070382918576382, 0.12484821463060536, -0.3267615579894219, 0.3634132700331217, 0.564778223114017, 0.26032959574014497, -0.001954163861435441, -0.006694527227115406, 0.17224305138940327, 0.09398757847834927, -0.5684352011053735, -0.108357623557861, 1.1560562878624978, -1.1581675092436587, 0.7854997622278674, -0.6362894790861573, -1.062536773897442, 0.12043679838630239, 0.5685801242389463, 0.5818678599816689, 1.577984925967231, -0.026430264694342776, -0.1132328951829639, 0.4962228002754756, 0.049784921533661236, -1.298422590738865, 0.8109345401233741, 0.3176325705185752}, {-0.701237818789472, 0.6403965948612017, -0.07898454546928521, -0.16550583644775652, 1.4431341897040328, 0.18322128468276433, 0.031413630258253986, 0.7739022342889277, -0.9442767367366758, -0.5059182675906408, 0.2852377295247248, 0.2738534451393962, 0.831261507275417, 0.08029225879136277, 2.767422634558272, -0.2917777154927149, 0.430164887234147, -0.749454077116924, -0.5657973111981229, 0.1628778074169888, 0.10349142280248738, -0.4705627771843975, -0.0384736400448424, -0.09791973703268411, -0.4495860562765271, -0.8102292741813688, -0.7564699762623821, 0.26807489088455005, -0.2929615524766107, 0.663845489777044, 0.7184261831471894, -0.4609083929610014, -0.00918312519940603, 0.3279922677712974, -0.04196576279907927, 0.008636673664619746, 0.08536396222619191, 0.12379718921931746, -0.7854763963490508, -0.5288500777088616, 0.6808351175352199, 0.2100367933486001, 0.23702119232663063, -0.28283578699441886, 0.34983716747515364, 0.40950053328833036, -0.0012635196500568563, -0.23029188033134634, -0.22044235031671233, -0.7613615421758406}, {-0.05123437977310056, 0.07101370109327365, -0.5403525338740638, -0.970537730656438, 0.46626225542040456, 0.949177749623098, 0.9074172496844524, -0.31522964463449377, 0.7885677078691873, 1.2627217309848044, -0.6051732860504233, 0.9611295234502957, 0.5084915496341715, -0.01105528337376741, 0.5731947679275613, -0.12550634928226279, 0.2951498593870028, -0.13835439817776937, 0.8231963607746031, 0.3571071203042433, -0.45840321485805874, -0.9878824698980202, 0.5129051921084777, -0.17474121645897744, -0.1967002168261067, 0.15469237852657305, -1.4850586034662343, -0.22027972648107919, 0.5234460916974246, 0.0861911580007042, 0.7749936395726245, 0.07110288970804879, -0.07050275329319527, -0.9375091715486832, 0.6963533931548727, -0.29888696343193444, -0.6340179518062599, -0.3071116954814532, -0.22994158480695837, -0.3941346680304485, -0.07794460734321947, 0.19492944917426105, 0.5496005778076525, -0.3882329047041302, -0.40736528502467906, 0.03449099010321545, 0.3941126786461291, -1.0189508675013195, 1.0840550243749651, 0.6588275947816356}, {-0.07466425947561564, -0.1044622711226939, -0.45384902560998386, 0.5217741332867061, 0.6277318389110147, -0.8972812388643057, 0.8457284567111243, 0.18739373331891906, 0.3218633744687691, 0.11916841107166831, -0.2354332322149389, -0.2884275572388715, -0.341028529623836, 0.03147883576762345, 0.9799901030656517, -0.10037180109784649, 0.23189273279261013, -1.6729145597640864, 0.8367802741959489, -2.0023563373992576E-5, 0.5972898330914045, 0.6067104227606124, -0.0871955497300767, 0.4041466326875274, -1.0941303615177407, 0.8768414325462466, 1.25690136364131, -0.4442254718918288, 0.8004338209913999, 0.10260987309055802, -0.20293587834664417, -0.03896137531689941, -0.2508088370729089, 0.3649645576039065, 0.11791938025038418, -0.6347241187683683, -3.113274718555252, -0.6096199534477573, -2.520098236823072, 0.365039775377338, 0.0733489422421496, 0.8741309843189558, -0.06339575034081034, 0.33897770856178266, 0.642466465986093, -0.13550276561557406, -0.9603603345678904, -0.6982294898395904, 0.8213092757647846, 0.021741685698237066}, {-0.3020497823098818, 0.2127367894716259, -0.12960724118143352, 0.5409089109704843, 0.7511506429237514, -0.14765552256290038, 1.3749084897273771, -0.7021934653318693, -0.16352090824091756, -0.15868101082551486, -0.5923589652384187, 0.8945759114566982, -0.08391843212663641, 0.44424391718119804, -1.0790760667332941, -0.9935481069925935, 0.16909320120771004, -0.5872805255961759, 0.035326679819071984, 0.6999195715567474, -0.5321827459149269, -0.8777729120240816, -0.6301162688950253, 1.359289542493659, 0.18529238957970903, 0.7460045893118477, -0.02991579570585235, -0.288998515786017, 0.6164528021641577, -0.4172869754687145, -0.6777055412058939, 0.23985108671249436, -0.3604456195042858, -0.3214081699241709, 0.782130168585544, -0.12734051776758792, 0.40906856262665436, -0.35918011866388677, 1.8137958325763175, -0.06625489538151608, 1.0729838737483968, -0.10123291034784125, -0.13397231241006757, -0.553765972429721, -0.19004322553209496, -0.9265863165146648, -0.0231410904189762, -0.40720159099572206, -1.002838079879652, -1.0683406026476552}, {-0.12481021515824375, 1.4643350972528197, 0.3078477220698266, 0.8908012412363413, 0.16994835485724033, 0.14470171821903172, -0.351788602446859, 0.9722275940217586, 0.5023160160142142, -0.47172779191478287, -1.3013852924382299, 0.1094035787519183, -0.22694198004476687, 0.6733318155532113, 0.6270465833592098, -0.5034173186408888, -0.006944556392913339, -0.34177787444728835, 0.006507487239268059, 0.6362637585859539, 0.0050893527252662205, -1.470903702792936, -0.21319140386534352, 0.4427752674892924, -0.6426964872955221, -0.6858815152501372, -0.9062893992214525, 0.004935281159770179, 0.9949567771590719, -0.3309333120252087, -0.0750377843821727, 0.9272903398334369, -1.267103298854366, 0.24457551319127724, 0.4578997365639699, -0.12329695209117508, 0.4152853900063542, -0.12951127121528969, 0.044372781655678255, -0.7724315184928229, -0.8930943369955726, -0.5205431383055433, -0.4080791295141659, -1.8796058447453332, 0.7479008706885723, 0.4779252592576386, 0.37781654486310745, 0.9664850921096955, 0.015118829614863043, -0.7854500928859471}, {-0.1491635643284055, 0.443158155060299, -0.06418276190462616, 0.2506078096051844, 0.4595687958713069, 0.48666655014630494, -0.006357584667385302, 0.44631315731507937, -0.0438886350172456, -0.04123493678680945, 0.9816755469838554, -0.5906212406954506, -0.8141700887570591, -0.06851343802791687, 0.6749474201529433, -1.7678250734277143, 0.9249054523363807, -0.8139354689012043, 0.003131732710020139, -0.679437035502565, 0.7343795139684712, 0.6755274926966728, -0.565097732501544, -0.09933916995669413, -0.011089799476879903, -0.5731376073459233, 0.9615713328541582, 0.6820377476985342, -0.37776311530734574, 0.8806503031411962, 0.6330129210034964, 0.10165846503037335, 0.13031885178430314, 0.29869484588801565, -0.6505126617827174, 0.9712162091415817, 0.6931913701809835, 0.12518167080018983, 0.3389268253773153, -0.27908080996404816, 0.32972669522746223, 0.5455157810017617, 2.8790111777917327, -0.13252328926616563, -0.7234444699528579, -0.6224969823001067, -0.3041510060013961, 1.6226366475906975, 0.002860560206878757, -1.242875496146981E-4}, {0.28539509998825574, -0.007659588195068102, -0.008374836683518712, -0.052878921416850425, -0.3466724020867773, 0.19108716309675344, 0.6836420030648487, -1.8997396222437393, 0.24494403065951964, 1.9200466919286283, -0.46674121859427964, 0.4840509493057507, 0.33967980064132486, 2.7443892508208827, 0.3915727110486731, -0.23469714155046573, 0.03784928345900384, -0.12363116811766571, 0.4527113950101411, 1.4837867823693796, 0.9481379532383077, 0.08758471300437239, 0.1175857307148851, -0.34974928895379964, -0.6729202493723789, 0.4634778175641056, -0.8547511347447843, 0.18696844638063528, 0.9267761951405085, -0.19131894100422706, 0.5379576344273975, -0.15864780276886958, 0.613817955985406, -0.18474143853005254, 0.005994720258086783, -0.752320665758895, -0.9376609715757522, -0.37658697439220035, -1.5814753045980727, -0.8732425638018187, 0.07893175535027458, 0.9773699149368154, 0.8678978135555714, 0.9385550880437856, 0.014388640382617874, 0.47949807662001076, 0.6628588526209482, -0.8357272702922991, 0.042590140742455304, -0.12531427600918899}, {-0.5842360348186126, -0.020835519841342354, 0.614313395228431, -0.18811879224366168, -1.0078029328287812, -0.8174756467593005, -1.47197681493049, 0.48111159027931677, 0.7191305693718244, -0.31283314348318214, -0.28428545665862465, -0.07504911887962609, 0.6645959765883203, -0.3832937298631882, 0.732538981167909, -0.5432145895983842, 0.3075166173992776, -0.4478308984069153, 0.42778041786857135, -0.03963127687753707, -0.9178325849448841, -0.26927414697178187, -0.11497558662806107, -0.2768802231191645, 0.3870755346975719, -0.1463870695006967, 0.04842554109978383, -0.6078344125781026, 0.1392579110075025, -0.8499661639154584, 0.08031725517766941, 0.37986819226516455, 0.04139306515506607, -0.2614363650352738, 0.7312122990954928, -0.9747766773234764, -0.38906029890334, 0.40078515335068987, -0.9576140624060265, 0.3492178723918032, -0.542782268064405, -0.7567254797771306, 0.6238324125742134, 0.0011510053306659088, 1.8032767365905682, -0.5066455803686792, -0.8862912670325951, -0.6012464541849265, -0.972907408953686, 0.5865004538825977}, {0.07756425395111825, -1.3503294528041174, -0.43968038545196747, -0.09385039468518279, 0.32048865819506256, -1.3155768309938067, -0.13111184384671837, 0.0984012738358764, -1.4079794037461604, -0.04151552110974713, -0.030989953914834625, 0.06373283491437354, 0.6631266279895782, -0.9591561328309677, -0.26649379198875933, -0.020706635458394414, -0.7142994716481099, -0.9206315124071771, -0.4405627128048238, 0.23419262889807807, 0.013653135436086974, -0.3374456742629057, -0.7256058552016614, 0.022807101966337874, -0.1676012728625509, 0.7140204692957179, 0.6941265573093311, 0.062173623525608554, -0.18567182202121418, -0.08967945954434228, -0.006719277085275952, 0.6567773680900593, -0.060939676701359274, 0.21050117462773837, -0.23280956205196124, -0.35772999280387663, -0.7229771370391103, -0.9089473874906941, 0.05871730436708463, 0.014607203071033581, 0.9210087032875329, 0.6132857948650052, -0.4265515217131539, -1.833951327526539, -0.1392714710018862, 0.31107594283589624, -0.5045929925910483, 1.002822204253825, -0.09502949471959937, -0.9094518184599825}, {0.42519124533582936, -0.6875195734405315, -0.20637448406507372, 0.1830705924083532, 1.5572113035710997, -0.3183631123859041, 0.040885795385861866, -0.04425394952250272, -8.685515225931816, 0.39784346242745405, 0.762812636610509, -0.0019885954850604754, 1.2868003249862667, 0.04398714590879882, 0.15076198534540006, 0.1080960304856673, 0.3725334443179207, 3.8795633955129345, 0.19335123153682107, 0.11674467180165887, 0.7188842555863861, 0.6546801550207844, 0.11911396124619983, -0.49069607823535977, -0.4626216639069761, -0.348055592410224, -1.0088687725955123, 0.24058344238305315, 0.5450841327135909, -0.04653236907306568, 0.5048917794459612, -0.43912377923818013, -0.8735833903712508, 0.053012483772541544, 0.6421573138391472, 0.34009788111974104, 0.6290426105184564, -0.7463472010234367, -0.8838925081177422, -0.5902768658423941, 0.6536009359637811, 1.3440296422162634, 0.4969995684141706, 0.03993549332048499, 0.26901885017562766, -0.016924872224557116, 1.477239833673966, 0.4187297856825356, -0.767220034696778, -0.17646362910950864}, {0.7393314482123783, 0.19066098035583057, 1.0962915950943954, 0.2222922060616075, -0.3761120726957761, -0.004578526584343505, 0.17224792832955083, -0.06506758824485152, -0.6343678037483559, -0.3711686851060678, -0.3184382632791958, 0.472152613719248, -0.5344952421379379, 0.6179292682404278, -0.38623476234010434, -0.9853994469249161, 0.467287017381105, -4.22753242606132E-5, 0.6404090962660791, -0.9305678172650866, 0.006919324399698356, -0.41313972104049834, -0.9304683733433743, 0.9440377584641826, 0.18715676997760466, 0.022018698299053324, -0.7149097025625175, 0.035924975212281975, 0.2692987716762252, 0.20002664208677248, -0.6107636503769862, 0.6372426575404191, -0.8429074554994134, -0.139082102817486, 0.9355091172998089, 0.0623823671168707, -0.09420496408199952, -0.09559500226128034, -0.6498150020651547, 2.7635572194471694, 0.9354224810958749, 0.3918679491151926, -0.5768578263661284, -0.10767898649805804, -0.03337417196061926, -0.46559614696956664, 2.810418701386012E-4, 1.4971705693396347, -0.6855551362924366, 0.12938006466030533}, {-0.9389252086971311, 0.05131986244329775, -0.350806732447017, 0.1396012222107474, 0.3088039340163218, -0.9662299566227337, 0.7724195378972323, 0.3036869821191952, -0.5909558207415777, -0.01589729719216629, -0.44601855344860547, -0.10269582717065262, -1.04977601315676, -0.02695263340920917, -0.10738814100374695, 0.3893198199006518, 0.0674485986368457, 0.12448066096546695, -0.06623242394219298, -1.2091539888502114, 0.9067910490011946, 0.15165196301371564, 0.026692875913892022, -0.9548327387894615, 0.7902310874879012, -0.4631143025739575, 0.06091280330846571, 1.2380452325456488, 0.3385701150392003, -0.5466002726936774, 0.883577386343147, 0.5668867198696508, -0.20370892950883024, -0.30455852047175336, -0.8173700859938755, -0.6206881271468299, 0.4384970703965514, 0.5762841594883757, 0.17205114210796277, -0.08282539678077917, -0.9718287173265734, -0.28057181503200757, 0.5048144550458953, -0.05659271294420314, 0.4330144481131961, -0.15623706735126194, -0.93210415054947, -0.36976456364042076, -3.8053130277758367, 0.3556188881041028}, {-0.7445391902117282, -0.06864269602433914, 0.918288941476116, 0.06584219090817944, 0.6967108053165221, -0.8415768605589751, -0.25241710639975196, 0.7221882513115463, 0.31570519962377275, 0.9308364914735082, -0.473987863389427, -0.7302213530238253, 0.5343287691579174, 0.5879559857953274, 0.40129098884338227, 0.3456980535382841, 1.9006125469194615, 0.6426424334643561, -0.30231163154943497, 0.13566959562053407, -0.2169272182161792, 0.14141892535739062, -0.045561198463794104, 0.013067594763124246, 0.1172872706867788, 0.5359809189506268, -0.6132875009375307, -1.6399420500057278, -1.0474035905156123, -0.8317174466963018, 0.724446925836771, -0.8459665366129655, 0.40805076433367216, -0.514673295960814, 0.7813898324422861, 0.5483244916716487, -0.0021401446842776524, 0.49543102417154117, 0.6036597786257373, -0.08790485051574426, 0.05719255277655267, -0.04130955247613333, 0.8292561743046312, -1.5810948459526588, 0.4984630189958992, 0.8442864797452275, 0.35954454630502164, 0.6553511215753387, -1.4232274789860946, -0.7425883759391465}, {-0.5261759249244498, 0.028559787744415234, -0.01648149109177049, 1.7371116299601648, -0.9005534980703553, -0.08796409101688751, 0.9533163930945674, 0.08550389354113386, -0.21646261818044366, -0.4996280891159237, 0.4530235989775735, -0.5943863077853282, 0.6898071835726536, -0.4176248391227233, 0.07922511491609936, 0.014445629829473821, 0.1650063920330722, 0.02589106355998576, -0.862061721591188, -0.5150970715837373, -0.12075882702281038, -0.39780250435299574, 0.0715000526232199, 0.9846237146363916, -0.40783783034790244, 0.7274309269800643, 0.04793861830985199, 0.2506541708408727, 0.7797944158100631, -0.985763685737802, 0.23177151657994965, 1.1175725688483455, -0.246322114276567, -0.3710746055978427, 0.28759193290558943, 0.006290517587093512, -0.4918598504814493, -0.5511788184331732, 0.8806368657240604, 0.3024105329207114, -0.7995278810446023, 0.1739517714285646, -0.3108042256226815, -0.01002718781232093, 0.07430001769299471, 0.5231122045260987, 0.010411905196917787, -0.3246966061052121, -0.8140619746277262, -0.8330124586351935}, {-0.13442729173441403, -0.7790556817363261, -0.17985538670925177, -0.12170269160197839, -0.9404175654125108, -0.04717320021754756, 1.3515568419430308, -0.6561450161525292, -1.2551278846948901, 0.3788704271043352, -1.0195134399114225, -1.3544931352405118, 0.0066155973288231605, 0.5664437265414437, 0.30330966497696044, -1.8267075399604176, -0.010412537496415686, 0.836646852738578, -0.6220448004853634, 0.0016091937456419747, -1.4443069920956597, 0.011719686034220403, -0.9297959040763452, -0.09196116736095547, -0.4338563418998105, -0.31326652410896916, -0.807480505135699, 0.02819583938819961, 0.02466963965961133, 0.11137150875773227, 0.026650779735081145, 0.5179395984497157, 0.3276017398287787, -0.49639397566004817, -0.7266079618821486, 0.3399286205864023, -0.44447004468003937, 0.2997143058192571, 0.005295234163776055, -0.041659868383785416, -0.24382812556102573, 1.3965032197918343, -0.07483351802728488, -0.6413595211585428, -0.03485535181606652, -0.9215201160236584, 0.33724466347388155, -0.43343546583853115, -0.31980747779965446, -0.5020915737390281}, {0.04641271467793229, -0.24635494592817286, 0.22005871106786204, 0.2853352567306814, -0.10545130769079754, -0.946102081478498, 0.0053904514683600895, 0.04872876467922738, -2.4899498761247503, -0.05067306793545834, 0.14341707097474, 0.11950339397562756, 0.15194981406139574, 0.5885454816569899, 0.35655862585234877, 0.9594387173850094, -1.6011586380344123, 0.22049238995516318, 0.014216875671478668, -0.7091293972033677, 0.28939001330017566, 0.03724709789367629, -0.8125370416156779, 0.3250306806065031, -0.23781395608553277, -0.8549927969864047, 0.05754642113649511, -0.29392564779554053, -0.04627322653760732, -0.34697120631452893, -0.270708804099427, -0.02857597385520455, -0.7402698986874678, 0.1992846025530359, 0.6152270807339475, -0.021667715475765813, 0.05943285219140946, -0.2617287826954866, 0.14044215080304912, -0.8749531576017977, 0.18215683878335476, -0.2992048291838499, -2.457306658893823, -0.5815679412291903, -0.7734148382200652, 0.27630997956687664, -1.4120752478303757, -0.5157612300158976, 0.9064035424768684, 0.5977941566558398}, {0.26589663255461143, 0.47800734714959114, 0.32140478610191114, -1.2287144455086374, -0.7113146103340244, 0.27227640315005774, -0.41789977367797965, -0.031261286306656366, 1.5828664669333252, 0.19883781307267445, -0.6972921316109373, -0.3627102991034006, 0.005617177827351533, 0.8844690560047684, 0.08998831057729903, -0.8370448076594186, -0.004083503399813638, -1.084368539916589, -0.268438012717061, 0.6446714692169558, 0.38775475350741384, 0.5968269093785687, -0.6184835575580031, -0.07250761088919731, -1.2732481078443978, 0.43100358671711436, 0.8493666265834128, 0.908172249493397, 0.27634919373391714, -0.033144897145233276, 0.3920701821493183, -0.9484648414474877, -0.522961437322522, 0.5666292001642477, -0.30290504226023895, -1.1448279566356228, 0.5074502345898662, 1.2275533775647276, -1.4932217539976447, 0.1864940571548968, -0.43504868922876483, 0.005908731357851809, -0.23586177214102683, 0.9248601692584575, 0.0661395317218404, 0.2859165211674142, -1.8115697402308333, 0.08881964833596653, 0.12903023930091084, -0.06376582198997693}, {0.4426603640907305, 0.7713966112989663, -0.04604050067900172, -0.6372074333649222, 0.9022728386991385, 0.49694251596216543, 0.6517960146084794, 0.6907823324669906, 0.05797572414113726, -0.0036063016511125685, 0.3837861018555786, -0.12506733910804313, -0.9047945663900807, 0.34933893236590885, 0.021767120756120056, -1.3639280496195203, -0.38672540510662334, -0.8100158797030355, 1.0866343911750362, -0.8182264710655653, 0.7644564030757508, 0.7193360875000274, -0.6035188344112952, -0.48640304757617736, -1.7408015101646999, -0.9203876758625813, -0.10765783879083912, -0.0065077202660102085, 0.2575160952684845, -0.5133113791513277, 0.5727555383336485, -0.441467106065762, -0.21318838842455934, 0.9155782790520091, -0.043493418920370265, 0.6980229152496413, 0.8462568846992202, -0.6200282963751349, -0.9504021702743755, 0.5157678975206565, 0.7936290712292267, -0.39385985376938604, 0.24695671662548402, 0.9280718321518082, -0.009647035468985767, -0.3643342726804728, 0.20674039714317913, 0.7758540212843377, 0.5651966543121403, 0.06628282215720295}, {0.5273664780855094, -1.4595491964855494, 0.32677435877633376, 0.6607614297007416, -0.8225761829980506, 0.8150199125016648, -0.45149739727582294, -0.001734540751124669, 0.98241995861637, -0.40453895092147163, 0.40903467766116663, 0.16360702903409918, 0.7769387613625165, 0.3630812929308577, -0.020014074695986376, 0.8487332278421977, -0.29929324591352824, -1.231952174784693, 1.1298339646399023, -1.4154370936488407, -0.9627871164638888, 0.354111585988467, 0.03943459775538922, 0.17758256864976565, 0.5040535533160215, -0.587393770126837, 0.5965927231906295, -0.7332159163296943, 0.10601650715704669, 0.5403899835120993, 0.2604484118689464, -0.9243897395723815, 0.44742074365636264, 0.17263683991102474, 0.039955895455446255, 0.3555191459001814, -0.1185563619433192, -0.06420044720216837, -0.9970033220537866, 0.8539961629753565, 0.023065368921376596, 0.4850839423275377, -0.341941284448231, 0.0556818531244061, 0.6100553601180079, 0.20392962485491317, -0.1692074792128242, -0.355093621157424, 0.001107160990650109, 0.5567134020253479}, {0.1139642935121683, 0.33553428423951726, 0.8857130370863762, -0.36181720403292456, -0.39846246661369356, -0.4231185197214056, 0.9331203365341982, 2.0606093115004054, 0.4093694028581316, -0.9593396107694174, -0.016470341525405052, -0.446499679400502, 0.34806358623510947, 1.0082303954896477, -0.08878150251475692, 0.5997474974846866, -0.5432930375706002, 0.4874941412986261, -0.7078799604663084, 0.7173298680569474, -0.40301248309211823, 0.057637108250654705, 0.6526354097633189, 1.554364488062704, -0.10572695032444068, 0.12823718802419948, 0.2918478058742404, 0.6083859647276744, 0.46498392785551707, 0.2235346859063066, -0.6536161813299477, -1.0970060262760812, -0.4069049996206524, -0.19753684954351147, 0.9446612120931652, -0.07935639659270644, -0.009077209384046775, 0.09511223935409552, -0.19513554983698866, 0.01996260167635053, -1.179500352366995, 0.22013905476810502, 0.9231217458204589, -0.8095957937159033, -1.306746466599383, -0.9734891748123216, 0.4080705300422825, -0.42344237830246145, -1.2019536402322615, -0.3686601692191167}, {0.016130644034779484, -0.31914653676268423, 0.07819156479605427, -0.9302568815817891, -0.008329829193013005, -0.08700524420059638, 0.005284435153144424, -0.48696451753355374, -0.16203993737659705, -0.8220662583117273, -0.14985678719541418, 0.6059332238367248, -0.7554846865848147, 0.3853478148247276, 0.0022448577490305913, 0.8745777152953783, -1.277863072078173, 0.4559262852959146, 0.0569525182626956, 1.0857058257606371, 0.017589634695063867, -0.38771089708613965, 0.2876552304670872, -0.6290389167466581, -0.7115835815940943, -0.4635885841777839, 0.9345044214536496, 0.0029375531106072255, -0.26387878271249643, -0.8113617308130654, -0.19514629656987162, -0.20420956650944905, 0.8082711362752404, -0.9051304600755885, 1.6908700200793203, -0.8362761130524266, -0.21341717755656087, 0.3792174724905122, 0.15852876695586504, 0.22351517639049667, 0.4302983234892681, -0.017316702558243025, -0.015836713506969906, 0.011668193888430262, -0.6006532463609466, 0.3051207025394771, -0.8160311102292788, 0.04973381301507964, 0.33892862617494157, 0.27789182342889784}, {0.007913654114608534, 0.8563757869333438, -0.034374813534428124, -2.6941074777277145, -0.0619034435725508, -0.49061454510874036, 0.9900186834321112, 0.403910506258397, 0.09373047506904086, -0.8367843815090656, -1.661908094820608, 0.2686744868181259, -0.5715274454999544, -0.6890124580615075, -0.4913303107091695, 1.0632245349714544, 0.03933252155198797, 0.3256308080255732, -0.07729199289644173, -1.020168487821534, -0.19420026105652477, -0.9050964943485633, -0.33211330780898285, 0.1959092137832421, 0.011054759871281674, 0.23192227544768146, -0.8423233634579776, 0.6683455542465829, 0.23374494810682006, -0.35383824925324125, 0.9920171474778203, 4.1439404297117495, -0.4814844589527231, -0.873468718760213, 0.0896828964544455, 0.0012890497707762627, 0.05374890648528289, -0.9440463692162611, 0.2088114594161885, -0.9410724030836992, 0.5304950308732668, -1.4292121781375458, -0.41674000992437676, 0.1470746234045719, -1.455347430701513, -0.5800767347654555, -0.12272512599428764, 0.022375988412139947, -0.7926187435821992, -0.03796198253077785}, {-0.11938337864915972, -0.8278383181921145, -0.9568201744582314, 0.530359732732476, -0.18139839117421785, 1.0312444375711671, -0.7321313192474546, 0.5051245819646357, 0.15047672229933431, 0.5461451281078009, -0.25901558981736555, -1.5548106807119615, -0.4891022473473516, 0.551310217738699, 0.14151881331558647, -0.010597272220525521, 0.02868520476776317, 7.237405870768813, -1.298729114629668, 0.7110085828601043, -0.5595769572477292, -0.16053989380472533, 0.033434211054251595, -0.11957838337564966, 0.7488194179581904, 0.5266208997151589, -0.04896495057217311, -0.4244935726609711, -0.1187716934731449, -0.983262981856508, -0.4947468025273033, -0.650793748811124, 0.2499742088139254, 0.5375499033848856, -0.867476085159858, 0.2504216634644381, -0.4326762015693975, 0.8464420020028696, 0.12338813294701431, 0.3854683562340968, -0.46875339700864416, 3.4884558194737347, -0.01779187748133121, -0.49145221257420446, -0.826314393699529, -0.979649623672621, -1.1865896956606392, -0.3315686489519514, -0.97372368505003, 0.8965177366090928}, {2.307902413119637, 0.387766490032871, -0.08845426810606642, -0.43763988427612216, -0.1195060690850005, 0.5760750110498886, -1.5546331668117532, -0.05374096639726533, 0.016188663040461564, -0.09702476641351274, -0.6662922662346416, -0.4774108137597599, 7.921739616929546E-4, 0.3800794613265872, -0.665285834071109, 0.9391376784908718, -0.29261940015927723, -0.18840835199765965, -0.0017341875940245393, 0.19652517859676105, -0.6616991094610984, -0.3867266049894662, 0.9803220712733902, 0.11210838446058347, -0.9157402272724642, -0.9867448536559311, 0.507146604293482, -0.3460352414114057, -0.24793980935488058, -0.03241720158744621, -0.9218312163397646, -0.160634886939075, 0.16645722997976553, 0.2769592396530858, 0.9802883899132795, -0.5985669954158498, -0.8191245246261316, -1.180560931313196, -0.31369023176945904, -0.741666930147979, 0.5254577339317807, -0.08085081937602578, 0.0664650917544678, 0.7636201215860507, 0.29568187059183276, 0.714356283254922, 0.008899724105996421, 0.2949510202919178, 0.07423490500916143, -0.09597601419246482}, {0.12736118191263573, 0.44025271528227194, -0.7101185491579864, 0.3134200471967783, 0.006981961364361958, 0.9043839763907141, -0.7630538354104266, -1.0806922817728986, 0.14059456765286216, -0.9039998485521079, 0.7515550193310587, -0.05119844823231551, -0.625212106007609, 0.10473051035658669, 0.7073656687718739, 0.5159936023976672, -0.2513979310831429, 0.020555337043924204, -0.46108755681697633, 0.9977520615110365, 0.3873958152451084, 0.4097472472962469, 0.13343253749343525, 0.7624529241017135, -1.9063848650711996, 0.4540986533715463, -0.2995611747625875, 0.7263365004344335, 0.8783077261865697, -0.14539103453266533, -0.1241436908178036, -0.007734734755880162, -0.782429184449625, 0.4784291807686114, 0.449713934256218, -0.19998519935037576, 0.3590944224635073, 0.4183053696201331, 0.7568007992152211, -0.006759411646031696, 0.10293260952808492, 0.7169076421721396, 0.919573928374525, -0.6376020411268082, -0.6349221089318374, 0.3022062707162154, -0.4247844127495428, 0.33516514907421285, 0.9794005374946617, 0.9685488154474398}, {-0.3289544064732064, 0.6529097434393519, 0.3289166297670765, 0.6515281736332554, -0.8396355538568967, -0.3407447480871617, -0.9586217111093693, 1.5011400052906054, -0.08883285773692538, -0.5052982441318752, 0.9542390744857456, -0.17596830690806528, -0.1919720934397533, -1.1270687151230476, 1.307668297140709, 0.6107671569459184, 1.3806859497599646, 0.31068013390974536, -0.8010747795797719, 0.8628896105775525, 0.2215802261882325, 0.09457235486603865, -0.06466597345056835, 0.02126122396132891, 0.0326667433876246, 0.748528260365769, -0.002846994485792432, 0.400929348542216, 0.48498946299062906, 0.9973807211657061, -0.2707180817530658, 1.1432071675988926, -0.15849692558575712, -0.16395757475852196, 0.10044211592971838, -0.4762366658364494, 0.6727798054164635, 0.3419129131030878, 0.23929950932385458, -0.7254684204771662, -0.25577842708854304, 0.22038275292463072, -1.1074201706552265, -0.88732760810341, -0.008871740954762718, 0.8563167884141334, -0.469442211225571, 0.30249935265219374, -0.42636737778978384, 0.5423687793500953}, {0.8751917149804559, -0.06347183636598122, -0.45204301979062056, 0.852555683604515, 0.8094802197946991, -0.6521964556701512, 0.4941622167138544, -0.13452984689121056, 0.823643969211028, -0.10341441881030566, 0.5690609171455082, 0.10616239375518992, 0.0175853635120479, 0.7964536784360549, -0.037413526173166976, -0.43102401398588186, 0.7460133881199873, 0.09998848316327186, 0.19469748506317391, -0.07318542987288883, 0.21442233912605058, 1.7800035263258154, 0.17057839457193089, 0.35562010094879337, -0.23155123300726296, 0.45759468354913313, 0.8590545473086637, -0.5993805018223652, -0.04453490763300871, 0.6216377929537216, -0.5564678682253155, 0.6002540938074152, 0.9112497431359288, -0.14438839701011372, -0.8580396408558841, 0.005123979968179974, -0.06873284666283741, -0.34968494618771295, 0.8118944153920806, -0.3948489758044571, -0.36092905563404853, 0.047678543321733276, 0.8745116791889427, -0.84994569117761, 0.012835456744413554, -0.2921486415116825, 0.855035677782623, 0.20139881486038536, 0.5047931174961047, -0.1488077799465411}, {0.49074501662267744, 0.0649308975402958, 0.49221542909412963, -0.8355751479985023, 0.013704755928350005, -0.4202012395652853, -0.45973087556951175, -0.8069885847500735, 0.6135758159234395, 0.38022567605565794, 0.9774631619790259, -0.46143255808001005, 0.4546770073599911, -1.8252540290154085, -0.6344668787129342, -0.10092409357795112, 0.16440461671001874, -0.5322769598482389, 0.08266055805796202, 0.6215128444784292, -1.3463730088950234, -0.6294581722252495, -0.13204284834057822, 0.28250056221165215, 0.4431982077983294, -0.6131450077247524, 0.7263793446961153, -0.21259220225820274, 0.4846275534544077, -0.7027459317601459, -0.3482655394783547, -0.12713009793365093, 0.5886189845879666, 0.8960867093135483, -0.7765216866486906, 0.6563560412888578, 0.9386027118265265, -0.13758849177645233, 0.7036628602154062, -0.10432625862832795, -0.2514098907733056, 1.5497141825297558, 0.7704342012119562, -0.38536040106142444, -0.6919664680787276, 0.7511980373485001, 0.4706550334332731, 0.3738976956099449, 0.030605702360337345, -0.02846898568172823}, {0.01304586994047452, -0.0907116669293693, -0.8455984433786663, -0.19736382317140944, -0.010555732554534944, 0.1752579953974278, 0.5253452154896223, 0.4132657426712556, -0.6249473054379048, -0.7908519353282268, -0.7501472744959612, -1.0093321229384008E-4, -0.3474999159977785, 0.206538002406598, 0.08745554532103957, 0.7186746889479081, 0.6083536263253368, -0.8743765030964428, 0.8097630632175818, 0.639193552410327, 0.9459083591002123, 0.10555139390897494, -0.6070962013053454, -0.35198765486233463, 1.4029649512171112, -0.098660848979862, 0.8495743099154329, 0.8720511791406438, 0.008355460220490685, -0.5656499986111205, -0.20994202811087437, 0.29075855163557335, -0.28465817031749, -0.674036220933218, 0.9879124377487549, 0.051345010863494966, -0.2667157511056486, -0.07776327830851812, -0.32229005553207446, -0.006799157048872413, 0.2574463554195954, 0.09688396100202235, 0.6390327784900844, -0.01843990423094926, 0.849589811413145, -0.4123411335076179, 0.11615018701158153, 0.8125065627538162, 0.3509805553720333, 0.006465769643299875}, {0.1194978311012228, -1.9488118209905858, -0.1458080218392841, -0.775157252761939, 0.03681176661968921, -0.4022529237481598, -0.9459226918309795, -0.730920100610222, 0.17058302819989568, -0.008881995317537363, 0.1298774418275201, -2.808557485936563, 0.7862491633602957, 0.6751575147897387, -0.22345269379688473, -0.15937888106772544, 0.49851458957816, 0.4079607545826138, -0.44988392993352355, -0.4247509433958265, -0.4058593185390188, 0.8799299014399737, 0.5649484371957256, 0.23229443080457302, 0.09482503946981313, -0.5297896863005556, 1.1001529680942017, 0.45683834869322193, 0.9565916517276813, -7.752155578257546E-5, 0.382738575702269, -1.68633697911857, 0.17059325236703415, 0.8154819454483839, -0.6565839559564082, -0.38912682087061223, 5.097421238013953E-4, 0.1258959203903246, 0.21874808389255537, 0.09938542086754709, -0.36650667156191225, 0.7246761312922532, -0.020915138177103054, -0.9196064532156367, -0.8728109800070984, 1.2409322386534576, -0.12898912995417539, 0.08119578301485975, -1.43570164181272, 0.09734525229293833}, {0.14389965026743262, 0.16146081139765456, 0.44459969665566856, 0.6227472859766283, -0.0369430923343067, 0.5743215462082127, -0.10514857829086456, 1.5027178118737468, 0.14229505148352933, 0.1336891121484577, -0.9692905886970431, -0.48074916053128547, 0.7510609369491505, -0.12435537274068033, 0.22345470922231367, 0.11680190645175258, 0.49662118204373373, -0.284883420418109, 0.9513749043104405, -0.012216115664832482, -0.7835465225629615, -0.1399535410910587, -0.9101676302922608, 1.554538077975657, 0.07835108240404898, 0.02337174853727704, -0.38280718186733426, -0.45353685693440676, -0.4953590968344621, 0.23003423179796978, -0.9037738209205824, -0.704542045257924, 0.34066880718857506, 0.09791427199998637, 0.07530512593951078, 0.19971460405370278, 0.8078269562281535, -0.08684057695016549, 0.41292840234357125, -0.026530573397162582, 2.84489127219331, -0.3364093450009418, -0.7502165530866209, -0.09187378697526102, -0.19506640679870002, 0.09243401661231222, -0.9096471287791686, 0.0669953615319645, 0.19245354408492976, 0.4703953923362831}, {-0.03623283827057043, -0.5661370215369752, -0.19791375756652976, 0.7186682825985602, -0.04725811674793878, -0.6720634624580222, 0.39634717317507917, -0.009264344112070187, 0.7904389526208735, -0.3735041047297797, 0.5593016690783871, -0.975447456019931, 0.17513294537779567, -0.6645658060342738, 0.9013614484366338, -0.8395441106826674, -0.0990391489685469, -0.3670181286727776, 0.4963688831295159, -0.5610608831724393, 0.003398555103747768, 0.2472687736550505, 2.646669311172146, -1.1660240358432032, 0.5367888156668079, 0.8689584555475849, 0.9192817081718401, -0.23938394429970286, -0.15033619594062575, -0.9326895349642002, 0.8997601825023314, 0.2687732009116961, 1.0852460009241098, -0.06277277902106237, 1.8515724313387578, -0.234937401915438, 0.046210441048809836, 0.045165721284449845, 0.12470565406490948, -0.11095355180987589, -0.5861103536979413, 0.5657754208101209, -0.3842476678484483, -0.5518241222199316, -0.4652217829533132, -0.012352631363571787, -0.6795115221417624, 0.3593418342175793, 0.5007490782256188, 0.03530166672659556}, {0.36779645024294627, 0.8585574351153642, -0.9796555283621986, 0.09878726923747205, -0.32269945735431627, -0.7687985125403718, -0.5323527914440705, 0.1255133159702677, -0.5811759797723779, 0.2101893872069939, 0.4879894659868955, -0.06336175999354432, 0.6850146807037041, 0.3843369886001944, -0.04275315633685452, -0.45522764741922045, 0.5143179407281295, -0.6635435408696685, 0.5894983114590868, 0.6057217757546742, -0.07595152796947291, -0.70588871829775, 0.4036056953424372, -0.33043984197642967, -1.594024003653597, -0.863496445780078, 0.5850242490026858, -0.10103479083460465, 0.1308832715522133, 0.7914290821288104, -0.8407457850917256, 0.7803811787018253, -0.11350417059014317, -0.1892061260138671, 0.9610797244007698, 0.07102415466285468, 0.7783490241527702, -0.8143781953194129, 0.5894437703493659, -0.6800723389657033, -0.8301088881932106, 0.9264055983039712, -0.0529420733915984, -0.2719008080261587, -0.05842855369871514, -0.48066975306642634, 0.4710238834127911, 0.635993135605542, -0.6188879273434971, -0.6906060416951356}, {-1.5386563415178887, -0.022508690816518483, 1.7198291163830157, 1.8900506318602286, -0.4580442193987291, 1.6767160310435802, 0.028674178210423142, -0.4051234273513822, -0.8263659085359818, 0.9547830261869359, -0.15833014698017323, 0.439119615342513, 0.6939038597052385, 0.845933602057804, 0.10600616969509757, -0.3317150769849153, -0.3206511993896832, 0.03639314731880037, -0.5502266715389077, -0.5027571071245658, 0.5175940977662341, 0.7181635173431005, -0.2630302993178889, 0.4173038198668706, -0.08102179473625216, 0.7075811223612853, 0.017996962831406598, -0.5064505463568804, 0.17020450785339758, 0.840501602745428, 0.11150542470060097, -0.020711845266348616, -0.32842653178241044, 0.190165620483143, -0.03961342512016533, 0.776184349485977, 0.20252329785877524, -0.007211298525083635, -0.6857116297150636, -0.34565729844241855, -0.8215823148742716, 0.6203377641117851, -0.27576811644013977, 0.5078054384156288, 0.053380244116928655, -1.872130328709759, 0.6147041100245935, -0.3065842649705144, 0.7830021804337599, 0.0880576885668845}, {0.12560883553128255, -0.26281350293358896, -0.5701105118091496, 0.3232992690151615, -0.010845126988891918, 0.06831618903063297, -0.024288737375078, -0.6611026077114874, 0.5144235953978925, -0.37683435207202765, -0.9380921322183335, -1.5171604773469571, -1.225326726243061, -0.09521996317784565, 0.3485346627546644, 0.005227438290878017, -0.7855132899769879, 0.5762201169804639, -0.025687417478113393, 0.2901545904229692, -0.008701544509978159, 1.0336988755206067, 0.7636125873279037, -0.1263363899045446, 0.0586765577571573, -1.200407243319394, 0.011965733082397234, -0.49736535052874803, 0.20519968195104044, -0.6921913821875092, 0.15887799647453973, -0.13615274783356454, 0.1835768299461349, 0.014162793698612619, -0.6948396090897028, 0.2591642540643433, -0.5523607228728162, 0.07581279870773698, 0.23366460912073195, 0.36708291530086656, 0.013042781076325201, -0.04797534463600416, -0.003333653530075179, 0.07008382779409783, -0.10402583684940048, -0.17986433264232593, 0.9247151564437466, -0.25153500684101904, -0.6590797742096397, 0.7276864730142221}, {-0.8821430723017158, -0.7723694669174819, 2.037679377933638, 1.0990966113638347, 0.9807528648341942, -0.5498724249192368, -0.765448894636733, 0.7402177321680872, 0.29400626557345433, 0.3273135137915326, -0.717937974956824, 1.0686053234365434, -0.4604630519164228, 0.4322147460510989, 0.41559090310100644, -0.341093343621501, 0.5390842973258334, -0.6875211036640609, -1.158884327301817, 1.628479582542348, -0.7150365969689643, -0.4650862782176879, -0.011041171755217294, -0.26894724022224187, -0.6245236350331904, 0.0707785336344781, 0.01985796593944165, -0.6746857079901367, -0.45330197624730006, -1.4085965160095362, -0.1447317472547127, 0.3215218243090209, -0.3318744106779139, -0.16177938102099054, -0.1573493753816591, 0.7738286274639101, 0.02829771396162939, -0.37317946578286776, 0.014345970921657354, 2.0445341048106265, 0.9383793537731926, -1.4052163475589718, 0.009814789288825908, 0.8119666269330341, 0.15359372020339124, -0.3091091579110927, -0.08682494164357779, -0.09809640527423162, -1.7242639389851429, 0.8802226713135759}, {2.948173008028326, 0.38769308744723974, 0.6829922930610236, 0.6710703921136654, -0.3836741252931224, 0.8842430452615144, 0.6920129476613199, 0.3902545302226774, 0.9796419771239793, 0.0399812460947175, 1.2550207532328717, -0.3021425625003097, 0.6207704442770259, -0.5542310515094262, 0.08415302187261076, 0.1250441257804915, 0.32479074010180087, 1.4925290627321524, 0.9883101965442065, -0.5695083203349729, 0.08485952141484314, 0.7703149110348253, 0.026451413148751286, -0.3368128828061956, 0.7652544942292672, 0.7871759300380519, -1.4547354896212057, 0.05345659822646698, -0.5621306089596436, -0.9264604333014137, 0.44613635509304217, 0.8658652048538867, -0.11942422127488096, 0.5163406977191256, 0.30654167461614185, -0.04886546659406554, 0.027501048547962537, 1.3048477608246951, 1.384392468518063, -0.4390651863047474, -0.868921062113829, -0.7935629109518847, -0.20908609341986226, -0.762944710832425, -0.030151519834006206, 1.3632993369032693, -0.4059421145785638, -1.2249687533857667, 0.8726338455484791, -1.3894092751304443}, {0.11017662899406688, 0.06729969796880697, -0.7308941485908662, 0.5891916295389555, 0.23466250806805, 1.139965867125479, 0.03662904970748651, 0.726571497585528, 1.902594795948163, 0.7757775047876856, -0.8823590577558647, -0.6203674892901865, -0.3542981541011445, 0.08041436282805411, -0.201727795674663, 0.13667524435790201, 0.4355682392741662, 0.0028147951998300576, -0.5105288994033204, -2.018836489754262, -0.22547169908696013, 0.24837886716948754, 1.7134198398031426, 0.2657614966233279, -0.08317961059575496, 0.3695075940384892, 0.8819519811282208, 0.5495880633724326, -0.8257210686703086, -0.22109967298854236, -0.3797485528720743, -0.516592896983262, -0.10868677666698111, -0.45053251875347433, 0.03420779119068795, -0.5863335148102502, 0.6427380048877598, 0.5246776564133164, -0.022445708315618207, 0.8619483182860816, 0.2769497316116872, 0.7401081044828886, 0.2645090390320244, -0.07703187428963663, -0.00995401867454504, 1.139954916265731, 0.6000399609259659, 0.5492602749348066, 0.63512678515673, -0.5850427478961575}, {-0.14664880657350884, -0.8054044889527161, -0.574696025539883, -0.09319563250660634, 0.7441458734268926, 3.404404044645012, 0.012556531422473816, -0.17849733205911314, -0.9492321766560249, 0.2677039843462248, 0.001078148535533526, 0.5219226137104072, -0.21205206783351635, -0.9841236229116035, 0.13538338569022912, 0.36494585711966643, 0.36432043679298176, 0.950547437056793, -0.6548207755997162, 0.6254168040245656, -0.3570155665856296, -0.7602435384714954, -0.5011326579398163, -0.7952147248000032, 0.03697292944524563, 0.904909817836576, -1.1225340444422112, 0.15091387914408783, -0.19677830525651174, 0.25274693534023734, 0.6823202276226827, 0.8362124008202863, 1.7037654500559105, 0.3693377645276501, -1.5227507084152272, 0.0166887199430636, -1.7269740332908328, 1.535742513565852, 0.5657023578417697, -0.29750993864869657, 0.29930661362357003, 1.090403083740864, 0.022095775155661593, -0.09891094073103625, -0.9571801050313753, 0.41873879159296057, -0.285565028571384, 0.1672829044224499, 0.024307311435165513, -0.5347309924435167}};
-        w2 = new double[][]{{-0.7024498868039007, 0.4314220247984313, -1.5766116937531223, 0.19004873837895409, -0.73075763033653, -0.37848965404235774, 0.8602678301525852, -0.7989744703511572, -0.30332480383531607, -0.9367320959015732, -0.8065915412736115, 0.4936497958143866, 0.5070178456250272, -0.034060437890239464, -0.769033184222104, 0.15085316913257674, -0.759731105486464, -0.33980445289493283, -1.0274206388938285, 0.5998060421932467, -0.8220914143586484, 0.13482314433123185, 0.8429567006976317, 0.2701705916696975, 0.0875893425568286, -0.5708580607715701, 0.8374732065377204, -0.6667114905322729, 0.7024173579005843, 1.4361904602892124E-5, 0.7342723875691699, -0.353385680052243, -0.17173104817684048, -0.23678744941247284, -0.9407404400785315, 0.21234439161421684, -0.02296941594764701, -0.8786690551819025, -0.17422311706557395, 0.9840439775361067}, {-0.13521402811054983, -0.9194168925726598, -0.4115166740138796, -0.4596277333224914, -0.8273388378803449, 0.09778796044500739, 0.6286767834628513, 0.03465818783532636, 0.10435564543742082, 0.3089362977585248, 0.02853361330054205, -0.8528754277217696, -0.002006630061391812, -0.05575273290986875, -0.00986865514781986, 0.49012442197973183, 0.03478750080594765, 0.39475871356440273, -0.11675541219158504, -0.3830995829409567, 0.23156665085410855, 0.05601400333843382, -0.05058837125781863, 0.05571174070755597, -0.3801342917983257, -0.257575000575345, -0.19609154961769465, -0.16084274854385297, -0.6943465714955388, 0.2341128514905984, 0.3640698906460611, 0.022222746779349878, -2.661394516719938E-4, -0.6669769588063761, -0.8378652008639143, -0.6011062753712553, 0.2336599356008382, 0.4780607171457554, 0.027354992869361612, -0.1519821133924022}, {-1.1857921578673467, -0.12741227364621835, -0.3825198067343764, 0.06180801683860476, 0.36744759505543656, -0.015496516077823102, 0.25212999827406835, -0.3198351054721378, -0.8802528028782057, -0.11753369608980413, 0.0929384973075782, -0.42460781860968944, 0.6598400806046009, 0.8006603227727016, 1.8139671082283124, 0.9912492840120204, -0.10691835048799048, 0.9310608663496778, 0.02341793863608668, 0.4538438955335662, 0.8506037641969129, 0.7401414190177111, -1.0687704452367213, 0.29551326737910655, -0.3683304563015757, 0.8405211011344436, 2.6719772363466614, -0.025100978284733046, -1.6627985837240373, -0.894872872661052, 1.11774028156456, 0.08811015503712039, 0.09402931107710177, -0.7381608673522988, -4.160786434072905E-5, -0.8497351934973878, -0.12284573950620377, -0.32517741940677464, -0.23290820193900788, 0.1019858422766858}, {-0.9161201940096144, -0.9073098356199374, 1.16758394019878, -0.1829806472125861, 0.3897483491033864, -0.6726667831470184, 0.10452795741825857, 0.6360788209428342, 1.7023492929615631, 5.786812163543135E-4, -0.969842454363387, -0.7324686286159218, 0.5104951980253211, 0.6037480836499842, -0.0959172832405224, -0.4170400835373751, 8.622022359858345E-5, -0.5015549013999099, -0.06652431678261239, 0.1712120691435793, 0.5410760219184996, 0.03383043100909866, 0.07728808254480199, -0.297365831674912, -0.6198539753350272, -0.07619113341590002, -0.16714940447736165, 0.32940334927609793, 0.23579497082015233, 0.4708099934914822, -0.5007653905251277, -0.028803327665172684, 0.03302807845431123, -0.08773555297554303, 0.35717936061177397, 0.014258746760280229, 0.9956690387042364, -0.1269847676198559, 0.03173454903471958, 0.7949725888775205}, {0.24478177516493277, 0.026762904957650647, -0.5013871124139859, -0.27462781537174447, 0.7713530493891161, -0.3945488665501098, 0.16451301172687716, -0.10572968582247463, -0.6316972494393578, 0.0010441460429645752, -0.25587164551913205, -0.3971336416152139, -0.07126142165604307, 1.3254004999639073, -0.28366434529790335, -0.30971312348371743, 1.293415054059905, 0.012057425989114042, 0.6469380976358549, 0.4251835731091307, -0.0018315101970785201, 0.047039362692370294, 0.4860375029547339, -1.3419082334573644, 0.278397567861691, 0.1270466622685258, 0.4072420332122499, -0.39682622570774173, 0.25028298527588233, -0.3749549964197296, 0.2523423001823012, -0.13407293367623085, 0.35396719523934084, -0.4220209777598017, 0.48888079663187156, -0.035342704181997364, 0.13698981730670332, 0.020733811657962266, -0.38278447362907375, 0.5677445673514858}, {-0.983013847029683, -0.36511441669317657, 2.159757784531643, 0.34803177809198105, 1.0617669829644965, 0.5577882482650129, -0.6703298022873828, -0.8419639472400914, -0.5066592655540203, -0.4107231867985583, -0.40616400237872896, -0.2809787644707438, 0.14641049564891753, 0.6756547211031705, -0.06690509994860866, 0.06675102155243555, 0.6251545004504955, -0.9897134886142409, 1.4447628399356125, -0.44574659132718986, 0.15278517643413636, -0.06498645476125042, -0.18457145971855957, -0.5821376415433912, -0.6592129377808096, 0.9418239280212182, -0.08640763622914105, -0.04787409270010645, -0.31877817371174827, -0.7735679929437533, -0.7199916011294503, -0.03947171647367625, 0.18242670025489094, -0.02643532188467256, -0.8511085351196361, 0.10888329198589984, 0.19514292535931713, -0.16361578383455422, -0.5412731803476225, 0.2126180566549188}, {-0.44483249511562906, -0.5126370975532507, -0.25580346668601023, 1.9679701274206987, -0.6508882189019873, 0.002367603737778151, 0.26559281851230987, -1.9002254303228938, 0.8443853142989772, -0.416675448586476, -0.15817694690425066, -0.24142646066996454, 0.40717030254125763, -0.6645116585616175, 0.425221924757472, -0.35449073253171326, 0.6904177216592802, -0.2653432091408309, 1.2150828482377334, 0.033508975359630266, -0.002294438311374103, 0.502214059469761, 1.1171279167165942, 0.028031562013669298, 0.35542198408174097, -0.9324908076055181, -0.9868540682717237, 0.40380078480387743, -0.24433693248211014, -0.49148423481140807, 0.7048285657577493, -0.9697346414710719, 0.21313584473263478, 0.6583169970877178, 0.14304811976910048, -0.6367486580433264, 0.6223836713520438, -0.8681719684683245, -0.17956786152892878, -0.5953115772612607}, {-0.08158576235156245, -0.10550656660272306, -0.06089262335904023, -0.15724352665460462, -0.28835475627984153, -0.08828424621331574, -0.33555890499004803, -0.15225718733234705, -0.6044034401710161, -0.30590815873744753, 0.592164198111444, -0.5543662849349718, -0.21594229318309188, 0.3946585539200097, 0.47202582638656726, 0.5332479565082235, 0.542542639620265, 0.03027402227739953, -0.39420413149288236, 0.11552658847659991, 0.0038228333987222474, -1.113766833714216, -0.0833837300189514, 0.9268377783968951, 0.017480526035025923, -0.7466104278052772, 0.010023274310048163, -0.6116467863583948, 0.3663162622491319, 0.39588536254185813, -0.0223684097348778, -0.7632172623598803, 0.3625338292445497, -0.28027023996133527, 0.7347825997394801, 0.3113818538427433, 0.121756544958733, 1.2226464297640358, -0.25341533916616865, -0.5727849632330064}, {-0.6483822785413929, -0.3290302430041504, -0.3326561541658781, 0.14977316088073542, -0.4653667760873723, 0.6723669344208671, 1.1064621288272016, 0.6513661649404986, -0.06633172000951237, 0.21854712962437528, 0.4510632293968057, 0.6425503495413669, -0.2326220161578092, -0.523237051094436, 6.551403765869637, 0.8166626955733471, -0.4022195800732977, 0.39830880642396765, 2.6121388805129477, -0.042029935372670725, -0.002348881047482907, -0.7426432362322446, 1.1779411815478955, 0.11250138590442976, -0.3533952498457871, 0.6343044533150717, -0.8409987552364562, 0.5221272270787582, 0.36371650661283383, 0.67720212041037, -1.1574253077346437, -0.44705536120775313, -0.012628239747135117, 0.9692439267441559, 0.0160841775322263, 0.8632345182413477, 0.6690691110479945, 0.38711997955388355, -0.5323004681554803, 0.008333491522938706}, {1.0599130836088606, 0.10839936668188721, 0.200467859624472, 0.6867650275924702, -0.5561678683181093, -0.05142460558388104, -0.06342500792309477, 0.9170746317213379, -0.7608075948177462, 0.5696003852588516, 0.21056972434605759, 0.11220250726147178, -0.549359886118191, -0.5515230338212829, 0.8249365793770531, -0.2707558776402619, 0.6012562246718272, 0.5848658294229239, 0.2778376120168251, 0.46771435584792254, -0.46895169979958484, 0.19346605566687355, -0.5056669216479215, 0.11703765820657787, -0.39459217251265666, -0.37824502312904656, 0.9302562509658834, -0.7099933359492996, 0.5288189713941018, -0.28013146364363284, -0.8657216274137908, -0.25896788387503755, 0.301921821391896, 0.16847771466099778, -0.16340471008293272, -0.7790191211715425, -1.187648213417746, 0.480561249103832, -0.4341269384580447, 1.1460652071652981}, {-0.9331857184787256, 0.726126875440781, 0.14708868623567706, 0.6203173460017029, 0.416020775319152, 0.3400044155551744, 0.0309943892560601, -0.2738329943943332, -0.012793360445383595, 9.607189499402283E-4, -1.4152737543715666, 0.12144840560358738, -0.8716536501300955, 0.8744516493469938, -0.36435138341438006, -0.8421271872907059, 0.30718436657285864, -0.20974368135096855, -0.2774050385836764, -0.014958797917693945, -0.056746975124775556, 0.34709491230985307, -0.21594719648309352, -0.032666086804815746, -0.5229173137803798, -0.013458212288653314, 0.08664286290890992, 0.13570276056635416, 0.8055830506684207, -0.5846808805530794, -0.2252498165010186, 0.5968336813442803, -0.6948822439118651, -0.020613107967101918, -0.10041099697679012, 0.8594559012548346, -0.8766924739058854, 0.9793065025631409, -1.9827749640382557, -0.38998004938416386}, {-0.5979264397590784, -0.5842436844718224, -0.6279382319474764, -1.5821606030556743, 0.25289736579349975, 0.3249572264816514, -0.9787426895927422, 0.9440657887177122, 0.1856494299151119, -0.28973838617593745, -0.8122951377714847, -0.7134344953787768, 0.10759763004157441, -0.39477492707639883, -1.0713120428038014, -0.6439459896364172, -0.4679837022406801, -1.3794832082429644, -0.6866241844730884, 0.02985588673071488, -0.8806848119236872, 0.43046002570931985, 0.8024350187291962, -0.01421729260115751, 0.2575701961841492, -0.8028176322396219, -0.8827539209718829, -0.031447292237059846, 0.008719156217873903, -0.4994783626554197, 0.7832198530268992, 0.7178674736732169, -0.7346506342498373, -0.11191320332561538, -0.35267054204795323, -1.3065820862037247, 0.200386152750766, -0.014054085611165678, 0.9478326045799601, 0.5723109615132249}, {-0.5282698032221261, -0.1921212844975925, -0.2515915850265845, 0.5073244764335428, 0.12490808149818468, -0.7077292054135351, 0.8935019479878464, -0.3913943242667748, -0.15526997877669424, 0.16281398811392603, 0.04059785846172823, -0.2610460217257158, 0.008851758430826084, -0.32576454955131307, -0.43204455423001953, 0.7297875240229665, 0.30441661086749416, -0.9804427878112731, 0.9751027469296094, 0.4999013245224142, 0.032818344934913535, 0.6893806984351141, -0.02734353047079083, 0.436029966360112, 0.4004647379810773, -0.0028179119699412694, 0.10348850462646242, 0.8576259655880327, -0.11782289724264729, -0.29288606542063444, -0.9283950669525001, 0.5829775453806041, -0.04122500590019996, -0.21526007860035618, -0.856447965523256, 0.329862440751453, 0.6339476231953547, -0.05470741266298617, 0.763196253212945, 0.562724254134142}, {0.192395436888682, 0.028962482190266103, -0.24599088779597475, -0.7177823572439148, -0.3954893375590752, -1.430206441848523, 0.8155818810595431, -0.9417842137472823, 0.09184568895400701, 0.38498815873014514, -1.255725295160321, 0.10635212360124328, 0.5345059139928852, 0.8522097064713016, -1.3717618767853241, 0.22585439370977164, -0.482015467116788, 0.9816053248595789, -0.07243498284629293, 0.5616296838693509, 0.15749357589129453, -0.25323629629719285, 0.10646604617670019, -0.4026940529051328, 0.04779175007554207, 0.12876512977088184, -0.07445519111455927, 0.14319817214043806, 0.45512283153839306, 0.014581104268003665, -0.24268008536656657, 0.24127811411840838, 0.22065229444217604, 0.0398479584183175, -0.4858629357706916, 0.17614456564645375, -0.4729305622262503, 0.039060952693968316, -0.7998489302591034, 0.1768980720802731}, {7.798254077936566, -0.6410228711969184, 0.015569640616312386, 0.5477567269836104, 0.3430086021388068, 0.18529552226263535, -0.13502339121885007, 0.1089542868823619, -1.4864807299648866, 0.08444261354128613, -0.30026917323204505, 0.9475819096356348, -0.9225871605925096, -0.1600740352092928, 0.730079377388678, 0.6122913906573938, 0.3980203624298943, -0.8252444672736452, 0.38965301117386625, -4.699910686402692, -0.40489725525663056, 0.39214201050723707, 0.6489582449231766, -0.9812762054560918, -9.581493680807398E-4, 0.8871019580256736, -0.5008210339421448, -0.8684687311356094, 0.25746605473532, -1.037056867383075, -0.8045564617640748, 0.7073834836500337, -0.13297331005247237, -0.12532800609061176, -7.667826157081534E-4, 2.8258279335919643E-5, 0.194534830670264, 0.025463283460155167, 10.332794232537255, 0.15236861523944809}, {-0.7001590837537157, 0.9394147017481882, -0.5574309000385116, 0.007347442865606482, -0.8448814523343973, -1.8256917371188321, -0.03724708035737301, 0.4408101181992852, -0.9704265608453146, 0.11806546221675607, 5.532843254516363E-4, -0.11368322699760623, 0.793420878688152, -0.6920476386379641, 0.770499516179892, 0.5939731773706717, 1.3771365652558305, 0.6807365448523999, 0.6189170527599686, 0.7810993370681307, -0.49685884790211876, -0.8148623704725089, 0.633186616744544, 0.7769004631481672, -0.9273603403610781, -0.6102252402244648, -0.20677349176909476, 0.007885627937663656, -0.17776253116951007, 0.9798057270176708, 0.029366081421017088, -0.47433912928339333, 0.4989768155107822, -0.20129213628542075, 0.001778072868235237, -0.28526154780123436, 0.07024779351258914, -0.03537401130881774, 0.5044745368852668, 0.12591781239955674}, {0.2670141347415742, -0.6114486660578584, 0.7208397628781903, 0.642842440063648, 0.6645935075808094, 0.9353880292402952, -0.008380970442632106, 0.8034295230189081, -0.09627718615108469, 0.12008519979767684, -0.0049888962610243, -0.006490489719647416, 0.03253615451763344, 0.46579624964168476, -0.6718007398357744, -0.7675164143287458, 0.7672937498259134, -0.32443194124761904, 0.022399633570847597, -0.22586856382779863, 1.500549737180988, 0.1525582151918099, -0.9272467462691272, -0.008158057143476472, 1.1480514951005258, -0.12659505773882096, -0.6029539306571303, 0.4355840353290382, 0.9454277475334885, 0.2579389110941815, -0.20472379429816057, 0.2880126538565054, 0.3154295545163798, 0.007516650650192938, -0.007018043684281986, -0.9141318258033936, -0.08535318665896119, -0.20875426721716236, 0.9088211759439859, -0.41429631720065757}, {0.49047610870007086, 0.07799969542819364, 0.05130351493718461, -0.8805275655539055, -0.06290208215975465, -0.5443979774474396, 0.9483165578564022, -0.357926326684971, -0.9534169488085331, 0.05809679164125092, 0.11440516154340034, -0.461721679666252, -0.7470895253028391, 0.8682566181449377, -0.13928356984839385, -0.008652576967218993, -0.03607802257538206, -0.34563526844644166, 0.14366968401590088, 0.7454179174060114, -0.5560210493405224, 0.1907664096369003, -0.2800874910497834, 0.08825293199952333, 0.05693766446383985, -0.5395632316102494, -0.8576124105431133, -1.3900623261442576E-5, -0.04233506188383377, -0.09180015249902085, -0.5548120771849884, 0.7046052558076477, 0.559900843804441, -0.4979336767192106, 0.09637893907042594, 0.9239327078065653, 0.31221825810557124, 0.7908547139278956, 0.8483572803591107, 0.01939250413348089}, {-0.7372708588994487, -0.5470578017135737, -0.9945459846638065, 0.8246566074327315, -0.2445373701378508, 0.7908201510042301, -0.4736266987957049, 0.8263194148754641, 1.0328011710792098, 0.9288277147650572, -0.05087880893632624, -1.0288988221517157, 0.6250203705460429, 0.1570729099863981, 0.253179202024737, -0.3303430244122474, -0.053891121675305076, 0.6414232428760613, 0.5698170707822159, -0.1590418518741071, 0.3581425487424055, -0.9245621375741935, 1.019624506229795, -0.7273494622908923, 0.21265479202063547, -0.6896335065286094, -0.4130906237326364, 0.012286391768827344, 0.17612579329078862, -0.7181997191759248, -0.9920632082845837, 0.4623181574483846, 0.8231181137177616, 0.1124475076821983, -0.8327497344090711, 0.42274439199470715, -1.3074918359030459, 0.8898872570983404, -0.4962193550390548, 0.5204958627438014}, {0.6494125818116769, 0.005295796590821361, 0.9561764925860201, -0.8536498897834022, 0.321104419320603, 0.3561759551139845, 0.3638048421002258, -0.11141535600553487, 0.013868511532766229, 0.04915610184443264, 0.015462855250078575, -0.9216263740117911, 0.5377497372941501, -0.7865686565941166, -0.6153943394752027, 0.4305278261487113, -0.7146078229295716, -0.6885484054561977, 1.4372122366703823, 0.0017743774277559883, 0.21241436004925068, 0.7256291355351667, -0.09640869619952729, -0.6539821235135123, -0.195364080762304, 0.011327683036719757, 0.14779098208876257, -0.9602387998970476, 0.47149026909161695, -0.2983699411799927, 0.027750234870186453, 0.7007966196881412, -0.26100075120340455, -0.7199961067349467, 0.5407243330821949, 0.07582023046313528, 0.13269763382828342, -0.04987640675857511, 0.27442074523114945, 1.0664512961993995}, {0.4250738067210539, -0.24945913099895134, -0.5661770839740295, -0.32145275277266916, -0.252451401888436, 0.21913623657607095, -0.2718705729491637, 0.07173307820382585, 2.696922265302214, 0.03943124820220521, -0.6840163153111114, -0.5674079374900958, 0.46579753550509895, -0.33781827221716765, -0.2658841246220525, -0.8087054074560338, -0.018688417903778554, 0.40246078160131593, -1.310635583004066, -1.3745838733022633, -1.5219927251495704, -0.1603617575619325, -0.3534424696270174, 0.5082713109007488, -0.07427213466505268, -0.9244673336848542, -0.05294541812001582, -0.4722182845774572, 0.4115574944458611, -0.3010442038115575, 0.16125919214833295, 1.2315917967705035, -0.3688756084963787, 0.5321335752909138, 0.6816115326799217, 0.6976261879487899, 0.7622089092462989, -0.038671833401995315, -0.2407792933598174, -0.748185104500916}, {0.7058951951214634, 0.879696324713835, 0.3979606424130034, -0.2160246651053377, 0.9934610244255397, 0.6807313154787293, 0.2188326557119971, 0.8753244340179775, -0.23685011027708897, 0.4709165563353501, 0.05765911016647022, 0.835040610801035, -0.7608156207248447, -0.001722815481118387, -0.16488902999798297, -0.24256221913992088, 0.8432526122765862, -0.33459155464925344, 0.005028882010841117, -0.1404258526752027, -0.5157231481250408, 0.2928577968606294, 0.03960640957276592, 0.8399199980168202, 0.9436662568960821, 0.35491102777577166, -0.2658114537781832, 0.1651015562812561, 0.2793144194261018, 0.5232643982631013, 2.3120293736641515, 0.17499833350390837, -0.15715568097910826, 0.6561215308717887, 1.8503356451131965, -0.7996026296233367, 0.9579489065684162, 0.19137037010524782, 0.5047132011901085, -0.053265782732625055}, {0.7139366461991546, -0.5469447709756867, -0.013027439272112936, 0.6199962419075085, 0.22453135812527683, 0.9384256685367152, 0.6048183710770811, -0.2560124391633268, -0.5324970743912947, -0.6754291838799655, -0.046791808203971864, 0.4025601448911413, 0.10375236921893156, -0.2666274586535125, -0.06904092998704958, 0.859733856789543, -0.48986456561422775, -0.42751173276867854, 0.05364319332364942, 0.15750694968797974, -0.6086783882073938, 0.05610242677732157, 0.37505950873161287, 0.5703805045498679, -0.8202807974722346, 0.32819110691394093, 0.1884388592297903, -0.278125880600214, 0.29737781279042974, -0.8855073250093646, 0.20910396436768508, -0.04629996458480269, 0.7589724789097949, -0.285232367967941, -0.3442314485040321, -0.07631785393645239, -0.8088980475032956, -0.06475736470023596, -0.5854748303364927, -0.8688317351946797}, {0.1808005012003473, 0.8037141496431985, 0.190283407566888, -0.1925787619852204, -0.24360897176476176, -0.021369470133272245, -0.8542765674967361, -0.9133741108335438, 0.7130151390818302, 0.46792295898482533, -0.5344644990279563, 1.1634221587269413, 0.9565513045097511, 0.19720996669751614, -0.0030128744554726284, -0.8907497020918891, -0.01607359947540158, 0.6838422945873341, 0.056629466778102655, 0.5191509309332609, -0.6011684769574044, -0.9409788748623777, 0.5092785063011904, -0.4677126983565585, -0.5873036751972529, 0.4974776676896868, 0.37102076291865704, -0.20752103980464542, -0.11635991980998947, -0.980981706238709, 4.723552915917025E-4, 0.4113432655766118, 0.49083855086520356, 0.003663031256369914, -0.3298581220039291, -0.34569838319823926, -1.0044184849646403, 0.8756521795658108, -0.17894358748699618, -0.15123959435526935}, {-0.13071126455620719, -1.4477092419618032E-4, 0.04544765778040305, 1.269701751687755, 1.6024916442538153, -0.8667511590820678, -0.06485136434364462, 0.6126836030708552, -0.32454081719160827, -0.1920698142352193, -1.261880969745218, -0.24225357270915104, 0.17919171709534376, 0.06346122393841958, 2.694962167408262, -0.8055891961600272, 6.566692263153247E-4, -0.15260319754158191, -0.6125351414369016, -0.9014116378226193, -0.09259024456016583, 0.059622788057902214, 1.8291426327256153, -8.547213571893765E-4, 0.1543239811600989, -0.006210093748681786, 0.4849955812688691, 0.23148659660845575, 0.47612865209719385, 0.37192372808890917, -0.14518448227944272, -0.7258372514565185, 0.24231269870826658, -1.1011379847157532, -0.3965224967842189, 0.12196996847946073, -0.08729950708936718, 0.606575058631716, 0.9497774305014459, -0.4765000034107676}, {0.7775116574163186, 0.5396218332802842, 0.6577699894618787, 0.015483640653647874, -1.3396174115760053, -0.11451927183076473, 0.4488522235348746, 0.4280328847616013, 0.15985893917918492, -0.943357472599974, -1.7455907088213731, -0.7987102364373139, -0.7259039715715956, 0.19218118064173717, -0.41736293003846037, -0.3645574258799547, -0.3289966848366674, -0.5415655055531635, -0.10800957763273344, 0.9043724251971859, 0.03783791136424619, 0.20167471436191997, 0.6593129359663845, 0.307782140027518, 0.6979300742211227, -0.405932335040744, -0.9696262881426272, -0.02776469137779199, -0.5062152972737022, 0.39389086433996345, 0.2893502291907435, 0.7709983102498981, 0.5027130488432153, 0.0202309663973516, -1.5252658049396687E-5, 0.335468560638624, 0.3402112287422141, 0.07838193414437669, -0.3034436995688574, -0.1555613650865144}, {1.433290558805604, -0.9577440235929227, -0.7192990595908573, 0.5749431304249872, 0.40319467017846444, -1.1727989569928738, 1.1847432135013969, -0.6158740439395449, -1.5569288805727768, 0.2949737528014664, 0.7496494201407511, -0.8447247345088512, 0.9266594864152888, 0.8114383097059681, -0.5320791014154591, -0.7898031025975472, -0.015095154981463108, 0.23939246740008638, -0.09515313737398895, -0.27722272408833315, -0.7446983347099354, -0.2836092599934874, 0.690906803827968, 0.4140472076927202, -0.17371587383169224, 0.5303006040193845, 0.054034431091186684, -0.010761627507881845, -0.7666046711372795, -0.4029358064606867, -1.1927097182379287, 0.9861994722782426, -0.0290369570127108, 0.14749137333884027, -0.6336890099347392, -0.3022295560385855, 0.19378710415492456, 0.43424057426088386, -1.159804592469565, -0.7940413384345948}, {-0.8709683704846227, -0.24516620534804612, 0.4532519658844709, 0.8934667538823711, -0.442905278246958, 0.11793421535306635, -0.42811018146278296, -0.8023653032423168, -0.543558229215257, 0.30118789570528137, -0.261809027422093, -0.13653555079914975, 0.945538807150035, 0.8774743330692274, 0.3209591307727999, 0.18016869351196174, -0.024228864975168518, -0.17948629147503015, -0.24207688978855124, 2.58810793944553, 0.3223237783054034, -0.8712344453496514, 0.43053819834314955, -0.4404684084493914, -0.8127479497642711, 0.476949651366811, 0.0699638082560535, 0.6607362876109965, 0.8930277739037913, 0.5120409235342069, 0.27850581598747337, -0.49487724273362277, 0.7528260717643165, 0.030843807388166573, -0.35202065081038464, 0.039707252074031585, -0.26863660522938293, -0.5569971662266526, 13.814141654966013, 0.8152560061600118}, {-0.5797570069792075, 0.05229097216122266, 0.5146812194412009, 0.15345507665400995, 0.0961599907420058, -1.1570676077010966, -0.006662069136663166, 1.1482503897720902, -0.8655081317586232, 0.017074912440092897, -0.6466724546110656, -1.6891119206348553, -1.1155975656418597, -0.8031397063650694, 0.042033340179862023, 0.02028344189819136, -0.1381339517498954, 0.0785207410135772, 0.6950539754090588, 0.9734091787741088, -0.016907797752078176, 0.4943743663716793, -0.8110178505066721, -0.45592240049207966, -0.8922480452837583, 0.15291347968689006, 0.15104628777206663, 0.09433519797088803, -0.5234913101856871, -1.2685095913938806, 0.6481000298613536, 0.5593058263545936, 0.8687100177921165, -0.8418928679746012, 0.038021039194189574, 0.5193897843837714, 0.4470312160748897, -0.04898153939237136, -0.6727253763816824, -0.15090191048209456}, {0.6490781190144478, -0.21382948814723313, -0.7539173135418851, -0.14936894516059065, 0.10793351317754407, 0.5010074480590045, -0.8539401460759225, 0.003047486807403657, -0.0010426754249643286, 0.718965695701085, 1.1553922927708065, 0.8192212257271427, 0.0017695112956701078, -0.8208388062885981, 0.3462650461257273, -0.028723792487046037, 0.08693889942353686, 0.658468806446707, 0.1182460232485456, -0.20376006074090758, -0.9417341118444806, 0.2903552974042789, 0.5840541847966187, 0.9813787706475852, 1.6991126685432296, -0.15866653063271774, -0.2857013659820291, -0.8845029038084616, -0.6261910296328053, -1.480118439283811, 0.03292641532498017, -0.022007388911606314, -0.32709584559900273, 3.304939365594856, 2.4062498953448817, -2.489466376911918, -0.8301486170469261, 1.111204652836913, 0.931509263422267, 0.5298465943847728}, {0.9618931242193045, -0.4417025655264494, -0.7613244660083132, 0.7659993841664121, 0.45733045751475476, -0.424002062621977, 0.3490702289664171, 0.3196692224606957, 0.9690323005301217, 8.072593553571184E-4, -0.9679354954046799, 0.2598899118997089, -0.7257497633083785, 0.917457412409493, -0.7806803221793528, 0.9296156729457449, -0.2616022326144762, -0.4996074328647322, -1.6996647903349056, -0.2645086875405419, 0.0846559424539226, -0.1701360557119931, -0.2458447201519537, -0.20572068605053448, 0.2637883245993277, -0.32231605533415775, 0.26758533047313704, -0.8430355277939561, 0.02780214952982893, -0.8718729534068224, -0.25695922773288316, -0.019811491721478773, 0.26861071403054665, -0.33185432066394305, -1.0996580778949836, 0.5511226234816635, -0.6595190160370795, 2.544146488841439, -0.0872009575142767, 0.9042336192530311}, {-0.7027485844624168, 2.4887269419934968, 0.04126620387448266, -0.5634177847241246, -0.037899609406243644, 0.11244635232464228, -0.3704694363574139, -0.19727706873093928, -0.04414696883626812, -0.21459139925006587, -0.027008489059496, 0.01824159048219065, -0.6822226493516113, 0.4153855739404839, 11.085093568343517, 0.3790099830474849, 0.9514312581652953, 0.9736841807109915, 0.29614650633817075, 0.4158756392180458, -1.3502576224395728, -0.8087076162487827, 0.4946205733324007, -0.18535610487144916, -0.06227806123621926, -0.5157482066968326, 1.4686292099283504, 0.4401912311691416, 0.6278054848862529, -0.5631345297344652, 0.09793696233713457, 0.35537334398872344, -0.15335049981785742, -0.6611624515891168, -0.8983184912156094, 0.3703974501581162, -0.08036970140253263, 0.2691585289313798, 0.8445913343663576, 0.7212568254996253}, {0.27600181064742046, 0.5236981159149179, 0.10314964224124634, -0.8192521621139623, 0.05246979607486416, 0.8275830429323312, 0.2069985313777114, -0.2751878608115278, -1.7332435638650276, -0.6433505092411886, 0.011253153835931881, -0.48607105096241265, 0.7085862446999645, -0.9107827807084288, 0.5137543075430867, 0.0021854397523842135, 0.05929136358752203, -0.7942459218453568, 0.5154291367231338, 0.548455872360265, -0.9513445191932752, -0.7064209987305485, 0.5247341891143886, -0.49686479355776214, -0.146438045245471, -0.4824059852649223, 0.5656756030731251, 0.14236587593506123, -0.8822522037330455, -1.0804676268766553, 0.9352918417086604, -0.5887770952990188, 0.3707676595250576, 0.10173360655634678, 0.04139995929005046, 0.05777957248533405, -0.7584441032071032, -0.1858550615747998, -0.7106696946277142, -0.13074338914703354}, {0.3885203283587351, -0.21343924113938587, 0.005205207756860063, -0.9504340900374969, 1.6628107858564751, 0.1847308515445425, -0.57755103200126, -0.44947982612936355, 0.28766909969044807, -4.447263547481428, 0.12206071710845978, -0.7107715522157625, -0.2525601819855345, 0.10866733925169725, -0.8587064660511387, 0.020123035331803825, 0.3110017101696168, 0.2719377548882398, -0.3823694404703213, 0.2535305351785642, -1.0731740249187913, -0.8196431842183599, 0.8412618136597982, 0.7360611123327012, -0.6840630022654636, -1.2147268199001398, -0.1900440006155415, -0.383068907444603, 0.4382324494612939, 0.16695355040194015, 0.11281821631905009, -0.7096861131713812, -0.42463603190145727, 0.9300623395217776, -0.5907200741720497, -0.6858041976545155, -0.45708607222686276, 0.24012914796901103, -0.2746743621188479, 0.20011448245381902}, {0.5315671325445925, -0.6593795218788866, -0.13094995338271054, -0.03797012158468175, 0.7299570267356668, -0.4610264884519401, 0.04599927408865578, -0.29776437778315823, -0.701189740836978, 0.44496739254377005, 0.6580893442524001, -0.781676041791164, 0.07664597142847691, -0.6811251695340603, -0.3260173645170191, 0.6167529464828965, 1.3796386557168316, -0.21434408190091747, -0.5320938137103741, 0.6748146884939459, 0.49138120575831307, 0.773218933608674, -1.1355937409547743, 0.8019375926200689, -0.2910749327821811, 0.2319442259303708, -0.0030967766513402147, -0.32324100457271016, -1.6720854162493164, 0.5163942876779815, 0.5062809806745419, -0.7395869453281659, 0.8085769207912759, 0.7829716018638304, -0.914773286234172, -0.44433077081294536, -0.3028692356395397, 0.08403248724160477, -0.11481501726418676, 0.28841154219469817}, {-0.4253043209721734, -0.8536927158173773, 0.10755152508291355, 0.4859367960524428, -0.15132899927091517, -1.1222227724342648, 0.2980276487755835, 0.34871867974058834, 0.2591560500285721, 0.6622343942884927, 0.7109642688054392, 0.64747986724337, 0.7436377779817107, 0.7258344685986384, 0.13146753654681392, -0.32339917016754116, 0.1447803716956093, 0.3807987658482326, 0.9481501295079662, 0.5807155237607338, -0.602413905451047, 0.8733444903922736, 0.0354691888040346, 0.7905589468420313, -0.859805022722369, 0.61259314145566, 0.8758363757210488, 0.9307186401075318, 0.27422684813884446, -0.9803489945777173, -0.4272338427189699, 0.001622303744883036, 0.9929659872309964, -0.10398984147226642, 0.3906816940949293, -0.12006327584951726, 0.8337845847796164, 0.4997746889702943, 0.14980268428941623, -0.4025951785523698}};
+        System.arraycopy(flatten(new double[][]{{-0.6531561386317521, 0.6875023981509623, 0.018994406513130786, 0.03204535743485026, 0.5227810409609226, -0.7964212000745376, -0.1621612150668116, -0.1719635140091778, 0.8096178154836247, 0.43000781988156955, -0.08897481656444295, 0.47435368902314634, 0.8254208081237773, -0.6406518669537302, -0.7800777793245925, -1.1828043339297167, -0.6968991339758812, -0.8503393725274504, 0.4721540844423282, -0.0029366168371230323, 1.411123269384408, -0.9236116320385734, 0.09340212948423025, -0.6514126930724413, 0.19914402104109094, -0.15003688977131452, 0.29351845040732955, 0.8274955642995447, -0.14740910690054693, 0.839821729552942, 1.2756564536065327, -1.6105419060988515, -0.3299832782426606, 0.20097102570687592, 0.44579334713103935, 0.1734046527917758, -0.11468709757117655, -0.9534149758944248, 0.034050034902474074, 0.07021640867637131, -0.23464164458320913, 0.8951372423824263, -0.8337688676347542, 0.6897686754532175, 0.9953371574515999, 0.04836301157636934, -0.6393359929009883, -0.01946477588570272, 0.780268083650236, 0.22301487839077527, -0.13213684549524718, -0.7357933772085317, 0.9456477515826216, -0.053843099704225024, -0.8364903004861282, 0.06950214652424025, -0.25551068193270976, 0.2210100441313167, -0.30538545888779023, 0.8347899833058998, 0.12084227303349326, -0.3689294851094956, 0.13020897245228547, 0.5686912246863751, 0.9210966143827262, 0.7272373071474894, 0.3906860159590573, -1.1562566641406324, -0.4714110447407283, 0.34631037173229307, -0.6334992883760697, 0.38947495286475253}, {-0.09255071237855939, 0.1983963848338901, -0.07174543388190757, -0.4375308242572298, 0.28353015660795355, 0.007213120473930372, -0.023323905728533215, -0.6835857563546812, 0.527499230699976, 0.49914618665015176, 0.570168556705219, -0.2227727102121623, -0.0021742619426456363, 0.6788866152002662, 0.5650039815531642, -0.36818533802631337, -0.10411903831505485, 1.6775295579504876, -0.17545029159747205, -0.6703563543065918, -1.3941512221362695, 0.010690363817808237, 1.5231085733291962, 0.5809543933482455, 0.36105178257078663, 0.21080684709437705, -0.836267473916702, -0.326021441704585, 0.6655478492913542, 0.26248935956322994, -0.17898544050788256, 0.4127919269053473, 1.1100327003894852, 0.4247466379163156, -1.0534425579020301, 0.7322848974423937, -0.408712124305467, -0.01800504603779757, 0.06193593189019082, 1.2236863294076574, -0.8357289698576851, -0.8872500279825428, 0.8951871975459695, -0.3632077182262039, 0.0986297864173896, -2.1136633256059148E-5, 0.5622821315470279, 0.3740863388417879, 0.25531669202779284, 0.7913871132043162, -0.1667909890339668, -1.6830651037642606, -0.11171322571487985, 0.5076165703764619, 0.25439300055799174, -1.5646272071712017, -0.11772004839668475, 0.0846396184889642, 0.9372852352948449, -0.37686830425055073, -0.05821527709748577, 0.1563943231012861, 0.8015653408954773, -0.1982451471677753, 0.04502332545785671, -0.005993198464168781, -0.5438419176858011, -0.016604226985115135, 0.2606368765539122, 0.9060234701290063, 0.4612811816411211, -0.7632309911858727}, {0.1348555345535727, 0.3451918200972317, -0.4831964422132087, 0.02141969073783458, -0.4352303324255786, -0.22241966734643492, -0.38524972453272066, 0.4232908302422047, 0.5467487955666581, -0.7712711781476143, -0.44594114101838156, 0.6069665238356241, -0.20008358339495858, 0.27446849442435883, 0.3919740534483611, -0.052990171306719624, 0.09176488182755847, 0.13696248855344706, -0.0684456717026436, -0.6420608838564164, -0.39923044102192307, -0.5846202274033507, -0.2844776702895204, -1.6946426084910757, -0.6330394646044788, 0.9222562392535416, -0.5089955818012922, -0.5932554171218889, 1.890700400936303, -0.7447495006877956, -1.188551780863016, -1.4703859446634826, 0.6652867196530525, 0.9299684338854385, -0.7905118776109412, -1.6133448456016712, 0.15273679141048582, 0.44465320326597735, 0.031959292502527256, -0.0662510173107822, 0.0856820023604501, -0.23573869622690347, 0.1936121791354155, 0.4180224831229271, 0.3573382909727587, -0.7543636899010622, -0.8296809790584887, -0.5482161809836952, 0.74884026897717, 0.787961418854882, -0.8639574054984869, 0.45973511241815246, -0.5479313965607584, -0.08909210413753321, -0.05785822464545451, 0.8633728646596697, -1.9169540677000527, -0.8352204065206448, -0.39202520054307155, 0.04332431729078645, -1.2278559321026075, 0.6810255207237863, 0.8742544574601314, 0.4820338617013896, 0.842750279923784, 0.46700889216551444, 0.031183245851402752, -0.28389474292043637, -1.1559308514170576, -0.41941367542401986, -0.43397209614211135, 0.63545349633952}, {0.6874565472420779, -0.04919151543906941, -0.34992491852659785, -1.636900274265627, -0.9748379357609878, -0.5670983349430188, -0.034271651648607515, -0.34489105923327945, -0.01570549563158582, -0.4135715511639199, -0.19086692630742472, -0.7091966377131858, -0.5361830665523011, 0.9778743239754091, 0.46710654304787624, -0.7463572197357777, -0.9347878011451178, 0.20855615701145067, -0.5040735992485736, -0.21455125419908527, 0.757459270186188, -0.046044780041374085, -0.6636114093191572, -0.06898190311279441, -0.5227359652679132, 0.02523605470031609, -0.9681969165363637, -0.28088690035955133, 0.7292178755229644, -0.48904809234844526, -0.38479217054665926, 0.05394359111221735, 1.5394697955338776, -0.2711133441667162, 0.11139873462280359, 0.36068723148086557, -0.15327267822753576, 0.058518680979666504, -0.9466531914446665, -0.08054939240977353, 0.007307709938588401, 0.2703875271299957, 1.0304063070099458, 0.3640129279709386, -0.11434210978655229, -0.1879234069945728, 0.5534408026448114, -0.72079341631194, 0.6850929650207477, 0.47582732276751444, 0.6923854678254682, -0.18947645885817055, 0.5937535615329277, 0.9359711902869305, 0.5865425425667298, 0.6454942135127413, 0.446070118587623, 0.1624129590432175, -0.2476661992009473, 0.6699544685415177, 0.2585967427349469, 1.2308813688311133, -0.8926005429342065, 0.37750796633145645, 0.6612024024293963, 0.4073717507641934, 0.7137956994946382, -0.763229189744127, 0.7783484245871322, -0.8726209225529067, -0.5436042223379196, -0.6522471473159575}, {-0.8959637736868736, -0.10562825760417592, 0.2832881880103777, 0.26643750183580883, -1.576721995689987, 0.7429530215506563, -0.01708237314643186, -0.7620305465781239, -0.5321496348588337, -0.4037749167887029, 0.03592668645701178, 0.34474755225757914, -0.25189372010981503, -0.18004562337485952, -0.9611927658641164, -0.46994838379551207, -0.04494041074843591, -0.02934487760667001, -0.37994812216439017, -0.12783890324608205, -0.9623875247232039, 0.915542727862622, 0.3861684787458212, -0.08043835081312506, -0.03840858848182584, 0.9640506858765251, 0.34368225958891063, 0.17249598573758806, -0.10810385278295996, 0.7751050443095164, -0.7454706932051554, -0.08469944078500613, -0.14667386877926403, -0.20261590869097262, 0.20629899174810995, -0.6662171677553674, 0.541477946821637, -0.1161493716319697, -0.30447755188849324, -2.054514471259899, -0.023586194253828685, 0.41826989603766607, -0.06345970250768525, -1.360739440197594, -0.6510573380088434, 0.26873017783653125, 8.812132739576646E-6, 1.9157550793653804, 0.5282723265774758, -0.5144898248054048, 0.16507227329627083, 0.927097560082899, -0.8954335121834514, 1.5481750740355071, 0.8244056735921321, 0.84982840465333, 0.5019984475998829, 0.8089727480348179, 0.6287923564042819, 0.02472484899012005, -0.013428698452081077, 0.1521994938078488, 0.7204990778947784, -0.37444322021880133, -1.0099462551150251, -0.8721460591199003, -0.18072511330303764, -0.4762774644190343, 0.29512856323122194, -0.12364193324296036, 0.11092561971905934, 0.08797039349010645}, {-0.04094975652299134, -0.4143494573782194, -0.27824034537970554, 0.6249270297180975, 0.8049554761356217, 0.06454514937370644, -0.36479695451774546, 0.10488298210299613, 1.9884373304783198, -0.08147054163056511, 0.8010751350521772, 0.887789178717137, -0.06881635479183346, -0.47816717006365317, 0.49890428616681937, -0.019345443091471563, -1.1764572277689773, 0.63585297154375, 0.6047662494091816, -0.1439000816146464, -0.0021842008935585378, -0.40092009664425327, 0.8278661652193805, 0.03358771747939767, -0.029528668366391342, -0.9652933556216514, -0.2582954404970439, -0.2673581342109013, 0.9222087767408613, -0.8387168695368581, 0.06983102596210783, 1.4386057668760186, -1.1130676230215142, -0.18744715716181948, 0.6119155824666269, -0.39418842478974647, 0.4884604701455506, 0.22802965981791767, 0.5450981974855116, -0.0023543994528200094, 0.08151838819969645, -0.5424241103931898, 0.6891456090837489, 0.23460885681535126, -1.01273875183226, 0.8048104941016653, -0.2917553227658647, -0.1345225346248386, -0.9433880644044235, -0.37901198422345006, -0.982512059484159, -0.24634588979551997, -0.45143800688279784, 0.001730064750827593, 0.022713921130978434, 0.021132371391647326, -0.32253962831891264, 0.16391880837907125, -0.11486453299039945, -0.8363610866325406, 0.7307623296490668, 0.02105378463899006, -0.5304211817145681, -0.0447907119726878, -0.07026416024460001, 0.031887834515765406, -0.9753455017294658, 0.025664648552763847, 0.9111731498404532, 0.8975806149560671, -0.002770437156269643, 0.21076451980934907}, {-0.4906252656812677, -0.9783200753011829, -0.8547968874536942, 0.015622249407678996, 1.4771461863932134, 0.2177144010645348, -0.3258391737976738, 2.325289944790118, -0.12739654963344127, 0.012882096964901188, 0.020565740439296022, -3.1968388080533257, -0.006829852874221643, -1.388934151657054, -0.13234466872025807, 0.5229568408254435, 0.16943122054606996, 0.048885971384495575, 0.043201328032112185, -0.04458193244228714, 0.6734188995267005, -1.2673403746783667, 0.2842241644110199, 0.005102801475755221, -0.14541817900191625, 0.846396187112954, -0.9995100555541356, -0.5284427226809805, 0.7517191718833758, 0.2001474726594533, 0.001978046763587482, -0.01001982607084802, -1.0300342856445808, -0.004074874512821324, -0.13928595529981158, -2.5088881500819027, -0.060675848436267076, -0.5086458931023758, -0.41982637179128823, 0.01749896896513059, -0.032525147190332455, -0.8730030514667555, 0.8142266014209394, -0.3752825423811881, 0.17081381250041505, -0.7591999233053233, -0.13843986916179588, 0.4346467425960796, -0.2735435696880869, -0.7254309219722994, -0.4331138916746884, 0.01984260729180927, -0.02023690465559605, -0.325585638426082, 0.00310197103935639, 0.6896275985112776, -0.43480888528515277, 0.21823237980879032, -0.5338223026843474, 0.43833517152148804, 0.8434756223679085, 0.8434955258328269, 0.5807881928483964, -0.307183161570619, 0.6045989462028922, -0.15877502124817178, 1.16955718058525, -0.7286099040027783, 0.3487343518446948, -0.02441484316707634, -0.8618763043880102, -0.6810911403362994}, {-0.46687480368021606, 0.8222314563714649, -0.34891799241010957, -0.6356465268579645, -0.1348841914475323, 0.468712737068634, 0.2913134173534304, 0.6411915699934125, 0.016176319150695603, -0.08947142449976661, -1.359440533124621, -0.15914764192724773, 0.851389946586349, 0.24865093062315866, 0.2706401209706135, 0.8281714857311084, -0.19295127225925768, 0.6976474999597817, 0.19932680331262165, 0.8565239472844768, 0.39143669859269026, -0.5575102618468135, -0.33296395956194774, 0.7534035039600899, -0.011069056961720556, 0.7843333756138458, 0.6101191748750578, -0.9345774034958922, -0.12111364516505309, 0.16224732066293093, 0.2873589762532181, 0.5123474021885672, -0.016332835801473506, 0.15821174707215835, -0.11220119382581362, -0.14852299673735825, -0.017793497867797315, 0.34760710372714976, -0.09379552346596065, -0.011430825921604493, 0.6321803996562304, 0.7657155493381766, -0.725277946682895, 1.0661317677614015, 0.38140789903472094, -0.33632755974826234, 0.1158997532189908, -1.106313058295884, 0.09270471011274277, 0.25660532702404115, -0.08868170144549681, 0.16984157448762982, 0.2299127145773754, 0.28369557352981756, -0.025212684840858885, -0.987259359411746, -0.11234230692139069, 1.2613438103577943, 1.0290299355923, -1.3978001428122662, -0.08735593049558697, 0.6770418985322288, 0.03437887227394732, -0.4704707583241843, -0.6509230809698328, -0.73647417512825, 0.12812149074349488, -0.727051548149886, 0.33462695495634986, -0.5358213123887476, 1.0507086056999517, 0.4773653894909814}, {0.4123145063992373, 0.06522832961705266, 0.5093757846044111, 0.08441193592494534, 1.507431697175023, -0.8743855311904705, 0.8605691465085421, 0.7270443399118862, -0.1401557854371678, -0.4266946184845093, -0.6046002365286647, -0.21246133847595627, -1.1493443954088565, -0.32685212172061373, 0.6463584036581553, 0.04935270443205503, 1.3961856524929965, -0.16366793478053168, 0.2423986039953714, 0.8290021584725153, 0.5960579036143261, -0.14445804795564454, 0.6245757519522954, 0.7811184532086579, 0.23447318549922008, -1.1097793199744324, -0.4500119616966036, -0.22460173253226168, 0.07414239775047915, -0.07386690476209821, -0.8523969145671266, 0.020801609707084667, -0.8160085536489953, -0.23317963247740833, -0.3206460209025326, -0.26992539856710346, -0.025425118267012145, 1.4052288753136926, 0.8431113876403584, 0.9849503441319534, -0.25556825596833765, 0.03779457194954983, -0.5679810590998758, -0.8450485221732744, -0.015915825074526043, 0.7025180252455616, 0.14661509603255118, -0.05823039311800647, -8.179385162889393E-6, -0.2808214694503735, 0.024373912012677225, 0.9318738500390804, 0.3723810931535021, 0.4823932502016477, 0.5144526379042063, 0.5501117925056194, 0.811922574114879, -0.803305543064869, 0.5921206379742878, -0.24639930514899389, 0.7100303554439547, -0.43674779850483025, -0.3613008253531175, 0.3124737983427657, 8.643838383668445E-4, -0.16585012074526356, 0.7766715129832527, 0.20069486403788517, -0.5810454099088831, -0.3505782837787026, 0.7945073435747263, -0.7322882736988225}, {0.35993961756697357, -0.406486934740701, 0.23849407717933535, -0.793560212142646, 0.11135706574035592, -0.8710098142354055, 0.2096304613192444, 0.7131246791924714, 0.6068583299569847, -0.4102080316518655, 0.35446542115586044, 0.10560382161272125, -0.03575761073344695, -0.0404089591014003, 0.4247089477527602, -0.6696973575987317, -0.0010853366753705402, 0.1100339034331197, 0.16995808635116783, 0.6971467868925425, -0.09665710540632874, -0.9081124088110666, -0.02464179634428132, 0.2684148577403981, -0.037015153058619264, -0.02684720907054861, -0.8863517498553154, 0.28852329585108216, -0.06912736620645799, 0.2958546623412508, -2.499515473954849, -0.6319710554614251, 0.46650698653173084, 0.794700154120834, 0.14352831046659634, 0.1507179057724089, 0.019458690274462426, 0.11380277674610963, -0.6428059422501202, 0.06211361659157065, -0.7394463008486116, 0.20763260746869383, -1.2805592115272564, 0.04600705645441781, 0.4291884790298248, -0.2648782395418433, -0.12740307287060215, -0.19273439800820152, 0.4729116381589942, 0.6448443549550862, -0.638660298689301, -0.7964896864109849, 0.9524161192686036, 0.5508969283149212, 0.11162477634218115, -0.015243182425110913, 0.20196486681870573, 0.9247623278172317, -0.6058728539004041, -0.9018924335596141, 0.3106969638453694, 1.6086306169287667, 0.1157252448633178, -0.8144210939927277, -0.7190094675367531, 0.160380776773406, 0.005522259152164335, -0.3095586512337323, 0.040712558918078776, -0.7418370406989552, -0.8505900902068892, 0.4532982218416315}, {-1.261324565658783, 0.06126719216344089, 0.0676508394705511, 0.0794160544073319, -0.11214382076620377, 0.028954996697759815, -0.8432721436807094, 0.036561825098794465, 0.0028805623207448505, 0.5391974859369191, 0.30954792746668186, 0.5859171857151059, 0.49708593670968493, 0.25211136478108476, -0.057416710341469196, -0.02938795438302222, -0.11979404289079731, -0.41787333925506265, -0.9231262278820742, -0.2802293479066313, -0.0335020195998704, -0.28739772564632954, -0.48879868114601877, -0.30205504966621777, -0.5039584086948252, -0.10922946080201776, -0.11852349260920066, 0.2946638086137243, -0.1870579327543512, 0.0031125726343608864, 0.7999986219445032, 0.30341026613723887, 0.5073699410839856, 0.40445148020617516, -0.813376300378496, 1.2919598934276453, -0.7413916356185263, -0.1653004465710445, -0.07608714875569707, -0.44042346186422565, -0.7521500314358283, -0.3228473424690302, 0.5000164084869712, 0.7154210371104834, 0.7955015483241505, -0.5459523990531686, -0.6557578037955556, 0.5636226485458165, 0.6811457433835041, -0.3701909583222555, 0.5764957334223184, -0.059729541862026725, -0.2741134715359388, 0.09043345901947109, -0.3274873947707173, -0.23939810999050096, -0.0867133097894479, -0.5482434568426884, 0.31994877139026107, 0.1354666550530308, 0.2054870068472587, -0.8452245831923824, -0.02016439405623336, 0.21006782859664042, -1.0055032294780697, 0.3282833066657742, 0.6756487947911082, -0.24934555377846795, -0.9985168095081544, 0.033227224044722226, -0.8793331990064507, -0.669727426266739}, {0.09042551618337277, -3.214438810409378, 0.11675220373265766, -0.4204057650070663, -0.23125369228730341, -1.4102050875172991, 0.7002106366201188, -0.11150048337121596, 0.1840516590474992, 0.02253891571263809, -0.4054800467318491, 0.9655382300927324, 1.22268502025364, -0.8882026852099241, 0.2670483926883603, -0.7736116136482838, -0.9594579770189589, 0.004280080788391495, 0.12944528848890768, 0.25841830427447143, 0.7870865049245572, -0.15363808539951648, 0.24855008132952383, 0.8545105676037873, 0.30877371936202724, -1.309190499349882, -0.7713640598269194, -0.04349163818089459, 0.8679569988152223, -0.722210133656318, -0.3437329579210129, 0.5543212411953327, 1.3016438945017759, -0.013169196384634582, 0.5264731781433325, 0.5013411719963523, -1.5681823497866823, 0.5427309761715029, 0.33750911471499445, 0.4247177091805683, -0.14805817550094308, 0.8382334727732974, -0.3508158902098939, 1.4168271051778374, -0.22614575820198635, 0.14191272586908482, 0.7037537148622051, 0.5502399273993501, -0.40294988692806527, 0.21212542241333274, 1.047277518975881, 0.2271584198134467, 1.1188263907092706, 0.2239349970644466, 0.5511963215235387, 0.17310880958602276, 0.3164494848533834, 1.0295826292584112, 0.10531765962954123, -0.06212652419181278, 0.4211318363242149, 0.24118669954582272, 1.236195992143161, -0.25905583659419446, -0.21416111550310957, -1.7542020652303447, 1.6734669119592647, -0.5408233748402946, 0.6152889283959102, 0.05917690517176075, -0.8145641970929571, -0.7405669931427921}, {0.5550562739729368, 1.0532636544966, 1.7146852490207227, -0.7175707181456263, -0.007090236950399564, 0.4771280642899045, 0.6745910237031041, -0.02274733301557963, 0.43224935247099094, 0.21615401413469626, -0.48026257317918786, 0.0029360771066116436, -0.002175712393702233, 0.035264008045721607, -0.01089698951356198, 0.05616628043060472, -0.6693827254864818, 0.35099367862920894, 0.1485339805585959, 0.022306152480352805, 0.9306015746828319, 0.9028788199429196, -0.1147228082341174, 0.628698495825319, -0.6601976544634662, 0.9005365815280737, -0.5248238132277274, 0.4191254504706996, -0.9206105528692574, 0.7132040124713637, -0.058854605775654045, -0.2005578465649843, 0.1772111974809194, 1.8297220580985687, 0.910000951622923, -0.7015266791525951, -0.9244978356231413, 0.8080334856716309, -0.5229464855307988, 0.10895480435615051, 0.16909139831422076, 0.28166897907476485, 0.4342867603093526, -1.1932556810756423, 0.3752299059145354, -1.2026206674273763, -0.04093676001986202, -1.3625930132728559, 0.5317785985123176, 0.6964745119468658, -0.727399662957007, 0.31171286835089473, 0.004592415304675986, 0.2716028315746301, 0.3420403914107931, 0.008928423822869513, 0.6414153323586007, 0.07261952471234873, 0.42373053218645557, 1.2388512799538218, 0.414891449685171, 0.5715695288750406, -0.6938859166184881, -0.4841260360087958, -0.6757759348990183, -0.9430188577821645, -1.9933432446297574, 0.3496890700765062, 0.6247102421509638, -0.9397905709747854, 0.8823642225200616, 0.5149758767864994}, {-0.7775078963326323, 0.16679994734826176, -0.030994904234874984, -0.9546284276190298, -0.023655616971825166, 0.21760767681835583, -0.5997926418121518, -0.2467369748494912, 0.2851950340586522, -0.8097367958671237, 1.2139988352872262, -0.9379492263790246, 0.004491742235091841, -0.11641161312266035, -0.5932738744772728, -0.10267022395840036, -0.8558934595513221, 0.1365821479712202, 0.5272200335823956, -0.0629895782145886, -0.8064740504813634, -0.15749487759454953, -6.764555805096844E-6, 0.175021608906102, 0.08349186494050144, -0.17728895624650415, 0.6847759746172817, 0.896403168348819, -0.7284136553483358, 0.2186021761753394, 0.2504701275176793, 0.3452145421278045, 0.010600440190495905, -0.17796212781709064, -0.14484453333376757, -0.3546398206813777, -0.993387597722508, 0.03004139375183041, 0.4225853096693899, -0.33497028098123316, 0.7238140280677189, -0.017949869862651582, -0.18978569229383888, -1.107706525921419, 0.3263360027472748, 0.15947690790669108, 0.29953774713177683, -0.12928283180165182, -0.5278434181387517, -0.9992471683081864, -0.8793243899084864, -0.80775192967414, -0.14695604138225746, 0.40637392296738395, 0.0018706509458072498, 0.0017269448602490966, 0.12766133182393768, -0.5457070183122827, -0.5148337375606185, 0.37458801734389463, -1.6813891280478737, -0.615870051892677, -0.8274075603403315, 0.5216840176167692, 1.008853885402701, -0.168430018759558, 0.13580883011156228, -0.6666596603665966, 0.08866739419513976, 0.26211047358344125, 0.27684237817869217, -0.12575568775998303}, {-0.4751936318497423, 1.4831325568944629, 0.010947258633906332, 0.7713104133543115, -0.46717802765748034, 0.9397779338274586, -0.22128556788815268, 0.0772469974379506, -0.5339256918439506, 0.6197182790587136, 0.4063334756105812, 0.22855902381613902, 0.08653091095191301, 0.1017192670944567, 0.21261809444670454, -1.6776574211546178, -2.221025156646065E-4, 0.17603421931246566, 0.8861784100247274, -0.020375824010683524, -0.9523052166839279, 0.051298882775866694, 0.34908973010957717, -0.4748823573382026, 0.5136613641543553, 0.7099357035836731, 0.8524041181178821, -0.7375324913260319, -0.15171060972253292, 0.2515274576165272, -0.013645574201618793, 0.6486341355142193, -0.08700194607211609, 0.5619751159390995, 0.2846797801483718, -0.6714657683262066, -3.135459308998155E-4, -0.21664745945171693, -0.014655733950323978, -1.5721944841490452, -0.7718651433617052, -0.7048519041757608, 0.2029723113664823, 0.8363083224671054, 0.12992092650223963, 0.5066683065600355, -0.15404318051736493, 0.5030416740994976, -0.7532350006980617, 0.0015977041683522925, -0.2475896078868144, -0.5018815981364617, 0.9260655080016287, 3.52580266384426E-5, -0.6374902837060643, 0.7453447115910806, 0.15626175750155613, -0.14074362882750813, 1.129751430976222, -0.15819110128242703, -0.9790914814272316, -0.2118510213042999, -0.33463806825033804, 0.7849275047366016, -0.6632273892026054, -0.23433721012109388, 0.8304492306497224, -0.3839810857422725, 0.24631019174195257, 0.7887183009992702, -0.7551255759753188, -0.6536299805663044}, {0.7325654338520649, 0.132568969356897, 0.3511995357991613, -0.06945603156222149, -0.033242096013391106, 0.4647906469284313, 0.4709207532187325, 1.2111768053544008, -0.6797007002124908, -0.924010269064182, 0.010126285105397764, 0.7639570087167011, 0.534959114154137, 0.6677785469603286, -1.4013485206452447, -0.43462017923932295, -0.5167363926032877, 0.29737545292828543, -0.315543420058444, 0.291782100945579, -0.37846163680317174, -0.2109365411662727, 0.1468212047867629, -0.3911902963110873, -1.3390285888587439, 0.009650516378457824, 0.04981565967659665, 0.43273905177675154, -0.08001535160307771, -0.27192759438084757, -0.46524418759519887, 0.49841803566141807, -0.49347443428009435, 0.8996346316160467, -0.39771060630971083, 0.637505205884412, -0.4318577718726404, -0.04734195087999214, -0.13959783071044218, 0.4440765721880626, -0.5530552657470336, -1.3075853256314531, -0.00534451875755643, -0.10390834980578116, 0.7510108784245779, 0.3465239467589729, 0.969257416949735, 0.7273888630577678, -0.3120312323772545, -0.02723498476319408, -1.5939353187384862E-4, 0.033559530088679554, 0.05658389162160948, 1.8477235672821437, 0.3971588999917097, -0.44620948270274, 0.5981703525985183, 0.017557967298854994, -0.6058244390767356, 0.07003009058134557, -0.4638391522761694, 0.8156269577057016, 0.2360436305228253, 0.0870331512882343, -0.30949237509879013, -0.12054707332025279, -0.8396877688930706, 0.4639719791994785, 0.4324622883618292, 0.013070149779128388, 0.3399751008126764, 2.503078819281271}, {0.8452785237322322, -0.20134738026457782, -0.07779729517813848, 0.3347055672061767, -0.807479903848562, 0.10804487970136442, -0.31652653311975265, -0.08854178636086552, -0.6481754883172806, 1.1842552683919276, -0.26028661111218443, 0.9661054432462679, -0.8329993911812954, -0.4360233561356115, 0.6403717314276813, -0.929449257072035, -0.08490812851580527, 0.37637373146774444, 0.6616645500629108, -0.5311353992358996, 0.44071481873932417, 0.6375896793614362, 0.972897009770769, 0.025942514414013296, -0.33618664070380827, -0.9125467255939212, -0.4515961089015501, 0.176616272379007, -0.5191132561595995, -0.23941285738096998, 2.5036617317076306, 0.2701250217251967, 0.8126607346973713, -0.09405950049494982, 0.4964917418223391, -0.3350940220688201, 0.9151814475885056, 0.6014046224794314, -0.6870077989349106, -0.06720801114309151, -0.38542328976573104, -0.2849002412191041, -0.6520741243732606, -0.08599776723285601, -0.41406254936835724, 0.3181219863631197, 0.34944436377021537, -0.853641978830084, -1.0314615012220607, -0.03776032814997299, 0.25305004542797327, -0.5871859949368186, 0.8058066398820145, -0.2597054522225598, -0.9566957293695001, -0.6194806712719783, -0.48383963918949924, 0.32984248347609624, -0.6583811102838691, -0.6758982942990814, -0.3837883980925781, -0.2196639807963736, -0.8043031049400038, -0.050015991867263215, -1.1445517903613123, 0.8192637885362772, -0.3106548710428716, 1.8142737669448417, -0.6649417534154294, -0.8176452581808561, -0.9577232780291688, -1.5059939830550886}, {-0.26310270054124296, 0.25356252837856275, -0.004095279595908541, -0.10725408038201056, -0.7419567100645379, -0.12647463926807528, -0.27733389241343465, 0.5263522325539509, 0.13615096818910377, 0.6796044782722284, 3.73274532577191, -0.09315232898127435, 0.7846979466704973, -0.24660838670630514, 0.898318665139316, 0.36173151179517754, 0.0029831038228086094, -0.41204853955622545, 0.5367557328419974, 0.9118050829541762, 0.6464648882212534, 0.7523373743145615, -0.5152741479061949, -0.36365002241698297, -0.919666098265539, -0.33616293315803975, 0.15587503128908642, -0.20504646523951478, 0.9066093832989042, 0.5435058610230585, 0.8044842568463191, 0.6889041031647569, -0.33964544990254475, 0.7224742870810508, 0.2248498219879371, 0.19088498088666506, -0.3642197052693761, -0.004008341119222578, -0.9169634280259646, -0.41597808437315287, -0.5445849338708204, -0.41070748592695533, 0.6060311589973488, 0.8787271091567765, -0.9437367602154793, -0.03548270893726353, 0.004936446659537243, 0.6032255607823788, -0.7510704390884186, 0.3401857395781759, -0.0034967775867688167, 0.69034408836482, -0.5698113767441748, -0.039156113846492646, 0.02296955137760537, -0.12048392561879556, 0.35105677750924535, 0.4256231818275294, 0.1836199033221464, -0.42302193734087035, -0.46126777345436354, 0.19649969558223623, 1.9840692140078682, 0.014629864980873375, 0.6057301251433205, 4.6074918173555E-4, -0.3108963416502647, 0.8680065230682148, 0.3801409125433546, 0.785470045244854, -0.9908593333009466, -0.9634420853060812}, {1.6355264373431747E-4, -0.02322025693377448, 0.010503317514509492, -0.3630256864205528, 0.9318561272676763, -0.43397501961514884, 0.06287146064614661, 0.20557362690049785, -0.012882872460686152, 0.7555956615036987, 0.1485127601717299, 0.25194589030917225, 0.974992264541138, 0.9236255372390766, 0.7734670257330434, -0.10438162460882668, 0.02027394495561066, -0.020308492236864373, -0.2842253282489122, -0.933747611541418, 0.22750164756406988, 0.6487706119183867, -0.4237160692450324, -0.2234622418316238, 0.8140931349002607, 0.3415036477814961, -1.3085820325065363, -0.010548433059777875, -0.16252808218601356, -0.24450379065529226, 0.1233158719783145, -0.12105581800447296, -0.2781523511160393, -0.9215399218544912, -0.6314957800808882, -0.3548440962901743, -0.6758900472324323, -0.6117459033407644, 0.5744873641108232, -0.4576432500690455, -0.5932081495185364, -0.7121952838207268, -0.45509834712707176, 0.6382207300826588, -0.011525593820927549, 0.8867108403458857, -0.8024219679375997, 0.13689481636413703, -0.030978276923777637, 0.3342240792268798, 0.006150172101276795, 0.34514287007196187, -0.40863672666282075, 0.9240542513541479, -0.18808616819957916, -0.29233844278402543, 0.3332236727564737, -0.18375823898045682, -0.6874359738337292, -0.7262110498829306, -0.6565133105453009, -0.484342299542228, -0.4080743889558329, 0.9161913397986985, -0.08811712047752529, -0.09440607720394145, -0.5996856977117964, 0.4543030430524668, 0.6270576527528242, -0.2368866248389066, 0.026282376620279914, -0.15021022054380231}, {0.302766878161893, 0.18836678020331288, 0.005305540717660984, -0.1335619945456452, -0.7174028697844186, -0.43585830666907355, 0.005819221564100386, 0.850273816593085, 0.27836773552931726, 0.0696944394460588, -0.2370148011749708, -0.3708757823223807, -0.3858227861791217, -0.38269834054844654, -0.4902096962880689, 0.7608563524944361, 0.22801766694395953, 0.8945905923639541, -0.2741474951003682, -0.9959554130711266, -0.8945070445385992, 0.2614904440563184, -0.8508389499565021, -0.10521766681629696, -0.1740875878603787, -0.0714162860765472, -0.9513522906469611, -0.45751786216661183, 0.44796441033818213, -0.3988121290071177, -0.8176742619248614, 1.4502007495553888, 0.7740892888435129, 0.4171553084728536, -0.1041787147199561, 0.0611047135611307, 0.959446164716911, 0.9389067292608699, 1.9988104172637653, -0.3339127884337985, 0.7261970798219224, 0.3309277622614762, -0.10254681765467547, -0.2091290269443991, -1.1658496655640895, -0.6767390012517542, 0.033940845917835305, -0.9429625090253417, -0.24581833809917453, -0.3780356425570366, 0.9896419047881029, 0.9589494375810975, -1.9680326573051459, 0.5024650998079712, 0.02262589896954248, 0.2435378871721574, 0.1877272819539906, 0.5260271275569406, 0.4104597157341424, 0.04651770168574293, -0.14050961549529806, 0.06430425433619937, -0.0041604370738745795, -0.2693584117932382, -0.1853257283049794, 0.22057615665761957, -0.7892157411245124, -0.4443378342949831, -1.8203117698910338, 3.2362385114151584, 0.1453610615349206, -0.15030497598501197}, {-0.5668954229942642, -0.8000588250518422, -1.0677895676775815, -0.1638906607396895, 0.013064046342045412, 0.16066236053251215, 0.39140100938171507, 0.9035428347798209, -0.9541135783895864, 0.06042377986864156, -0.5229049175327108, 0.13181356435812677, -0.02445297781537466, -0.5447525024781056, -0.6802156750623043, 1.4041616928172853, -0.7119806395402573, -0.27850950894693605, -0.5046879510469597, 0.03383047620008323, -0.462821349405552, -0.21256722819827625, -0.06994304845071864, 0.21683118569463714, -0.03753775223653277, -0.17588786451147076, 0.3004045970963247, -0.7488126276704481, -0.142523447463478, -0.2074658996136618, 0.19390137491866932, -0.0680791076518017, -0.6006144463050789, -0.10671931003350434, -0.4814475250635426, -0.48682112690330204, -0.4619086721088207, -0.7483177445297433, 0.07303256828459159, 0.19571626575626233, -0.8601105345152122, 0.8560301728711635, -0.013526771985681973, 0.2636753621971663, -0.27096793637757033, 0.8835166266066719, 1.8647443454773618, -0.4114761557353699, 0.07436227255243741, 0.14448553046090964, -0.43603568197281817, -0.14467611045126727, -0.05297298723285568, 0.047710980957987294, 0.33532444211939105, 0.9872963523040181, -0.47405168754047006, -0.6231577926700658, -0.7271603423966708, -0.8622602578818965, -0.9558362603820654, -0.23195989229663766, -0.11986156912700874, 0.554712936996544, 0.6042496106804446, 0.25652023439442595, 0.2363265530176848, -0.2884504329948303, -0.8022707432984009, 0.4303205677432537, 0.501501016618146, -0.36991490856878134}, {-1.3209738716408552, 0.9388091848797688, 0.06031436589436342, -0.799479626592746, 0.21315693569837468, -0.04300021267206544, -0.3416269588335654, 0.10633514190312916, -0.3973180260038043, 0.9159020814233754, -0.09756243936609432, 0.390095614792648, 0.26082816574010953, -0.9534127541359885, 0.678010568297942, 0.2988311777901227, -0.459842870326445, 0.6604901594204814, -0.9871072980659286, 0.30849631272213096, -0.16890376848005295, -0.43201701134823955, 1.3599894047712964, 0.16680088079727945, -0.2441475823840293, 0.5716805684641939, -0.1974699473218287, -0.901014671436247, -0.09130317653535204, 1.2868938989226326, 0.2910355841603527, -0.9505376159180732, 0.05261955993880639, -0.4853071932451866, -0.39763805469879165, -0.3517995808957488, -0.056797471383639435, 0.5666747233195262, 0.28575468259465114, 0.3350150277237356, 0.7386847051996199, -0.8450266189111388, 0.22746784343476925, 0.4884299446866611, 0.926857785517831, 0.007855366934428258, -1.0772337616666119, -0.12480460100184487, 0.5048609733282805, -0.6356933168273589, 0.002490988954141334, 1.1412376396219284, -0.03146671559071303, 0.0029389790364184295, -1.140807773384759, 0.07222556930427726, 0.021261812796713905, 0.011228021219641724, -0.029453223685153646, 0.27819440717686317, 0.4665588857575633, 0.6069192288991128, 0.23959817722807397, -0.24128245736498433, 0.45615364649832313, 0.034862817798843704, -0.19812367390559849, -0.35441919425196744, 0.43125169612294245, -0.8948037025091, -0.0028309948089345533, -0.04316972359260651}, {-0.8144944342151051, -0.3642157726679458, 0.14195744417982076, 0.6541609964622179, -0.5826346312434508, -0.4797543288530095, 0.5787921468504753, -0.4585036183900967, 1.0731139339564293, 0.7418550421514521, -1.1574318377428974, -0.09751219003851341, 0.0316310802861941, 0.6099500166801308, -0.15394070327271642, 0.3369777126095348, -0.08639659581308742, -0.3287687529775636, -0.4908836843927755, 0.38956019485150506, -0.44241422367877825, -0.9461007298275579, 0.939766518045327, 0.01276957630848035, -0.8209656388618349, 0.3362064154368485, 0.4924828793624174, 0.03399071810360077, 0.4165415436761566, -0.8456834363085968, 8.708640865714132, 0.0922098928361358, -0.17963498853694876, -0.16310443152480136, 0.7481979514079862, -1.1018738172307443, 0.41364171336981426, 0.378974807084583, 0.15186863900419384, 0.22156632561168463, 0.039137834100929844, 0.045485376792256726, -0.2765979015345585, 0.4066260966221256, -0.3417978967128682, -0.9859250178428982, -0.5537555408184909, 0.8928913224201769, -0.9066869015215722, -0.13035226222880492, -0.12019149575803939, -0.3191995358359474, -0.6469529618009362, 0.5513111224230234, -0.044265158139723045, 0.3400067595811429, -0.43704832235150093, 0.28104309650714976, 0.8633339210053337, -0.19803791843530533, -0.32713518999287916, 0.3463760833083285, -0.0018115426414500235, 0.5457503768673038, 0.5653524233160356, -0.37069324940196724, -0.20912877909445848, -0.4684581135140511, 0.7889159585558401, -0.009570500348950751, -0.9499769352726771, -0.5578191474849576}, {-0.0054321890226973705, 0.1614386090788551, -0.7843621626864503, 0.627048067521527, 0.1569382153015281, 1.2263356652666606, -3.6483770000294746, 0.682675013544683, -0.3916800481050522, 0.05456054421106615, -0.789245501143313, -0.8533582160609523, -0.911577719068817, 0.036939664417330945, 0.7128697096319083, 0.6281121260236968, 0.08119149639591014, 0.25715234426075195, 1.240269307008348, -0.9908490447042346, 1.1911677401085075, 0.5933251424465178, 0.7091311881123821, -1.4366678060981557, -0.13304846199106193, 0.39738127572890836, -0.004667353215721049, 0.13799042930591043, 0.08061873184927659, 0.18276707676818416, -0.6961671515623113, 0.01079896947803026, 0.6352333036660633, 0.07229737155757171, -0.8010298943551581, -0.707659185280655, -0.02702617708290445, 0.18198110045285976, -0.22956275638607612, -0.2537442813032523, 0.11637762343352977, 0.8659032713382324, -0.4039838464080589, -0.3150527057580497, 0.9756407239723235, 0.13868441801632114, -0.8354088728850975, 0.637738254904135, -0.6576588546617573, 0.08594718476302865, -0.7848050605172872, -0.5635099864193633, -0.015749591045545852, -0.0213781946520129, -0.12059994874278868, 0.14792452356347324, -0.3780397686860257, 0.5285823817539455, -0.0114061077101216, -0.6374848512505236, -0.03192692194207536, -0.4107929963268928, 0.9682947436811118, 0.3654995560666865, -0.8638040523473598, -1.06964278574143, 0.48812488722487135, -0.6262306862683418, 0.18799854516037123, 0.017507132423993488, 1.6165493225906904, -1.675980366787526}, {0.5725804640267438, 0.5988608045638342, -0.07999349479984849, 0.6322415030935613, 0.7729825031319828, 0.7821738297764051, -0.7014332120920876, -0.27699011584520705, 0.05056622174481868, -0.6478070906686817, 0.8594506711322911, 0.30746184867980375, 0.5313541643778549, -0.012062943122969644, 0.2936729676694324, -0.4627180887078746, -0.5404991066331386, 0.8066703693343316, -1.2860990366585332, 0.14338792247335586, -0.5178117336844962, -0.528676026984547, -0.004157609905306695, -0.9713223448134451, -0.9990012255339569, 0.907744378858639, 0.6364831196869867, 0.028748553805404878, -0.026490618557461376, 0.6126572822592842, 0.08140114666053869, -0.9299183654766274, 0.7093502985493585, 0.5626359328901338, 5.897364980683203E-4, -0.5375471807953667, 0.22660750394184448, 0.9263856315030985, 0.664142100286715, 0.9619657154272601, -0.22309485491925146, -0.27280184433478394, 0.1860352024862228, -0.624556993085869, 0.030153575700578163, 1.237818068340712, 0.5332682748078104, 0.6918314515455031, 0.9168020933426027, 0.2995433374350894, 0.3443663684704208, -0.5282263550845594, 0.012569720626180114, 0.12441570225304988, 0.0472897119377066, 0.5764674136890231, 0.7177130399925606, 0.6998465885678764, 0.758653000625185, 0.8723074294277535, 0.3358396328069431, 0.528363913648255, 1.3542642812935823, -0.10266735707470488, 0.16421833732432947, -0.31313914815583077, -0.04715936433163588, -0.27774516225561574, 0.710984390086645, -0.2503137251411213, -0.00401753273844096, 0.2847512494003632}, {-0.32386136196624293, 0.031214345806758415, 1.248295751722351, -0.40909394322094067, 0.2152019324662769, -0.10914913203294785, -0.07500762470564443, -0.1185219048326176, 0.07856167526407513, 0.005319471950776369, -0.8617250677605002, 0.0065604088964084095, 0.904224955309934, 0.2423070765086468, 0.1706380779500707, -0.48291397777307693, 0.08271377208956232, 0.8107129176154957, -0.26564881502107096, -0.5170732305341825, -0.03882673109792235, -0.9982889744497436, 0.08709410380130755, 0.7187603731525588, -0.33127395260450115, -0.7866178451758329, -0.2154154572024516, -0.3435151700597938, 0.3957289923235037, -0.8586875933111149, 0.08077482400540181, 0.0580783811161647, 0.037001257437666066, 0.551643700759523, -0.05266543321342998, 0.6832875243292975, 0.97638973236524, 0.5632192813571346, 0.10844914769627265, 0.08982711290207446, -3.62748068514751, -0.7805751594192651, 3.3539722749852636, 0.1756222496814194, 0.034944437282858454, -1.5227442828314044, -0.6480947428638697, 0.27490494893115874, -0.017164891051828886, 0.44671825329475845, 0.0011403742101053313, -0.44810721159538014, -1.8398448418151618, -0.6484531419116474, 0.49132569621145894, 0.6419244804585811, -0.6554429745944723, 0.9603262258105304, 0.0445982011446521, 0.08631812482842972, -0.6581403531964055, 1.0253023707080737, -0.6482577553901685, 0.745580729667713, -0.43083016618282266, 0.01764178500648045, 0.08978231873555687, 0.49829572857823434, -0.8447349633687938, -0.5691656628970941, -0.04858810618417117, 1.1286672959709572}, {0.3411515060001771, -0.03419746257799139, -0.5529910865141158, 0.0034796345640473233, -0.16782049541206678, -0.30730517051655415, 0.0021413766955968023, -1.7858539800481412, 0.02061003794829942, 0.02606856542158889, -0.1325723626021904, -0.007873447747687525, 0.6940735976893233, -0.4984273062386598, -1.1634624061491832, -0.5519910757325743, 0.34486286220980467, -0.17364861312569937, -10.306879615818254, 0.01574992496965255, -0.04886768015093024, 0.14964593726570355, 0.056004218692810984, -0.7883032306239781, 0.06579529061681487, 1.0901949791732357, -0.6101676814287029, 0.215782803968313, 0.08739065629860092, -0.7657177233861738, -0.06317314130805352, 0.6853576904251536, -0.08666524851872726, -0.11045997937288891, -0.2840355848324936, -0.26078736519752344, -0.33538365648826013, 0.48527870416751556, 0.5879114921470663, -0.6898304929913885, -0.9936527982557617, -0.3940797280080919, 0.37250673614797525, 1.2956921052445811, -0.7595792119694749, -0.9956508562080275, 0.7407008621916169, 0.9644752691500718, 0.4421013142415211, -0.024254151775625944, -1.2530323081834953, -0.870069600302778, -0.6891640589624162, 1.542446488690132, -0.7625062942591936, 0.536274047124661, 0.004465487251338546, -0.037306163173586634, -0.6743962242469117, -0.122265651810324, -0.00227595455549821, 0.49031063837940114, -0.21817952799635432, -4.54310387359958, -0.13050326922672087, 0.14321340816459793, 0.4810118664009049, 0.45887148503867614, -0.10046564596113826, -0.8184152684155794, -0.7747111234810922, -0.6479055691811317}, {0.3254201881274854, -0.2868023783807889, 0.6187921631456547, -0.3499469713477174, 1.2529837122971361, -0.19545542853013884, 0.03597023414772926, -0.8782526241783071, 0.9531284281395269, 0.06592885477585897, -0.6265585230476944, -0.6772168493881896, -0.8095708163212785, -0.7240939845871837, 0.007756861386427932, -0.08713294201567628, -0.2585201038458872, 0.4463050402903075, -0.02865195821523678, -0.7286933763901595, 0.6256157675687748, -0.45999916910354277, 0.15742411391303834, -0.9835164272866463, -0.0292154095014292, -0.20680378669693963, 0.5094011189869303, 0.9810468039858149, -0.46178106040571876, 0.2323041768045626, 0.8561489232167914, 0.39156493044961094, -0.247537649201389, 1.1335984167000452, -0.05363393647934028, 0.6772144173454973, -0.2078064175373134, 0.39948870789759283, 0.6684057690313339, -0.5684363869277977, -0.42118148476391126, 0.7327332292535749, -0.2771391811998967, 0.8920087809448582, 0.7441317609528231, 0.7477349064679543, -0.30974999541652326, -0.16425271848840572, 0.5358540494954177, -0.6462264916499452, -0.6527836065500408, -0.16264139704381306, 0.45625426933005664, -0.9191380292703937, 1.9191262574497732, -0.8287737260054846, 0.16211455989153922, 0.8809435994344099, 0.586493443458985, -0.9781599833107961, -0.9535444536098865, -0.49424977827867766, -0.7703584776174311, 7.751930405898298E-4, -0.8474892487806156, 0.48853536761682426, -1.2276586960677675E-4, -0.11614572782948507, -0.893492547533691, 0.0710473434159089, 7.066310274035628E-4, 0.3725606992508532}, {-0.17228414863295402, 0.3329357951205327, -0.2537641610022176, 0.17020827006153574, -0.02428904191577108, 9.373888349221457E-4, 1.6949131002460793, 0.39960618837320916, -0.6947944433028378, 0.7988404674801746, -0.723398472659698, -0.8579235148312272, -0.08262983991646404, -0.024362384143160522, -0.4753629106618652, -0.13535750617143277, -0.19205540118558267, -0.7362600065846177, 0.17344302799005631, -0.2665995200382587, -0.996725309018549, -0.41526248739535526, 0.8050350424529145, -0.22134284993571365, -0.07496662669963913, -0.05203150987313233, -0.7191832031531831, 0.3585157202696334, -0.6009452550269879, -0.1934712562740708, -0.006774015445116456, 0.4019009703406876, -1.0835568489064122, 0.46490725751030615, 0.9233577568800313, 1.32640799126731, -0.06674285118708631, 1.4993162607469668, 0.6675853092069064, 0.8772219510223676, -0.5589735999100374, 0.009566961876712025, -0.13423100951855807, 0.2774202410872981, -0.44142560630637195, -0.2228544458206989, -0.826972958583607, -0.3396912430419703, 0.4393127979201168, 0.3098693226330749, -0.4208228091784163, 0.5526800364451876, 0.01240684656441382, -0.47021719828774144, -0.2753575911816068, -0.7878503369654424, -0.23909997261032848, 0.2559332045380458, -0.09208908130060496, 0.8794807752571256, -0.8537349139933661, 0.36797751441077, -0.08949252211776548, 0.44211428910221917, 0.19150868269744215, -0.37241951969238984, -0.7448695972816266, -0.9994099923782878, 0.03219585180129607, -0.012047593884186695, 0.2007183679998375, -0.6510345221010261}, {-0.3860992885475485, -0.6473008589972179, -0.16717511258900666, -0.7820362483708032, -0.04931214550946373, -0.16261836592223547, 0.03686268305006105, -1.005013197704525, 0.5499542438621057, 0.2523032995193143, 0.3057498857646821, -0.13915504949634472, -0.6876230151496506, -0.9452396444218352, -0.2977022479593052, 0.432853076266666, 0.005290309966179201, 0.09527566189438334, 0.20788186255330388, -0.022382005087336454, -0.33858973573111484, -0.5992309803689505, -0.40376475132682893, -0.45450969695500654, 0.09977794519480154, 0.3079409000270708, -0.19912464660668047, 0.5280250272168825, 0.9142424751208872, -0.7311372413296251, -1.0961975437732143, -0.23051845583464936, 0.7678465046903225, 0.5270700103798988, 0.4815583286554512, -0.11020141852797916, 0.574649190438649, 0.7508304388668763, 0.9543459560546659, 0.20241510147256525, 0.09733958953947407, 0.163949455925718, -1.0691284174861642, 0.0070443930916753855, 0.4203592210581981, 0.5397521618592129, -0.5007755213189166, -0.4751685237527039, -0.8884504058845539, 0.13213138224561116, -0.6671824859895763, 0.44324222757591814, -0.014181099643116002, 0.8233453333484758, -0.002997796464762617, 0.13890983897525375, 0.6957036626097985, 0.7316774841274356, 0.24991624991830474, -0.07185143399562853, 0.07400779118709488, -0.09670820744512021, -0.6201243725814525, 0.9384803086833133, 0.41673020727646226, 0.07035331578641735, -0.4685594364166082, 0.6967867673793564, 0.25836983517069567, -0.6995425486259779, 0.288021112527894, -0.10322709740912894}, {-0.7885522652727508, 2.251171711128294, -0.20426879769915737, 0.28022715136092513, -0.7015588444261811, 0.29915272718181196, -4.256589624895854, 0.5510841478597415, -0.1550611517204657, 0.9433743854691254, -0.19068818935346757, -0.004080657411837929, 0.8566873040797873, -0.8582280619664802, 0.28176627858589715, -0.05797898848449767, -0.5999263318378731, -0.39298957936825163, 4.418067987781815E-5, 0.6990170580719135, 0.4386324834933433, -0.8319815784059877, 0.021313351963729896, -0.3004983200904534, -0.2069430907623715, -0.5520647951462518, -0.9030699341898332, 0.03333209355884366, -0.17814416722330462, 0.3015465320208451, 0.004865331061329137, 0.023454562674031315, -0.06489326235500524, 0.1070885997799984, 1.491942998594288E-4, 0.05884589382862382, 0.6795950808178712, -0.7985194204192128, -0.8246243775615008, -0.21461116300806699, -1.1231979627449986, -0.1650479399954734, 0.4738896851483303, -0.840267114209473, -0.3883375912788005, 0.09165274605349505, 0.06847717129288537, 0.10240790067437655, -0.4628906320671957, -0.332748103560625, 0.9329924729476756, 0.002590545617209582, -0.6551998994754153, 1.6826573298359522, 0.026661308589936622, 1.8159179904764586, 0.4904476748095403, 0.04897321763669993, 0.4104084087915074, -0.014750334935974602, 0.09462437800094103, 0.17241374159655365, 0.9948936652040681, 0.9494820502677845, 0.9624391531560422, 1.02963672918905, 0.8878136325654145, -1.4075110273400728, -0.38375817286120983, -0.21717234998139445, -0.043055767673511935, 0.11395604125881942}, {0.61717219570999, 0.7431830826370085, 0.8702705614583979, 0.8537004118382536, -0.8517533353653504, 0.1773425542576513, 0.8481528941840369, -0.2187922166061293, 1.799711512941531, 0.1841637260821125, 0.841008249750353, 0.1883590725084341, 0.5726421516777709, -0.8205797747663768, -0.025161105944296658, 0.33615466513982395, 0.012302305999037637, -0.4710997836404578, -0.5916817681126596, 0.631581020831425, 0.4062356348592242, -0.5532095423586089, -0.6305256240494205, 1.6604112250797043, 0.14394371147161528, 1.4481931635283685, 0.25006456298986807, 0.19250200665333214, 1.1326612159225316, 0.14545438543260036, -0.7172192919266638, -0.608305715835223, -0.4462108673518665, -0.24566109161023525, -1.6914993005683883, 0.6601366174673713, -0.08244075950433122, -0.3661159284422333, -0.9166410153120523, -0.16525233572475706, 0.015033199409857367, -0.4871522054242361, -0.03476079988992864, 0.08114132315528937, 0.7054040593336961, -0.7363498553783867, -0.10395536390980853, -0.1244356262454872, -0.6707173555433086, 0.37624982325584155, 0.9011943990100988, 0.2035648602870055, 0.06157595094983353, -0.8520848704461027, 0.5848841010573862, 0.9263151438635109, -0.740744509675316, 0.23974950186197652, 0.299412543957172, -0.34774688510508, -0.34960302689530937, 0.362364890697046, -0.036317426367524774, 0.454877509620819, 0.7136545629705823, -2.88156228879917, 1.4336108826234413, 0.27929844977677454, 0.7334839336320784, 0.6231329784822894, 0.08391656027279536, -0.7346167439458995}, {-0.2127621319869306, -0.18518091733024233, -0.417308452527966, 0.17321504869157833, 0.1009039974059367, 0.3264825810951182, 0.08595901687828116, 0.7561153430440484, 0.2643211991884704, 1.6386872782132866, 0.16360291836929913, -0.0016040508275233464, 0.1456732128815091, -0.35491051207331226, -0.06179972656224756, 0.17850313699664677, 0.07816117640477872, 0.8471292174970373, -0.2585709680888752, -0.11114989357239491, -0.06565030262584726, 0.23907956215538917, 0.9436820283356535, -0.8232555331418916, 0.39574266429756094, 0.23348568942968148, -0.46901439848835635, -0.006713306146773413, -0.1594424210534644, 0.37030563695371477, 0.6122401610747388, 0.1407598498299083, -0.5624074978079343, -0.8977102690973399, 0.14623819664747173, 1.5548556105811284, -0.8651299000313043, -0.7697655226981842, 0.09518536593248603, -0.458916044069114, 0.7035323891060729, -0.5000696769909884, -0.15911474288567737, -0.7591118352069072, -0.7758292700418123, 0.04910616031131918, -1.0760477149855672, 0.10043918027198995, 0.6650615021871169, 0.6242153886338457, 0.013040858189076049, 0.4190047649558602, 2.0234329511851055, -0.40125840014906694, 0.13169186608192684, -0.8073802165962203, -0.016417197489372946, 0.5347705097478432, -0.4409300490765291, -0.23005212081431775, 1.249730361014704, -0.7474680023015041, -0.5888083505693844, -0.15649179947711356, 0.0628385547153556, 0.5585331301918482, -0.016255772683058445, -0.5737425946762054, 0.7923863612598392, 0.8451925555962359, 0.02590967276646929, -2.8772101968844495}, {-0.19606284409513353, -0.1837711567186788, -0.22611611786427321, -0.8843349308419342, 0.4799343483071903, -0.20288396769044204, -0.03883604954290557, 0.012074762404588636, -0.9455961043156029, -0.19226344007795215, 0.03182551691457225, 0.3114723973170046, 0.8874826279377843, 0.8280857231026104, -0.6659749926222815, 0.2610869511906466, 0.4665021515257013, -0.30625845363616444, -0.44660518654476467, 0.23153539575036364, -0.1694845746393029, 0.2640471233321988, -0.24616482395222658, -0.4935627148927575, 0.023835453680825482, 0.309329611074138, 0.7303607889331252, -0.8037282781391495, 0.06849042072055041, -1.0120888703536741, 0.10846213270675446, 0.22291898888939818, 0.5292855262099461, 0.07778306518111364, -0.9362946642959125, 0.511532517101572, -0.7579221696154079, 0.6978043470041682, 0.8247826857062386, -0.1889415892311004, 1.0443093628116868, 0.00686151004083149, -0.044089277654589504, 0.8635070058698624, 0.13645176617921417, -0.10471254931498142, -0.8548407616807804, 0.8428665567400442, 0.49655473451999876, 0.11103402125713746, -0.07658839384775518, -0.0379913944363488, -0.9620563628737264, -0.9024490880824132, -0.17878811315851165, 0.6003753059441019, -0.01928860370797842, 0.1370979605127201, 0.17749077810975836, -0.4962633279963137, -0.2406090778524086, -0.2259822568252933, -0.022464032495939392, -0.2545338693312882, -0.6617122569157474, -1.227230266971017, 0.0023358234444879056, -0.035663900990343445, -0.8650381762970081, -0.14860670687857136, -0.546340536698285, 0.8621374408345215}, {-1.3720042060690976, 0.9981245779948127, -0.3154078437721961, -0.8563267269840874, -0.3315080074340202, 0.17426867074344374, 0.04089915314590302, 0.510900039663958, 0.6472721876540944, 0.4316269362113376, 0.5859860203442973, 0.36597564700538315, -0.5797065159468329, -0.8278192975095414, -0.25206910488663103, 0.558354391399251, -0.8572885709561218, -0.3470848541657582, -0.867070934783279, -0.007571463795382948, -0.6541881954863208, 0.29359800092567334, -0.48307589999401895, -0.7124764802180447, -0.7283066588761506, 0.060978299178744984, -1.2926263199083583, -0.39225245575840995, -0.1989747595405642, 0.23386895075725067, 0.02908405416353581, -0.9843011839981577, 0.1602537485597686, 0.8075855809485195, -0.5050485500994557, -0.8879640352161928, 0.3871353034463154, -0.03948250849244128, 0.19409480179488062, -0.00468489742407724, -0.23801712094931848, 0.3684846916564114, 0.4559448920212217, 0.6101726892837179, -0.31962428734876713, -0.24349817030084725, -0.6240200913557974, 0.41974790883466473, -0.49004162062707324, -0.45049157616680024, 0.4924526209802562, 1.0070013624955405, 0.07595642415207893, 0.9102959462311171, 0.07336757559179824, 0.06211357794012516, 1.4104170082336756, -0.9042798612111131, 0.019237433310093015, -0.1620193330043913, 1.077047905587201, -0.06823069401058812, 0.19150954488793834, -0.5606637590731816, -0.3237197636253708, -0.7482515110291175, 0.23628613131413778, -0.16881697180861338, -0.009488709538162311, -1.862050707022127, 0.3865809936932959, -0.38387360499038925}, {-0.10624877396957927, -0.1413601618896445, -0.570534744267468, -0.3776997795572248, 0.2362416936640408, -0.7397967643909173, -0.5595111394898744, -0.807081049637266, 0.6604855500000195, 0.8572042696497145, -0.20281949702533375, 0.4237032818119308, 0.8165712157725409, 0.9310728059785462, -0.4257286065664907, 1.1729186493324795, 0.1087488965914317, -0.03038412830047147, 0.19522462682546057, 0.6815260270698316, -0.3885432585783797, 0.07022879390401451, -0.7346334228180342, -0.2797070605578427, 0.32232607841442107, -0.8548342537456853, 0.6183102036931649, 0.4794761393634771, -0.5549668319909811, -0.9968135452243541, -0.3032285503382306, 0.6350730047892525, 0.002006597086462225, -0.21390501567877407, -0.10593998965996156, -0.8604739144126533, -0.980950576743268, 0.2151088805981271, 0.1314470502909651, -0.21426970259961076, 0.7905468953012025, -0.22339545486682244, 0.08023370765812456, -2.0757234028470815, -0.16225118287132467, 0.49602443809477365, -0.2943336801239149, -0.037687257226884964, -0.8837323604541936, -1.1505148263734246, -1.4817691602442558, -2.867583072457558, 0.7211098810174912, 0.9868434332440892, -0.42434308988266356, 0.8910567087929901, -0.30654393703232263, -0.4755693045718013, 0.0384324444920463, -0.3116290183684486, -0.5467945009084996, 0.667700702905744, 0.36608794706098124, 0.2798823552228312, -0.9753277729842114, 0.9063901533505851, 0.07176998610693874, 0.007836160450859886, 0.1479109079229732, 0.811322840815778, 0.3636220126853251, -0.9087531613087483}, {-0.7492265263116169, 1.5067452388695768, -0.23977816125598106, 0.9395601876067398, -0.10494550616916304, -0.6220575968900066, -0.04834214997073283, -0.03862531179330243, 0.7632387607650108, -0.3429868713010733, -0.6401036149526347, -0.3490390054054131, -0.7164635391603262, -0.0011135239582458613, 0.2671914043546044, -0.719455036934963, -0.6066992983902689, 0.31679580816685077, 0.03139827630622732, -0.4800185788520914, 0.8641771687621176, 0.013662048914211189, 0.16939266516095194, -1.718445088029417, 0.014947548554886001, -0.590324356157917, 0.7713234770000896, 0.9230775380614942, 1.8213427005714153, -0.00789195567220169, 0.16275473625035175, -0.462433568436486, -0.7585812649095962, 0.184585384001706, -0.028596596155486362, 0.061553748773120365, 0.16102608465135826, 0.6271966282549566, -0.23090403421098232, -0.27781755339302916, 0.047998583465407516, -0.3332045480113737, -0.9266675679579701, 0.9154406590323814, -0.9096422612504445, -0.047541641510861155, 0.01701526280312145, -0.023337774816476142, -0.17032786242314674, -0.004633216081052123, 0.07410752245661832, -0.2176111789994264, -0.409547589883004, -0.16811145157596463, 0.04724334024542353, -0.21851226834772053, -0.8636472035496326, 0.3783077100141159, -0.23134668367389274, -0.8727279515399282, 0.26269548279326504, -0.8809809606274854, 2.599225296384472, 0.5555633356517915, -0.6626548485402979, 0.011101269809851067, -0.14933491305022084, -0.264627680026054, -0.09451490717526223, -0.48657875430093495, 0.5174115855752026, 0.25386692715826986}, {0.7806050620512084, -0.28502210603146105, -0.7162403542461309, -0.7874516684099249, 0.305807306744007, 1.167689249964812, -0.06591142347801457, -0.7174377127784768, -0.8544100376009278, 0.1105503813444817, -1.0520500743747931, -0.10338443567103946, -0.020199670359022148, 0.1266969636944324, -1.7088559408695139, -0.42986255743788004, 1.274673879195889, 4.761526248372209, 0.01587031435784201, 0.22593790494806254, -0.7414397026202282, 1.7860591087800182, 0.3752531840832958, -0.9189283201213314, -1.0254918504810142, 0.9559373351833134, 0.6404494740893976, -0.21166824543423512, -0.2787283523699699, 1.235737334406786, 0.9303247149737612, 0.38587199935249006, -0.10671189042226059, 0.006275216138777901, 0.5173625849276056, 0.0059508383235134755, 0.1954766850614969, -0.8527759204037704, -0.10430779776898907, -0.5794743641560884, -0.7403111103055025, 0.34150757558713885, 0.08636630799720502, 0.36953088980376214, -0.2823991179127737, 0.18756011040710918, 0.7782413544578253, 0.7998705129976416, 0.11972116709642311, 2.4197253575555324, 0.16444825674560648, 0.054931273680722884, 0.9844212102702818, -0.5444579939592993, -0.4048346882713614, 0.2021765553547618, -0.14330501531295647, 0.7110130427582311, -0.3798620991059091, -0.009270581307436743, -0.60594860363802, -0.5379700827489262, -0.5317462005184456, 0.6399493498034248, 0.4687388159153958, 0.0239500649341773, -0.23556186163881576, -0.09967840926635163, 0.6935245943223369, -0.5570945111660717, 0.08079808433616065, -0.14416500924634001}, {0.3590513846364902, 0.2588740644687131, -0.7319081895975852, 0.13787229465526912, 1.6050107208460607, -0.4290429077875559, 0.9165851125686182, -0.09351624420686591, -0.2668600639197021, -0.18990575433996404, -0.017035392006128438, 0.36141019933969964, -0.2836208499539287, -0.17193447473043033, -0.9792391495677615, -0.16334059791578026, -0.14220450370073667, 0.023641969979975332, -0.9487991824438551, 0.2903135000891796, -0.3049612681387601, 0.5339791131077338, -0.909223357092102, -0.17810840052071297, 0.003951854974079155, -0.03214091007571233, -0.17667352890208488, 0.1618867281122851, -0.43287251795454607, -0.14308876473785404, 1.217221358998059, -0.6562787487211542, -0.7543008681801953, 0.011321552672135901, -0.0671727409923375, -0.02361561597961113, -0.048758394761433614, -0.7157558837576017, -0.5820840354645482, -0.34417844706547407, 0.7450915526124533, -0.10859294999952766, 1.2626927358349944, 0.38480297103018235, -0.8276647188224118, -0.10187574801207891, -0.30117992692978013, 0.19635491422056986, -0.4119484471496586, 0.0879279417181621, -0.07720015269603141, 0.23592024883570195, 0.7580189525315854, -0.9348777594521391, -0.9851509785928618, 0.43497951217364766, 0.7192389254896576, 0.3669137202833244, 0.4767663951027872, -0.022432884122078445, -0.6811889316654494, 0.7431382111838474, -0.6116974622562958, -0.4061475183212079, 0.8324309234518117, -0.21057758742850963, 0.42458701731279014, -0.08734814826944863, -0.7084022600990463, -0.3015250488312745, -1.4007199493462303, 0.4391423269849957}, {-0.9733406980919637, 0.04372873834667327, -0.610626410062352, -0.22719023261300253, 0.6349479457650404, -0.04445910299096134, -0.00992423133466581, 0.06834594024324787, 0.47820647710225417, 0.40112191777646683, 0.8853263954192512, -0.11767250207642355, 0.9283553996268217, -0.338639273015261, -0.3031555536805264, -0.17921209637532742, -1.1542949586625615, 0.24706900300376744, 0.16413806772053613, 0.46316371722941785, 0.3049179919870802, 0.1007712439828017, -0.6722414306580089, 0.61132049402459, -0.8769475638982311, -0.050791742306856555, 0.862685832147903, 0.26751539218130493, -0.7815105586449544, 1.196280544436236, -0.5709683394745808, -0.5606856628103547, 0.10790026728503554, 0.9853891279385554, 0.03831308522492007, 0.03508891928331588, -0.8119017146241376, -0.03050304046509213, 1.4320542352607717, 0.9969345531316751, 0.691461663720022, -0.8326606549441662, -0.07120514915414788, -0.0021866492081113265, 0.8286342509311806, -0.588332277262966, 0.3619453150735254, 0.022194397990986384, 0.2999065877647283, 0.8614103624378064, 1.4168175774400766, -1.083505817155112, 0.45427086906141023, -0.5104606591412238, 0.8688597871858112, 0.004612128197395867, 0.8858056651719367, -0.49258997484377254, -0.036023916326856635, -1.1899026221511735, -0.0336207946411331, -0.12182616364297139, -0.7365360217103114, -0.12470894914166175, -0.2897411890771781, -0.34707031147955725, -0.16379868680212595, -0.23377074243612997, 0.8991069663789162, -1.0808169013219528, -0.9725982223525617, 3.479661621747708}, {-0.14131473912450465, -0.035133739291508884, -0.7316128013577285, 0.12390564709658758, 0.003361496673934405, 0.08570796908574582, -0.7678483088848237, 0.8644689400273322, -0.1862026909662795, -0.4573632782817281, 1.2033802913923533, 0.9433508048151091, -0.9741454525545464, -0.8612718384229343, -0.10780951777456066, -1.3412845957342714, -0.52678309158786, -0.9186666972250717, 0.19099422217830778, -0.09430787660985426, -0.5306848322030451, -0.71608758457759, 1.010906727691999, 0.5460228520215074, -0.7933864127995974, 1.178265134506215, 1.6416841379295006, 0.19053204157218986, -0.14506753291362284, -0.3214298478584012, -0.7393943592034806, 0.0674357122751732, -0.042804231321360374, 0.5176382999174192, 0.05609953774847403, -0.6157845608224264, -0.46645897831029837, 0.05762849163693746, -0.059957365554458845, -0.8453450242678866, 1.9872110011211355, 0.4522457750328539, -0.6801163344384558, 0.56658932141051, 0.9652043556439405, -0.5944335873606075, -0.6907476496842822, -0.7717434341057476, 0.9142381580931256, 0.47929217060663865, 0.009489398321114909, -0.47717233010072296, 0.9902955416147128, -0.6995390178640746, -0.03711267947979108, 0.06976779223011786, -0.04288282513211415, 1.8245950919547012, -0.5117633747651177, 0.11531873334261489, 0.9529135959924675, -0.8516965266228791, -0.6616446382587226, -0.003954627402742278, -0.060008404753248534, 0.7106300369830798, -0.6480797081589993, -0.04179419929783533, 1.0318190609010984, -0.4143956798764067, 0.8026843187499995, 0.35388819771996877}, {-0.5969647149489347, -0.8567139768340162, 0.9131401842731601, 0.3035546860573599, 0.8236393240486327, -0.587361312143349, 0.1711052346542004, -0.9872087941471441, -1.1559396705841651, -0.5458837536321608, 0.10552426988421494, -0.013550813776699472, -0.9954960791387708, 0.11536190492756138, -0.2931510122534049, -0.1476568788583484, 0.019771155949363795, 0.6404033421343351, 0.8751857981601472, -0.3710646895188904, -0.2612606643798377, -0.6702627211547554, -0.09706027407054078, 0.015169167887517267, -1.1787485406872529, -0.32464702978474347, -0.5764589315301232, 0.6823603965412269, 0.27712440433254293, -0.247854805653132, -0.8146181677866497, 0.4811301329440745, -0.19719980135837906, -0.6423819991909328, 0.09659971886203067, -0.11081607188975506, 0.3018425752451752, 0.18577648427837606, 0.004315466934181772, 0.5045086633752063, -0.34348845033110886, 1.1049338088674105, -0.2711228815817717, -0.06362705049002845, 0.844470072625841, -1.0394744295100569, 0.19416162757879785, 0.6600880522899926, 0.8627481035203254, 0.36768285375345133, 0.8346015741909361, -0.10823128531500004, -0.04951111322332924, -0.3969835006473259, -0.1910960156672723, 0.6930111569666728, -0.4192354891598369, -0.04389347226845369, -0.12289882274174692, -0.6778145828890783, -0.527675821582413, -0.12310246360728949, -0.06292585699648172, -0.7069775247798761, -0.6489126228192716, 1.3686987914301016, 0.14233533122718361, 0.0235208087528036, 0.895794313093807, 0.4587478026771874, -0.9627019203229565, 0.8045835066725725}, {0.3633652424834073, 0.5252954791240236, 0.012067982409221144, 0.14763603679715437, -0.29965355231850355, -0.8008809217802302, -0.8287925648230958, 0.10977860502287352, -0.4370705062032239, 0.9577455721655073, -0.2162971421443977, -0.2851369881981744, 0.29849969169945273, 0.5916430632627283, 0.17271062781134874, -0.1514466213361858, 0.09089811284992866, 0.3968451823599439, 0.11222703983749788, 0.4552635208965088, 0.22759169635543486, 0.3471197130650745, -0.8136675924536791, -0.13661241819515557, 1.0257808425922479, 0.048340572540546196, -0.27021216657367064, 0.5838828890976029, -0.6905990824045213, -0.001142731759249433, -0.13563747564180895, -0.631185257397521, -0.019456694285187218, 1.1261237912830666, -0.08888860078662209, 0.348402058157233, 0.8660972478877141, 0.7068608294544796, 0.199081969713088, -0.13573949031569077, 1.7531909579042269, -0.6385411796780779, -0.0659697301622518, -0.2511790719236304, 2.8786842730028703, -0.5652132967740879, 0.5670970407520111, -0.6576351387081507, -0.3824582494751546, -0.7419294767681872, -0.48150608064768674, 0.9615238258928358, 0.6980897255251953, 0.07422874922539688, -0.8064445427358373, 0.0532419868636746, 0.8639042176281226, 0.8821078546273414, 0.13125168243245144, 0.01084328418935169, 0.2911360592611203, -0.11779985503956372, -0.4259875963067863, 0.12965728718131364, -0.054676524584117425, -0.12229470826652475, 0.5348601807915646, 0.2950538896377751, -0.3183782408853584, 0.26206304740635944, 0.0751473908591173, 0.7280401477179022}, {0.15215703253415902, -0.02296770357530396, 0.5227448272597534, 1.2558654624305285, -0.05970052905702564, -1.5965129134760911, 0.7583075635324219, 0.9869513360119265, 0.08708947579159979, -1.6936289969202845, -0.422740062017819, -0.2818825331058315, -0.3980147779123957, 0.3846615285992445, -0.6148723200947717, 0.043040799778478966, -0.9533452358891993, -0.029840101648270535, 0.010562405286617818, 0.10026813418056384, 0.17449989040097202, -0.03144923676948971, 0.19668328398038049, -0.5521823726328121, 0.4457676070773888, -0.8624059015570846, 0.1406907052676738, -1.0711211938517022, 0.2264232586663284, -1.073020181279926, -0.4258975230622186, 0.5611413658528948, -0.8277047861882654, 0.46366724615409316, -0.8137418875085298, -0.29625528798852047, 0.10261796716053524, 0.1396642874329601, -0.2500901043331658, -0.011009628479877936, 0.2334660848373955, -0.16110191680881406, 0.021971050928784264, -0.5440341627859581, -0.052363992564924855, 0.3697380644610883, 0.3470541865587231, -0.1785913478000751, 0.399117324513965, 0.3845543616415217, 0.40748333211376186, 0.8652339550919954, -0.5872175076919688, 1.7693528522008746, -0.8760736191431556, 0.2586322447827667, -0.858021374639331, -0.8796693008316772, 0.16379072455898513, 0.6839468718245965, -0.5793917005160159, 0.3825818374778953, 0.5610478018955574, -0.8557881351050014, -0.3903099787093143, -1.7866857559832379, -0.18954928193300333, 0.018775486334765248, -0.5756426711470326, -0.2069730785143286, 0.036526917023984105, -0.0491417252364883}, {-0.13522570833846226, -0.7412944289432033, -0.5733008040492502, -0.5715471964832732, 0.2804425778559538, -0.6959821312650036, 0.03226145511644353, 0.10023085790098485, -0.010417669586184593, 0.28047391393122556, -0.22816705789795777, 0.9434542628944609, 0.725607780934699, -0.8045975450235707, 1.0716207352018599, 0.4360616229181604, 0.00875459230003107, -0.5861057976591434, -0.7839581747471129, 0.019362838742312555, -0.3473019152977012, 0.8260816209220607, -0.9947285045599871, -0.035571161398961125, 0.12420894737484267, 0.31142994128301993, -0.007081132105449893, -0.21240012465632785, -0.6184997006326305, 0.2257935778211478, -0.2953306555553414, 0.2654990460718394, -0.03311746443319386, -0.08644028496443584, -0.3450954059863658, -0.15979914874325146, 0.3042820588865103, -0.3612445670581018, 0.5406844712741754, 0.606361486078028, -0.25041352619172064, -0.3003269355820639, -0.26508336529309245, -0.7996086011943502, 0.5167008952736174, -0.9904996291137851, -0.17148090944636354, -0.6651449015158517, 1.5119084851506903, 0.5066616624414435, 0.9112372195617573, -0.8841913628591367, 0.9875107923884019, 0.5030169586833488, 1.9632248024291286, 7.557902555108032E-4, 0.5066874656485016, 0.13121372418889465, 0.45166418655687823, -0.7156933092601401, 3.3798465196603, 0.3581756700345886, 0.012312253732416322, -0.15222296810570346, -0.8399981661732137, 0.07676668252751855, 0.439254545944753, 0.5312189200045518, 0.36065808003579103, -0.12295671630066175, -0.015954117649537816, -0.23648204064427186}, {0.7981248401209533, 0.7759329721620336, 0.03519265361570671, -0.19571906480912368, 0.32211086286532997, 0.4919252899958815, 0.5360549219123636, 0.8921428315783113, 0.003214004688043337, -0.6271345987312876, 0.19989989914813053, -0.3928591423364445, -0.17390280853348639, -0.8052642292992309, 0.547756308219585, -0.33155249875867027, -0.984797832401688, 0.06757757148751678, -0.6683782665178777, 0.644971120339873, 0.1361137674977377, 0.9777652021985441, -0.5533324326799326, 0.9843370752772453, 0.6586208209442417, -0.007079287208577311, -0.7396512617105961, -0.1270597067662943, 0.9717763262297809, 0.6727688658485468, -0.33964572161190065, -0.29726249797425386, 0.19860704944515906, -1.3235331306585195E-5, -0.3249474542707331, 0.9060380063560998, 0.5260519222146613, -0.32989315776021466, -0.16793704554813077, 7.595638391353354E-4, -0.4415704766864361, 0.06878630090615223, 0.35329532971491084, -0.22847562611165362, 0.14741684967469268, -0.32209392318021135, 0.9912727175026589, 0.050076670485389455, 0.32340549981695177, -0.09601008364930094, 0.8817683868828814, 0.45879535434878194, 0.9693026185897187, -0.033653506620233475, 0.7469461134280916, -0.0938002347394325, -0.9333900988147306, -0.17182225261632111, -0.13399164155453794, -0.3653477937440681, 2.6865458288424957, 0.31566738326454913, -0.07365846663229084, -0.9197969929943878, 0.690854076956612, 0.2739012501135235, -0.9608601886718877, 0.4832143508944149, -2.5953945306967565, -0.8258927429974849, 1.117906389356254, 0.010228568144974748}, {0.16916192725695356, 1.9136106849737282, -0.08445941755513311, 0.02907332702427377, 0.6292302728256753, 0.3046183921753019, 0.12693666103177065, -0.4842203625101005, -0.8508000236252813, 0.13424403701339194, 0.9764268799136646, -0.01786269872694959, 0.4608437402574985, -0.09774444781402236, 2.0555732123388077, 0.01680327889324491, 0.08093974971002475, -0.3619892800216895, 0.8902735104020423, 0.038788397475660055, 0.3011406138856323, 0.7298150198007503, -0.00600990998442318, -0.6956831226569842, 0.7725368050210297, -1.0230478603062996, -0.5143588839081801, -0.6294984725992414, 0.2758156157943644, 0.826113382683384, -0.4144309659903451, 0.8270457126992361, 0.05577808668911784, 0.48113673089015974, 0.27692301062065705, 0.7973850107845946, 0.5083007750213274, -0.5942174313457291, 0.07581842924690951, 0.5327356934863806, -1.2664320020997848, -0.519010617151145, -0.17348870630339586, -0.31703523723489513, -0.008796728825018585, -0.4525969794105382, -0.08898017715332984, 0.1506037340027866, 2.2091219795104133, -0.008407995794315636, 0.6541316094983596, -0.2966481211177236, -0.6387616490420693, 0.48865808580052605, -0.21929959690012213, -0.1683648880749009, 0.8038152480074845, -0.29596273255882827, 0.09600416940571146, 0.3995890849745445, -0.3510432070851563, 0.5934885701484547, 0.16109387209844966, 0.4245241191419531, 0.09144854795957783, -0.9398750379267881, -0.5417273598506698, -0.9902530167467818, 0.0416812114085313, 0.05625534543062516, 0.6813515661810945, 0.7334097759895666}, {-0.6621882642841685, 0.002493711160374319, 0.555923164605403, -0.12376570021562953, 0.1805697030576081, -0.9018624023828179, -0.163568996231632, -0.8045369785595751, -1.3094219220257288, -0.5217531225324079, 0.9406462509698821, 0.15907715625560875, 0.4645027141312734, -0.3090451635112547, 0.36548483071030813, -0.3505805360285477, -0.10569687876386633, 0.4541480800878181, -0.8122773627938285, 0.724034457077638, -0.5433103741337153, -0.8110135291129714, -0.5064409477964258, 0.11760277579434311, 0.18376605913686617, -0.055001009883984264, -0.5465959358905684, -0.2372014426257881, 0.5578702662169694, 0.04246006184488651, 1.63741977085903, 0.4786413850676743, 0.9211249376787618, 0.6375925117875356, 0.5675295158667402, -0.9344927849144014, 0.4944972898966076, -1.3814783723851902, -0.8555641953606599, -0.7454887228005556, 0.3286329912272117, 0.37031671228526797, -3.009450047100418, -0.39089826226769064, 0.7962031898934658, -0.7361826253387118, -0.5313282597255686, -0.7294575226661397, 0.04673705597232603, -2.7416439940056067E-4, 1.2666993540078633, -0.9831224473696756, -0.8437846482592378, 0.4058010140164465, -0.37850554260350444, -0.41594112717749243, 0.597065739521174, 0.028538215299186112, -0.14619083002409586, -0.27055988830643285, -0.2152855059688081, -0.1157982699080545, 0.0654213237706115, -0.6044454121535906, 0.0043303623152870134, -0.5998486140144739, 0.1748294589212993, 0.9291397251089548, 0.15062010528973366, 0.12577114873441225, 0.3542565329634597, 0.03616356536549126}, {-0.6233852714200674, 0.5733720412784262, 0.8883595842346588, 0.7561726875002526, -0.12751021565604687, 0.04092977485973043, 0.4845596621854191, 0.16033359990524554, -0.07456192795655148, 0.5605879138351132, -0.021206809778794394, 0.9548469285076187, 1.1068049346447018, -0.4852700465047951, 0.0047608212982844745, -0.12111763270101639, -0.1466665291121217, 1.439524985877682E-4, -0.915471378900544, 0.9833849461616986, -0.5170107723591695, 0.7838461551897569, -0.4473874277492938, -0.4271335284154021, 0.7597488785720965, -1.1317120631030113, -1.6045357077406954, -0.5278457129776943, -0.30635767590053486, -2.094778428893381, 0.004293069789335127, 0.15035330775687653, -0.02496996320526077, -0.8755606840797225, 0.5522311414812793, 0.742933561334477, -0.10169782031874952, -0.559754548697099, -0.022265599082981424, -0.10218670006832142, -0.9837124730999773, 0.6776811399518916, -0.8380798942798986, -0.46230376015705327, -0.2568301077333306, -0.28479512221475883, 0.5643990643534256, 0.003141736753248327, -0.4418235669518802, 0.43709954076304697, 1.8261193598706555, -1.2924836362401033, 0.844099698430085, -1.026136827800954, 0.021215900042809113, -0.08818484830297679, -0.05372648006856771, 0.6665119550779035, -0.34195175769508057, 0.3684780002026724, -0.16071746625853692, 0.6827276915990566, -0.12433868029800796, -0.5738647393693612, 0.027433117946045565, -2.3339114395062093, 0.02564474351222425, -0.009448315786501786, -0.3782565669983573, -0.8262984388601777, -0.003084278160699713, -0.9345934355412255}, {-0.19172746341582192, 1.5461853633980074, 0.16305083355889327, -0.053221075394678005, -0.2181858306583615, -0.138512394297456, -0.09949526230181953, 0.15478345818928085, -0.37391216414797457, -0.8936257493077815, -0.49871972056849456, -0.28657447410716375, -0.7061153562608984, -0.4259335457485285, 0.8198999994471625, 0.6674895271388024, 0.36002315554365394, 0.0708542153558049, 0.41276128702019377, 0.011210835300762723, -0.7859746334204012, -0.6174319507015206, 0.4796962489767691, 0.1716905146122441, -0.4908872038253515, 0.3952439635026204, -1.3373925741161767, -0.4747362259703591, 0.19138664259155092, 0.7784677273658285, 0.2595785311634935, 0.14095235239499715, -0.4130841521952273, 0.004332210249617973, 0.46596117664890935, 0.45713924733431455, 0.6166332829866921, -0.08334219782894803, 0.6062294488380215, -0.03408423190420446, -0.5358765944983421, 3.086773008641419, -0.8201453514927544, -0.4548660635721118, 0.374343438036733, -0.5743355903981493, -0.7413735549769302, 0.09218712980058719, -0.9375649909001988, -0.08315025830140965, -2.3264508326580446, -0.1773138685569203, 0.1371795652413379, -0.4182532339839635, -0.20260576762518726, 0.25048914414950796, 0.751797253017889, 0.21940672184621945, -0.8131826201010136, -0.25303431916449814, 0.9694979910695734, -0.08974347741103572, 0.6144405708001334, -0.018725924325558863, 0.1660547154477161, -0.6316815888651588, 0.19362401867886336, 0.14270216759678825, -0.34200415367477066, -0.08049533580982518, 0.7022856031784361, 0.8339347724418125}}), 0, w0, 0, w0.length);
+        System.arraycopy(flatten(new double[][]{{-0.9052793668356798, 0.042063329297820466, 1.4265864321044743, -0.6819353517286166, 0.9464396853333616, 0.7464121768804799, -0.27191133373877074, -0.03559960532559543, -0.07207158662083389, 0.30725761230431886, 0.36692224569683507, 0.17586852731943847, -0.34281272282029107, -0.5744551306667327, 1.2393536189021446, 0.05048163131345729, 4.949140186498092, 0.9213649840735598, -0.10613592808726753, 0.26015937980874515, 0.13221483904823983, -0.0031196304540518694, -0.3070382918576382, 0.12484821463060536, -0.3267615579894219, 0.3634132700331217, 0.564778223114017, 0.26032959574014497, -0.001954163861435441, -0.006694527227115406, 0.17224305138940327, 0.09398757847834927, -0.5684352011053735, -0.108357623557861, 1.1560562878624978, -1.1581675092436587, 0.7854997622278674, -0.6362894790861573, -1.062536773897442, 0.12043679838630239, 0.5685801242389463, 0.5818678599816689, 1.577984925967231, -0.026430264694342776, -0.1132328951829639, 0.4962228002754756, 0.049784921533661236, -1.298422590738865, 0.8109345401233741, 0.3176325705185752}, {-0.701237818789472, 0.6403965948612017, -0.07898454546928521, -0.16550583644775652, 1.4431341897040328, 0.18322128468276433, 0.031413630258253986, 0.7739022342889277, -0.9442767367366758, -0.5059182675906408, 0.2852377295247248, 0.2738534451393962, 0.831261507275417, 0.08029225879136277, 2.767422634558272, -0.2917777154927149, 0.430164887234147, -0.749454077116924, -0.5657973111981229, 0.1628778074169888, 0.10349142280248738, -0.4705627771843975, -0.0384736400448424, -0.09791973703268411, -0.4495860562765271, -0.8102292741813688, -0.7564699762623821, 0.26807489088455005, -0.2929615524766107, 0.663845489777044, 0.7184261831471894, -0.4609083929610014, -0.00918312519940603, 0.3279922677712974, -0.04196576279907927, 0.008636673664619746, 0.08536396222619191, 0.12379718921931746, -0.7854763963490508, -0.5288500777088616, 0.6808351175352199, 0.2100367933486001, 0.23702119232663063, -0.28283578699441886, 0.34983716747515364, 0.40950053328833036, -0.0012635196500568563, -0.23029188033134634, -0.22044235031671233, -0.7613615421758406}, {-0.05123437977310056, 0.07101370109327365, -0.5403525338740638, -0.970537730656438, 0.46626225542040456, 0.949177749623098, 0.9074172496844524, -0.31522964463449377, 0.7885677078691873, 1.2627217309848044, -0.6051732860504233, 0.9611295234502957, 0.5084915496341715, -0.01105528337376741, 0.5731947679275613, -0.12550634928226279, 0.2951498593870028, -0.13835439817776937, 0.8231963607746031, 0.3571071203042433, -0.45840321485805874, -0.9878824698980202, 0.5129051921084777, -0.17474121645897744, -0.1967002168261067, 0.15469237852657305, -1.4850586034662343, -0.22027972648107919, 0.5234460916974246, 0.0861911580007042, 0.7749936395726245, 0.07110288970804879, -0.07050275329319527, -0.9375091715486832, 0.6963533931548727, -0.29888696343193444, -0.6340179518062599, -0.3071116954814532, -0.22994158480695837, -0.3941346680304485, -0.07794460734321947, 0.19492944917426105, 0.5496005778076525, -0.3882329047041302, -0.40736528502467906, 0.03449099010321545, 0.3941126786461291, -1.0189508675013195, 1.0840550243749651, 0.6588275947816356}, {-0.07466425947561564, -0.1044622711226939, -0.45384902560998386, 0.5217741332867061, 0.6277318389110147, -0.8972812388643057, 0.8457284567111243, 0.18739373331891906, 0.3218633744687691, 0.11916841107166831, -0.2354332322149389, -0.2884275572388715, -0.341028529623836, 0.03147883576762345, 0.9799901030656517, -0.10037180109784649, 0.23189273279261013, -1.6729145597640864, 0.8367802741959489, -2.0023563373992576E-5, 0.5972898330914045, 0.6067104227606124, -0.0871955497300767, 0.4041466326875274, -1.0941303615177407, 0.8768414325462466, 1.25690136364131, -0.4442254718918288, 0.8004338209913999, 0.10260987309055802, -0.20293587834664417, -0.03896137531689941, -0.2508088370729089, 0.3649645576039065, 0.11791938025038418, -0.6347241187683683, -3.113274718555252, -0.6096199534477573, -2.520098236823072, 0.365039775377338, 0.0733489422421496, 0.8741309843189558, -0.06339575034081034, 0.33897770856178266, 0.642466465986093, -0.13550276561557406, -0.9603603345678904, -0.6982294898395904, 0.8213092757647846, 0.021741685698237066}, {-0.3020497823098818, 0.2127367894716259, -0.12960724118143352, 0.5409089109704843, 0.7511506429237514, -0.14765552256290038, 1.3749084897273771, -0.7021934653318693, -0.16352090824091756, -0.15868101082551486, -0.5923589652384187, 0.8945759114566982, -0.08391843212663641, 0.44424391718119804, -1.0790760667332941, -0.9935481069925935, 0.16909320120771004, -0.5872805255961759, 0.035326679819071984, 0.6999195715567474, -0.5321827459149269, -0.8777729120240816, -0.6301162688950253, 1.359289542493659, 0.18529238957970903, 0.7460045893118477, -0.02991579570585235, -0.288998515786017, 0.6164528021641577, -0.4172869754687145, -0.6777055412058939, 0.23985108671249436, -0.3604456195042858, -0.3214081699241709, 0.782130168585544, -0.12734051776758792, 0.40906856262665436, -0.35918011866388677, 1.8137958325763175, -0.06625489538151608, 1.0729838737483968, -0.10123291034784125, -0.13397231241006757, -0.553765972429721, -0.19004322553209496, -0.9265863165146648, -0.0231410904189762, -0.40720159099572206, -1.002838079879652, -1.0683406026476552}, {-0.12481021515824375, 1.4643350972528197, 0.3078477220698266, 0.8908012412363413, 0.16994835485724033, 0.14470171821903172, -0.351788602446859, 0.9722275940217586, 0.5023160160142142, -0.47172779191478287, -1.3013852924382299, 0.1094035787519183, -0.22694198004476687, 0.6733318155532113, 0.6270465833592098, -0.5034173186408888, -0.006944556392913339, -0.34177787444728835, 0.006507487239268059, 0.6362637585859539, 0.0050893527252662205, -1.470903702792936, -0.21319140386534352, 0.4427752674892924, -0.6426964872955221, -0.6858815152501372, -0.9062893992214525, 0.004935281159770179, 0.9949567771590719, -0.3309333120252087, -0.0750377843821727, 0.9272903398334369, -1.267103298854366, 0.24457551319127724, 0.4578997365639699, -0.12329695209117508, 0.4152853900063542, -0.12951127121528969, 0.044372781655678255, -0.7724315184928229, -0.8930943369955726, -0.5205431383055433, -0.4080791295141659, -1.8796058447453332, 0.7479008706885723, 0.4779252592576386, 0.37781654486310745, 0.9664850921096955, 0.015118829614863043, -0.7854500928859471}, {-0.1491635643284055, 0.443158155060299, -0.06418276190462616, 0.2506078096051844, 0.4595687958713069, 0.48666655014630494, -0.006357584667385302, 0.44631315731507937, -0.0438886350172456, -0.04123493678680945, 0.9816755469838554, -0.5906212406954506, -0.8141700887570591, -0.06851343802791687, 0.6749474201529433, -1.7678250734277143, 0.9249054523363807, -0.8139354689012043, 0.003131732710020139, -0.679437035502565, 0.7343795139684712, 0.6755274926966728, -0.565097732501544, -0.09933916995669413, -0.011089799476879903, -0.5731376073459233, 0.9615713328541582, 0.6820377476985342, -0.37776311530734574, 0.8806503031411962, 0.6330129210034964, 0.10165846503037335, 0.13031885178430314, 0.29869484588801565, -0.6505126617827174, 0.9712162091415817, 0.6931913701809835, 0.12518167080018983, 0.3389268253773153, -0.27908080996404816, 0.32972669522746223, 0.5455157810017617, 2.8790111777917327, -0.13252328926616563, -0.7234444699528579, -0.6224969823001067, -0.3041510060013961, 1.6226366475906975, 0.002860560206878757, -1.242875496146981E-4}, {0.28539509998825574, -0.007659588195068102, -0.008374836683518712, -0.052878921416850425, -0.3466724020867773, 0.19108716309675344, 0.6836420030648487, -1.8997396222437393, 0.24494403065951964, 1.9200466919286283, -0.46674121859427964, 0.4840509493057507, 0.33967980064132486, 2.7443892508208827, 0.3915727110486731, -0.23469714155046573, 0.03784928345900384, -0.12363116811766571, 0.4527113950101411, 1.4837867823693796, 0.9481379532383077, 0.08758471300437239, 0.1175857307148851, -0.34974928895379964, -0.6729202493723789, 0.4634778175641056, -0.8547511347447843, 0.18696844638063528, 0.9267761951405085, -0.19131894100422706, 0.5379576344273975, -0.15864780276886958, 0.613817955985406, -0.18474143853005254, 0.005994720258086783, -0.752320665758895, -0.9376609715757522, -0.37658697439220035, -1.5814753045980727, -0.8732425638018187, 0.07893175535027458, 0.9773699149368154, 0.8678978135555714, 0.9385550880437856, 0.014388640382617874, 0.47949807662001076, 0.6628588526209482, -0.8357272702922991, 0.042590140742455304, -0.12531427600918899}, {-0.5842360348186126, -0.020835519841342354, 0.614313395228431, -0.18811879224366168, -1.0078029328287812, -0.8174756467593005, -1.47197681493049, 0.48111159027931677, 0.7191305693718244, -0.31283314348318214, -0.28428545665862465, -0.07504911887962609, 0.6645959765883203, -0.3832937298631882, 0.732538981167909, -0.5432145895983842, 0.3075166173992776, -0.4478308984069153, 0.42778041786857135, -0.03963127687753707, -0.9178325849448841, -0.26927414697178187, -0.11497558662806107, -0.2768802231191645, 0.3870755346975719, -0.1463870695006967, 0.04842554109978383, -0.6078344125781026, 0.1392579110075025, -0.8499661639154584, 0.08031725517766941, 0.37986819226516455, 0.04139306515506607, -0.2614363650352738, 0.7312122990954928, -0.9747766773234764, -0.38906029890334, 0.40078515335068987, -0.9576140624060265, 0.3492178723918032, -0.542782268064405, -0.7567254797771306, 0.6238324125742134, 0.0011510053306659088, 1.8032767365905682, -0.5066455803686792, -0.8862912670325951, -0.6012464541849265, -0.972907408953686, 0.5865004538825977}, {0.07756425395111825, -1.3503294528041174, -0.43968038545196747, -0.09385039468518279, 0.32048865819506256, -1.3155768309938067, -0.13111184384671837, 0.0984012738358764, -1.4079794037461604, -0.04151552110974713, -0.030989953914834625, 0.06373283491437354, 0.6631266279895782, -0.9591561328309677, -0.26649379198875933, -0.020706635458394414, -0.7142994716481099, -0.9206315124071771, -0.4405627128048238, 0.23419262889807807, 0.013653135436086974, -0.3374456742629057, -0.7256058552016614, 0.022807101966337874, -0.1676012728625509, 0.7140204692957179, 0.6941265573093311, 0.062173623525608554, -0.18567182202121418, -0.08967945954434228, -0.006719277085275952, 0.6567773680900593, -0.060939676701359274, 0.21050117462773837, -0.23280956205196124, -0.35772999280387663, -0.7229771370391103, -0.9089473874906941, 0.05871730436708463, 0.014607203071033581, 0.9210087032875329, 0.6132857948650052, -0.4265515217131539, -1.833951327526539, -0.1392714710018862, 0.31107594283589624, -0.5045929925910483, 1.002822204253825, -0.09502949471959937, -0.9094518184599825}, {0.42519124533582936, -0.6875195734405315, -0.20637448406507372, 0.1830705924083532, 1.5572113035710997, -0.3183631123859041, 0.040885795385861866, -0.04425394952250272, -8.685515225931816, 0.39784346242745405, 0.762812636610509, -0.0019885954850604754, 1.2868003249862667, 0.04398714590879882, 0.15076198534540006, 0.1080960304856673, 0.3725334443179207, 3.8795633955129345, 0.19335123153682107, 0.11674467180165887, 0.7188842555863861, 0.6546801550207844, 0.11911396124619983, -0.49069607823535977, -0.4626216639069761, -0.348055592410224, -1.0088687725955123, 0.24058344238305315, 0.5450841327135909, -0.04653236907306568, 0.5048917794459612, -0.43912377923818013, -0.8735833903712508, 0.053012483772541544, 0.6421573138391472, 0.34009788111974104, 0.6290426105184564, -0.7463472010234367, -0.8838925081177422, -0.5902768658423941, 0.6536009359637811, 1.3440296422162634, 0.4969995684141706, 0.03993549332048499, 0.26901885017562766, -0.016924872224557116, 1.477239833673966, 0.4187297856825356, -0.767220034696778, -0.17646362910950864}, {0.7393314482123783, 0.19066098035583057, 1.0962915950943954, 0.2222922060616075, -0.3761120726957761, -0.004578526584343505, 0.17224792832955083, -0.06506758824485152, -0.6343678037483559, -0.3711686851060678, -0.3184382632791958, 0.472152613719248, -0.5344952421379379, 0.6179292682404278, -0.38623476234010434, -0.9853994469249161, 0.467287017381105, -4.22753242606132E-5, 0.6404090962660791, -0.9305678172650866, 0.006919324399698356, -0.41313972104049834, -0.9304683733433743, 0.9440377584641826, 0.18715676997760466, 0.022018698299053324, -0.7149097025625175, 0.035924975212281975, 0.2692987716762252, 0.20002664208677248, -0.6107636503769862, 0.6372426575404191, -0.8429074554994134, -0.139082102817486, 0.9355091172998089, 0.0623823671168707, -0.09420496408199952, -0.09559500226128034, -0.6498150020651547, 2.7635572194471694, 0.9354224810958749, 0.3918679491151926, -0.5768578263661284, -0.10767898649805804, -0.03337417196061926, -0.46559614696956664, 2.810418701386012E-4, 1.4971705693396347, -0.6855551362924366, 0.12938006466030533}, {-0.9389252086971311, 0.05131986244329775, -0.350806732447017, 0.1396012222107474, 0.3088039340163218, -0.9662299566227337, 0.7724195378972323, 0.3036869821191952, -0.5909558207415777, -0.01589729719216629, -0.44601855344860547, -0.10269582717065262, -1.04977601315676, -0.02695263340920917, -0.10738814100374695, 0.3893198199006518, 0.0674485986368457, 0.12448066096546695, -0.06623242394219298, -1.2091539888502114, 0.9067910490011946, 0.15165196301371564, 0.026692875913892022, -0.9548327387894615, 0.7902310874879012, -0.4631143025739575, 0.06091280330846571, 1.2380452325456488, 0.3385701150392003, -0.5466002726936774, 0.883577386343147, 0.5668867198696508, -0.20370892950883024, -0.30455852047175336, -0.8173700859938755, -0.6206881271468299, 0.4384970703965514, 0.5762841594883757, 0.17205114210796277, -0.08282539678077917, -0.9718287173265734, -0.28057181503200757, 0.5048144550458953, -0.05659271294420314, 0.4330144481131961, -0.15623706735126194, -0.93210415054947, -0.36976456364042076, -3.8053130277758367, 0.3556188881041028}, {-0.7445391902117282, -0.06864269602433914, 0.918288941476116, 0.06584219090817944, 0.6967108053165221, -0.8415768605589751, -0.25241710639975196, 0.7221882513115463, 0.31570519962377275, 0.9308364914735082, -0.473987863389427, -0.7302213530238253, 0.5343287691579174, 0.5879559857953274, 0.40129098884338227, 0.3456980535382841, 1.9006125469194615, 0.6426424334643561, -0.30231163154943497, 0.13566959562053407, -0.2169272182161792, 0.14141892535739062, -0.045561198463794104, 0.013067594763124246, 0.1172872706867788, 0.5359809189506268, -0.6132875009375307, -1.6399420500057278, -1.0474035905156123, -0.8317174466963018, 0.724446925836771, -0.8459665366129655, 0.40805076433367216, -0.514673295960814, 0.7813898324422861, 0.5483244916716487, -0.0021401446842776524, 0.49543102417154117, 0.6036597786257373, -0.08790485051574426, 0.05719255277655267, -0.04130955247613333, 0.8292561743046312, -1.5810948459526588, 0.4984630189958992, 0.8442864797452275, 0.35954454630502164, 0.6553511215753387, -1.4232274789860946, -0.7425883759391465}, {-0.5261759249244498, 0.028559787744415234, -0.01648149109177049, 1.7371116299601648, -0.9005534980703553, -0.08796409101688751, 0.9533163930945674, 0.08550389354113386, -0.21646261818044366, -0.4996280891159237, 0.4530235989775735, -0.5943863077853282, 0.6898071835726536, -0.4176248391227233, 0.07922511491609936, 0.014445629829473821, 0.1650063920330722, 0.02589106355998576, -0.862061721591188, -0.5150970715837373, -0.12075882702281038, -0.39780250435299574, 0.0715000526232199, 0.9846237146363916, -0.40783783034790244, 0.7274309269800643, 0.04793861830985199, 0.2506541708408727, 0.7797944158100631, -0.985763685737802, 0.23177151657994965, 1.1175725688483455, -0.246322114276567, -0.3710746055978427, 0.28759193290558943, 0.006290517587093512, -0.4918598504814493, -0.5511788184331732, 0.8806368657240604, 0.3024105329207114, -0.7995278810446023, 0.1739517714285646, -0.3108042256226815, -0.01002718781232093, 0.07430001769299471, 0.5231122045260987, 0.010411905196917787, -0.3246966061052121, -0.8140619746277262, -0.8330124586351935}, {-0.13442729173441403, -0.7790556817363261, -0.17985538670925177, -0.12170269160197839, -0.9404175654125108, -0.04717320021754756, 1.3515568419430308, -0.6561450161525292, -1.2551278846948901, 0.3788704271043352, -1.0195134399114225, -1.3544931352405118, 0.0066155973288231605, 0.5664437265414437, 0.30330966497696044, -1.8267075399604176, -0.010412537496415686, 0.836646852738578, -0.6220448004853634, 0.0016091937456419747, -1.4443069920956597, 0.011719686034220403, -0.9297959040763452, -0.09196116736095547, -0.4338563418998105, -0.31326652410896916, -0.807480505135699, 0.02819583938819961, 0.02466963965961133, 0.11137150875773227, 0.026650779735081145, 0.5179395984497157, 0.3276017398287787, -0.49639397566004817, -0.7266079618821486, 0.3399286205864023, -0.44447004468003937, 0.2997143058192571, 0.005295234163776055, -0.041659868383785416, -0.24382812556102573, 1.3965032197918343, -0.07483351802728488, -0.6413595211585428, -0.03485535181606652, -0.9215201160236584, 0.33724466347388155, -0.43343546583853115, -0.31980747779965446, -0.5020915737390281}, {0.04641271467793229, -0.24635494592817286, 0.22005871106786204, 0.2853352567306814, -0.10545130769079754, -0.946102081478498, 0.0053904514683600895, 0.04872876467922738, -2.4899498761247503, -0.05067306793545834, 0.14341707097474, 0.11950339397562756, 0.15194981406139574, 0.5885454816569899, 0.35655862585234877, 0.9594387173850094, -1.6011586380344123, 0.22049238995516318, 0.014216875671478668, -0.7091293972033677, 0.28939001330017566, 0.03724709789367629, -0.8125370416156779, 0.3250306806065031, -0.23781395608553277, -0.8549927969864047, 0.05754642113649511, -0.29392564779554053, -0.04627322653760732, -0.34697120631452893, -0.270708804099427, -0.02857597385520455, -0.7402698986874678, 0.1992846025530359, 0.6152270807339475, -0.021667715475765813, 0.05943285219140946, -0.2617287826954866, 0.14044215080304912, -0.8749531576017977, 0.18215683878335476, -0.2992048291838499, -2.457306658893823, -0.5815679412291903, -0.7734148382200652, 0.27630997956687664, -1.4120752478303757, -0.5157612300158976, 0.9064035424768684, 0.5977941566558398}, {0.26589663255461143, 0.47800734714959114, 0.32140478610191114, -1.2287144455086374, -0.7113146103340244, 0.27227640315005774, -0.41789977367797965, -0.031261286306656366, 1.5828664669333252, 0.19883781307267445, -0.6972921316109373, -0.3627102991034006, 0.005617177827351533, 0.8844690560047684, 0.08998831057729903, -0.8370448076594186, -0.004083503399813638, -1.084368539916589, -0.268438012717061, 0.6446714692169558, 0.38775475350741384, 0.5968269093785687, -0.6184835575580031, -0.07250761088919731, -1.2732481078443978, 0.43100358671711436, 0.8493666265834128, 0.908172249493397, 0.27634919373391714, -0.033144897145233276, 0.3920701821493183, -0.9484648414474877, -0.522961437322522, 0.5666292001642477, -0.30290504226023895, -1.1448279566356228, 0.5074502345898662, 1.2275533775647276, -1.4932217539976447, 0.1864940571548968, -0.43504868922876483, 0.005908731357851809, -0.23586177214102683, 0.9248601692584575, 0.0661395317218404, 0.2859165211674142, -1.8115697402308333, 0.08881964833596653, 0.12903023930091084, -0.06376582198997693}, {0.4426603640907305, 0.7713966112989663, -0.04604050067900172, -0.6372074333649222, 0.9022728386991385, 0.49694251596216543, 0.6517960146084794, 0.6907823324669906, 0.05797572414113726, -0.0036063016511125685, 0.3837861018555786, -0.12506733910804313, -0.9047945663900807, 0.34933893236590885, 0.021767120756120056, -1.3639280496195203, -0.38672540510662334, -0.8100158797030355, 1.0866343911750362, -0.8182264710655653, 0.7644564030757508, 0.7193360875000274, -0.6035188344112952, -0.48640304757617736, -1.7408015101646999, -0.9203876758625813, -0.10765783879083912, -0.0065077202660102085, 0.2575160952684845, -0.5133113791513277, 0.5727555383336485, -0.441467106065762, -0.21318838842455934, 0.9155782790520091, -0.043493418920370265, 0.6980229152496413, 0.8462568846992202, -0.6200282963751349, -0.9504021702743755, 0.5157678975206565, 0.7936290712292267, -0.39385985376938604, 0.24695671662548402, 0.9280718321518082, -0.009647035468985767, -0.3643342726804728, 0.20674039714317913, 0.7758540212843377, 0.5651966543121403, 0.06628282215720295}, {0.5273664780855094, -1.4595491964855494, 0.32677435877633376, 0.6607614297007416, -0.8225761829980506, 0.8150199125016648, -0.45149739727582294, -0.001734540751124669, 0.98241995861637, -0.40453895092147163, 0.40903467766116663, 0.16360702903409918, 0.7769387613625165, 0.3630812929308577, -0.020014074695986376, 0.8487332278421977, -0.29929324591352824, -1.231952174784693, 1.1298339646399023, -1.4154370936488407, -0.9627871164638888, 0.354111585988467, 0.03943459775538922, 0.17758256864976565, 0.5040535533160215, -0.587393770126837, 0.5965927231906295, -0.7332159163296943, 0.10601650715704669, 0.5403899835120993, 0.2604484118689464, -0.9243897395723815, 0.44742074365636264, 0.17263683991102474, 0.039955895455446255, 0.3555191459001814, -0.1185563619433192, -0.06420044720216837, -0.9970033220537866, 0.8539961629753565, 0.023065368921376596, 0.4850839423275377, -0.341941284448231, 0.0556818531244061, 0.6100553601180079, 0.20392962485491317, -0.1692074792128242, -0.355093621157424, 0.001107160990650109, 0.5567134020253479}, {0.1139642935121683, 0.33553428423951726, 0.8857130370863762, -0.36181720403292456, -0.39846246661369356, -0.4231185197214056, 0.9331203365341982, 2.0606093115004054, 0.4093694028581316, -0.9593396107694174, -0.016470341525405052, -0.446499679400502, 0.34806358623510947, 1.0082303954896477, -0.08878150251475692, 0.5997474974846866, -0.5432930375706002, 0.4874941412986261, -0.7078799604663084, 0.7173298680569474, -0.40301248309211823, 0.057637108250654705, 0.6526354097633189, 1.554364488062704, -0.10572695032444068, 0.12823718802419948, 0.2918478058742404, 0.6083859647276744, 0.46498392785551707, 0.2235346859063066, -0.6536161813299477, -1.0970060262760812, -0.4069049996206524, -0.19753684954351147, 0.9446612120931652, -0.07935639659270644, -0.009077209384046775, 0.09511223935409552, -0.19513554983698866, 0.01996260167635053, -1.179500352366995, 0.22013905476810502, 0.9231217458204589, -0.8095957937159033, -1.306746466599383, -0.9734891748123216, 0.4080705300422825, -0.42344237830246145, -1.2019536402322615, -0.3686601692191167}, {0.016130644034779484, -0.31914653676268423, 0.07819156479605427, -0.9302568815817891, -0.008329829193013005, -0.08700524420059638, 0.005284435153144424, -0.48696451753355374, -0.16203993737659705, -0.8220662583117273, -0.14985678719541418, 0.6059332238367248, -0.7554846865848147, 0.3853478148247276, 0.0022448577490305913, 0.8745777152953783, -1.277863072078173, 0.4559262852959146, 0.0569525182626956, 1.0857058257606371, 0.017589634695063867, -0.38771089708613965, 0.2876552304670872, -0.6290389167466581, -0.7115835815940943, -0.4635885841777839, 0.9345044214536496, 0.0029375531106072255, -0.26387878271249643, -0.8113617308130654, -0.19514629656987162, -0.20420956650944905, 0.8082711362752404, -0.9051304600755885, 1.6908700200793203, -0.8362761130524266, -0.21341717755656087, 0.3792174724905122, 0.15852876695586504, 0.22351517639049667, 0.4302983234892681, -0.017316702558243025, -0.015836713506969906, 0.011668193888430262, -0.6006532463609466, 0.3051207025394771, -0.8160311102292788, 0.04973381301507964, 0.33892862617494157, 0.27789182342889784}, {0.007913654114608534, 0.8563757869333438, -0.034374813534428124, -2.6941074777277145, -0.0619034435725508, -0.49061454510874036, 0.9900186834321112, 0.403910506258397, 0.09373047506904086, -0.8367843815090656, -1.661908094820608, 0.2686744868181259, -0.5715274454999544, -0.6890124580615075, -0.4913303107091695, 1.0632245349714544, 0.03933252155198797, 0.3256308080255732, -0.07729199289644173, -1.020168487821534, -0.19420026105652477, -0.9050964943485633, -0.33211330780898285, 0.1959092137832421, 0.011054759871281674, 0.23192227544768146, -0.8423233634579776, 0.6683455542465829, 0.23374494810682006, -0.35383824925324125, 0.9920171474778203, 4.1439404297117495, -0.4814844589527231, -0.873468718760213, 0.0896828964544455, 0.0012890497707762627, 0.05374890648528289, -0.9440463692162611, 0.2088114594161885, -0.9410724030836992, 0.5304950308732668, -1.4292121781375458, -0.41674000992437676, 0.1470746234045719, -1.455347430701513, -0.5800767347654555, -0.12272512599428764, 0.022375988412139947, -0.7926187435821992, -0.03796198253077785}, {-0.11938337864915972, -0.8278383181921145, -0.9568201744582314, 0.530359732732476, -0.18139839117421785, 1.0312444375711671, -0.7321313192474546, 0.5051245819646357, 0.15047672229933431, 0.5461451281078009, -0.25901558981736555, -1.5548106807119615, -0.4891022473473516, 0.551310217738699, 0.14151881331558647, -0.010597272220525521, 0.02868520476776317, 7.237405870768813, -1.298729114629668, 0.7110085828601043, -0.5595769572477292, -0.16053989380472533, 0.033434211054251595, -0.11957838337564966, 0.7488194179581904, 0.5266208997151589, -0.04896495057217311, -0.4244935726609711, -0.1187716934731449, -0.983262981856508, -0.4947468025273033, -0.650793748811124, 0.2499742088139254, 0.5375499033848856, -0.867476085159858, 0.2504216634644381, -0.4326762015693975, 0.8464420020028696, 0.12338813294701431, 0.3854683562340968, -0.46875339700864416, 3.4884558194737347, -0.01779187748133121, -0.49145221257420446, -0.826314393699529, -0.979649623672621, -1.1865896956606392, -0.3315686489519514, -0.97372368505003, 0.8965177366090928}, {2.307902413119637, 0.387766490032871, -0.08845426810606642, -0.43763988427612216, -0.1195060690850005, 0.5760750110498886, -1.5546331668117532, -0.05374096639726533, 0.016188663040461564, -0.09702476641351274, -0.6662922662346416, -0.4774108137597599, 7.921739616929546E-4, 0.3800794613265872, -0.665285834071109, 0.9391376784908718, -0.29261940015927723, -0.18840835199765965, -0.0017341875940245393, 0.19652517859676105, -0.6616991094610984, -0.3867266049894662, 0.9803220712733902, 0.11210838446058347, -0.9157402272724642, -0.9867448536559311, 0.507146604293482, -0.3460352414114057, -0.24793980935488058, -0.03241720158744621, -0.9218312163397646, -0.160634886939075, 0.16645722997976553, 0.2769592396530858, 0.9802883899132795, -0.5985669954158498, -0.8191245246261316, -1.180560931313196, -0.31369023176945904, -0.741666930147979, 0.5254577339317807, -0.08085081937602578, 0.0664650917544678, 0.7636201215860507, 0.29568187059183276, 0.714356283254922, 0.008899724105996421, 0.2949510202919178, 0.07423490500916143, -0.09597601419246482}, {0.12736118191263573, 0.44025271528227194, -0.7101185491579864, 0.3134200471967783, 0.006981961364361958, 0.9043839763907141, -0.7630538354104266, -1.0806922817728986, 0.14059456765286216, -0.9039998485521079, 0.7515550193310587, -0.05119844823231551, -0.625212106007609, 0.10473051035658669, 0.7073656687718739, 0.5159936023976672, -0.2513979310831429, 0.020555337043924204, -0.46108755681697633, 0.9977520615110365, 0.3873958152451084, 0.4097472472962469, 0.13343253749343525, 0.7624529241017135, -1.9063848650711996, 0.4540986533715463, -0.2995611747625875, 0.7263365004344335, 0.8783077261865697, -0.14539103453266533, -0.1241436908178036, -0.007734734755880162, -0.782429184449625, 0.4784291807686114, 0.449713934256218, -0.19998519935037576, 0.3590944224635073, 0.4183053696201331, 0.7568007992152211, -0.006759411646031696, 0.10293260952808492, 0.7169076421721396, 0.919573928374525, -0.6376020411268082, -0.6349221089318374, 0.3022062707162154, -0.4247844127495428, 0.33516514907421285, 0.9794005374946617, 0.9685488154474398}, {-0.3289544064732064, 0.6529097434393519, 0.3289166297670765, 0.6515281736332554, -0.8396355538568967, -0.3407447480871617, -0.9586217111093693, 1.5011400052906054, -0.08883285773692538, -0.5052982441318752, 0.9542390744857456, -0.17596830690806528, -0.1919720934397533, -1.1270687151230476, 1.307668297140709, 0.6107671569459184, 1.3806859497599646, 0.31068013390974536, -0.8010747795797719, 0.8628896105775525, 0.2215802261882325, 0.09457235486603865, -0.06466597345056835, 0.02126122396132891, 0.0326667433876246, 0.748528260365769, -0.002846994485792432, 0.400929348542216, 0.48498946299062906, 0.9973807211657061, -0.2707180817530658, 1.1432071675988926, -0.15849692558575712, -0.16395757475852196, 0.10044211592971838, -0.4762366658364494, 0.6727798054164635, 0.3419129131030878, 0.23929950932385458, -0.7254684204771662, -0.25577842708854304, 0.22038275292463072, -1.1074201706552265, -0.88732760810341, -0.008871740954762718, 0.8563167884141334, -0.469442211225571, 0.30249935265219374, -0.42636737778978384, 0.5423687793500953}, {0.8751917149804559, -0.06347183636598122, -0.45204301979062056, 0.852555683604515, 0.8094802197946991, -0.6521964556701512, 0.4941622167138544, -0.13452984689121056, 0.823643969211028, -0.10341441881030566, 0.5690609171455082, 0.10616239375518992, 0.0175853635120479, 0.7964536784360549, -0.037413526173166976, -0.43102401398588186, 0.7460133881199873, 0.09998848316327186, 0.19469748506317391, -0.07318542987288883, 0.21442233912605058, 1.7800035263258154, 0.17057839457193089, 0.35562010094879337, -0.23155123300726296, 0.45759468354913313, 0.8590545473086637, -0.5993805018223652, -0.04453490763300871, 0.6216377929537216, -0.5564678682253155, 0.6002540938074152, 0.9112497431359288, -0.14438839701011372, -0.8580396408558841, 0.005123979968179974, -0.06873284666283741, -0.34968494618771295, 0.8118944153920806, -0.3948489758044571, -0.36092905563404853, 0.047678543321733276, 0.8745116791889427, -0.84994569117761, 0.012835456744413554, -0.2921486415116825, 0.855035677782623, 0.20139881486038536, 0.5047931174961047, -0.1488077799465411}, {0.49074501662267744, 0.0649308975402958, 0.49221542909412963, -0.8355751479985023, 0.013704755928350005, -0.4202012395652853, -0.45973087556951175, -0.8069885847500735, 0.6135758159234395, 0.38022567605565794, 0.9774631619790259, -0.46143255808001005, 0.4546770073599911, -1.8252540290154085, -0.6344668787129342, -0.10092409357795112, 0.16440461671001874, -0.5322769598482389, 0.08266055805796202, 0.6215128444784292, -1.3463730088950234, -0.6294581722252495, -0.13204284834057822, 0.28250056221165215, 0.4431982077983294, -0.6131450077247524, 0.7263793446961153, -0.21259220225820274, 0.4846275534544077, -0.7027459317601459, -0.3482655394783547, -0.12713009793365093, 0.5886189845879666, 0.8960867093135483, -0.7765216866486906, 0.6563560412888578, 0.9386027118265265, -0.13758849177645233, 0.7036628602154062, -0.10432625862832795, -0.2514098907733056, 1.5497141825297558, 0.7704342012119562, -0.38536040106142444, -0.6919664680787276, 0.7511980373485001, 0.4706550334332731, 0.3738976956099449, 0.030605702360337345, -0.02846898568172823}, {0.01304586994047452, -0.0907116669293693, -0.8455984433786663, -0.19736382317140944, -0.010555732554534944, 0.1752579953974278, 0.5253452154896223, 0.4132657426712556, -0.6249473054379048, -0.7908519353282268, -0.7501472744959612, -1.0093321229384008E-4, -0.3474999159977785, 0.206538002406598, 0.08745554532103957, 0.7186746889479081, 0.6083536263253368, -0.8743765030964428, 0.8097630632175818, 0.639193552410327, 0.9459083591002123, 0.10555139390897494, -0.6070962013053454, -0.35198765486233463, 1.4029649512171112, -0.098660848979862, 0.8495743099154329, 0.8720511791406438, 0.008355460220490685, -0.5656499986111205, -0.20994202811087437, 0.29075855163557335, -0.28465817031749, -0.674036220933218, 0.9879124377487549, 0.051345010863494966, -0.2667157511056486, -0.07776327830851812, -0.32229005553207446, -0.006799157048872413, 0.2574463554195954, 0.09688396100202235, 0.6390327784900844, -0.01843990423094926, 0.849589811413145, -0.4123411335076179, 0.11615018701158153, 0.8125065627538162, 0.3509805553720333, 0.006465769643299875}, {0.1194978311012228, -1.9488118209905858, -0.1458080218392841, -0.775157252761939, 0.03681176661968921, -0.4022529237481598, -0.9459226918309795, -0.730920100610222, 0.17058302819989568, -0.008881995317537363, 0.1298774418275201, -2.808557485936563, 0.7862491633602957, 0.6751575147897387, -0.22345269379688473, -0.15937888106772544, 0.49851458957816, 0.4079607545826138, -0.44988392993352355, -0.4247509433958265, -0.4058593185390188, 0.8799299014399737, 0.5649484371957256, 0.23229443080457302, 0.09482503946981313, -0.5297896863005556, 1.1001529680942017, 0.45683834869322193, 0.9565916517276813, -7.752155578257546E-5, 0.382738575702269, -1.68633697911857, 0.17059325236703415, 0.8154819454483839, -0.6565839559564082, -0.38912682087061223, 5.097421238013953E-4, 0.1258959203903246, 0.21874808389255537, 0.09938542086754709, -0.36650667156191225, 0.7246761312922532, -0.020915138177103054, -0.9196064532156367, -0.8728109800070984, 1.2409322386534576, -0.12898912995417539, 0.08119578301485975, -1.43570164181272, 0.09734525229293833}, {0.14389965026743262, 0.16146081139765456, 0.44459969665566856, 0.6227472859766283, -0.0369430923343067, 0.5743215462082127, -0.10514857829086456, 1.5027178118737468, 0.14229505148352933, 0.1336891121484577, -0.9692905886970431, -0.48074916053128547, 0.7510609369491505, -0.12435537274068033, 0.22345470922231367, 0.11680190645175258, 0.49662118204373373, -0.284883420418109, 0.9513749043104405, -0.012216115664832482, -0.7835465225629615, -0.1399535410910587, -0.9101676302922608, 1.554538077975657, 0.07835108240404898, 0.02337174853727704, -0.38280718186733426, -0.45353685693440676, -0.4953590968344621, 0.23003423179796978, -0.9037738209205824, -0.704542045257924, 0.34066880718857506, 0.09791427199998637, 0.07530512593951078, 0.19971460405370278, 0.8078269562281535, -0.08684057695016549, 0.41292840234357125, -0.026530573397162582, 2.84489127219331, -0.3364093450009418, -0.7502165530866209, -0.09187378697526102, -0.19506640679870002, 0.09243401661231222, -0.9096471287791686, 0.0669953615319645, 0.19245354408492976, 0.4703953923362831}, {-0.03623283827057043, -0.5661370215369752, -0.19791375756652976, 0.7186682825985602, -0.04725811674793878, -0.6720634624580222, 0.39634717317507917, -0.009264344112070187, 0.7904389526208735, -0.3735041047297797, 0.5593016690783871, -0.975447456019931, 0.17513294537779567, -0.6645658060342738, 0.9013614484366338, -0.8395441106826674, -0.0990391489685469, -0.3670181286727776, 0.4963688831295159, -0.5610608831724393, 0.003398555103747768, 0.2472687736550505, 2.646669311172146, -1.1660240358432032, 0.5367888156668079, 0.8689584555475849, 0.9192817081718401, -0.23938394429970286, -0.15033619594062575, -0.9326895349642002, 0.8997601825023314, 0.2687732009116961, 1.0852460009241098, -0.06277277902106237, 1.8515724313387578, -0.234937401915438, 0.046210441048809836, 0.045165721284449845, 0.12470565406490948, -0.11095355180987589, -0.5861103536979413, 0.5657754208101209, -0.3842476678484483, -0.5518241222199316, -0.4652217829533132, -0.012352631363571787, -0.6795115221417624, 0.3593418342175793, 0.5007490782256188, 0.03530166672659556}, {0.36779645024294627, 0.8585574351153642, -0.9796555283621986, 0.09878726923747205, -0.32269945735431627, -0.7687985125403718, -0.5323527914440705, 0.1255133159702677, -0.5811759797723779, 0.2101893872069939, 0.4879894659868955, -0.06336175999354432, 0.6850146807037041, 0.3843369886001944, -0.04275315633685452, -0.45522764741922045, 0.5143179407281295, -0.6635435408696685, 0.5894983114590868, 0.6057217757546742, -0.07595152796947291, -0.70588871829775, 0.4036056953424372, -0.33043984197642967, -1.594024003653597, -0.863496445780078, 0.5850242490026858, -0.10103479083460465, 0.1308832715522133, 0.7914290821288104, -0.8407457850917256, 0.7803811787018253, -0.11350417059014317, -0.1892061260138671, 0.9610797244007698, 0.07102415466285468, 0.7783490241527702, -0.8143781953194129, 0.5894437703493659, -0.6800723389657033, -0.8301088881932106, 0.9264055983039712, -0.0529420733915984, -0.2719008080261587, -0.05842855369871514, -0.48066975306642634, 0.4710238834127911, 0.635993135605542, -0.6188879273434971, -0.6906060416951356}, {-1.5386563415178887, -0.022508690816518483, 1.7198291163830157, 1.8900506318602286, -0.4580442193987291, 1.6767160310435802, 0.028674178210423142, -0.4051234273513822, -0.8263659085359818, 0.9547830261869359, -0.15833014698017323, 0.439119615342513, 0.6939038597052385, 0.845933602057804, 0.10600616969509757, -0.3317150769849153, -0.3206511993896832, 0.03639314731880037, -0.5502266715389077, -0.5027571071245658, 0.5175940977662341, 0.7181635173431005, -0.2630302993178889, 0.4173038198668706, -0.08102179473625216, 0.7075811223612853, 0.017996962831406598, -0.5064505463568804, 0.17020450785339758, 0.840501602745428, 0.11150542470060097, -0.020711845266348616, -0.32842653178241044, 0.190165620483143, -0.03961342512016533, 0.776184349485977, 0.20252329785877524, -0.007211298525083635, -0.6857116297150636, -0.34565729844241855, -0.8215823148742716, 0.6203377641117851, -0.27576811644013977, 0.5078054384156288, 0.053380244116928655, -1.872130328709759, 0.6147041100245935, -0.3065842649705144, 0.7830021804337599, 0.0880576885668845}, {0.12560883553128255, -0.26281350293358896, -0.5701105118091496, 0.3232992690151615, -0.010845126988891918, 0.06831618903063297, -0.024288737375078, -0.6611026077114874, 0.5144235953978925, -0.37683435207202765, -0.9380921322183335, -1.5171604773469571, -1.225326726243061, -0.09521996317784565, 0.3485346627546644, 0.005227438290878017, -0.7855132899769879, 0.5762201169804639, -0.025687417478113393, 0.2901545904229692, -0.008701544509978159, 1.0336988755206067, 0.7636125873279037, -0.1263363899045446, 0.0586765577571573, -1.200407243319394, 0.011965733082397234, -0.49736535052874803, 0.20519968195104044, -0.6921913821875092, 0.15887799647453973, -0.13615274783356454, 0.1835768299461349, 0.014162793698612619, -0.6948396090897028, 0.2591642540643433, -0.5523607228728162, 0.07581279870773698, 0.23366460912073195, 0.36708291530086656, 0.013042781076325201, -0.04797534463600416, -0.003333653530075179, 0.07008382779409783, -0.10402583684940048, -0.17986433264232593, 0.9247151564437466, -0.25153500684101904, -0.6590797742096397, 0.7276864730142221}, {-0.8821430723017158, -0.7723694669174819, 2.037679377933638, 1.0990966113638347, 0.9807528648341942, -0.5498724249192368, -0.765448894636733, 0.7402177321680872, 0.29400626557345433, 0.3273135137915326, -0.717937974956824, 1.0686053234365434, -0.4604630519164228, 0.4322147460510989, 0.41559090310100644, -0.341093343621501, 0.5390842973258334, -0.6875211036640609, -1.158884327301817, 1.628479582542348, -0.7150365969689643, -0.4650862782176879, -0.011041171755217294, -0.26894724022224187, -0.6245236350331904, 0.0707785336344781, 0.01985796593944165, -0.6746857079901367, -0.45330197624730006, -1.4085965160095362, -0.1447317472547127, 0.3215218243090209, -0.3318744106779139, -0.16177938102099054, -0.1573493753816591, 0.7738286274639101, 0.02829771396162939, -0.37317946578286776, 0.014345970921657354, 2.0445341048106265, 0.9383793537731926, -1.4052163475589718, 0.009814789288825908, 0.8119666269330341, 0.15359372020339124, -0.3091091579110927, -0.08682494164357779, -0.09809640527423162, -1.7242639389851429, 0.8802226713135759}, {2.948173008028326, 0.38769308744723974, 0.6829922930610236, 0.6710703921136654, -0.3836741252931224, 0.8842430452615144, 0.6920129476613199, 0.3902545302226774, 0.9796419771239793, 0.0399812460947175, 1.2550207532328717, -0.3021425625003097, 0.6207704442770259, -0.5542310515094262, 0.08415302187261076, 0.1250441257804915, 0.32479074010180087, 1.4925290627321524, 0.9883101965442065, -0.5695083203349729, 0.08485952141484314, 0.7703149110348253, 0.026451413148751286, -0.3368128828061956, 0.7652544942292672, 0.7871759300380519, -1.4547354896212057, 0.05345659822646698, -0.5621306089596436, -0.9264604333014137, 0.44613635509304217, 0.8658652048538867, -0.11942422127488096, 0.5163406977191256, 0.30654167461614185, -0.04886546659406554, 0.027501048547962537, 1.3048477608246951, 1.384392468518063, -0.4390651863047474, -0.868921062113829, -0.7935629109518847, -0.20908609341986226, -0.762944710832425, -0.030151519834006206, 1.3632993369032693, -0.4059421145785638, -1.2249687533857667, 0.8726338455484791, -1.3894092751304443}, {0.11017662899406688, 0.06729969796880697, -0.7308941485908662, 0.5891916295389555, 0.23466250806805, 1.139965867125479, 0.03662904970748651, 0.726571497585528, 1.902594795948163, 0.7757775047876856, -0.8823590577558647, -0.6203674892901865, -0.3542981541011445, 0.08041436282805411, -0.201727795674663, 0.13667524435790201, 0.4355682392741662, 0.0028147951998300576, -0.5105288994033204, -2.018836489754262, -0.22547169908696013, 0.24837886716948754, 1.7134198398031426, 0.2657614966233279, -0.08317961059575496, 0.3695075940384892, 0.8819519811282208, 0.5495880633724326, -0.8257210686703086, -0.22109967298854236, -0.3797485528720743, -0.516592896983262, -0.10868677666698111, -0.45053251875347433, 0.03420779119068795, -0.5863335148102502, 0.6427380048877598, 0.5246776564133164, -0.022445708315618207, 0.8619483182860816, 0.2769497316116872, 0.7401081044828886, 0.2645090390320244, -0.07703187428963663, -0.00995401867454504, 1.139954916265731, 0.6000399609259659, 0.5492602749348066, 0.63512678515673, -0.5850427478961575}, {-0.14664880657350884, -0.8054044889527161, -0.574696025539883, -0.09319563250660634, 0.7441458734268926, 3.404404044645012, 0.012556531422473816, -0.17849733205911314, -0.9492321766560249, 0.2677039843462248, 0.001078148535533526, 0.5219226137104072, -0.21205206783351635, -0.9841236229116035, 0.13538338569022912, 0.36494585711966643, 0.36432043679298176, 0.950547437056793, -0.6548207755997162, 0.6254168040245656, -0.3570155665856296, -0.7602435384714954, -0.5011326579398163, -0.7952147248000032, 0.03697292944524563, 0.904909817836576, -1.1225340444422112, 0.15091387914408783, -0.19677830525651174, 0.25274693534023734, 0.6823202276226827, 0.8362124008202863, 1.7037654500559105, 0.3693377645276501, -1.5227507084152272, 0.0166887199430636, -1.7269740332908328, 1.535742513565852, 0.5657023578417697, -0.29750993864869657, 0.29930661362357003, 1.090403083740864, 0.022095775155661593, -0.09891094073103625, -0.9571801050313753, 0.41873879159296057, -0.285565028571384, 0.1672829044224499, 0.024307311435165513, -0.5347309924435167}}), 0, w1, 0, w1.length);
+        System.arraycopy(flatten(new double[][]{{-0.7024498868039007, 0.4314220247984313, -1.5766116937531223, 0.19004873837895409, -0.73075763033653, -0.37848965404235774, 0.8602678301525852, -0.7989744703511572, -0.30332480383531607, -0.9367320959015732, -0.8065915412736115, 0.4936497958143866, 0.5070178456250272, -0.034060437890239464, -0.769033184222104, 0.15085316913257674, -0.759731105486464, -0.33980445289493283, -1.0274206388938285, 0.5998060421932467, -0.8220914143586484, 0.13482314433123185, 0.8429567006976317, 0.2701705916696975, 0.0875893425568286, -0.5708580607715701, 0.8374732065377204, -0.6667114905322729, 0.7024173579005843, 1.4361904602892124E-5, 0.7342723875691699, -0.353385680052243, -0.17173104817684048, -0.23678744941247284, -0.9407404400785315, 0.21234439161421684, -0.02296941594764701, -0.8786690551819025, -0.17422311706557395, 0.9840439775361067}, {-0.13521402811054983, -0.9194168925726598, -0.4115166740138796, -0.4596277333224914, -0.8273388378803449, 0.09778796044500739, 0.6286767834628513, 0.03465818783532636, 0.10435564543742082, 0.3089362977585248, 0.02853361330054205, -0.8528754277217696, -0.002006630061391812, -0.05575273290986875, -0.00986865514781986, 0.49012442197973183, 0.03478750080594765, 0.39475871356440273, -0.11675541219158504, -0.3830995829409567, 0.23156665085410855, 0.05601400333843382, -0.05058837125781863, 0.05571174070755597, -0.3801342917983257, -0.257575000575345, -0.19609154961769465, -0.16084274854385297, -0.6943465714955388, 0.2341128514905984, 0.3640698906460611, 0.022222746779349878, -2.661394516719938E-4, -0.6669769588063761, -0.8378652008639143, -0.6011062753712553, 0.2336599356008382, 0.4780607171457554, 0.027354992869361612, -0.1519821133924022}, {-1.1857921578673467, -0.12741227364621835, -0.3825198067343764, 0.06180801683860476, 0.36744759505543656, -0.015496516077823102, 0.25212999827406835, -0.3198351054721378, -0.8802528028782057, -0.11753369608980413, 0.0929384973075782, -0.42460781860968944, 0.6598400806046009, 0.8006603227727016, 1.8139671082283124, 0.9912492840120204, -0.10691835048799048, 0.9310608663496778, 0.02341793863608668, 0.4538438955335662, 0.8506037641969129, 0.7401414190177111, -1.0687704452367213, 0.29551326737910655, -0.3683304563015757, 0.8405211011344436, 2.6719772363466614, -0.025100978284733046, -1.6627985837240373, -0.894872872661052, 1.11774028156456, 0.08811015503712039, 0.09402931107710177, -0.7381608673522988, -4.160786434072905E-5, -0.8497351934973878, -0.12284573950620377, -0.32517741940677464, -0.23290820193900788, 0.1019858422766858}, {-0.9161201940096144, -0.9073098356199374, 1.16758394019878, -0.1829806472125861, 0.3897483491033864, -0.6726667831470184, 0.10452795741825857, 0.6360788209428342, 1.7023492929615631, 5.786812163543135E-4, -0.969842454363387, -0.7324686286159218, 0.5104951980253211, 0.6037480836499842, -0.0959172832405224, -0.4170400835373751, 8.622022359858345E-5, -0.5015549013999099, -0.06652431678261239, 0.1712120691435793, 0.5410760219184996, 0.03383043100909866, 0.07728808254480199, -0.297365831674912, -0.6198539753350272, -0.07619113341590002, -0.16714940447736165, 0.32940334927609793, 0.23579497082015233, 0.4708099934914822, -0.5007653905251277, -0.028803327665172684, 0.03302807845431123, -0.08773555297554303, 0.35717936061177397, 0.014258746760280229, 0.9956690387042364, -0.1269847676198559, 0.03173454903471958, 0.7949725888775205}, {0.24478177516493277, 0.026762904957650647, -0.5013871124139859, -0.27462781537174447, 0.7713530493891161, -0.3945488665501098, 0.16451301172687716, -0.10572968582247463, -0.6316972494393578, 0.0010441460429645752, -0.25587164551913205, -0.3971336416152139, -0.07126142165604307, 1.3254004999639073, -0.28366434529790335, -0.30971312348371743, 1.293415054059905, 0.012057425989114042, 0.6469380976358549, 0.4251835731091307, -0.0018315101970785201, 0.047039362692370294, 0.4860375029547339, -1.3419082334573644, 0.278397567861691, 0.1270466622685258, 0.4072420332122499, -0.39682622570774173, 0.25028298527588233, -0.3749549964197296, 0.2523423001823012, -0.13407293367623085, 0.35396719523934084, -0.4220209777598017, 0.48888079663187156, -0.035342704181997364, 0.13698981730670332, 0.020733811657962266, -0.38278447362907375, 0.5677445673514858}, {-0.983013847029683, -0.36511441669317657, 2.159757784531643, 0.34803177809198105, 1.0617669829644965, 0.5577882482650129, -0.6703298022873828, -0.8419639472400914, -0.5066592655540203, -0.4107231867985583, -0.40616400237872896, -0.2809787644707438, 0.14641049564891753, 0.6756547211031705, -0.06690509994860866, 0.06675102155243555, 0.6251545004504955, -0.9897134886142409, 1.4447628399356125, -0.44574659132718986, 0.15278517643413636, -0.06498645476125042, -0.18457145971855957, -0.5821376415433912, -0.6592129377808096, 0.9418239280212182, -0.08640763622914105, -0.04787409270010645, -0.31877817371174827, -0.7735679929437533, -0.7199916011294503, -0.03947171647367625, 0.18242670025489094, -0.02643532188467256, -0.8511085351196361, 0.10888329198589984, 0.19514292535931713, -0.16361578383455422, -0.5412731803476225, 0.2126180566549188}, {-0.44483249511562906, -0.5126370975532507, -0.25580346668601023, 1.9679701274206987, -0.6508882189019873, 0.002367603737778151, 0.26559281851230987, -1.9002254303228938, 0.8443853142989772, -0.416675448586476, -0.15817694690425066, -0.24142646066996454, 0.40717030254125763, -0.6645116585616175, 0.425221924757472, -0.35449073253171326, 0.6904177216592802, -0.2653432091408309, 1.2150828482377334, 0.033508975359630266, -0.002294438311374103, 0.502214059469761, 1.1171279167165942, 0.028031562013669298, 0.35542198408174097, -0.9324908076055181, -0.9868540682717237, 0.40380078480387743, -0.24433693248211014, -0.49148423481140807, 0.7048285657577493, -0.9697346414710719, 0.21313584473263478, 0.6583169970877178, 0.14304811976910048, -0.6367486580433264, 0.6223836713520438, -0.8681719684683245, -0.17956786152892878, -0.5953115772612607}, {-0.08158576235156245, -0.10550656660272306, -0.06089262335904023, -0.15724352665460462, -0.28835475627984153, -0.08828424621331574, -0.33555890499004803, -0.15225718733234705, -0.6044034401710161, -0.30590815873744753, 0.592164198111444, -0.5543662849349718, -0.21594229318309188, 0.3946585539200097, 0.47202582638656726, 0.5332479565082235, 0.542542639620265, 0.03027402227739953, -0.39420413149288236, 0.11552658847659991, 0.0038228333987222474, -1.113766833714216, -0.0833837300189514, 0.9268377783968951, 0.017480526035025923, -0.7466104278052772, 0.010023274310048163, -0.6116467863583948, 0.3663162622491319, 0.39588536254185813, -0.0223684097348778, -0.7632172623598803, 0.3625338292445497, -0.28027023996133527, 0.7347825997394801, 0.3113818538427433, 0.121756544958733, 1.2226464297640358, -0.25341533916616865, -0.5727849632330064}, {-0.6483822785413929, -0.3290302430041504, -0.3326561541658781, 0.14977316088073542, -0.4653667760873723, 0.6723669344208671, 1.1064621288272016, 0.6513661649404986, -0.06633172000951237, 0.21854712962437528, 0.4510632293968057, 0.6425503495413669, -0.2326220161578092, -0.523237051094436, 6.551403765869637, 0.8166626955733471, -0.4022195800732977, 0.39830880642396765, 2.6121388805129477, -0.042029935372670725, -0.002348881047482907, -0.7426432362322446, 1.1779411815478955, 0.11250138590442976, -0.3533952498457871, 0.6343044533150717, -0.8409987552364562, 0.5221272270787582, 0.36371650661283383, 0.67720212041037, -1.1574253077346437, -0.44705536120775313, -0.012628239747135117, 0.9692439267441559, 0.0160841775322263, 0.8632345182413477, 0.6690691110479945, 0.38711997955388355, -0.5323004681554803, 0.008333491522938706}, {1.0599130836088606, 0.10839936668188721, 0.200467859624472, 0.6867650275924702, -0.5561678683181093, -0.05142460558388104, -0.06342500792309477, 0.9170746317213379, -0.7608075948177462, 0.5696003852588516, 0.21056972434605759, 0.11220250726147178, -0.549359886118191, -0.5515230338212829, 0.8249365793770531, -0.2707558776402619, 0.6012562246718272, 0.5848658294229239, 0.2778376120168251, 0.46771435584792254, -0.46895169979958484, 0.19346605566687355, -0.5056669216479215, 0.11703765820657787, -0.39459217251265666, -0.37824502312904656, 0.9302562509658834, -0.7099933359492996, 0.5288189713941018, -0.28013146364363284, -0.8657216274137908, -0.25896788387503755, 0.301921821391896, 0.16847771466099778, -0.16340471008293272, -0.7790191211715425, -1.187648213417746, 0.480561249103832, -0.4341269384580447, 1.1460652071652981}, {-0.9331857184787256, 0.726126875440781, 0.14708868623567706, 0.6203173460017029, 0.416020775319152, 0.3400044155551744, 0.0309943892560601, -0.2738329943943332, -0.012793360445383595, 9.607189499402283E-4, -1.4152737543715666, 0.12144840560358738, -0.8716536501300955, 0.8744516493469938, -0.36435138341438006, -0.8421271872907059, 0.30718436657285864, -0.20974368135096855, -0.2774050385836764, -0.014958797917693945, -0.056746975124775556, 0.34709491230985307, -0.21594719648309352, -0.032666086804815746, -0.5229173137803798, -0.013458212288653314, 0.08664286290890992, 0.13570276056635416, 0.8055830506684207, -0.5846808805530794, -0.2252498165010186, 0.5968336813442803, -0.6948822439118651, -0.020613107967101918, -0.10041099697679012, 0.8594559012548346, -0.8766924739058854, 0.9793065025631409, -1.9827749640382557, -0.38998004938416386}, {-0.5979264397590784, -0.5842436844718224, -0.6279382319474764, -1.5821606030556743, 0.25289736579349975, 0.3249572264816514, -0.9787426895927422, 0.9440657887177122, 0.1856494299151119, -0.28973838617593745, -0.8122951377714847, -0.7134344953787768, 0.10759763004157441, -0.39477492707639883, -1.0713120428038014, -0.6439459896364172, -0.4679837022406801, -1.3794832082429644, -0.6866241844730884, 0.02985588673071488, -0.8806848119236872, 0.43046002570931985, 0.8024350187291962, -0.01421729260115751, 0.2575701961841492, -0.8028176322396219, -0.8827539209718829, -0.031447292237059846, 0.008719156217873903, -0.4994783626554197, 0.7832198530268992, 0.7178674736732169, -0.7346506342498373, -0.11191320332561538, -0.35267054204795323, -1.3065820862037247, 0.200386152750766, -0.014054085611165678, 0.9478326045799601, 0.5723109615132249}, {-0.5282698032221261, -0.1921212844975925, -0.2515915850265845, 0.5073244764335428, 0.12490808149818468, -0.7077292054135351, 0.8935019479878464, -0.3913943242667748, -0.15526997877669424, 0.16281398811392603, 0.04059785846172823, -0.2610460217257158, 0.008851758430826084, -0.32576454955131307, -0.43204455423001953, 0.7297875240229665, 0.30441661086749416, -0.9804427878112731, 0.9751027469296094, 0.4999013245224142, 0.032818344934913535, 0.6893806984351141, -0.02734353047079083, 0.436029966360112, 0.4004647379810773, -0.0028179119699412694, 0.10348850462646242, 0.8576259655880327, -0.11782289724264729, -0.29288606542063444, -0.9283950669525001, 0.5829775453806041, -0.04122500590019996, -0.21526007860035618, -0.856447965523256, 0.329862440751453, 0.6339476231953547, -0.05470741266298617, 0.763196253212945, 0.562724254134142}, {0.192395436888682, 0.028962482190266103, -0.24599088779597475, -0.7177823572439148, -0.3954893375590752, -1.430206441848523, 0.8155818810595431, -0.9417842137472823, 0.09184568895400701, 0.38498815873014514, -1.255725295160321, 0.10635212360124328, 0.5345059139928852, 0.8522097064713016, -1.3717618767853241, 0.22585439370977164, -0.482015467116788, 0.9816053248595789, -0.07243498284629293, 0.5616296838693509, 0.15749357589129453, -0.25323629629719285, 0.10646604617670019, -0.4026940529051328, 0.04779175007554207, 0.12876512977088184, -0.07445519111455927, 0.14319817214043806, 0.45512283153839306, 0.014581104268003665, -0.24268008536656657, 0.24127811411840838, 0.22065229444217604, 0.0398479584183175, -0.4858629357706916, 0.17614456564645375, -0.4729305622262503, 0.039060952693968316, -0.7998489302591034, 0.1768980720802731}, {7.798254077936566, -0.6410228711969184, 0.015569640616312386, 0.5477567269836104, 0.3430086021388068, 0.18529552226263535, -0.13502339121885007, 0.1089542868823619, -1.4864807299648866, 0.08444261354128613, -0.30026917323204505, 0.9475819096356348, -0.9225871605925096, -0.1600740352092928, 0.730079377388678, 0.6122913906573938, 0.3980203624298943, -0.8252444672736452, 0.38965301117386625, -4.699910686402692, -0.40489725525663056, 0.39214201050723707, 0.6489582449231766, -0.9812762054560918, -9.581493680807398E-4, 0.8871019580256736, -0.5008210339421448, -0.8684687311356094, 0.25746605473532, -1.037056867383075, -0.8045564617640748, 0.7073834836500337, -0.13297331005247237, -0.12532800609061176, -7.667826157081534E-4, 2.8258279335919643E-5, 0.194534830670264, 0.025463283460155167, 10.332794232537255, 0.15236861523944809}, {-0.7001590837537157, 0.9394147017481882, -0.5574309000385116, 0.007347442865606482, -0.8448814523343973, -1.8256917371188321, -0.03724708035737301, 0.4408101181992852, -0.9704265608453146, 0.11806546221675607, 5.532843254516363E-4, -0.11368322699760623, 0.793420878688152, -0.6920476386379641, 0.770499516179892, 0.5939731773706717, 1.3771365652558305, 0.6807365448523999, 0.6189170527599686, 0.7810993370681307, -0.49685884790211876, -0.8148623704725089, 0.633186616744544, 0.7769004631481672, -0.9273603403610781, -0.6102252402244648, -0.20677349176909476, 0.007885627937663656, -0.17776253116951007, 0.9798057270176708, 0.029366081421017088, -0.47433912928339333, 0.4989768155107822, -0.20129213628542075, 0.001778072868235237, -0.28526154780123436, 0.07024779351258914, -0.03537401130881774, 0.5044745368852668, 0.12591781239955674}, {0.2670141347415742, -0.6114486660578584, 0.7208397628781903, 0.642842440063648, 0.6645935075808094, 0.9353880292402952, -0.008380970442632106, 0.8034295230189081, -0.09627718615108469, 0.12008519979767684, -0.0049888962610243, -0.006490489719647416, 0.03253615451763344, 0.46579624964168476, -0.6718007398357744, -0.7675164143287458, 0.7672937498259134, -0.32443194124761904, 0.022399633570847597, -0.22586856382779863, 1.500549737180988, 0.1525582151918099, -0.9272467462691272, -0.008158057143476472, 1.1480514951005258, -0.12659505773882096, -0.6029539306571303, 0.4355840353290382, 0.9454277475334885, 0.2579389110941815, -0.20472379429816057, 0.2880126538565054, 0.3154295545163798, 0.007516650650192938, -0.007018043684281986, -0.9141318258033936, -0.08535318665896119, -0.20875426721716236, 0.9088211759439859, -0.41429631720065757}, {0.49047610870007086, 0.07799969542819364, 0.05130351493718461, -0.8805275655539055, -0.06290208215975465, -0.5443979774474396, 0.9483165578564022, -0.357926326684971, -0.9534169488085331, 0.05809679164125092, 0.11440516154340034, -0.461721679666252, -0.7470895253028391, 0.8682566181449377, -0.13928356984839385, -0.008652576967218993, -0.03607802257538206, -0.34563526844644166, 0.14366968401590088, 0.7454179174060114, -0.5560210493405224, 0.1907664096369003, -0.2800874910497834, 0.08825293199952333, 0.05693766446383985, -0.5395632316102494, -0.8576124105431133, -1.3900623261442576E-5, -0.04233506188383377, -0.09180015249902085, -0.5548120771849884, 0.7046052558076477, 0.559900843804441, -0.4979336767192106, 0.09637893907042594, 0.9239327078065653, 0.31221825810557124, 0.7908547139278956, 0.8483572803591107, 0.01939250413348089}, {-0.7372708588994487, -0.5470578017135737, -0.9945459846638065, 0.8246566074327315, -0.2445373701378508, 0.7908201510042301, -0.4736266987957049, 0.8263194148754641, 1.0328011710792098, 0.9288277147650572, -0.05087880893632624, -1.0288988221517157, 0.6250203705460429, 0.1570729099863981, 0.253179202024737, -0.3303430244122474, -0.053891121675305076, 0.6414232428760613, 0.5698170707822159, -0.1590418518741071, 0.3581425487424055, -0.9245621375741935, 1.019624506229795, -0.7273494622908923, 0.21265479202063547, -0.6896335065286094, -0.4130906237326364, 0.012286391768827344, 0.17612579329078862, -0.7181997191759248, -0.9920632082845837, 0.4623181574483846, 0.8231181137177616, 0.1124475076821983, -0.8327497344090711, 0.42274439199470715, -1.3074918359030459, 0.8898872570983404, -0.4962193550390548, 0.5204958627438014}, {0.6494125818116769, 0.005295796590821361, 0.9561764925860201, -0.8536498897834022, 0.321104419320603, 0.3561759551139845, 0.3638048421002258, -0.11141535600553487, 0.013868511532766229, 0.04915610184443264, 0.015462855250078575, -0.9216263740117911, 0.5377497372941501, -0.7865686565941166, -0.6153943394752027, 0.4305278261487113, -0.7146078229295716, -0.6885484054561977, 1.4372122366703823, 0.0017743774277559883, 0.21241436004925068, 0.7256291355351667, -0.09640869619952729, -0.6539821235135123, -0.195364080762304, 0.011327683036719757, 0.14779098208876257, -0.9602387998970476, 0.47149026909161695, -0.2983699411799927, 0.027750234870186453, 0.7007966196881412, -0.26100075120340455, -0.7199961067349467, 0.5407243330821949, 0.07582023046313528, 0.13269763382828342, -0.04987640675857511, 0.27442074523114945, 1.0664512961993995}, {0.4250738067210539, -0.24945913099895134, -0.5661770839740295, -0.32145275277266916, -0.252451401888436, 0.21913623657607095, -0.2718705729491637, 0.07173307820382585, 2.696922265302214, 0.03943124820220521, -0.6840163153111114, -0.5674079374900958, 0.46579753550509895, -0.33781827221716765, -0.2658841246220525, -0.8087054074560338, -0.018688417903778554, 0.40246078160131593, -1.310635583004066, -1.3745838733022633, -1.5219927251495704, -0.1603617575619325, -0.3534424696270174, 0.5082713109007488, -0.07427213466505268, -0.9244673336848542, -0.05294541812001582, -0.4722182845774572, 0.4115574944458611, -0.3010442038115575, 0.16125919214833295, 1.2315917967705035, -0.3688756084963787, 0.5321335752909138, 0.6816115326799217, 0.6976261879487899, 0.7622089092462989, -0.038671833401995315, -0.2407792933598174, -0.748185104500916}, {0.7058951951214634, 0.879696324713835, 0.3979606424130034, -0.2160246651053377, 0.9934610244255397, 0.6807313154787293, 0.2188326557119971, 0.8753244340179775, -0.23685011027708897, 0.4709165563353501, 0.05765911016647022, 0.835040610801035, -0.7608156207248447, -0.001722815481118387, -0.16488902999798297, -0.24256221913992088, 0.8432526122765862, -0.33459155464925344, 0.005028882010841117, -0.1404258526752027, -0.5157231481250408, 0.2928577968606294, 0.03960640957276592, 0.8399199980168202, 0.9436662568960821, 0.35491102777577166, -0.2658114537781832, 0.1651015562812561, 0.2793144194261018, 0.5232643982631013, 2.3120293736641515, 0.17499833350390837, -0.15715568097910826, 0.6561215308717887, 1.8503356451131965, -0.7996026296233367, 0.9579489065684162, 0.19137037010524782, 0.5047132011901085, -0.053265782732625055}, {0.7139366461991546, -0.5469447709756867, -0.013027439272112936, 0.6199962419075085, 0.22453135812527683, 0.9384256685367152, 0.6048183710770811, -0.2560124391633268, -0.5324970743912947, -0.6754291838799655, -0.046791808203971864, 0.4025601448911413, 0.10375236921893156, -0.2666274586535125, -0.06904092998704958, 0.859733856789543, -0.48986456561422775, -0.42751173276867854, 0.05364319332364942, 0.15750694968797974, -0.6086783882073938, 0.05610242677732157, 0.37505950873161287, 0.5703805045498679, -0.8202807974722346, 0.32819110691394093, 0.1884388592297903, -0.278125880600214, 0.29737781279042974, -0.8855073250093646, 0.20910396436768508, -0.04629996458480269, 0.7589724789097949, -0.285232367967941, -0.3442314485040321, -0.07631785393645239, -0.8088980475032956, -0.06475736470023596, -0.5854748303364927, -0.8688317351946797}, {0.1808005012003473, 0.8037141496431985, 0.190283407566888, -0.1925787619852204, -0.24360897176476176, -0.021369470133272245, -0.8542765674967361, -0.9133741108335438, 0.7130151390818302, 0.46792295898482533, -0.5344644990279563, 1.1634221587269413, 0.9565513045097511, 0.19720996669751614, -0.0030128744554726284, -0.8907497020918891, -0.01607359947540158, 0.6838422945873341, 0.056629466778102655, 0.5191509309332609, -0.6011684769574044, -0.9409788748623777, 0.5092785063011904, -0.4677126983565585, -0.5873036751972529, 0.4974776676896868, 0.37102076291865704, -0.20752103980464542, -0.11635991980998947, -0.980981706238709, 4.723552915917025E-4, 0.4113432655766118, 0.49083855086520356, 0.003663031256369914, -0.3298581220039291, -0.34569838319823926, -1.0044184849646403, 0.8756521795658108, -0.17894358748699618, -0.15123959435526935}, {-0.13071126455620719, -1.4477092419618032E-4, 0.04544765778040305, 1.269701751687755, 1.6024916442538153, -0.8667511590820678, -0.06485136434364462, 0.6126836030708552, -0.32454081719160827, -0.1920698142352193, -1.261880969745218, -0.24225357270915104, 0.17919171709534376, 0.06346122393841958, 2.694962167408262, -0.8055891961600272, 6.566692263153247E-4, -0.15260319754158191, -0.6125351414369016, -0.9014116378226193, -0.09259024456016583, 0.059622788057902214, 1.8291426327256153, -8.547213571893765E-4, 0.1543239811600989, -0.006210093748681786, 0.4849955812688691, 0.23148659660845575, 0.47612865209719385, 0.37192372808890917, -0.14518448227944272, -0.7258372514565185, 0.24231269870826658, -1.1011379847157532, -0.3965224967842189, 0.12196996847946073, -0.08729950708936718, 0.606575058631716, 0.9497774305014459, -0.4765000034107676}, {0.7775116574163186, 0.5396218332802842, 0.6577699894618787, 0.015483640653647874, -1.3396174115760053, -0.11451927183076473, 0.4488522235348746, 0.4280328847616013, 0.15985893917918492, -0.943357472599974, -1.7455907088213731, -0.7987102364373139, -0.7259039715715956, 0.19218118064173717, -0.41736293003846037, -0.3645574258799547, -0.3289966848366674, -0.5415655055531635, -0.10800957763273344, 0.9043724251971859, 0.03783791136424619, 0.20167471436191997, 0.6593129359663845, 0.307782140027518, 0.6979300742211227, -0.405932335040744, -0.9696262881426272, -0.02776469137779199, -0.5062152972737022, 0.39389086433996345, 0.2893502291907435, 0.7709983102498981, 0.5027130488432153, 0.0202309663973516, -1.5252658049396687E-5, 0.335468560638624, 0.3402112287422141, 0.07838193414437669, -0.3034436995688574, -0.1555613650865144}, {1.433290558805604, -0.9577440235929227, -0.7192990595908573, 0.5749431304249872, 0.40319467017846444, -1.1727989569928738, 1.1847432135013969, -0.6158740439395449, -1.5569288805727768, 0.2949737528014664, 0.7496494201407511, -0.8447247345088512, 0.9266594864152888, 0.8114383097059681, -0.5320791014154591, -0.7898031025975472, -0.015095154981463108, 0.23939246740008638, -0.09515313737398895, -0.27722272408833315, -0.7446983347099354, -0.2836092599934874, 0.690906803827968, 0.4140472076927202, -0.17371587383169224, 0.5303006040193845, 0.054034431091186684, -0.010761627507881845, -0.7666046711372795, -0.4029358064606867, -1.1927097182379287, 0.9861994722782426, -0.0290369570127108, 0.14749137333884027, -0.6336890099347392, -0.3022295560385855, 0.19378710415492456, 0.43424057426088386, -1.159804592469565, -0.7940413384345948}, {-0.8709683704846227, -0.24516620534804612, 0.4532519658844709, 0.8934667538823711, -0.442905278246958, 0.11793421535306635, -0.42811018146278296, -0.8023653032423168, -0.543558229215257, 0.30118789570528137, -0.261809027422093, -0.13653555079914975, 0.945538807150035, 0.8774743330692274, 0.3209591307727999, 0.18016869351196174, -0.024228864975168518, -0.17948629147503015, -0.24207688978855124, 2.58810793944553, 0.3223237783054034, -0.8712344453496514, 0.43053819834314955, -0.4404684084493914, -0.8127479497642711, 0.476949651366811, 0.0699638082560535, 0.6607362876109965, 0.8930277739037913, 0.5120409235342069, 0.27850581598747337, -0.49487724273362277, 0.7528260717643165, 0.030843807388166573, -0.35202065081038464, 0.039707252074031585, -0.26863660522938293, -0.5569971662266526, 13.814141654966013, 0.8152560061600118}, {-0.5797570069792075, 0.05229097216122266, 0.5146812194412009, 0.15345507665400995, 0.0961599907420058, -1.1570676077010966, -0.006662069136663166, 1.1482503897720902, -0.8655081317586232, 0.017074912440092897, -0.6466724546110656, -1.6891119206348553, -1.1155975656418597, -0.8031397063650694, 0.042033340179862023, 0.02028344189819136, -0.1381339517498954, 0.0785207410135772, 0.6950539754090588, 0.9734091787741088, -0.016907797752078176, 0.4943743663716793, -0.8110178505066721, -0.45592240049207966, -0.8922480452837583, 0.15291347968689006, 0.15104628777206663, 0.09433519797088803, -0.5234913101856871, -1.2685095913938806, 0.6481000298613536, 0.5593058263545936, 0.8687100177921165, -0.8418928679746012, 0.038021039194189574, 0.5193897843837714, 0.4470312160748897, -0.04898153939237136, -0.6727253763816824, -0.15090191048209456}, {0.6490781190144478, -0.21382948814723313, -0.7539173135418851, -0.14936894516059065, 0.10793351317754407, 0.5010074480590045, -0.8539401460759225, 0.003047486807403657, -0.0010426754249643286, 0.718965695701085, 1.1553922927708065, 0.8192212257271427, 0.0017695112956701078, -0.8208388062885981, 0.3462650461257273, -0.028723792487046037, 0.08693889942353686, 0.658468806446707, 0.1182460232485456, -0.20376006074090758, -0.9417341118444806, 0.2903552974042789, 0.5840541847966187, 0.9813787706475852, 1.6991126685432296, -0.15866653063271774, -0.2857013659820291, -0.8845029038084616, -0.6261910296328053, -1.480118439283811, 0.03292641532498017, -0.022007388911606314, -0.32709584559900273, 3.304939365594856, 2.4062498953448817, -2.489466376911918, -0.8301486170469261, 1.111204652836913, 0.931509263422267, 0.5298465943847728}, {0.9618931242193045, -0.4417025655264494, -0.7613244660083132, 0.7659993841664121, 0.45733045751475476, -0.424002062621977, 0.3490702289664171, 0.3196692224606957, 0.9690323005301217, 8.072593553571184E-4, -0.9679354954046799, 0.2598899118997089, -0.7257497633083785, 0.917457412409493, -0.7806803221793528, 0.9296156729457449, -0.2616022326144762, -0.4996074328647322, -1.6996647903349056, -0.2645086875405419, 0.0846559424539226, -0.1701360557119931, -0.2458447201519537, -0.20572068605053448, 0.2637883245993277, -0.32231605533415775, 0.26758533047313704, -0.8430355277939561, 0.02780214952982893, -0.8718729534068224, -0.25695922773288316, -0.019811491721478773, 0.26861071403054665, -0.33185432066394305, -1.0996580778949836, 0.5511226234816635, -0.6595190160370795, 2.544146488841439, -0.0872009575142767, 0.9042336192530311}, {-0.7027485844624168, 2.4887269419934968, 0.04126620387448266, -0.5634177847241246, -0.037899609406243644, 0.11244635232464228, -0.3704694363574139, -0.19727706873093928, -0.04414696883626812, -0.21459139925006587, -0.027008489059496, 0.01824159048219065, -0.6822226493516113, 0.4153855739404839, 11.085093568343517, 0.3790099830474849, 0.9514312581652953, 0.9736841807109915, 0.29614650633817075, 0.4158756392180458, -1.3502576224395728, -0.8087076162487827, 0.4946205733324007, -0.18535610487144916, -0.06227806123621926, -0.5157482066968326, 1.4686292099283504, 0.4401912311691416, 0.6278054848862529, -0.5631345297344652, 0.09793696233713457, 0.35537334398872344, -0.15335049981785742, -0.6611624515891168, -0.8983184912156094, 0.3703974501581162, -0.08036970140253263, 0.2691585289313798, 0.8445913343663576, 0.7212568254996253}, {0.27600181064742046, 0.5236981159149179, 0.10314964224124634, -0.8192521621139623, 0.05246979607486416, 0.8275830429323312, 0.2069985313777114, -0.2751878608115278, -1.7332435638650276, -0.6433505092411886, 0.011253153835931881, -0.48607105096241265, 0.7085862446999645, -0.9107827807084288, 0.5137543075430867, 0.0021854397523842135, 0.05929136358752203, -0.7942459218453568, 0.5154291367231338, 0.548455872360265, -0.9513445191932752, -0.7064209987305485, 0.5247341891143886, -0.49686479355776214, -0.146438045245471, -0.4824059852649223, 0.5656756030731251, 0.14236587593506123, -0.8822522037330455, -1.0804676268766553, 0.9352918417086604, -0.5887770952990188, 0.3707676595250576, 0.10173360655634678, 0.04139995929005046, 0.05777957248533405, -0.7584441032071032, -0.1858550615747998, -0.7106696946277142, -0.13074338914703354}, {0.3885203283587351, -0.21343924113938587, 0.005205207756860063, -0.9504340900374969, 1.6628107858564751, 0.1847308515445425, -0.57755103200126, -0.44947982612936355, 0.28766909969044807, -4.447263547481428, 0.12206071710845978, -0.7107715522157625, -0.2525601819855345, 0.10866733925169725, -0.8587064660511387, 0.020123035331803825, 0.3110017101696168, 0.2719377548882398, -0.3823694404703213, 0.2535305351785642, -1.0731740249187913, -0.8196431842183599, 0.8412618136597982, 0.7360611123327012, -0.6840630022654636, -1.2147268199001398, -0.1900440006155415, -0.383068907444603, 0.4382324494612939, 0.16695355040194015, 0.11281821631905009, -0.7096861131713812, -0.42463603190145727, 0.9300623395217776, -0.5907200741720497, -0.6858041976545155, -0.45708607222686276, 0.24012914796901103, -0.2746743621188479, 0.20011448245381902}, {0.5315671325445925, -0.6593795218788866, -0.13094995338271054, -0.03797012158468175, 0.7299570267356668, -0.4610264884519401, 0.04599927408865578, -0.29776437778315823, -0.701189740836978, 0.44496739254377005, 0.6580893442524001, -0.781676041791164, 0.07664597142847691, -0.6811251695340603, -0.3260173645170191, 0.6167529464828965, 1.3796386557168316, -0.21434408190091747, -0.5320938137103741, 0.6748146884939459, 0.49138120575831307, 0.773218933608674, -1.1355937409547743, 0.8019375926200689, -0.2910749327821811, 0.2319442259303708, -0.0030967766513402147, -0.32324100457271016, -1.6720854162493164, 0.5163942876779815, 0.5062809806745419, -0.7395869453281659, 0.8085769207912759, 0.7829716018638304, -0.914773286234172, -0.44433077081294536, -0.3028692356395397, 0.08403248724160477, -0.11481501726418676, 0.28841154219469817}, {-0.4253043209721734, -0.8536927158173773, 0.10755152508291355, 0.4859367960524428, -0.15132899927091517, -1.1222227724342648, 0.2980276487755835, 0.34871867974058834, 0.2591560500285721, 0.6622343942884927, 0.7109642688054392, 0.64747986724337, 0.7436377779817107, 0.7258344685986384, 0.13146753654681392, -0.32339917016754116, 0.1447803716956093, 0.3807987658482326, 0.9481501295079662, 0.5807155237607338, -0.602413905451047, 0.8733444903922736, 0.0354691888040346, 0.7905589468420313, -0.859805022722369, 0.61259314145566, 0.8758363757210488, 0.9307186401075318, 0.27422684813884446, -0.9803489945777173, -0.4272338427189699, 0.001622303744883036, 0.9929659872309964, -0.10398984147226642, 0.3906816940949293, -0.12006327584951726, 0.8337845847796164, 0.4997746889702943, 0.14980268428941623, -0.4025951785523698}}), 0, w2, 0, w2.length);
 
 
         //w0 = new double[][]{{0.3280761241912842, 0.7527832964937538, 0.4104246014450399, -0.7523103952407837, -0.9458281196646745, -0.9799298048019409, -0.34820497035980225, 0.46322465290323156, 0.2315284013748169, -0.32927417755126953, -0.21605809298946077, 0.13116433106844694, -0.2768021000216887, 0.93387770652771, -0.19745159149169922, -0.7715259790420532, 0.5114750627570392, -0.4771876335144043, -1.0022523381122264, -0.8930335881811328, -0.42058791368411613, 1.0040437511357772, -0.9275410628722085, 0.9616605043411255, -1.0188100543517475, 0.7834198108021955, 0.32297288267253843, 0.014751764335928508, 0.8687849044799805, -0.9197640419006348, 0.6288372467944929, 0.0021908788305465966, -0.5815104246139526, -0.9622551202774048, -0.8858070373535156, 0.9533658027648926, -0.6168555611295585, 0.6665623820901581, -0.2939572334289551, 0.10940335914515785, 0.8615566754998115, 0.3259096145629883, 0.44549989700317383, -0.18975860168914838, 0.535622728701734, -0.7767807245254517, -0.9403410778543531, 0.2629195986262669, 0.7308108806610107, 0.6308125866464054, 0.6885144710540771, -0.32331852269746597, -0.9154670238494873, 0.3959888219833374, 0.5497090816497803, 1.6908407553215974, -0.4388474225997925, 0.5417549789159621, 0.043598272444612896, -0.7014243602752686, -0.5604559183120728, -0.5407787561416626, 0.42595849175275013, -0.9635176985766369, -0.33375120162963867, 0.615152932866353, 0.41202039473811936, 0.6242604125637599, 0.4004446268081665, -0.9500266313552856, 0.1171738796783306, 0.8532184638566895}, {0.5266329050064087, -0.6324010678462375, -0.057143330574035645, -0.6648361548854513, 0.6246806383132935, -0.7608975172042847, 0.455051064491272, -0.615108847618103, 0.15305730730388634, -0.720224142074585, 0.1411992311477661, -0.4130208492279053, 0.5376202311661078, 0.7135605812072754, 0.6160910499452792, -0.8046543723536073, 0.5312056795603531, 0.3970202505827145, 0.09613394737243652, 0.18921192752481103, 0.8037520563831968, 0.2601686716079712, 0.6570063304927884, 0.7026771306991577, 0.45186102390289307, 0.634939629945076, -0.7311918511934634, -0.13922584056854248, -0.619045511928783, -0.009925365447998047, -0.9661902189254761, 0.3027329149647352, 0.6765771382471752, 0.15727731684211, -0.12174415588378906, -0.29420938827351234, -0.8523410372390027, -0.0693096095103601, 0.06259258788849653, 0.35511087574724903, -0.14154374599456787, 0.8282333612442017, 0.7828365067370764, -0.44808268547058105, 0.2363678724495455, 0.03955456767729859, -0.4349467304612986, 0.42852772639633674, 0.416062399913411, 0.43656206130981445, 0.7097248381158061, 0.665428876876831, -0.7624399512949889, 0.19465243816375732, 0.6617851257324219, 2.1242823795689674, 0.454654335975647, -0.6562181538553715, 0.6121068000793457, -0.41377413272857666, 1.0913223059538435, 1.7429047839344547, -0.2617192268371582, 0.20861167697526772, 0.39811813831329346, 0.9727894067764282, 0.7631736746270879, -0.16959214210510254, 0.5868457950224193, -0.7602177538556341, -0.1316136121749878, -0.6277798966819211}, {-0.2699786021257824, -0.38789165019989014, 0.5783438682556152, -0.9907230138778687, -0.23722290992736816, 0.1557115445029345, -0.7984201098114327, -0.6749211718202247, -0.17617976665496826, 0.8847792247780106, -0.18773816642572938, 0.20852887630462646, 0.016021062168213085, 0.9082852602005005, 0.01718631542628679, -0.29569377028240784, 0.8591395616531372, 0.7665925025939941, 0.025012612342834473, -0.9070901940785354, -0.339241623878479, -0.2743490934371948, 1.1336214018271276, 0.5715520783569557, 0.07631063461303711, -0.9146088078754884, 0.5880868434906006, -1.5145410064777651, 0.5806145668029785, -0.6551724672317505, 0.5975886198029212, 0.7830601930618286, -0.9728857278823853, -0.8192172050476074, -0.669379472732544, 0.3936992883682251, -0.3268860530308324, 0.4221724624445238, 0.5789082050323486, 0.11153537309948547, 0.6839339177155608, -0.4063787698311001, -0.011578501180681796, -0.297613555068207, -1.055430282840334, 0.029860729081506943, 0.800557869244716, 0.5753555969768669, -0.03895711898803711, 0.5468537844102039, 0.24333977699279785, 0.3070244159883839, 0.15283594707356252, -0.13551179793033774, -0.6407259702682495, -0.4321330785751343, -0.7538195655370475, -0.7182778458305246, -0.07905945627209096, -0.6012407541275024, 0.47511041164398193, -0.19359522702418563, -0.8810769319534302, -0.6240774933878924, -0.8034627242272219, 0.8832630199686669, -0.31391918659210205, 0.13165676593780518, -0.36144247150988384, 0.588743531443918, 0.6281713247299194, 0.5688647031784058}, {-0.4902608394622803, -0.3693081522119726, 0.36021036313354426, -1.922872335059557, -0.16989827156066895, 0.6317240756968923, -0.10022411811109322, -0.1258176565170288, 0.3417137861251831, -0.3963644504547119, -0.012923479080200195, 0.13900887966156006, 0.6595076322555542, 0.1636374341169457, 0.2527337859604043, -0.0704197883605957, -1.5938563961215353, -0.23371902249684506, -1.2752960716371406, 0.6921916640380283, 0.6261309385299683, -0.1369584716707301, 0.9478076696395874, -0.6659897565841675, -0.17546868324279785, 0.8357618970942315, 0.578069806098938, -0.5075502604327995, 0.23767580534404864, -1.3673251642360265, 0.32249158759659297, 0.1577613353729248, 0.08913671970367432, 0.03274997050950162, 0.3265296288625117, -0.9813367128372192, -0.003635937752399075, 0.7836809539653746, 0.67767930022012, -0.3035426139831543, -0.024618011325657576, -0.5078129072403259, -0.003271723204008925, 0.016951712075322013, 0.4351194277082575, 0.2570502758026123, -0.7621915973332472, -0.8531750440597534, 0.8969226386401483, 0.4703304136454327, -0.6178438663482666, 0.243546724319458, 0.43054497241973877, 0.7144938707351685, 0.30496692657470703, 0.933950662612915, 0.5083656311035156, 0.8745577586294225, -0.655719518661499, -0.8510138988494873, 0.5797561794736206, 0.6078823804855347, -0.0621187686920166, 0.3433702391717084, 0.11331486701965332, 0.21300215909621056, -0.35589117262659986, -0.051222231852862565, -0.32182633876800537, 0.8899514514038347, -0.4043433337672806, -0.35692790686597897}, {-0.2189871072769165, -0.0809335708618164, -0.35731071017613103, -0.9804906845092773, -0.8318482186278565, 0.7254531383514404, -0.9598392248153687, 2.1142342074060654, -0.4097440242767334, -0.3932846242364849, 0.9860974550247192, -0.2197633981704712, 0.4730565099990335, 0.11035716533660889, -0.157086858056287, 0.12818121910095215, -0.5260073227973605, -0.004054440741624741, 0.8371133804321289, -0.5750337065882699, 0.0018661287884018834, -0.5991958379745483, -0.5240573883056641, -0.8227159908846886, -0.9140464067459106, 0.006461787548598723, -0.6096206898895244, -0.46459371059410914, -0.580640242129934, -0.07528017958169093, 0.8836429119110107, -0.17912542819976807, 0.5344759552456749, -0.09649222851388983, -0.015624622221379909, -0.5539207458496094, -0.5879356861114502, 0.980107307434082, 0.3433606513982556, -0.648213563753975, 0.4059392431052169, -0.4189530611038208, 0.1465778187237039, -0.5388273000717163, -0.03462851047515869, 0.16850999240350148, -0.22229192272073442, -0.509280800819397, 0.924161147641642, -0.06066851016360506, -0.8139206517391879, -0.9066803931593075, -0.6667009568943507, 0.7452920025750844, 0.6939062679955227, -0.8437111377716064, -0.30914653026896755, -0.1909828979140423, 0.3685556172803786, -0.05350989539606865, 0.0029195906863270877, -0.5986989736557007, 0.7382057905197144, 0.21913158893585205, 0.7455637454986572, -0.9411643584688312, -0.9149123430252075, -0.9033612012863159, -0.13945841789245605, 1.0647069102324929, -0.18077945709228516, -0.8978191614151001}, {-0.3719109695922064, 0.07764168391557487, 0.3950204849243164, -0.1435575925337551, -0.04357770263497973, 0.8510802913935027, 1.2418404482301462, 0.7212659120559692, -0.15366974415799484, -0.2555886507034302, -0.8435682360498662, -0.055390473876170986, -0.11223256587982178, 0.7980776538280774, 0.39642083644866943, 0.7961126495364869, -0.946654200553894, 0.33058091846628623, -0.06461524963378906, 0.6506174802780151, 0.9540089701083858, -6.011716386251144E-4, -0.11239674189913545, -0.05368983745574951, 0.4970653962906118, 0.8575643301010132, 0.2490679268927499, 0.7317616939544678, 0.9473392963409424, 0.03611886765580743, 0.09873572224291105, -0.3922001982694785, -0.8637446317498535, -0.6336636543273926, -0.5375240075591696, 0.942655086517334, -0.34940803050994873, -0.26991264552072014, 0.7811921834945679, -1.1382258031485502, -0.17213878873158303, -0.09339585509450844, 0.4445072412490845, -0.19531389246301814, 0.5723495483398438, 0.9091737832782414, -0.3329135881635892, 0.0473572910568223, -0.08297717571258545, 0.12095939640293543, 0.7464381750042508, 0.4881488007105488, 0.5285475254058838, 0.05251121520996094, 0.5228840195259485, -0.8834002538594057, -0.12666713391712056, 0.7972960472106934, -0.30659289248253363, -0.47939785184991107, -0.608257185081767, -0.46706495815542964, -0.06168079376220703, -0.6288580894470215, 0.928546667098999, -0.5234249846802317, -0.4868384599685669, -0.808823373467245, -0.5354380669000627, -0.5020983908707188, 0.8804440498352051, 0.18788262686845592}, {0.7866822481155396, -0.17521015583780447, 0.9271544003685175, -0.975416898727417, -0.3355793716123909, -0.17750749142351796, 0.07840982470092796, -1.1969006046620019, 0.35059693698304173, 0.5213648080825806, 0.8472844988156758, -0.04247825108843095, -0.04227763291359299, 0.8331009938007754, -0.6447774171829224, -0.9831271235120813, -0.3109767436981201, -0.14235401153564453, -0.7594540119171143, 0.8958182368342384, -0.062328457832336426, -1.0667308521407406, -0.29599320888519287, -0.138586163520813, 0.06695789340491132, 0.055211782455444336, -0.5740567602199833, 0.0018309848196973455, -0.22862732410430908, 0.17033575511716315, -0.39721930027008057, -0.80146344792332, 0.5955325365066528, 0.1632151431571797, -0.25283562247519475, 0.08880782127380371, 0.6265866756439209, -0.9298247473088499, -1.0084760427175954, -0.23751544952392578, -0.9843440055847168, 0.9784533485626821, 0.5216475508169757, -0.026226050794902332, -0.7913989472602374, 1.0524604227734136, 0.5909800104961094, 0.813167929649353, 1.2001597388912963, 0.5408302271649938, -0.8690094947814941, 0.5695476531982422, -0.1936132231499363, 0.4242643843183367, 0.618131160736084, 0.9458062648773193, 0.6913959879268268, -0.5292154038972603, -0.8565543830406939, 0.07790184020996094, -0.1286113022779498, -0.5183016754917223, -0.03077853662055465, -0.39522099961590773, -0.2638030376726516, 0.08523702621459961, 0.0041010379791259766, -0.028032779693603516, -0.763705849647522, -0.19036727503871798, -0.029923535488568964, -0.17437386512756348}, {-0.28992802727043304, 0.8351709842681885, 2.2390237786229505E-4, -0.06399180655180374, -0.2435719386958676, -0.0064439729500136165, -0.7840921878814697, -0.11559990457762596, -0.08950281143188477, 0.20498653993907517, -0.1567706823349595, -0.36969494245522494, -0.6984878778457642, 0.010492444038391113, 0.8036512136459351, -0.06895342507188369, 0.6060172204632109, -0.24954052812325478, -0.404280424118042, 0.028003937285263847, 0.06612829117316889, -0.20051375228592394, -0.5516637051566415, 0.5868653059005737, 0.8424622205613552, -0.17922234535217285, 0.5398744956659229, -0.684070348739624, -0.7118043833019885, -0.1326291561126709, 0.5882047414779663, -0.07329034805297852, 0.8695758400046187, -0.212920105758908, 0.23349241878694124, 0.37226777348013673, 0.3344357467797656, 0.6171537637710571, 0.05303454399108887, 0.9238330125808716, -0.42556402950354166, -0.2401549272985443, 0.280074349268157, -1.274554940936569, 0.16537269152113132, -0.13515165958270203, 0.16239166259765625, -0.2825608596986938, -0.670777440071106, -0.3223479986190796, -0.11018705368041992, 0.7541471546905913, -0.9042736291885376, -0.9481717683822171, -0.29968223983648135, 0.2982771248627696, 0.6584076881408691, 0.8976124608223202, -0.18372187122084394, -0.020539586097782104, 0.3051114008531022, -0.379402756690979, -0.387010958055759, 0.3732726338808284, -0.15394677485490438, 0.09076595306396484, 0.6347560602703851, -1.5413787932487029, -0.8739793807092201, -0.11888682842254639, -0.31031084060668945, 0.8151096105575562}, {0.4992833137512207, -1.4287628664825442, 0.4923692260853809, -0.8222808837890625, 0.7581794261932373, -0.2622670801575795, 0.7710886001586914, -0.4096812568130621, -0.01091073746882354, -0.8735251426696777, 0.3845646381378174, 0.28345875254189634, 0.5827438831329346, -0.016187548637390137, -0.6585404872894287, 0.5674519684457433, 0.8477782011032104, -0.22372007369995117, 0.32395657242705533, 0.9437335729598999, 0.3291027545928955, -0.9114695682421667, -0.7182384587473939, -0.07984182935914963, 0.09377540214296598, 0.3229016065597534, -0.633641393714141, -0.09256196022033691, 0.40085482597351074, -0.18071809446165446, 0.5092946290969849, 0.39505530927985855, 0.5537309348217436, -1.259713522675494, -0.9488359689712524, 0.182694673538208, 0.16732481201952767, -0.6523883573803566, 0.2527000787653193, -0.13820326328277588, 0.841166615486145, 0.006077559275206479, -0.006785038005142581, -0.8813739900338695, 0.7346828757033492, 0.33170438457547713, -0.7716423620087143, -0.292614221572876, 0.8345851898193359, -0.26474284244305196, -0.7953014373779297, -0.5831225270550542, -0.017217261762065172, -0.34428441524505615, -0.38378679752349854, -0.9904301166534424, -0.8797609877281345, 0.9557746648788452, -0.8418851294358909, -0.5585302114486694, 0.542227029800415, -0.12330400269498626, 0.6434823094497875, -0.09085965156555176, 0.17134312353055692, 0.05315590170061202, -0.30246255216364903, 0.10358667373657227, -0.2802907072748897, 0.3906043767929077, -0.34492408957046616, 0.9758282899856567}, {-0.13799309730529785, 0.425409197807312, 1.2713180136774327, 0.17911499854839102, 0.06597787040681018, -0.9217516183853149, -0.47170377382172735, -0.5929833650588989, 0.641190767288208, -0.028003931045532227, -0.423315167427063, 0.6475757360458374, 0.6924155950546265, -0.4410619660794768, -0.6007150979644855, 0.9366283416748047, 0.49695534428538696, -0.20979678135071622, -0.9919637517717673, 1.1889082708517895, 0.6070609092712402, -0.05720880147079331, 0.3001127243041992, -0.6555298990804083, -0.26424013363548626, -0.9854885385863217, -0.14269252161208054, 0.3523489236831665, -0.08758664688248996, -0.4091116189956665, -0.38325536251068115, 0.4496229887008667, -0.5406144802951525, -0.8861343269968935, 0.5029821395874023, -0.4390934045433823, -0.07935354427075231, -0.3410255131260484, -0.04315166805144255, 0.011380801434103858, -0.08131670951843262, 0.19885047696883928, -0.554162859916687, -1.629840066244933, 0.7131990194320679, -0.3124232292175293, 0.2638266086578369, -0.71495521068573, 0.01225825905011951, -0.3354954719543457, -0.803787412716666, 0.04125666915344654, 0.06758370587652955, 0.1500982086209738, 0.3378814489873218, -0.05792333855448861, -0.13208451031611457, 0.2068638801574707, 0.806103847560798, 0.018934682717871992, 0.035888550485780435, -0.8962550176697563, 0.40976717634636706, 0.27081167697906494, 0.08945462001292463, -0.38776015686339016, 0.0675916759728839, 0.4501897096633911, 0.09564993092433426, -0.44041621685028076, -0.03135639635696652, -0.3426511287689209}, {0.22048279402157253, -1.6913023062151842, -0.28121697902679443, -0.4387655258178711, 0.2525259623088003, 1.6111565274762787, -0.6507461071014404, -0.10712931004586546, 1.7712620798356877, 0.5180904865264893, 0.769936628897832, -0.6640555046776189, 7.737349437903199E-4, -0.4881481227564948, -0.7268424034118652, 0.31329023003772827, 0.12661423361878388, 0.2758464840462693, -0.6819607238741445, 0.865478515625, 0.28862500190734863, 0.44718611240386963, 0.2047337293624878, 0.5244224071502686, 0.8572896513736351, -0.4681298937282692, 0.5953594446182251, -0.6931676926464551, -0.523096807081654, 6.784940837750947E-4, 0.5154222604762088, 0.28142690658569336, 0.9445164203643799, -0.44570796245889854, -0.14171850814289322, -0.2562192254071156, -0.48179376125335693, 0.870090882322852, 0.6943380895390254, 0.2614384889602661, -0.3149440288543701, 0.24451553587163866, 0.8665101528167725, -0.9068947005462613, 0.06998229401111082, -0.39042111594729545, 0.17348317176534933, 0.19609570503234863, -0.9524798393249512, 0.22600042819976807, 0.16578450277239845, -0.3640440593970142, -0.4191652037741347, 0.09497368335723877, -0.16327567341470017, -0.13830828666687012, 0.9550012040923461, -0.04228560699968611, 0.8836054801940918, 0.03560357865045059, -0.6351561546325684, 0.9577151245385844, 0.47202205657958984, 0.03399587790441661, -0.4819108247756958, -0.8773155457625945, 0.8238672845071593, -0.7746324189752583, 0.720158792056088, 1.6134103778630784, 0.12248603721326257, -0.6121300335993864}, {-0.01932394504547119, 0.48639680403264296, 0.92552021731928, 0.1711906085025209, 0.25789082050323486, -0.17421483993530273, 1.4896992153216955, -0.31906628608703613, 0.3310708999633789, 1.3400651855463275, -0.0042383670806884766, -0.869624137878418, 0.560375452041626, -0.07112161839164531, -0.4748389715359853, -0.7004078781715164, 0.7819308768495761, -0.9798834323883057, -0.24013972202598102, 0.017977005045988998, 0.7940173149108887, -0.5623765440825335, 0.01993405818939209, 0.9117550849914551, -0.1514449119567871, 0.2137824296951294, 0.30348824392888685, -0.2739189863204956, -0.112292115426666, 0.8188534353846664, 0.609804770543406, -0.9059387445449829, -0.003413558006286621, -0.7793788909912109, 0.635303258895874, 0.2334909439086914, -0.9730073107144988, 0.2539564371109009, -0.03280520439147949, -0.4113501310348511, -0.7339802811739952, 0.6535326242446899, 0.0933817537578574, 0.4507496010844408, 0.040741682052612305, 0.3461266756057739, -0.009232248796812944, -0.45340791392814506, 0.4827847738515295, 0.8721723868855951, -0.02150316113309587, -0.48262739181518555, 0.41773736476898193, -0.25848225176052453, 0.35335350036621094, 1.690824888096703, -0.5100064277648926, -0.8971898555755615, 0.11265480518341064, 0.5350375175476074, 0.48825043181977024, -0.8021681308746338, -0.8005809783935547, 0.5059100389480591, -0.6196557283401489, 0.44446464251365536, 0.8002709066899809, 0.4209634065628052, 0.9243156451349213, -2.3854077003400613, 0.3066757917404175, -0.19308735958564527}, {-0.3842705940663944, -0.7509985376130202, 0.9207518100738525, -0.03723495335229284, -0.8426805734634399, -0.3900071382522583, 0.0923304557800293, -0.5533689312891303, -1.0375461400804464, 0.6388211676868638, 0.17686374462107565, -0.8968803882598877, 1.1793826616643338E-4, -0.06499135494232178, -0.5213668013824695, -0.8763749599456787, -0.6528527955015111, 0.0027954578399658203, -0.8212730185852279, -0.5722909821461936, -0.36413562297821045, -0.9225265722231228, 0.1695500612258911, 0.38710591897438235, -0.7042268514633179, -0.4807283427884676, 0.13653993606567383, 0.6365342140197754, 0.24519431591033936, 0.0029354535366542126, 0.9042274951934814, 0.9466222524642944, 0.7965225849056283, 0.3579603447259845, -0.6473265886306763, 0.8363373750001666, 0.22622411715540314, 1.7727289225826557, 0.45379626750946045, -0.27459728717803955, -0.4715505788579968, -0.08783757885111874, -0.46894514560699463, 0.4392518472616642, 0.9636859239093933, 0.7169840335845947, -0.1556185483932495, -0.5309895277023315, -0.8906581401824951, 0.337004300279674, 0.23385273080643465, -0.2397024837672137, -0.44158605907057685, -0.03785944698611697, -0.35869789123535156, -0.3223015069961548, -0.6760404109954834, 1.1643071757270502, 0.7410827410725831, -0.051025274150851785, 0.9182162964321752, 0.5749030113220215, 0.19759092901717104, -0.6076387166976929, 0.6417338848114014, -1.3768338921114815, 0.9027635138511144, 1.2364232296610476, -0.9754294157028198, -0.3927085107824726, 1.1419056957828329, 0.8460701628529637}, {-0.6456020167795911, 0.7737606763839722, 0.23217034339904785, -0.40765742169631625, -0.7601682181885736, 0.3479783150864051, -0.7700893878936768, 0.8251329660415649, -0.6577518526952939, 0.33965563774108887, 0.20229040524929953, -0.8978860378265381, 0.14053623467998927, -0.37969489480479524, 0.07001091826540859, -1.291331403026748, -0.17955883431621777, -0.7602648735046387, 0.8908315896987915, 0.09479546546936035, -0.9082125279260025, -0.489904522895813, 0.17049765586853027, -0.9746687412261963, -0.613451361656189, -0.06720962020298041, 0.5375382900238037, 0.1776357889175415, -0.3032814552190333, 0.2750668525695801, 0.6512496210947736, -0.7414475679397583, 0.5191576168452732, -0.1291539110425474, 0.2972508668899536, -0.4666697487292639, 0.8554160594940186, -0.34746718406677246, 0.12753307819366455, 0.5389859676361084, 0.4290936508869694, -0.7268597754035677, 0.788833498954773, 0.29755091667175293, -0.15792834169246509, -0.3166384222265606, -0.9564980587130285, 0.15864228989825982, 0.6703643159839263, -0.07233471718483298, -0.6559598445892334, 0.23418027799369123, 0.17501901690528957, 0.8092455863952637, -0.5793972231791276, 0.9344956372247619, -0.37805449962615967, 0.7712961282986486, 0.8931446660040635, 0.9278353225809965, 0.6483843326568604, 0.2043749534550654, 1.3798276518881218, -0.9601374802824032, 0.1803427182278936, -0.18080575140982535, 0.6114357337551668, -0.5698728561401367, 0.7385304163677511, 0.8830482959747314, -0.2436150312423706, 0.5165893203760538}, {0.02292086384141978, -0.12531042098999023, -0.679781436920166, 0.04274248936167838, -0.16603124141693115, -0.012389942045037048, 0.9581514395071896, -0.5973095750762152, -0.08235788345336914, -0.5520663261413574, 0.9791811691832101, -0.21904945373535156, -1.1314715271458293, 0.491754412651062, -0.3470702553607228, -0.07091207270104571, 0.9816584587097168, 0.2764188405361534, -0.709741473197937, -7.847036271659964E-4, 0.050923705101013184, 0.9806101322174072, 0.018254756927490234, -0.4247777462005615, -0.2455289363861084, -0.532975435256958, -0.8272274302949406, -0.09546065330505371, -0.8543179035186768, -0.2511944318135826, -0.013205170631408691, -0.7107622623443604, 0.5759603977203369, -0.683318018913269, 0.881589412689209, -0.3600313663482666, 0.8700312376022339, -0.4129831790924072, -0.4587559925241733, -0.9038615468214615, 0.2001938819885254, -0.3770684003829956, -0.12795114517211914, -0.6713247194016361, -0.13020690994881723, 0.00811612606048584, 0.7764553661379203, 0.1576392650604248, 0.2650095224380493, -0.006650551953369721, 0.029812932014465332, -0.4718843698501587, 0.07366047206633504, 0.5081033706665039, -0.07670678108297244, -0.45060007634653987, -0.01708698272705078, 0.8943642377853394, 0.23896451640311595, -0.43463408946990967, 0.3202658712015092, -0.5784367322921753, -0.8158625648621607, 0.6017398834228516, -0.03264939785003662, 0.5116404294967651, 0.12304310250424651, 0.3561549186706543, -0.4345139265060425, 0.5466116666793823, 0.37278236692488065, 0.13132680749794584}, {-0.043465375900268555, -0.045400168318851825, -0.5089888572692871, 0.2975425644823195, 1.31441385299005, -0.0010076829958790415, -0.41529619693756104, 0.8401421308517456, -0.29691723521577673, 0.042995424201227296, -0.8368963003158569, -0.0286865234375, -0.9620667132852041, -0.7968965885908539, -0.3190563917160034, -0.04576175915427352, 0.7848504781723022, -0.595274926748214, -0.9907691333671111, -0.12599852924694757, -0.3626018762588501, -0.2943368556092832, 1.414198591873093, 0.6105550527572632, 0.13221263885498047, 0.6321143748698552, 0.28005322682108386, -0.9282883405685425, 0.15284418929091914, -0.06987245020365132, -0.27137742678166216, 0.8636394739151001, -0.40395357254243147, 0.9384552240371704, 0.5091911554336548, -0.15951482356143817, 0.9493700479798532, -0.8394390379643408, 0.4279060363769531, -1.230988775718265, 0.9042563438415527, 0.003614996462584008, -0.4998072385787964, 0.7573227301844634, 0.02137577533721924, -0.46861883340742994, -0.12773847579956055, 0.19052891851431483, 0.22970497608184814, -0.45680761337280273, -0.09933589689737898, -0.6655661471642011, 0.09616746627323831, -0.9671758218842592, 0.14052015357834027, 0.24940478801727295, -0.018382409732950227, 0.9998562532917177, -0.10819506645202637, 0.23985591473227635, -0.006178802257243129, -0.9248596429824829, -0.7145155709331217, -0.3182546703612662, 0.3230324983596802, -0.11521172523498535, -0.03914213180541992, 0.4468839168548584, 0.5996769666671753, 0.6999592781066895, -0.18749070167541504, 0.5291933428308238}, {1.0785878026909093, -0.1190640926361084, -0.4637933809061161, 0.12887844718477112, 0.890973687171936, -0.9216456413269043, -0.09948599913530076, -0.9511785466447782, -0.5746374815704849, -0.9297945499420166, -0.03376275502032913, -0.9261138905017645, -0.07790384414067497, -0.39060890674591064, 0.5197712182998657, -0.2635833573336326, -0.537958025932312, 0.617658257484436, -0.6437646150588989, -0.9458097717509897, -0.18447399518794505, -0.5514482702702234, 0.12295758331523361, -0.5781581401824951, -0.6290503740310669, 0.4549449106912923, 0.8129198965180013, -2.2740179803365992E-4, -0.27327817974877355, 0.236403690213151, 0.5825275051086916, -0.6693643812031023, -0.3615456819534302, -0.08454212952205313, 0.4625457525253296, 0.19179487228393555, -0.5520508289337158, -0.29177892208099365, 0.8009922504425049, 0.5251366592190718, 0.5408220291137695, -0.7610198259353638, -0.4528074264526367, -0.9547051661037838, 0.5599174164313718, -0.8785401582717896, 0.06716560326950105, -0.935131482394327, -0.45949244499206543, 0.920085789798772, 0.4415220234650852, 0.9335520267486572, 0.12135910049334786, 0.06085092851361685, -0.42129218578338623, -0.7426855765360589, 0.5266269445419312, -0.8737277546482627, 0.45706653594970703, 0.46438878994427935, 0.15374171754198285, 0.3915118315343895, 0.8407180309295654, 0.4627514330027846, -0.7433565508688602, 0.09616912244221676, 0.10181397983575025, -1.7137925547527297, -0.6993249654769897, 0.8410872220993042, -0.0908581018447876, 0.2535669803619385}, {0.0892990816282937, 0.3864248991012573, 0.3903855653372574, 0.4459155797958374, 0.34710540536821993, 0.03397810459136963, -0.696490032998788, -0.29932672725582415, -0.2085031132579347, 0.41263115406036377, -1.1741559239663464, -0.9022491929938403, -0.8976132869720459, 0.10418504445750958, 0.005149245262145996, 0.13709959113633952, 0.7973029613494873, -0.8663831949234009, 0.7674000263214111, 0.6021066904067993, 0.8910107612609863, -0.8685972690582275, 1.4581180276874413, 1.1069825849214305, 0.01293337345123291, 0.8414220275986105, 0.5867340169294062, -0.6750564575195312, -1.0996480530995618, -0.09016013145446777, 0.19668972492218018, -0.20832837163821427, 0.07325864245999854, 0.2392868995666504, 0.8130029439926147, -0.16790808133354074, -0.40126251808688496, -0.9665483236312866, -0.6972650177115367, -0.7557101987408184, 0.25072936506697907, 0.1536351442337036, 0.9779837036813143, 0.9848757982254028, -0.48708856105804443, -0.4947960869071779, -0.6492657305425269, 0.13108969762629777, 0.4586863613515021, -1.5220767168882372, -0.07711982727050781, 0.14139080047607422, 0.008424878120422363, -0.7061877162759722, -0.4677734375, 0.649480052436774, 0.23262572288513184, 0.24915289878845215, 0.8101294040679932, 0.4658131430077596, 0.6911184284305198, 0.7497690916061401, 0.19758522510528564, 0.3047233819961548, 0.847486138343811, -0.5887482166290283, 0.8064124204709544, -0.06734636939141114, -0.04717528820037842, 0.37161266781457286, -0.99049973487854, -0.039248256066490385}, {-0.5023407936096191, -0.4571102569699228, -0.2614448070526123, -0.15283371159790393, -0.9396774212962182, -0.394631028175354, 0.07501387596130371, -0.8496456434485391, -0.8036808410926504, 0.18066365540911522, -0.05235730560008159, -0.9948369264602661, -0.9396542667293234, 0.6613694429397583, 0.42224017365787203, -0.5281422394221778, -1.016751456470018, -0.824096523728715, 0.08299517631530762, 0.8972677637301419, 0.16794943809509277, 0.43929505348205566, -0.4748454853709314, 0.9736837148666382, 0.054428684656353046, -0.3354882792451688, 0.7513043963484356, 0.20549583435058594, 0.689665016723847, -0.09262359142303467, 0.5158714056015015, 0.10716200469014603, -0.10387808966321006, 0.46401377709844455, 0.7162229096327176, -0.48492086562654446, -0.28133588113350094, 0.21427595821763185, 0.14964091777801514, 0.8338165283203125, -0.8330929279327393, -0.073623644136804, -0.27359020709991455, 0.43642938137054443, -0.5067141056060791, -0.528346050173971, -0.02520120143890381, 0.6819055080413818, 0.6541150808334351, 0.5337376606603674, 2.9530448536490975E-4, -1.2653279516420408, 0.3527989387512207, -0.15952205657958984, -1.1857568476997276, -0.19023006168767467, 0.0670536496819758, 0.1690143346786499, -0.11830687522888184, -0.6865188161656894, -0.6300095319747925, 0.3934871193005707, 0.5056779997895009, -0.8787735606113876, 0.05194234848022461, 0.7055903673171997, -0.8109492541809394, 0.5723262724812834, -0.393318772315979, 0.898787946355418, 0.6610924198989021, -1.1172192543192845}, {-0.49455266414198906, 0.4716238682978951, -0.8927536010742188, 0.3253702449256419, 0.11170009568715618, 1.121841246914617, -0.26539528369903564, 0.1436370445268622, -0.8596127033233643, -0.4757370948791504, -0.3373163986453476, -0.33060598373413086, -0.10517702995122281, 0.02636277675628662, 0.41006577014923096, -0.31042640693923773, -0.24286627769470215, 0.558379576671981, 0.06309905936955625, -0.02152831148649945, -0.9045059473237071, 0.6405806541442871, 0.9544751356132175, 0.6024734973907471, 0.38744819164276123, -0.27770147159245706, -0.1457702053207566, 0.9482189416885376, -0.2784404754638672, -0.0015128726936880904, 0.0764017105102539, 0.05506705974927169, -0.9662923812866211, -0.23245544106755323, 0.2918054987614651, -0.015752261033140185, 0.409484017347622, 0.6957288980484009, 1.451401173407445, 0.5259572267532349, -0.06086555893453263, -0.20923591021455676, 0.5540398359298706, -0.047661772563746485, 0.6117900609970093, 0.7521606997991126, -0.39941984669913544, 0.3382972478866577, -0.7390073537826538, 0.18749460966825174, 0.19368577003479004, -0.6058011788205844, -0.6995831727981567, -0.7586990594863892, 0.44506168365478516, -0.04962360858917236, 0.9393494129180908, -0.0034413675099158546, 0.6311865714827176, 0.4560525025872755, -0.8816598462174394, 0.9342730045318604, -0.0925365686416626, 0.556595250080645, 0.46604733881486077, 0.7185671329498291, -0.8365310013354521, -0.8617333173751831, -0.882172807453905, -0.4257973086805644, -0.2104020106688701, 0.9933355562498265}, {-0.451275110244751, -0.9836728572845459, -0.18446297592350933, 0.907950758934021, -0.6372222900390625, -0.38465332984924316, 0.6102070363808902, 0.25720715522766113, -0.9775007963180542, -0.5160608291625977, 0.13136233713802323, 0.22299715187866664, -0.6065359282812173, -0.793226438767376, 0.34037565577474244, -0.8322661471282407, -0.609028697013855, 0.560461893131738, 0.2895878553390503, -0.7781111196988106, 0.37536609172821045, -0.869571328163147, -0.23223555088043213, -0.7032159663948965, 0.6911522150039673, -0.26571829667918667, -1.5358983637734844, 0.608769416809082, 0.6042854634684944, -1.4815001374235637, -1.0371628334661154, -0.0607093733960673, 0.4525034427642822, 0.3927018567393892, -0.9021654820927816, -0.015835636033218484, -0.19866669178009033, -0.18896126747131348, -0.7209360599517822, 0.9855475850756223, 0.049700574122577196, 0.5297311544418335, -0.5267882347106934, -0.027950204685512892, -0.6329349279403687, -0.008925080299377441, 0.2800861597061157, -0.45319318771362305, 0.04647911160617573, -0.761940598487854, 0.7087008378846037, -0.6517921686172485, -0.6051427125930786, -0.8467512560924371, 0.4226076574548845, 0.39826440811157227, 0.9643046128174231, -0.5092382431030273, 0.945201738136051, 0.6399232149124146, -0.9862720966339111, -0.08976566762346036, -0.34898031766807636, 0.20419439184934368, -0.13970410823822021, -0.22942912578582764, 0.8190826177597046, -0.5010327100753784, -0.41187273189732543, -0.3648745781023346, -0.988025426864624, 0.19329726696014404}, {0.0018278960838248402, 0.6263890142874557, 0.11567123743232588, 0.4257906046509444, -0.8900624198042548, -0.6346542432457778, 0.6114993095397949, -1.59134293103338, -1.0804896315491823, 0.011282413207999196, -0.5118899308038678, -0.11612141908009604, -0.9018819448647855, -0.16342680046922387, -0.7678506058527412, 0.04450384023209894, -0.6808714866638184, -0.07796556977817919, 0.2781708240509033, -0.9523099660873413, 0.12703839297028965, -0.7827831506729126, -0.1543560354301987, 0.2946125268936157, 0.8592449426651001, -0.2079603672027588, 0.07757459533271116, 0.6298530101776123, 0.6370197545261804, -0.9424564838409424, -0.7460829889168966, -0.6759877153227802, -0.7929242322499406, 0.9949425458908081, 0.40033161640167236, -0.9898415803909302, -0.23916351795196533, 0.3934744596481323, 0.6916977167129517, -0.8446462154388428, 0.2606236934661865, -0.5816956250843035, -0.052417393678681146, 0.3200087547302246, 0.6425595938018525, -0.29312898105090024, 1.1450455511547637, -1.6080584666122972, 0.235015872159377, -0.24889624118804932, 0.18413119281088441, 0.5952856540679932, -0.4725089492305947, -0.38108980655670166, -0.6712123838883177, 0.5557605041432137, 0.3974384069442749, -0.8037621974945068, -0.9814083576202393, -0.8698228809924065, -0.9258533897311538, 0.9244122505187988, -0.24521911911740046, 0.9832639653070165, 0.31282341480255127, 0.5959874307540649, 0.7775098163742624, 0.6825781792535627, -0.539329591873277, 0.7434909343719482, 0.2308789366062316, -0.7693201303482056}, {0.22282880100754168, -0.014211359009184663, -0.4815255255105171, 0.1737648822083453, -0.6606993675231934, 0.7245018854533473, 0.911251294855911, -0.7127600422021098, 0.14466547966003418, 0.40483522415161133, -0.6166068395214439, 0.4366424083709717, -0.018574430664662522, -0.3260433487081142, -0.12851928919524802, 0.3984330892562866, 0.3517841100692749, -0.9403389692306519, -1.0973666224301568, -0.7506431208312851, -0.012455344200134277, -1.2401467690890289, 0.9878553152084351, 0.7953695058822632, -0.29668450355529785, 0.6463092565536499, 0.8605643510818481, -0.35598101734813503, 0.346781849861145, 0.13859326212871115, -0.31157830951673676, -0.1355140209197998, -0.14965610535100862, -0.5693764821737641, -0.9454817618317968, -0.6712511777877808, 0.2802065588575814, 0.8372986384642396, 0.05379100695056039, -0.4054571574246735, -0.6929632425308228, -1.0988533186334597, 0.8010318279266357, 0.3022562454388838, -0.4713355302810669, -0.1559209886561142, -0.5103394985198975, -0.26015543937683105, 0.7802170150432816, 0.7081398193959632, 0.5740184049291546, 0.9139533042907715, -0.817274475392735, 0.12162208404210118, 0.2516005039215088, -0.06630963165965859, 0.6549152135848999, -1.613061262334459, 0.38666772842407227, 0.4832810163497925, 0.7373181234425668, 0.8772051853870229, -0.10923564434051514, 0.29746150970458984, -0.49315290450714944, -0.25594472885131836, -0.6404154300689697, 0.44792261212837725, 0.04175147507170115, 0.2155014620647031, -0.36090679411507764, -0.12255775928497314}, {-0.18293142318725586, 0.802436375732736, 0.589779676943395, -0.1947476863861084, 0.010187983512878418, 0.9345029592514038, 0.5688011996805238, 0.9675414834490093, -0.3085517883300781, 0.1908385130925621, -0.43588197231292725, 0.6830235350357505, 0.08172870196277507, -0.5914370209440768, -0.5383367538452148, 0.2653903927868226, -0.38944709300994873, -0.28996525937092626, 0.5145089574478894, -0.2752201557159424, 0.6189629284394579, -0.7249637156153963, -0.380190372467041, -0.044098103659917606, 0.1692739725112915, -0.4101676940917969, -0.33655811661425167, 0.9888228178024292, 0.5419602394104004, 0.2545921802520752, -0.860927939414978, -0.6077955197827523, 0.06080899441561218, 0.9113361835479736, 0.09391952281734654, -0.9693314577190024, -0.5712517499923706, -0.032379874336673, -0.8883672913867051, 0.23089954707196148, -0.877183736960266, 0.19920837879180908, 0.011269338677570044, -0.85765545391543, -0.12927128893932333, 0.18517303466796875, -0.3020227854825206, -0.15230080468529672, -0.1973026990890503, -0.24217379906908953, -0.742602325568374, 0.4789844039806439, 0.08571553230285645, -0.8133074045181274, -0.11014704034495759, 0.4280654191970825, -0.4812633991241455, -0.30559229850769043, 0.24963077524426192, 0.5018373727798462, -0.8943358659744263, -0.5926135778427124, 0.07265043258666992, 0.8954846858978271, 0.9729557037353516, -0.6028531789779663, -0.25922754513735713, -0.414063415732346, -0.3720357268296257, -0.8203397232945406, 0.5180264711380005, -0.04143941402435303}, {-1.1482144378988328, 0.8235481965627138, 0.6978543819515732, 0.32604808309122824, 0.12602138349435463, -0.9154297347349112, -0.7401174306869507, -0.5029095384407662, 0.261210560798645, -1.2587097343715201, -0.9844664335250854, -0.20500504970550537, 0.17564082707266793, 0.7961795330047607, 0.4057128429412842, -0.14633822441101074, -0.8457796573638916, 0.4883915185928345, 0.4422198283329495, 0.18549532713100536, 0.1827486753463745, -0.6152604818344116, 0.627356767654419, 0.7676292000167068, 0.08787227173914225, 0.08535845695004597, 0.4957139492034912, 0.3301342725753784, -0.7960517442721982, 0.022522568702697754, -0.3155922255574153, 0.00876928566884505, -0.012870192527770996, 0.36853933334350586, -0.843306401471603, 1.1222934212306157, -0.9890420436859131, -0.06621277332305908, -0.968604564666748, -0.06793355941772461, 0.04450535262756783, -0.811382532119751, 0.6185551135692917, -0.615615725517273, 0.12821698188781738, -0.709296464920044, 1.499353798797002, -0.3526005831660477, -0.640981962976174, 0.17139077186584473, 0.11159634590148926, 0.3884081894769428, -0.40317230451597236, 0.742659330368042, -0.5625923871994019, -0.2912721633911133, 0.46324938415838246, 1.331340220786861, 0.09576046466827393, -0.04721030597304088, -0.07613187597918283, 0.6766456365585327, -0.16253163684327596, 0.6699210405349731, -0.6151041639340773, 0.2526742337576864, -0.6836341619491577, -0.633978299823248, -0.9983998537063599, 0.27964857995286996, -0.6183143854141235, -0.4854520095905912}, {0.8956936597824097, -0.2337590456008911, -0.23336950449431557, -0.310637599426872, -0.2638760805130005, -0.32849109172821045, 0.5108062058603322, -0.6326573260556285, 0.019458378083034633, 0.14026522636413574, 0.040165003728887524, -0.33174593243453193, 0.9025784730911255, -0.6002097129821777, -0.9710701416955778, 0.7076315879821777, -0.8561057039980684, 0.1378711462020874, -0.8330748671656543, 1.1232111990108111, 0.31947121451292393, -0.2832333778547258, 0.795693487576645, -0.12316751480102539, -0.17311529317199303, -0.16952297239227554, -0.3127326965332031, -0.06105156569127662, 0.03705179691314697, 0.1053018569946289, 0.3350462343297058, 0.42279934883117676, 0.05653326360543178, 0.9383546330505899, 0.169350266456604, -0.9014929134393728, 0.4967154264450073, 0.3633769681299539, -0.19511987201364145, -0.06248927116394043, -1.0852887321763391, 0.0813088436064519, 0.9274097681045532, -0.07835912704467773, 0.11073314560015701, -0.36645781838752844, -0.9046148061752319, -0.8286905733907504, 0.5263297963432201, -0.15892119697723778, -0.579784631729126, 0.040065884590148926, -0.5837019302506652, 0.4321594211416854, -0.272899866104126, -0.7573302984237671, -0.4985726665799348, 0.06744746826501676, -0.3658548593521118, 0.008966207504272461, -0.8714543581008911, -0.9667547941207886, 0.7417430877685547, 0.7637438774108887, -0.41690731048583984, -0.8607631921768188, -0.9218617677688599, -0.40671026706695557, 0.6138401049929092, -0.5399330854415894, -0.05405931711361945, -0.08693697336980678}, {0.015308555271174456, -0.6662678718566895, 0.4775022268295288, -0.7043914590356941, 0.06446881251785208, -0.29673895600183076, 0.7893066733952334, -0.5972037692000685, -0.4812779426574707, 2.5972594149162394, 0.23637330532073975, -0.7477514743804932, -0.7659990779502952, 0.5544643685402084, 0.39548035827911043, -0.044828782235345414, -0.4453254922833064, 0.31201377796076124, -0.6065218448638916, 0.34394219867955755, 0.8083317605705682, 0.7351482536017118, -0.7296271324157715, 0.47273228016750557, 1.2709905337198708, -0.02077437944666205, -0.5250476184980615, -0.7250202894210815, 0.965333325561766, -0.5895759903210527, -0.08322775363922119, 0.2105804681777954, -0.7642548084259033, -0.24763059616088867, -0.7118996381759644, -0.2945464270916495, -0.00195275140935656, 0.32868701851491594, -0.0626270102089332, 0.2681746720232938, -0.3308577988081234, 0.6405603885650635, -0.22891604900360107, -0.14536964893341064, 0.6942113081677361, -0.8663499355316162, -0.5607134805021838, -0.6194272232177889, 0.6045902432925343, 0.4415839099903107, 0.4475354095701432, -0.6958198547363281, -0.6169361579659522, -0.39847850799560547, 0.5726974010467529, -0.6883426904678345, 0.5059908628463745, 0.3462340712635127, 0.634913034253614, 0.6227654218673706, -0.7211852073669434, -1.2005712397498924, 0.8820264118745558, 0.985358476638794, 0.7773271799087524, -0.16579184708731076, 0.4166464198926261, -0.03387486934661865, -0.2799278497695923, -0.03316676616668701, 0.36452530267358363, 0.6243664426958988}, {0.19271302223205566, -0.6253771781921387, 0.5994478682274313, 0.26588284969329834, -0.03839528560638428, 0.9885035141385412, -0.8374110778063311, 0.7573304983978751, -0.4403255963461259, 0.020829158569658033, -0.9566431045532227, 0.8832441568374634, 0.17781898049838868, -0.11637135088558698, -0.07472236229000778, -0.5193907022476196, 0.3992537260055542, 1.1793620635094488, -0.57464599609375, -0.8888601064682007, 0.43209242820739746, -0.24517548084259033, 0.1619795094220966, 0.6450273990631104, -0.4310644411422256, -0.9375518453577123, -0.3133078519779193, -0.9200791120529175, -0.7594237327575684, -0.14251720905303955, 0.16403887588981747, -0.5044269561767578, -0.2300351298459205, 0.7692242860794067, -0.15506494045257568, 0.3864020109176636, 0.3540012836456299, 0.4272499084472656, 0.7958554029464722, -0.2329496145248413, -0.2757929759821902, 0.1815176010131836, -0.6893390353826634, -0.4635712395811882, 0.0945524463846913, -0.8672525882720947, 0.4313253164291382, 0.6144272089004517, -0.8739473819732666, -1.241517180572904, -0.07877850532531738, -0.7770975070070774, -1.326926581418124, 0.8731794357299805, -0.3778818621661524, 0.6853929758071899, -0.302969530594909, -0.06502294872300451, -0.4401639217154662, -0.4648656379494427, -0.6901103258132935, 0.011318297878334495, 0.5852305829024267, -0.3860640525817871, 0.45940333241885156, 0.47462451457977295, 0.1697683334350586, -0.39488470554351807, -0.545796848099589, 0.4478479452789892, -0.03129834196407003, -0.20879787897072252}, {0.7172383069992065, 0.7648730278015137, -0.008810689080097855, 0.5933197911872462, 0.2662317752838135, -0.34488921203662537, 0.8253062963485718, 0.8284446238692411, 0.11314976215362549, -0.0017340671929169105, -0.21664216677483328, 0.6356412735685661, -0.08463277816109595, -0.8739341419869926, -0.006780171334891537, 0.4039784486041518, 0.944464355834134, 0.53038489818573, 0.011467695236206055, 0.9321704473023709, 0.6727960341327865, 0.23716461658477783, 0.7584291852287031, -0.5166966915130615, 0.13291988101650848, -0.45215389576303266, 0.00915682315826416, -0.6930047028625199, -0.05602664069341753, 0.912543773651123, 0.36025679111480713, -0.7409195899963379, -0.3278026123488422, -0.696973443031311, 0.4485255479812622, -0.06457998940772657, 0.027671688535108478, 0.6963357914550239, -0.687600269033928, 0.5816032886505127, -0.9255123173752564, -0.4831778009068728, 0.30049940829531785, 0.29348415870743416, 0.008987665176391602, -0.5945770740509033, 0.13595402240753174, -0.13856816291809082, -0.02505815029144287, 0.2733837956046954, -0.06872900938273992, 0.5364768505096436, 0.12910091876983643, -0.5852814582307353, -0.9123618602752686, -0.5777803659439087, -1.551276511319221E-4, -0.444873571395874, -0.9222387899287583, 0.919951319694519, 0.7928986549377441, 0.17575359344482422, -0.38480758796570325, 0.5655024148965031, 0.4873979091644287, 0.0035354508878314888, 0.8470302820205688, -0.27526533603668213, 0.650389708097523, 0.3794407844543457, -0.906129002571106, -0.3647594451904297}, {-0.4031931041975605, -0.8760736470153283, -0.7510407883445218, 0.817411235563065, 0.9269957542419434, -0.04695627885753267, -0.10408210754394531, -0.1428232192993164, -0.3809020519256592, -0.2799681399440666, 0.03977932190049973, 0.06540870216358695, 0.8012000322341919, -0.3619908094406128, -0.5431389808654785, 0.41037678718566895, 0.4874003790025925, -0.23685889081397968, 0.8194632530212402, -0.2532294988632202, 0.2119067907333374, 1.1190525040467258, 0.08126716385259687, -0.7362068891525269, 0.08074813861477982, 0.8243831396102905, 0.3751170440357168, 0.363005827475153, 0.013399362697283361, -0.4209769304099329, 0.4901202917098999, 0.27871227473015053, 0.5734748840332031, 0.36713409423828125, -0.7253501415252686, 0.002450586002747348, 0.4547766447067261, -0.019979996635604808, -0.21442836702209658, 0.6002760316035043, -0.12138542396546945, -1.188917686690252, 0.8195335865020752, -0.45676184707906375, 0.3790527858616332, 0.4691012496710763, -0.7172319191744293, -0.9367236651004505, -0.2978764772415161, -0.27364349365234375, -0.21779119968414307, -0.5287265838662438, 0.011942593587886042, -0.1003197431564331, 0.31655204856911223, 0.2515567666978702, 0.11682384580878624, -0.5569548606872559, -0.08591369463601044, 0.6521071195602417, 0.8553977012634277, 0.6961181163787842, -0.20885469451606947, 0.017850060628856912, -0.8530511945442358, 0.004653275160629234, 0.8405886031840575, -0.43136322498321533, 0.2990649098777827, -0.7815300226211548, 0.5785991849761836, -0.11611604690551758}, {0.3362104892730713, -0.07361702527621981, -0.4269953966140747, 0.28435179447033976, -0.3188849687576294, 0.3159930778156912, 0.02427196502685547, 0.8187384605407715, 0.5905754570128141, 0.7547943592071533, 0.7284886837005615, 0.45205843448638916, -0.24432504177093506, -0.48340277280488975, 0.17671704292297363, -0.9670063257217407, -0.15940582752227783, -0.29561054706573486, 1.3269021839234458, 0.7898702621459961, 0.37636470794677734, 0.12828755378723145, 0.6242931066431309, -0.8651945502860191, 0.7919784949774565, 0.432686632585929, 0.6711379289627075, 0.7647294953413282, -0.590644993185379, -0.9113729000091553, -0.08163679436881521, -0.9846400997251814, 0.7785574530672486, 0.49890995025634766, -0.6603780550681961, 0.47886383533477783, -0.7831326723098755, -0.4389778241564528, -0.24789981122789317, -0.003202052670844724, 0.6674728603133768, 0.25215911865234375, -0.7618162561306554, 0.40331757068634033, -0.896104097366333, -0.10496318340301514, -0.5652258396148682, -0.18288799878665346, -0.27548205852508545, 0.674452543258667, 0.4551401138305664, -0.024776999352452755, -0.5063919104765415, 0.9939426183700562, 0.9736797395334458, 0.2188178300857544, -0.8808904886245728, -0.170379638671875, -0.17033672332763672, -0.4854315519332886, -0.04701356659549871, 0.436625619024571, -0.970822811126709, -0.9803309440612793, 0.11594116687774658, -0.41425061225891113, -0.10322427749633789, -0.23630272492905724, -0.9053807291647022, -0.9459327459335327, -0.935298785684641, -0.48665707456502594}, {-0.05203566953448246, 0.4485566071011613, 0.7152701990804435, -0.604288433633787, -0.1988903284072876, 0.3192859888076782, 0.220528244972229, 0.08603661373413134, -0.6024570465087891, -0.3406455631704357, -0.7689506612802859, 0.2400862304195479, 0.8143776655197144, 1.1951266236732927, -0.1511300802230835, 0.8469998836517334, 0.2930108308792114, 0.5132223030584173, -0.6187937259674072, 0.21886991596185584, 0.11116766411634153, 0.4300363063812256, -0.9359200566129888, 0.7540032863616943, 0.8558899164199829, -0.2363804578781128, 0.8393810987472534, -0.2287975549697876, 0.538081633185135, -0.9636524264599342, -0.05633223056793213, 0.6712660282133253, 0.13059914112091064, 0.3448419738125504, -0.08442193300898321, 0.5057369887931871, -0.6817540727347928, -0.24113652726663312, 0.10606436224348334, 0.36134604260211, 0.662049412727356, -0.04191446304321289, 0.11206899703496309, -0.7518812417984009, 0.31379449367523193, 0.9330085789271378, 0.993294358253479, 0.32301509380340576, -0.47392892837524414, 0.3298225287419583, -0.17305266857147217, -0.6531033354747551, -0.5757326343277889, -0.24283117024885192, -0.02542722225189209, -0.8784290552139282, -0.6341766119003296, 0.8202184438705444, -0.8282521963119507, -0.12971949357768334, -0.6610051380364917, 0.7646536660074852, 0.9343799115084557, -0.14128296426662135, -0.6355400925004469, -0.20393919944763184, 0.04211543913325327, -0.4924217462539673, 0.20219379594039077, 0.136012766152017, -0.49531352519989014, 0.04256762414322712}, {0.18750226497650146, -1.2693396249478697, 0.09580469131469727, 0.12810742855072021, 0.9536740779876709, 0.23332500457763672, -0.7923353910446167, 0.8302370410854162, -0.7348073171498202, 0.61819187728906, 2.324267350550338, -0.6118494272232056, 0.755146861076355, 0.3165554725117523, -0.5406848496214753, -0.23506999015808105, 0.07606792449951172, -0.5583551982114696, 0.18629923442097396, -1.3831345773834993, 0.2059400479109078, -0.5148287244782095, -0.8385907411575317, 0.3683323860168457, -0.2793547010437072, 0.09897851943969727, 0.5355508327484131, -0.6232478844069698, -0.116304165176878, -0.828126600147175, 0.0225221117455843, 0.5541162490844727, 0.1452254056930542, 0.9215206824234364, -0.9763754606246948, 0.25995117319085786, -0.21176605315151809, -0.34063053131103516, -0.49874067306518555, -0.6655939817428589, -0.47737908363342285, -0.45913089150722947, -0.7967194260217542, 0.4637907440531541, -0.21481578562878445, 0.7688248157501221, 0.17066362790625722, -0.28197717666625977, -0.919477030783762, 0.6158064603805542, 0.15078780958627447, -0.8648985537069875, 0.0025042034020140336, -0.8972370739559674, -0.15734374523162842, -0.39476025104522705, 0.6776284078218968, -0.02051103115081787, -0.7118524312973022, 0.333507544299502, 0.25597629789844456, 0.3340296745300293, -0.11600831092398473, 1.2259534842632145, -0.10392570495605469, -0.66045081615448, 1.7233185540006368, -0.9911273294318832, 0.25548410415649414, -0.4158076047897339, -0.09577202796936035, 0.5071684122085571}, {5.669593811035156E-4, 0.9247434139251709, -0.6139296293258667, 0.7220035791397095, -0.26746660074636464, -0.6906474828720093, 0.21451159942015796, 0.9356750482380671, -0.25808799266815186, 0.6602518558502197, -0.7887527030517547, 0.595670223236084, 0.4448106288909912, 0.3556101322174072, 0.04142305244854172, -0.9286757468042377, -0.08680605888366699, -0.29312562942504883, 0.49836114378735746, 0.8901412487030029, -0.5644728477206169, 0.837319016456604, -0.13327968804280932, -0.3945683273535774, -0.16837572625491415, 0.6149783134460449, -0.9996994698343579, 0.7078646421432495, 0.09201725050856678, 1.5399135083661168, 0.5995919704437256, 0.0549396276473999, -0.8300464153289795, 0.1870436668395996, -0.3755234479904175, 0.7206848169578148, -0.018721580505371094, -0.07281635668890271, 0.5431316625016351, -0.8998184476911886, 0.4635883399542038, -0.36565637588500977, -0.642005205154419, -0.09811966717951516, 0.061566710472106934, -0.21341490745544434, 0.19645291732470177, -1.288128306902533, 0.3657906953609376, -0.6255745882245789, 0.023317975073357707, -0.658912181854248, 0.035218237426539206, -0.7181239128112793, -0.3807895119448417, -0.34854433561968823, 0.9099960327148438, 0.1337998556183333, -1.3280956546700293, -2.339116445014339, 0.1007423127778687, 0.4502333402633667, -0.6624926328659058, 0.6044045884143454, -0.9600805691247876, -0.015162013421361448, -0.6713707147977903, 0.627105368852799, 0.595583758436566, -0.34397789236035425, -0.7695283889770508, 0.9413872957229614}, {-0.5370311737060547, 0.4842672348022461, -0.6380984783172607, -0.008893397916750454, -0.14970862865447998, 1.0235690879750112, -0.1515769147045929, -0.08457136154174805, -1.1349780391227138, -0.2628622055053711, 0.5221085548400879, -0.021289587020874023, 0.8592305183410645, -0.17804491519927979, -0.5741465091705322, 0.07153058352429653, -0.6716195344924927, -0.6658357381820679, 0.2889310121536255, -0.30636907275977165, 0.6515215635299683, -0.5414008799877169, -0.47459733486175537, -0.4007441997528076, -0.8684996685159441, -0.4554800734402238, -0.9693264961242676, 0.2197523023590102, 0.5693286657333374, 0.36475024301662407, -0.5829509496688843, 0.45199163599185455, -0.0784141770731533, 0.8646764032254948, -0.039708948704329894, 0.21697484049177662, -0.5521572433414115, -0.19868730653247135, -0.31614959239959717, -0.08146238327026367, -0.8494585752487183, 1.221761927227531, -0.055464982986450195, -0.572527144217718, 0.965649890211371, -0.4216090440750122, 0.8822636604309082, -0.9304304122924805, 0.550700306892395, -0.5175620037739256, 0.8800274758277893, -0.7594069795162937, -0.7786104939219056, 0.5354119539260864, 0.03565347194671631, 0.21457195281982422, 0.9737695686259609, -0.032846020467822035, 0.5235114097595215, -0.04631854714711118, 0.19661756033664513, -0.8111072778701782, -0.11963427066802979, -0.16911780991694575, 0.23150914942405176, 0.6532937288284302, -0.8661474022404716, -0.6680023670196533, 0.5477300882339478, 0.22662723064422607, -0.22157442569732666, 0.411770224571228}, {-0.030907750129699707, 9.166613219395846E-5, -0.8202967643737793, -0.17085564636544082, -0.32811098633180835, 0.44383704662323, 0.11052396710196362, -0.28560302565696793, 0.6447869539260864, -0.76690673828125, -0.3226200342178345, 0.06772909682869237, 0.3088712692260742, 0.1366654634475708, 0.399614495467932, 0.41668224334716797, -0.7559553955380748, 0.9847521576908599, 0.3040482997894287, 0.02096384345890192, 0.05878845242282357, -0.6779642105102539, -0.680206298828125, -0.8488501310348511, -0.07581043243408203, 0.42801293007926433, -0.5154727697372437, -0.9487206935882568, -0.9507050514221191, -0.3314399467268869, -0.3294871511645836, 0.04402644184665927, -1.4943212306728242, -0.6975629626172961, 0.12684214115142822, -0.7378660440444946, -1.278496087349387, 0.5499218580259606, 0.7047360584933267, 0.0521063598571418, -0.8461646293701062, 0.7651637347966729, 0.7295891069647951, -0.40458160529852477, -0.3947237009792406, 0.7219078374296483, -0.4197598695755005, 0.7962501007348282, -0.902819037437439, -0.5305616855621338, -0.829432164940441, 0.7092282772064209, 0.8073142970349247, -0.31663811206817627, 0.6271407604217529, 1.5147572544707846, -0.6127735144785442, 1.753552922283064, 0.8505488634109497, 0.7506512403488159, -0.5820408981649753, -0.6098551232225382, -0.0810309648513794, -0.6001268625259399, 0.9192463159561157, -0.21487734974800352, 0.3704519271850586, 0.5699571371078491, -0.45218539237976074, 0.8062776327133179, 0.9069728851318359, 0.8596822023391724}, {-0.37109066882433406, -0.15560030937194824, 0.10675966739654541, 0.8067178726196289, -0.9064397854187449, 0.012263111734891755, -0.8139439821243286, 0.05447733402252197, 0.9493713280939964, -0.09463160556902142, 0.5940626020988732, 0.06539487838745117, -0.42209679153549495, -0.2023848295211792, 0.48691547617115427, 0.20137834548950195, 0.8234011489750657, 0.8240426778793335, 0.7245534684584647, -0.9108153581619263, -0.16191972464539717, 0.032385588369679974, 0.032690410535721956, -0.9523141384124756, 0.24708712100982666, 0.8862354755401611, -0.5076221550213731, 0.13298089920904366, -0.5435596704483032, 0.1423466705862495, -0.5550044537442224, 0.5538075595164116, -0.8283582721948893, -0.698799729347229, -0.6311792135238647, 0.14812078689667282, 0.9885741472244263, -0.23081517219543457, 0.6913244724273682, -0.008139252662658691, -0.9941679239273071, -0.3197777271270752, -0.2177485227584839, -0.6279515027999878, 0.7793682012897274, -0.05428588390350342, 0.48678588200675543, 0.36862730979919434, -0.6752270460128784, -0.9992622137069702, 0.8953335285186768, -0.6084019150276576, -0.4273303215434565, -0.05057525634765625, 0.5302414894104004, -0.3535816557725211, -0.3292755510650278, 0.1910918951034546, -0.047801325165308085, -0.7001932796603754, 0.2097097635269165, -0.07382363785623938, 0.4216574430465698, 0.9476965379373452, 0.34102230577835213, -0.6281775862201249, -0.1247020959854126, -0.5894576843859912, 0.1912303265155475, 0.43645429611206055, 0.5653268098831177, 0.6849117279052734}, {-0.7538875341415405, 0.22354674339294434, 0.8266083615852777, 0.13977891613710858, 0.5591616630554199, 0.4406323386559696, -0.047850847244262695, -0.08535505666483999, -0.8416231174674296, -0.16854156536803133, -0.6077295541763306, -0.49248833426623323, 0.21914790445992546, -0.8836185932159424, 0.45942115783691406, 0.135811448097229, 0.12386688323274343, -0.3329368829727173, 0.3386154180381884, 0.7075822353363037, -0.786634623341228, 0.14268255233764648, 0.9192720764045468, 0.7772434899604213, 0.3612036806086789, 1.0131875147128173, -0.08394990046800288, -0.7152621474318674, 0.8256183862686157, 0.0481107234954834, -0.9166907072067261, -0.12293849932393594, -0.5150930881500244, -0.524648904800415, -0.4740973711013794, -0.7612783908843994, -0.0018107704505265433, 0.2912906389110994, 0.2874985999541906, -0.5413509607315063, -0.7004660345123506, -0.23043584823608398, -0.8541232325985553, 0.38087940216064453, -3.3499290465470173, 0.8456759452819824, 0.7672364359181465, 0.19851826772418685, 0.7841100203597192, -0.8521230220794678, 0.275455117225647, 0.5654454231262207, 0.6152744862437707, 0.07592415809631348, -0.8405197153661306, 0.2181321615936113, 1.0961928086956378, -0.37546074390411377, 0.3385843660409203, -0.18139827251434326, 0.15394330024719238, 0.7760151624679565, -0.594183087348938, 0.9437414407730103, -0.4955216646194458, 0.3690677006736409, 0.4112392808112142, 0.9241186380386353, 0.9816186428070068, 0.6980924606323242, -0.5087212636451601, -0.46368724410428436}, {0.012050047716001188, -0.7577800467400557, 0.031613347827742055, 0.20345227823229084, 0.2840299606323242, 0.37491607666015625, -0.20518410205841064, -0.05115491092747162, -0.01667750564832819, 0.5010012952463823, -0.08305394649505615, 0.8973051309585571, -0.22552096843719482, 0.8707690142401898, 0.5461541414260864, -0.41174675727838106, -0.5735389592264475, 0.8772642612457275, 0.5284169912338257, -0.3008697032928467, 0.9550525985897109, -0.012897888441441557, -0.08604681491851807, -0.1456708223984657, 0.5700186491012573, 0.5735974397265182, 0.07502318292889543, 0.9878379106521606, -0.29203569889068604, 0.06425096442950662, -0.18584479680130583, -0.056641280058380004, -0.980869601868223, 0.041478972913362396, 0.4094577401061805, 0.35421878997717116, -0.5343198776245117, 1.260324279472468, 0.1274409294128418, -0.34153713296365207, 0.03816729651438739, -0.06803643703460693, 0.3298835956849552, -1.5688995108823227, -0.6873664233554776, 0.8137017488479614, 0.4257016415775572, -0.5308044450850798, -0.6546445899399629, 0.849449872970581, 0.4004553100625205, -0.5084635564067199, 0.01729750633239746, -0.1273210744105826, 0.1622295379638672, 0.5511776638944703, 0.07821032410085642, 0.8984518947401489, 0.37243199348449707, -0.3280547857284546, 0.19918420013207472, 0.09592116649448168, 0.9134945276894686, -0.9073587282726047, 0.1613030997084426, -0.25688040256500244, 0.710553765296936, 0.21076259811711062, -0.18144697406319743, 0.6922347545623779, 0.5083181858062744, -0.4193869107804606}, {-0.5947808133936886, -0.8861179494140217, -0.5485057134570074, 0.8257066011428833, -0.21463656377432908, -1.1602416196973313, -0.26887002326538484, 0.7529550921824896, 0.6871470212936401, 0.2873071495992301, 0.7865264415740967, -0.486800838651903, -0.14642458530234037, -0.05533061253047205, -0.7574168399726332, -0.27555227107401636, 0.19490002502132064, -0.14541162336914207, 0.33296713235569175, -0.35961317701266626, -0.38570137808705485, 0.4429579973220825, 0.4432309865951538, -1.619363768891472, 0.22680795192718506, 0.5843437910079956, -0.3466136111551417, -0.4043060541152954, 0.848918080329895, 0.05825304985046387, 0.3605590825103113, -0.7710211277008057, 0.6840100858774377, -0.034123312322214217, 0.7376180753949062, 0.08648327329424514, 0.6312831577128049, -0.11075666930710804, 0.967497706413269, -0.34004420188639517, 0.441280722618103, -0.2384884753588435, -0.28028071432699697, 0.34749388694763184, 0.19957244396209717, 0.6887510352883446, -0.5560624599456787, 0.38455748558044434, -0.5062692165374756, -0.07141623533550545, 0.6113131046295166, 0.9610153436660767, -0.6292811188365698, 0.6595882984283452, 0.18694257736206055, 0.05217805024158704, 0.20462393730128367, 0.12222719192504883, -0.6062522552978329, 0.44617164109244234, -0.5506958961486816, -0.4794731140136719, 0.6591577529907227, -0.4813491106033325, -0.2828258275985718, -0.8369388753675318, -0.6672031473339957, -0.5183696989412004, 0.08042274096987738, 0.3823826486315616, 0.6083383560180664, 0.4584927558898926}, {0.7670633792877197, -0.9728097332596607, -0.4687325954437256, 0.4441741704940796, 0.8080522608738906, 0.6545044226468433, -0.4287451505661011, 0.7731314897537231, -0.5194369554519653, -0.37053227828158763, 0.11433693221017818, -0.4726926607342359, -0.5714820623397827, 0.7353389263153076, 0.43529021818052643, -0.6787396942563904, 0.9928343296051025, 0.7657899027837991, 0.2137880671899408, -0.7611324787139893, -0.776789665222168, -0.0946172259914804, 0.34044647216796875, 0.36196575014381116, -0.025690544397759862, 0.18370592594146729, -0.746991469849116, 1.445364402104397, -0.12196803092956543, 0.40709078311920166, -0.9229148626327515, -0.44613146781921387, -0.563164943743373, -0.10679297697064906, -0.9483263492584229, 0.9636294928374507, 0.3776261806488037, 0.7460149990544337, -0.7902460997340541, -0.3725481607156145, -0.9851340126303887, 1.334148799482682, -0.7502961158752441, 0.4860433340072632, 0.6815382242202759, 0.9209049940109253, -0.3532357515543763, 0.007707711658579974, -0.4834516455005533, 0.9623355865478516, 0.08198046684265137, -0.6798850297927856, -0.46780693531036377, 0.8018649617865561, 1.8377820722199412, -0.8621502612690584, -0.40350282192230225, 0.6752597093582153, -0.015210832628110592, 0.4553089988897803, 0.19599884391322306, 0.882264256477356, 0.5993429907631416, -1.0608238525721594, 0.10528550751431612, 0.7423558235168457, -0.038221120834350586, 0.8260266780853271, 0.16962553233390287, 0.8221135127793042, -0.4947942014192178, 0.6701549291610718}, {-0.8597953587226284, 0.857103705406189, -0.3074190616607666, -0.5887402296066284, -0.588747501373291, -0.8604848384857178, -0.09562936254195886, 0.2816516938124416, -0.1946183443069458, -0.7759267465303772, 0.8743994235992432, 0.16273558139801025, -0.4505807161331177, 0.36640513311668105, -0.3137582010900364, -0.27995848655700684, -0.19994103908538818, 0.7254902124404907, 0.8420877456665039, 0.8621134757995605, -0.610382949549312, 0.5313928127288818, -0.8153348499737495, -0.2461309423368945, -0.36091744899749756, -0.33185887336730957, -0.2289435863494873, 0.8657597303390503, -0.2084362506866455, 0.5283045213436657, -0.3816753151680036, 0.9812646323934819, 0.5053274631500244, 0.4587053847918321, 0.6294964085742152, -0.9761035442352295, 0.6421624422073364, -0.4771480830868806, 0.22988418090106122, -1.426698557843306, -0.5219742387191735, -0.9010758399963379, 0.9146994352340698, -0.7488088607788086, 0.10865308738922042, -0.023240165020538626, 0.21012914180755615, 0.46475303173065186, -0.8581400866966911, -0.5656484561742896, -0.019899115283562363, 0.1403147244433743, -0.3231907136105635, -0.2741646976970886, 0.6822108030319214, -0.41327817935497796, -0.21924501808904795, -0.2893122960423203, 1.5583259528941757, 0.21488804640889692, -0.8699132204055786, 0.10293515548756614, 0.472454309463501, 0.325730562210083, 0.07168648931033816, -1.3232910519974672, -0.3964872888544424, -0.8575284481048584, 0.7767391367809167, -0.14557134103112768, -0.4607449769973755, 0.8734892447811367}, {0.4328256845474243, -0.4984349012374878, 0.2868470540643844, 0.24340969311769323, 0.5102654695510864, 0.49817994441420677, -0.4650551918321472, 0.2806657552719116, 0.32684624195098877, 0.4541362524032593, -0.0210191011428833, 0.009737133979797363, -0.782814374686402, -0.927505612373352, -0.74627846681548, -0.038477819990203284, 0.952193021774292, -0.7257635593414307, -0.7698899507522583, -0.6305135363327774, -0.7304893732070923, 0.3882287412178811, 0.055058379413438746, 0.934931831243321, -0.8416692018508911, -0.38872575759887695, 0.29180264472961426, 0.5062263297862339, -0.4204453141227859, 0.29641592502593994, -0.5880144834518433, -0.17694195514025535, -0.6353942532818301, 0.40171465805220685, 0.5379684546924102, 0.7037675380706787, 0.16142559051513672, 0.975796899713159, -0.9531865119934082, 0.9239768981933594, -1.0451687930959972, -0.1834859848022461, -0.023028030978078304, 0.2654781557755561, -0.27341684636839947, 0.6583480643613325, -0.02431603517595355, 0.4359702242411241, -0.16540157767088615, -0.7477622164917475, 0.7612658000405815, 0.9585684052569134, 0.5356512157752467, 0.6564886569976807, -0.8087797164916992, 0.865745266971736, 0.13794904564385094, 0.15350193959868652, 0.8170030117034912, 0.5354527120729794, -0.3470189571380615, -0.8960199356079102, 0.38103533142781276, 0.37646174858651427, -0.2806539535522461, -0.0335770845413208, -0.14710374594213826, -0.20431675447891537, 0.10400772094726562, -0.8528217077255249, -0.8187982736520294, 0.822515606880188}, {-0.15711857912665078, -0.443074107170105, -0.040485470687318115, -0.7046529726134501, 0.8488532304763794, 0.6842077443334242, 0.6101468642262096, -0.21996021233624555, 0.8904913663864136, 0.28722643852233887, -0.09696543216705322, 0.6119939088821411, 0.014464825298301197, -0.5665048360824585, 0.8424596786499023, 0.31020177247704184, -0.3257171852296853, -0.8829096555709839, -0.36405134201049805, 0.3590593166900309, 0.954919036400214, -1.6489038220003644, 0.36033058166503906, -0.100608981920611, -0.5462452173233032, -0.35650634765625, 0.1429602349744645, -0.9518818123227207, -0.1457383632659912, 0.8535659645079554, 0.4186415672302246, 0.10026752948760986, 0.1515560972625994, 0.8380119800567627, 0.8225497371452783, 0.26627540588378906, 0.11181604794067179, -0.1931157112121582, 0.6322882175445557, -0.6416738773745019, -0.7180044651031494, 0.7374505996704102, 0.22172949792141344, 0.7085247023057792, -0.1112065315246582, -0.01610005237438908, 0.35493657153184577, -0.6331079006195068, 0.3742753267288208, 0.2835906599121176, -0.9094396829605103, 0.23058587625324423, -0.13223111074774274, 0.19058529135973568, -0.4990774013002286, 0.3030346451591022, -0.044896841049194336, 0.744678258895874, 0.7358288764953613, 0.1396561861038208, -0.7936669610630895, -0.9564672708511353, -0.1526811122894287, 0.11790433351054075, 0.9770113229751587, 0.2020268440246582, 0.5218037254598876, 1.739274482825061, -0.9159787893295288, 0.5408264997612185, -0.9882080554962158, -0.8299158811569214}, {-0.2503415300663595, -0.8992738723754883, -0.8472425937652588, -0.8334544166084774, 0.7769283490916212, 0.5076385900581668, -0.6892529579824456, -1.5184175675955627, 0.2157076597213745, 0.9384785890579224, 0.5247223615087465, -0.03713316383455778, 0.002975788395577624, 0.6672061681747437, 0.9639477798651259, -0.44387030601501465, -0.40902587873624285, -0.07503581047058105, 0.6901216506958008, -0.26648998260498047, -0.543781042098999, 0.9747076034545898, -0.5234683752059937, 0.9077155443349998, -0.5549213828324817, 0.2720285654067993, -0.6735541820526123, 0.7234236252489856, -0.8825327157974243, -0.4928605556488037, 0.47244118892505105, 0.6819480657577515, 0.8093734979629517, 0.6031334400177002, 0.011651522029190316, -0.23769819736480713, 0.7068566083908081, 0.08489072322845459, -0.6428796052932739, 1.777057438820849, 0.06710554465406005, 0.8702080239718883, -0.2439572445415914, -0.7805925410786547, -0.9462527502859841, 0.8686913251876831, -0.08640736924319846, -0.010907690391313873, -0.11211460337714142, -0.1165992021560669, 0.7348778247833252, 0.5027911209968887, -0.05934465481656869, 0.34213121734800617, -0.8864748477935791, -0.23586499691009521, 0.4610912799835205, 0.13786602020263672, -0.8019330798115942, -0.10035371780395508, 0.3778775930404663, -0.6945571912226258, 0.6619520439210285, -0.19327235221862793, -0.4576036712947753, -0.18956775215822286, -0.3311089110989165, 0.7001043558120728, -0.1453474743674112, -0.4457401600865085, -0.689748184111233, 0.22132636119012117}, {0.4224785566329956, 0.4075186252593994, -0.884826278849762, -0.7648452972991805, -1.4320685228212096, 0.8544446229934692, -0.8519110046853409, -0.04765315436955876, -0.8291679620742798, -0.49194609681396095, 0.03563666343688965, 0.2429004273702852, -0.543481907251705, 0.5816484689712524, 0.9997957944869995, 0.8744295476364765, 0.9179767370223999, -0.770778252984784, -0.2474067211151123, -0.6605198049260881, -0.2557513650335581, -0.2309279441833496, 0.5442845821380615, -0.02836441993713379, -0.526687667444754, 0.45154452323913574, 0.8254740238189697, -0.1182645458574576, 0.536884069442749, 0.21897798133835078, 0.8197946548461914, 0.02830006205562663, 0.6174068825908259, 0.23730897107537396, 0.825823187828064, -0.7546869516372681, 0.8559420108795166, -0.7808661460876465, -0.5045449115573256, 0.15319559966799032, 0.3529410387645975, -0.7431004275846715, 1.3867258057705456, 0.6776526638037292, -0.9378479719161987, -0.6479892730712891, 0.08264124976929343, -0.6220377943336635, 0.42093658447265625, 0.688948082597088, -0.48104989528656006, -0.6990420818328857, 0.22428607940673828, 0.9603078365325928, -0.5490325689315796, 0.011782288551330566, 0.453869104385376, -0.3025626782630522, -0.5988699591848383, 0.7927515506744385, -0.5596427917480469, -0.5372048109111986, 0.8932132720947266, -0.9145247111357597, 0.3993709779605554, -0.35329085699777263, 0.38280988425301166, -0.946475625038147, -0.5922951698303223, 0.3108592703929609, 1.6033095961320152, -0.7258281864902698}, {0.06170740707419833, -0.9538183536975127, 0.2325289249420166, -0.09486591815948486, -0.6059409379959106, 0.8252733945846558, -0.052408456802368164, 0.7829980850219727, 0.24028504109955384, -0.4300704580368455, -0.11543715000152588, -0.8463357840924273, -0.4395555257797241, -0.7612532969078891, -0.022974870200350904, -0.2629679882227103, -1.4779541898080417, -0.836949348449707, 0.35052472847694505, 0.07771001513183294, 0.6727565228717041, -0.5316807286955485, -0.5677894635833964, 0.7742712497711182, -0.7447502642382607, 0.8652923010618512, -0.16875739652627897, 0.6003784064325199, -0.48432208679092104, 0.43996596336364746, -0.11932745275017362, -0.46093952655792236, -0.5445376634597778, 0.8926896503403114, 0.212685227394104, 0.7689669132232666, 0.1337514914297456, -0.49839961528778076, 0.39444099602644145, 1.582523940773158, -0.42317306995391846, 0.22883606273997215, -1.122489883870966, 0.7688738107681274, 0.027119320478202535, 0.20826816442208163, -0.14439295664262708, 0.8213162422180176, 0.30991077423095703, -0.703167200088501, -0.7026580572128296, -0.9154525995254517, 1.1998155563414405, 0.3965482711791992, -0.9597362279891968, 0.8673105239868164, 0.028991001172634645, -0.42483181199136316, -0.050008690104761194, -0.10305711973412794, -0.7252569198608398, 0.5348446369171143, -0.05801820755004883, -0.3921035304187246, 0.4244009535108675, 0.2634240388870239, -0.4874774217605591, -0.9113470315933228, -0.06478224294829205, -0.04019378204503749, -0.02602362632751465, -1.475736833954682}, {0.8126660645188739, 0.01852706003918397, 0.8913955496536028, 0.2698802947998047, 0.013057012823437113, 0.0732601667909013, 0.41412246227264404, 0.6983305215835571, 0.4219447331740085, -0.5963711418390676, 0.5166512727737427, -0.6659225225448608, -0.444650549308105, 0.0796804428100586, 1.3642983626673784, -0.21958584057232278, -0.3959289789199829, -0.9877160787582397, 0.5826041481372004, -0.4869908094406128, 0.3387928618727928, 0.3566296118292922, 0.7811535596847534, 0.9245755672454834, 0.37018702887555055, 0.5316243171691895, -0.16878139972686768, 0.6469131516180138, -0.7781246900558472, 0.3766660690307617, 0.017974495887756348, 0.2868830947372827, 0.6122971773147583, -0.520063056435244, -0.5463983687839811, -0.7063286187980733, 0.6337912082672119, 0.6271896893814359, -0.033868302587471116, -0.01916422573980635, -0.01050453600933321, 0.6383056640625, -0.983408972285462, 1.129246709996565, -0.563731362511388, 0.10381370556415748, -0.1386544868257702, 0.9000357389450073, 0.3759046792984009, -0.6255636215209961, 0.21533437532543054, 0.108764115879274, 0.3989855936082012, -0.5396599769592285, -0.11091279983520508, -0.39901381922517953, -0.7793576717376709, 0.4513324499130249, 0.4088855981826782, -0.162245560476503, 0.2052221632294849, -0.4727872610092163, 0.4980576715797491, 0.39857776017317303, -0.6498110803252369, -0.10198334213220143, -0.47341310534786096, -0.3569813425455076, 0.9401154105183076, 0.8332887520101391, -0.140051007270813, -0.5506001710891724}, {0.021127196093875013, 0.8045861721038818, -0.8655962484001504, -0.9685187455265496, 0.6434132540896882, 0.219743013381958, -0.9521490151584995, 0.9548419713973999, 0.33682129157614327, -0.02600860595703125, -0.7753219604492188, 0.11981058120727539, 0.9586542180111963, -0.4598127603530884, -0.8984852200408477, 0.25897378635814405, 0.9468330089447431, 0.10657882206818127, -0.11808399216893051, 0.47973653747720646, 0.31311140015045447, -1.19667263828612, 0.6403728723526001, -0.8015820980072021, -0.035294658135039604, 0.3818753152563277, 0.544520378112793, -0.6168517463481178, -0.6593880653381348, 0.7859442234039307, 0.0791198426376627, -0.9147210121154785, -0.13329365146617284, 0.22698652744293213, 0.10085258204141678, -0.014404313310204541, -0.13699090480804443, 0.4048449993133545, -0.5750759840011597, -0.2541225469250457, -0.15572281242500824, 0.44513750076293945, 0.3227454423904419, 1.67188228555773, 0.6609272434011056, 0.6502623558044434, 0.03912654536096732, 0.6311807632446289, 0.5152094734561876, -0.5359439849853516, -0.11272549629211426, 0.8684270553201541, 0.07028242585882194, -0.8870658157126672, 0.1298426389694214, 0.7050262689590454, -0.5077393054962158, -1.7026627668964283, -0.5904172658920288, -0.25706170012078694, -0.5895150899887085, -0.2522611819019773, 0.8836383819580078, -0.0061387801547753305, -0.5029443502426147, 0.7718230485916138, 0.5573980808258057, -0.08180365188301311, 0.8960257768630981, -0.49757706122415857, -0.8095106196976143, -0.15296483039855957}, {0.048927461965870715, -1.629404612777415, 0.04318435494028505, 0.749112236982733, 0.03317117691040039, 0.9665567543494986, 0.624687910079956, -0.8649096488952637, 0.8921824755859065, -0.42518006915903983, 0.41433790249452557, -0.32320940494537354, -0.3886152505874634, 0.9207155704498291, -0.7104296684265137, -0.15219497680664062, -0.10093975067138672, -0.2696993350982666, -0.3464223786103921, -0.3600337505340576, 0.6990119195236962, -1.2245700737882605, 0.9761027097702026, -0.2358299290022719, 0.08059795535532895, -0.07456129234546474, 0.29307079060414587, 0.2169631013832789, 0.06701433658599854, 0.8327807907814595, -0.08765139354739798, -0.05076198087622763, -0.6219256840984374, 0.366626501083374, 0.35224868242467844, -0.849051833152771, -0.983057670538637, -0.46366357803344727, 0.3679683208465576, -0.43939898284820145, 0.40910792350769043, -0.6682077646255493, 0.8618313074111938, -0.4819663725262384, -0.5612894933473047, 0.749321633699787, 0.7475005388259888, -0.5145414451784509, 0.9088888355926796, -0.6665588617324829, -0.7775287628173828, -0.06399514867950643, 0.8106933832168579, -0.990595817565918, 0.7349083423614502, 0.007021521635396301, 0.20281696319580078, -0.0820836953822519, -0.6722286955493983, 0.046927809715270996, -1.2844103163007092, 0.41487123092272354, -0.7722288370132446, -0.6713824272155762, 0.15082287788391113, 0.6525757536908547, -0.04104499882990176, -0.5660201963220861, -0.08677053451538086, 0.9817095994949341, 0.7970287313303217, 0.29581522941589355}};
@@ -99,69 +109,302 @@ class NeuralNetwork {
 
     }
 
-    public void caluculateOutput() {
-        multiply(inputs, w0, layer1);
-        sigmoid(layer1);
-        multiply(layer1, w1, layer2);
-        sigmoid(layer2);
-        multiply(layer2, w2, outputs);
-        sigmoid(outputs);
+    // Activations of one evaluation, every thread or game needs its own
+    public class Scratch {
+        private final double[] inputs = new double[numInput];
+        private final double[] layer1 = new double[numL1];
+        private final double[] layer2 = new double[numL2];
     }
 
-    private void multiply(double[] in, double[][] weights, double[] out) {
-        int m = weights.length;
-        int n = weights[0].length;
+    public Scratch newScratch() {
+        return new Scratch();
+    }
+
+    // First layer pre-activations for both players, kept up to date by the board it is attached to. A coin changes
+    // only the two inputs of its cell, so every move adds two weight columns instead of redoing the 72x50 product.
+    // Every ply has its own copy, unmaking a move just drops back to the previous one.
+    public class Accumulator {
+        // The layer when rating cells for a red and for a blue coin, per ply since the last refresh
+        private final double[][] forRed = new double[SuperNova.TURNS * 2 + 1][numL1];
+        private final double[][] forBlue = new double[SuperNova.TURNS * 2 + 1][numL1];
+        private final double[] inputs = new double[numInput];
+        private int depth = 0;
+
+        // Computes the layer of the position from scratch
+        void refresh(Board board) {
+            depth = 0;
+            setInputs(board, Color.BLUE, inputs);
+            Arrays.fill(forRed[0], 0);
+            multiply(inputs, w0, forRed[0]);
+            setInputs(board, Color.RED, inputs);
+            Arrays.fill(forBlue[0], 0);
+            multiply(inputs, w0, forBlue[0]);
+        }
+
+        // Follows a coin with the signed value placed on the cell, which goes from inputs (0, -1) to (sigmoid, 1)
+        void push(int cell, int value) {
+            double[] red = forRed[depth];
+            double[] blue = forBlue[depth];
+            depth++;
+            double[] nextRed = forRed[depth];
+            double[] nextBlue = forBlue[depth];
+            double redInput = COINSIGMOID[value + SuperNova.COINS];
+            double blueInput = COINSIGMOID[-value + SuperNova.COINS];
+            for(int y = 0, column = cell; y < numL1; y++, column += numInput) {
+                double occupied = 2 * w0[column + SuperNova.TOTALCELLS];
+                nextRed[y] = red[y] + redInput * w0[column] + occupied;
+                nextBlue[y] = blue[y] + blueInput * w0[column] + occupied;
+            }
+        }
+
+        void pop() {
+            depth--;
+        }
+
+        private NeuralNetwork getNetwork() {
+            return NeuralNetwork.this;
+        }
+    }
+
+    public Accumulator newAccumulator() {
+        return new Accumulator();
+    }
+
+    // Rates every cell as a place for the coin of the player whose opponent is oppColor, into out. The first layer
+    // comes from the accumulator of the board if it has one of this network.
+    public void evaluate(Board board, Color oppColor, Scratch scratch, double[] out) {
+        Accumulator accumulator = board.getAccumulator();
+        if(accumulator != null && accumulator.getNetwork() == this) {
+            double[][] layers = oppColor == Color.RED ? accumulator.forBlue : accumulator.forRed;
+            System.arraycopy(layers[accumulator.depth], 0, scratch.layer1, 0, numL1);
+        } else {
+            setInputs(board, oppColor, scratch.inputs);
+            Arrays.fill(scratch.layer1, 0);
+            multiply(scratch.inputs, w0, scratch.layer1);
+        }
+        Arrays.fill(scratch.layer2, 0);
+        Arrays.fill(out, 0);
+
+        sigmoid(scratch.layer1);
+        multiply(scratch.layer1, w1, scratch.layer2);
+        sigmoid(scratch.layer2);
+        multiply(scratch.layer2, w2, out);
+        sigmoid(out);
+    }
+
+    // Activations of up to capacity positions evaluated together, each position one row of every block
+    public class Batch {
+        private final int capacity;
+        private final double[] inputs;
+        private final double[] layer1;
+        private final double[] layer2;
+        private final double[] outputs;
+
+        private Batch(int capacity) {
+            this.capacity = capacity;
+            inputs = new double[capacity * numInput];
+            layer1 = new double[capacity * numL1];
+            layer2 = new double[capacity * numL2];
+            outputs = new double[capacity * numOutput];
+        }
+    }
+
+    public Batch newBatch(int capacity) {
+        return new Batch(capacity);
+    }
+
+    // Rates the cells of the first count boards at once, all for the coin of the player whose opponent is oppColor,
+    // into out[p] for boards[p]. Gives exactly the outputs of evaluating the boards one by one.
+    public void evaluate(Board[] boards, int count, Color oppColor, Batch batch, double[][] out) {
+        if(count > batch.capacity) throw new RuntimeException("Batch of " + count + " exceeds its capacity.");
+
+        for(int p=0; p<count; p++) {
+            setInputs(boards[p], oppColor, batch.inputs, p * numInput);
+        }
+        evaluateInputs(batch, count, out);
+    }
+
+    // Runs the inputs already in the batch through the network
+    private void evaluateInputs(Batch batch, int count, double[][] out) {
+        multiply(batch.inputs, w0, batch.layer1, numInput, numL1, count);
+        sigmoid(batch.layer1, count * numL1);
+        multiply(batch.layer1, w1, batch.layer2, numL1, numL2, count);
+        sigmoid(batch.layer2, count * numL2);
+        multiply(batch.layer2, w2, batch.outputs, numL2, numOutput, count);
+        sigmoid(batch.outputs, count * numOutput);
+
+        for(int p=0; p<count; p++) {
+            System.arraycopy(batch.outputs, p * numOutput, out[p], 0, numOutput);
+        }
+    }
+
+    // Rates the cells of the first count boards by every network of a population with the same layer sizes, into
+    // out[k][p] for networks[k] and boards[p]. The inputs are set once, and every network streams its weights once
+    // for all boards, batch may come from any of the networks.
+    public static void evaluate(NeuralNetwork[] networks, Board[] boards, int count, Color oppColor, Batch batch,
+                                double[][][] out) {
+        if(count > batch.capacity) throw new RuntimeException("Batch of " + count + " exceeds its capacity.");
+
+        for(int p=0; p<count; p++) {
+            setInputs(boards[p], oppColor, batch.inputs, p * networks[0].numInput);
+        }
+        for(int k=0; k<networks.length; k++) {
+            networks[k].evaluateInputs(batch, count, out[k]);
+        }
+    }
+
+    // Sets out[p * m + i] to the weighted sum of the inputs in[p * n ...] for output i, for count rows of inputs.
+    // Tiles of two input rows and four weight rows share every load. A last odd input row goes one weight row at a
+    // time, with no second input to share them a tile only splits the weight stream and measured slower. Each sum
+    // still adds its products in order, so the results are the same as from the single row multiply.
+    private static void multiply(double[] in, double[] weights, double[] out, int n, int m, int count) {
+        if (weights.length != n * m) throw new RuntimeException("Illegal matrix dimensions.");
+
+        int p = 0;
+        for (; p + 1 < count; p += 2) {
+            int a = p * n;
+            int b = a + n;
+            int i = 0;
+            for (; i + 3 < m; i += 4) {
+                int r0 = i * n;
+                int r1 = r0 + n;
+                int r2 = r1 + n;
+                int r3 = r2 + n;
+                double a0 = 0, a1 = 0, a2 = 0, a3 = 0;
+                double b0 = 0, b1 = 0, b2 = 0, b3 = 0;
+                for (int j = 0; j < n; j++) {
+                    double x = in[a + j];
+                    double y = in[b + j];
+                    double w = weights[r0 + j];
+                    a0 += w * x;
+                    b0 += w * y;
+                    w = weights[r1 + j];
+                    a1 += w * x;
+                    b1 += w * y;
+                    w = weights[r2 + j];
+                    a2 += w * x;
+                    b2 += w * y;
+                    w = weights[r3 + j];
+                    a3 += w * x;
+                    b3 += w * y;
+                }
+                int o = p * m + i;
+                out[o] = a0;
+                out[o + 1] = a1;
+                out[o + 2] = a2;
+                out[o + 3] = a3;
+                out[o + m] = b0;
+                out[o + m + 1] = b1;
+                out[o + m + 2] = b2;
+                out[o + m + 3] = b3;
+            }
+            for (; i < m; i++) {
+                out[p * m + i] = dot(in, a, weights, i * n, n);
+                out[p * m + m + i] = dot(in, b, weights, i * n, n);
+            }
+        }
+        for (; p < count; p++) {
+            for (int i = 0; i < m; i++) {
+                out[p * m + i] = dot(in, p * n, weights, i * n, n);
+            }
+        }
+    }
+
+    private static double dot(double[] in, int inOffset, double[] weights, int row, int n) {
+        double sum = 0;
+        for (int j = 0; j < n; j++) {
+            sum += weights[row + j] * in[inOffset + j];
+        }
+        return sum;
+    }
+
+    // Adds the weighted inputs to the outputs, one contiguous row of the block per output
+    private static void multiply(double[] in, double[] weights, double[] out) {
+        int n = in.length;
+        int m = out.length;
 
-        if (in.length != n) throw new RuntimeException("Illegal matrix in dimensions.");
-        if (out.length != m) throw new RuntimeException("Illegal matrix out dimensions.");
+        if (weights.length != n * m) throw new RuntimeException("Illegal matrix dimensions.");
 
-        for (int i = 0; i < m; i++) {
+        for (int i = 0, row = 0; i < m; i++, row += n) {
+            double sum = out[i];
             for (int j = 0; j < n; j++) {
-                out[i] += weights[i][j] * in[j];
+                sum += weights[row + j] * in[j];
             }
+            out[i] = sum;
         }
     }
 
 
-    private void sigmoid(double[] array) {
-        for(int i=0; i<array.length; i++) {
-            array[i] = sigmoid(array[i]);
+    private static void sigmoid(double[] array) {
+        sigmoid(array, array.length);
+    }
+
+    private static void sigmoid(double[] array, int length) {
+        for(int i=0; i<length; i++) {
+            array[i] = fastSigmoid(array[i]);
         }
     }
 
-    private double sigmoid(double x) {
+    private static double sigmoid(double x) {
         return (1/( 1 + Math.pow(Math.E,(-1*x))));
     }
 
-    public void setInputs(ArrayList<Cell> cells, Color oppColor) {
+    // Cubic Hermite interpolation between the sigmoid at every 1/SIGMOIDSTEPS on [-SIGMOIDRANGE, SIGMOIDRANGE], with
+    // the slopes s * (1 - s) taken from the table, constant outside. Inside the error is at most h^4/384 times the
+    // largest fourth derivative of the sigmoid: (1/32)^4 / 384 * 0.128 < 3.3e-10. Outside the sigmoid is within
+    // 3.8e-11 of the end values.
+    private static double fastSigmoid(double x) {
+        if(x <= -SIGMOIDRANGE) {
+            return SIGMOIDTABLE[0];
+        }
+        if(x >= SIGMOIDRANGE) {
+            return SIGMOIDTABLE[SIGMOIDTABLE.length - 1];
+        }
+        double position = (x + SIGMOIDRANGE) * SIGMOIDSTEPS;
+        int index = (int) position;
+        double t = position - index;
+        double y0 = SIGMOIDTABLE[index];
+        double y1 = SIGMOIDTABLE[index + 1];
+        double d0 = y0 * (1 - y0) / SIGMOIDSTEPS;
+        double d1 = y1 * (1 - y1) / SIGMOIDSTEPS;
+        double c = 3 * (y1 - y0) - 2 * d0 - d1;
+        double d = 2 * (y0 - y1) + d0 + d1;
+        return y0 + t * (d0 + t * (c + t * d));
+    }
+
+    private static void setInputs(Board board, Color oppColor, double[] inputs) {
+        setInputs(board, oppColor, inputs, 0);
+    }
+
+    // Sets the inputs of the board from the offset on
+    private static void setInputs(Board board, Color oppColor, double[] inputs, int offset) {
 
         int totalCells = SuperNova.TOTALCELLS;
 
         for(int i=0; i < totalCells; i++) {
-            Coin coin = cells.get(i).getCoin();
+            int value = board.getValue(i);
 
-            if(coin == null || coin.getColor() == Color.BROWN) {
-                inputs[i] = 0;
-                inputs[totalCells+i] = -1;
+            if(value == 0) {
+                inputs[offset + i] = 0;
+                inputs[offset + totalCells + i] = -1;
             } else{
-                int value = coin.getValue();
-                if(coin.getColor() == oppColor) {
+                if(oppColor == Color.RED) {
                     value = -value;
                 }
 
-                inputs[i] = sigmoid(value);
-                inputs[totalCells + i] = 1;
+                inputs[offset + i] = COINSIGMOID[value + SuperNova.COINS];
+                inputs[offset + totalCells + i] = 1;
             }
         }
     }
 
-    public int getOutput(ArrayList<Cell> cells) {
+    // The empty cell with the highest rating
+    public static int getOutput(Board board, double[] outputs) {
         double bestScore = Double.MIN_VALUE;
         int bestNode = 0;
 
         for(int i=0; i<SuperNova.TOTALCELLS; i++) {
-            Coin coin = cells.get(i).getCoin();
-            if(coin == null) {
+            if(board.isEmpty(i)) {
                 if (outputs[i] > bestScore) {
                     bestScore = outputs[i];
                     bestNode = i;
@@ -172,10 +415,33 @@ class NeuralNetwork {
         return bestNode;
     }
 
+    // The weight blocks of all layers, for the training code to work on directly
+    public double[][] getWeightBlocks() {
+        return new double[][]{w0, w1, w2};
+    }
+
+    private static double[] flatten(double[][] weights) {
+        int n = weights[0].length;
+        double[] block = new double[weights.length * n];
+        for(int i=0; i<weights.length; i++) {
+            System.arraycopy(weights[i], 0, block, i * n, n);
+        }
+        return block;
+    }
+
+    private static double[][] unflatten(double[] block, int n) {
+        double[][] weights = new double[block.length / n][];
+        for(int i=0; i<weights.length; i++) {
+            weights[i] = Arrays.copyOfRange(block, i * n, (i + 1) * n);
+        }
+        return weights;
+    }
+
+    // Prints the weights as the lines to paste into initializeWeights()
     public void print() {
-        System.out.println("w0 = new double[][]" + Arrays.deepToString(w0).replace('[', '{').replace(']', '}') + ";");
-        System.out.println("w1 = new double[][]" + Arrays.deepToString(w1).replace('[', '{').replace(']', '}') + ";");
-        System.out.println("w2 = new double[][]" + Arrays.deepToString(w2).replace('[', '{').replace(']', '}') + ";");
+        System.out.println("System.arraycopy(flatten(new double[][]" + Arrays.deepToString(unflatten(w0, numInput)).replace('[', '{').replace(']', '}') + "), 0, w0, 0, w0.length);");
+        System.out.println("System.arraycopy(flatten(new double[][]" + Arrays.deepToString(unflatten(w1, numL1)).replace('[', '{').replace(']', '}') + "), 0, w1, 0, w1.length);");
+        System.out.println("System.arraycopy(flatten(new double[][]" + Arrays.deepToString(unflatten(w2, numL2)).replace('[', '{').replace(']', '}') + "), 0, w2, 0, w2.length);");
     }
 
 }
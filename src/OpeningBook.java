@@ -0,0 +1,203 @@
+import java.io.DataOutputStream;
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Red's first move and blue's reply to it for every brown layout, up to symmetry. Each entry is one long:
+// the canonical brown cells in the high bits, then both moves in 10 bits each in the canonical orientation.
+// The entries are sorted, so the memory-mapped file is searched in place without copying it to the heap.
+class OpeningBook {
+
+    // Depth of the searches that fill the book, with the default hole potential evaluator. That is one ply more
+    // than FIXEDDEPTH searches. DEEPENING reaches 4 to 9 plies on its first turn, the book saves it that time
+    // for the later turns.
+    private static final int DEPTH = 4;
+    private static final int HASHBITS = 18;
+
+    private static final int MOVEBITS = 10;
+    private static final int MOVEMASK = (1 << MOVEBITS) - 1;
+    private static final int LAYOUTSHIFT = 2 * MOVEBITS;
+
+    private final LongBuffer entries;
+
+    private OpeningBook(LongBuffer entries) {
+        this.entries = entries;
+    }
+
+    // Maps the book file, or returns null when there is none
+    public static OpeningBook load(String fileName) {
+        try(RandomAccessFile file = new RandomAccessFile(fileName, "r")) {
+            FileChannel channel = file.getChannel();
+            return new OpeningBook(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).asLongBuffer());
+        } catch (IOException e) {
+            SuperNova.debug("No opening book found at " + fileName);
+            return null;
+        }
+    }
+
+    // The booked move for the first or second ply of the game, Move.INVALID if the book has none
+    public int getMove(Board board) {
+        int ply = board.getPly();
+        if(ply > 1) {
+            return Move.INVALID;
+        }
+        int redMove = ply == 1 ? board.getLastMove() : Move.INVALID;
+        long brownCells = ~board.getEmptyCells() & Board.ALLCELLS;
+        if(redMove != Move.INVALID) {
+            brownCells &= ~(1L << Move.getCell(redMove));
+        }
+
+        long layout = getCanonicalLayout(brownCells);
+        long entry = find(layout);
+        if(entry == 0) {
+            return Move.INVALID;
+        }
+
+        //A layout can have more than one symmetry to its canonical form, red's move may match through any of them
+        for(int s=0; s<Symmetry.COUNT; s++) {
+            if(Symmetry.mapCells(brownCells, s) != layout) {
+                continue;
+            }
+            if(ply == 0) {
+                return Symmetry.mapMove(getRedMove(entry), Symmetry.INVERSE[s]);
+            } else if(Symmetry.mapMove(redMove, s) == getRedMove(entry)) {
+                return Symmetry.mapMove(getBlueMove(entry), Symmetry.INVERSE[s]);
+            }
+        }
+        return Move.INVALID;
+    }
+
+    private long find(long layout) {
+        int low = 0;
+        int high = entries.limit() - 1;
+        while(low <= high) {
+            int middle = (low + high) >>> 1;
+            long entry = entries.get(middle);
+            long entryLayout = entry >>> LAYOUTSHIFT;
+            if(entryLayout < layout) {
+                low = middle + 1;
+            } else if(entryLayout > layout) {
+                high = middle - 1;
+            } else {
+                return entry;
+            }
+        }
+        return 0;
+    }
+
+    private static int getRedMove(long entry) {
+        return (int) (entry >>> MOVEBITS) & MOVEMASK;
+    }
+
+    private static int getBlueMove(long entry) {
+        return (int) entry & MOVEMASK;
+    }
+
+    public static long getCanonicalLayout(long brownCells) {
+        long canonical = brownCells;
+        for(int s=1; s<Symmetry.COUNT; s++) {
+            canonical = Math.min(canonical, Symmetry.mapCells(brownCells, s));
+        }
+        return canonical;
+    }
+
+    // Every canonical brown layout in increasing order
+    public static long[] getCanonicalLayouts() {
+        long[] layouts = new long[64];
+        int count = 0;
+        int[] cells = new int[SuperNova.BROWNCOINS];
+        for(int i=0; i<cells.length; i++) {
+            cells[i] = i;
+        }
+        while(true) {
+            long brownCells = 0;
+            for(int cell: cells) {
+                brownCells |= 1L << cell;
+            }
+            if(getCanonicalLayout(brownCells) == brownCells) {
+                if(count == layouts.length) {
+                    layouts = Arrays.copyOf(layouts, count * 2);
+                }
+                layouts[count++] = brownCells;
+            }
+
+            //Next combination in lexicographic order
+            int i = cells.length - 1;
+            while(i >= 0 && cells[i] == SuperNova.TOTALCELLS - cells.length + i) {
+                i--;
+            }
+            if(i < 0) {
+                break;
+            }
+            cells[i]++;
+            for(int j=i+1; j<cells.length; j++) {
+                cells[j] = cells[j-1] + 1;
+            }
+        }
+        long[] sorted = Arrays.copyOf(layouts, count);
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    // Searches both opening moves of every canonical layout on all threads and writes the book
+    public static void generate(String fileName) {
+        long[] layouts = getCanonicalLayouts();
+        long[] entries = new long[layouts.length];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger done = new AtomicInteger();
+        long start = System.nanoTime();
+
+        ArrayList<Callable<Void>> tasks = new ArrayList<>();
+        for(int t=0; t<SuperNova.THREADS; t++) {
+            tasks.add(() -> {
+                Board board = new Board();
+                Search search = new Search(board, new TranspositionTable(HASHBITS));
+                for(int i = next.getAndIncrement(); i < layouts.length; i = next.getAndIncrement()) {
+                    Board layout = new Board();
+                    for(long cells = layouts[i]; cells != 0; cells &= cells - 1) {
+                        layout.setBrownSpot(Long.numberOfTrailingZeros(cells));
+                    }
+                    board.copyFrom(layout);
+                    int redMove = search.findBestMoveToDepth(DEPTH);
+                    board.makeMove(redMove);
+                    int blueMove = search.findBestMoveToDepth(DEPTH);
+                    entries[i] = layouts[i] << LAYOUTSHIFT | (long) redMove << MOVEBITS | blueMove;
+
+                    int count = done.incrementAndGet();
+                    if(count % 1000 == 0) {
+                        System.out.println("Opening book: " + count + "/" + layouts.length + " layouts after "
+                                + (System.nanoTime() - start) / 1000000000 + " s");
+                    }
+                }
+                return null;
+            });
+        }
+        try {
+            for(Future<Void> result: SuperNova.POOL.invokeAll(tasks)) {
+                result.get();
+            }
+        } catch (Exception e) {
+            SuperNova.debug("[ERROR] Opening book generation failed: " + e);
+            SuperNova.endGame();
+        }
+
+        //Layouts are sorted, so the entries are too
+        try(DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(fileName)))) {
+            for(long entry: entries) {
+                out.writeLong(entry);
+            }
+        } catch (IOException e) {
+            SuperNova.debug("[ERROR] Could not write the opening book: " + e);
+            SuperNova.endGame();
+        }
+        System.out.println("Opening book: wrote " + entries.length + " layouts to " + fileName);
+    }
+}
@@ -0,0 +1,134 @@
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Splits the root moves of the endgame solver over all cores. The first move is solved on the game board
+// to get a bound, the others are handed out one by one to workers that each search their own board copy.
+// All of them share the lock-free transposition table of the game.
+class ParallelSolver {
+
+    private static final int MAXMOVES = (SuperNova.TOTALCELLS - SuperNova.BROWNCOINS) * SuperNova.COINS;
+
+    private final Board board;
+    private final TranspositionTable transpositionTable;
+    private final EndgameSolver solver;
+    private final int threads;
+
+    private Board[] workerBoards;
+    private EndgameSolver[] workerSolvers;
+
+    private final int[] rootMoves = new int[MAXMOVES];
+    private int rootCount;
+    private final AtomicInteger nextMove = new AtomicInteger();
+
+    // Best root move so far, the score is read without locking by the workers as their alpha
+    private volatile int bestScore;
+    private int bestIndex;
+
+    private long nodes = 0;
+    private long probes = 0;
+    private long hits = 0;
+    private long collisions = 0;
+    private long tornWrites = 0;
+
+    public ParallelSolver(Board board, TranspositionTable transpositionTable) {
+        this(board, transpositionTable, SuperNova.THREADS);
+    }
+
+    public ParallelSolver(Board board, TranspositionTable transpositionTable, int threads) {
+        this.board = board;
+        this.threads = threads;
+        this.transpositionTable = transpositionTable;
+        solver = new EndgameSolver(board, transpositionTable);
+    }
+
+    // Solves the exact final score and returns the best move, like EndgameSolver.solve()
+    public int solve() {
+        if(workerBoards == null) {
+            workerBoards = new Board[threads];
+            workerSolvers = new EndgameSolver[threads];
+            for(int i=0; i<threads; i++) {
+                workerBoards[i] = new Board();
+                workerSolvers[i] = new EndgameSolver(workerBoards[i], transpositionTable);
+            }
+        }
+
+        solver.start();
+        rootCount = solver.getOrderedMoves(rootMoves);
+        bestScore = solver.solveMove(rootMoves[0], -Search.INFINITY, Search.INFINITY);
+        bestIndex = 0;
+        nodes = solver.getNodes();
+        probes = solver.getProbes();
+        hits = solver.getHits();
+        collisions = solver.getCollisions();
+        tornWrites = solver.getTornWrites();
+
+        nextMove.set(1);
+        ArrayList<Callable<Void>> tasks = new ArrayList<>();
+        for(int i=0; i<threads; i++) {
+            final Board workerBoard = workerBoards[i];
+            final EndgameSolver workerSolver = workerSolvers[i];
+            workerBoard.copyFrom(board);
+            tasks.add(() -> {
+                work(workerSolver);
+                return null;
+            });
+        }
+        try {
+            for(Future<Void> result: SuperNova.POOL.invokeAll(tasks)) {
+                result.get();
+            }
+        } catch (Exception e) {
+            SuperNova.debug("[ERROR] Parallel solver failed: " + e);
+            SuperNova.endGame();
+        }
+
+        for(EndgameSolver workerSolver: workerSolvers) {
+            nodes += workerSolver.getNodes();
+            probes += workerSolver.getProbes();
+            hits += workerSolver.getHits();
+            collisions += workerSolver.getCollisions();
+            tornWrites += workerSolver.getTornWrites();
+        }
+
+        return rootMoves[bestIndex];
+    }
+
+    private void work(EndgameSolver workerSolver) {
+        workerSolver.startWorker();
+        int index;
+        while((index = nextMove.getAndIncrement()) < rootCount) {
+            int score = workerSolver.solveMove(rootMoves[index], bestScore, Search.INFINITY);
+            offer(score, index);
+        }
+    }
+
+    // A score above the alpha a move was searched with is exact, anything else is only an upper bound
+    private synchronized void offer(int score, int index) {
+        if(score > bestScore) {
+            bestScore = score;
+            bestIndex = index;
+        }
+    }
+
+    public int getScore() {
+        return bestScore;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    public double getHitRate() {
+        return probes == 0 ? 0 : (double) hits / probes;
+    }
+
+    public long getCollisions() {
+        return collisions;
+    }
+
+    public long getTornWrites() {
+        return tornWrites;
+    }
+}
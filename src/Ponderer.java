@@ -0,0 +1,91 @@
+// Keeps searching on the opponent's time, while the main thread waits for their move in SINGLEMODE.
+// The work ends up in the shared transposition table or the Monte Carlo trees, and near the end of the game
+// the answer to the reply we expect is solved outright.
+class Ponderer implements Runnable {
+
+    private final Board gameBoard;
+    private final Board board = new Board();
+    private final Search search;
+    private final EndgameSolver endgameSolver;
+    private final MonteCarlo monteCarlo;
+
+    private Thread thread;
+    private boolean solve;
+
+    // Our solved answer and the hash of the position it answers, set by the pondering thread
+    private int answer = Move.INVALID;
+    private long answerHash = 0;
+
+    public Ponderer(Board gameBoard, TranspositionTable transpositionTable, MonteCarlo monteCarlo) {
+        this.gameBoard = gameBoard;
+        this.monteCarlo = monteCarlo;
+        search = new Search(board, transpositionTable);
+        endgameSolver = new EndgameSolver(board, transpositionTable);
+    }
+
+    // The pondering search shares the table with the main search, so it has to evaluate the same way
+    public void setEvaluator(Evaluator evaluator) {
+        search.setEvaluator(evaluator);
+    }
+
+    // Starts pondering on the current game position with the opponent to move. With solve set the position and
+    // our answer to the predicted reply are solved exactly, otherwise the trees or the search are deepened.
+    public void start(boolean solve) {
+        this.solve = solve;
+        answer = Move.INVALID;
+        board.copyFrom(gameBoard);
+        search.setStopped(false);
+        endgameSolver.setStopped(false);
+        if(monteCarlo != null) {
+            monteCarlo.setStopped(false);
+        }
+
+        //Not a pool thread, Monte Carlo pondering needs every thread of the pool itself
+        thread = new Thread(this);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    // Stops pondering and waits until the thread is done with the shared table and trees
+    public void stop() {
+        search.setStopped(true);
+        endgameSolver.setStopped(true);
+        if(monteCarlo != null) {
+            monteCarlo.setStopped(true);
+        }
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            SuperNova.debug("[ERROR] Interrupted while waiting for the pondering thread");
+            SuperNova.endGame();
+        }
+        if(monteCarlo != null) {
+            monteCarlo.setStopped(false);
+        }
+    }
+
+    @Override
+    public void run() {
+        if(solve) {
+            int predicted = endgameSolver.solve();
+            if(endgameSolver.isAborted() || predicted == Move.INVALID) {
+                return;
+            }
+            board.makeMove(predicted);
+            int move = endgameSolver.solve();
+            if(!endgameSolver.isAborted()) {
+                answerHash = board.getHash();
+                answer = move;
+            }
+        } else if(monteCarlo != null) {
+            monteCarlo.ponder();
+        } else {
+            search.findBestMoveUntilStopped();
+        }
+    }
+
+    // Our solved answer if the opponent played the predicted move, Move.INVALID otherwise. Only valid after stop().
+    public int getAnswer(Board position) {
+        return answer != Move.INVALID && position.getHash() == answerHash ? answer : Move.INVALID;
+    }
+}
@@ -0,0 +1,405 @@
+// Alpha-beta search over the compact board, scores are relative to the player on turn
+class Search {
+
+    public static final int INFINITY = 1000;
+
+    private static final int MAXPLY = SuperNova.TURNS * 2;
+    private static final int MAXMOVES = (SuperNova.TOTALCELLS - SuperNova.BROWNCOINS) * SuperNova.COINS;
+
+    private static final int HASHMOVESCORE = 1 << 29;
+    private static final int KILLERSCORE = 1 << 28;
+
+    private final Board board;
+    private final TranspositionTable transpositionTable;
+
+    private boolean moveOrdering = true;
+    private boolean boundCutoffs = true;
+    private boolean symmetry = true;
+    private Evaluator evaluator = new HolePotentialEvaluator();
+
+    // Move lists per ply so generating moves never allocates
+    private final int[][] moves = new int[MAXPLY][MAXMOVES];
+    private final int[][] moveScores = new int[MAXPLY][MAXMOVES];
+
+    // Two moves per ply that caused a cutoff, and a cutoff history per move
+    private final int[][] killers = new int[MAXPLY][2];
+    private final int[] history = new int[SuperNova.TOTALCELLS << 4];
+
+    // Best move and score of the last completed search, and the best move of the running one
+    private int bestMove = Move.INVALID;
+    private int rootScore = 0;
+    private int iterationMove = Move.INVALID;
+    private int completedDepth = 0;
+
+    // Timed searches stop when System.nanoTime() passes the deadline
+    private boolean timed = false;
+    private long deadline = 0;
+    private boolean aborted = false;
+    // Set from another thread to end the running search as if its deadline passed
+    private volatile boolean stopped = false;
+
+    private long nodes = 0;
+    private long probes = 0;
+    private long hits = 0;
+    private long collisions = 0;
+    private long tornWrites = 0;
+    private long cutoffs = 0;
+    private long firstMoveCutoffs = 0;
+    private long boundCutoffCount = 0;
+
+    public Search(Board board) {
+        this(board, null);
+    }
+
+    public Search(Board board, TranspositionTable transpositionTable) {
+        this.board = board;
+        this.transpositionTable = transpositionTable;
+    }
+
+    public void setMoveOrdering(boolean moveOrdering) {
+        this.moveOrdering = moveOrdering;
+    }
+
+    public void setBoundCutoffs(boolean boundCutoffs) {
+        this.boundCutoffs = boundCutoffs;
+    }
+
+    // With symmetry on, symmetric positions share their table entry and symmetric root moves are searched once
+    public void setSymmetry(boolean symmetry) {
+        this.symmetry = symmetry;
+    }
+
+    public void setEvaluator(Evaluator evaluator) {
+        this.evaluator = evaluator;
+    }
+
+    // Searches the position to the end of the game and returns the best move
+    public int findBestMove() {
+        startSearch(false, 0);
+
+        rootScore = alphaBeta(-INFINITY, INFINITY, MAXPLY - board.getPly(), true);
+        bestMove = iterationMove;
+        completedDepth = MAXPLY - board.getPly();
+        return bestMove;
+    }
+
+    // Searches a fixed number of plies, or to the end of the game if that is closer, and returns the best move
+    public int findBestMoveToDepth(int depth) {
+        startSearch(false, 0);
+
+        depth = Math.min(depth, MAXPLY - board.getPly());
+        rootScore = alphaBeta(-INFINITY, INFINITY, depth, true);
+        bestMove = iterationMove;
+        completedDepth = depth;
+        return bestMove;
+    }
+
+    // Deepens one ply at a time until the end of the game or the deadline (System.nanoTime()),
+    // returns the best move of the last completed iteration
+    public int findBestMove(long deadline) {
+        startSearch(true, deadline);
+        return deepen();
+    }
+
+    // Deepens one ply at a time until the end of the game or until stopped from another thread
+    public int findBestMoveUntilStopped() {
+        startSearch(false, 0);
+        return deepen();
+    }
+
+    private int deepen() {
+        bestMove = Move.INVALID;
+        completedDepth = 0;
+
+        int maxDepth = MAXPLY - board.getPly();
+        for(int depth = 1; depth <= maxDepth; depth++) {
+            int score = alphaBeta(-INFINITY, INFINITY, depth, true);
+            if(aborted) {
+                break;
+            }
+            rootScore = score;
+            bestMove = iterationMove;
+            completedDepth = depth;
+        }
+
+        //Not even the first iteration finished, fall back to the first legal move
+        if(bestMove == Move.INVALID) {
+            bestMove = Move.encode(Long.numberOfTrailingZeros(board.getEmptyCells()),
+                    board.getHighestRemainingCoin(board.getColorToMove()));
+        }
+        return bestMove;
+    }
+
+    private void startSearch(boolean timed, long deadline) {
+        this.timed = timed;
+        this.deadline = deadline;
+        aborted = false;
+        nodes = 0;
+        probes = 0;
+        hits = 0;
+        collisions = 0;
+        tornWrites = 0;
+        cutoffs = 0;
+        firstMoveCutoffs = 0;
+        boundCutoffCount = 0;
+        for(int[] killer: killers) {
+            killer[0] = Move.INVALID;
+            killer[1] = Move.INVALID;
+        }
+        for(int i=0; i<history.length; i++) {
+            history[i] >>= 1;
+        }
+        if(transpositionTable != null) {
+            transpositionTable.newSearch();
+        }
+    }
+
+    // Fail-soft negamax alpha-beta, the score is the final score of the player on turn minus DEFAULTSCORE
+    // or an estimate of it when the depth runs out before the end of the game
+    private int alphaBeta(int alpha, int beta, int depth, boolean root) {
+        nodes++;
+
+        if((nodes & 1023) == 0 && (stopped || (timed && System.nanoTime() - deadline > 0))) {
+            aborted = true;
+        }
+        if(aborted) {
+            return 0;
+        }
+
+        Color turn = board.getColorToMove();
+
+        //Detect end of game
+        if(board.isFinished()) {
+            return board.getScore(board.getHole(), turn) - SuperNova.DEFAULTSCORE;
+        }
+
+        if(depth == 0) {
+            return evaluator.evaluate(board);
+        }
+
+        int ply = board.getPly();
+        int alphaOrig = alpha;
+        int hashMove = Move.INVALID;
+
+        // The table holds every position as seen through its canonical symmetry, moves included
+        int canonical = symmetry ? board.getCanonicalSymmetry() : Symmetry.IDENTITY;
+        if(transpositionTable != null) {
+            long data = transpositionTable.probe(board.getHash(canonical));
+            countProbe(data);
+            if(TranspositionTable.isHit(data)) {
+                hashMove = Symmetry.mapMove(TranspositionTable.getMove(data), Symmetry.INVERSE[canonical]);
+                if(!root && TranspositionTable.getDepth(data) >= depth) {
+                    int score = TranspositionTable.getScore(data);
+                    int flag = TranspositionTable.getFlag(data);
+                    if(flag == TranspositionTable.EXACT
+                            || (flag == TranspositionTable.LOWER && score >= beta)
+                            || (flag == TranspositionTable.UPPER && score <= alpha)) {
+                        return score;
+                    }
+                }
+            }
+        }
+
+        // The final score is the score of one of the empty cells, so the bounds of all candidate holes
+        // together bound it, whatever happens in between
+        if(boundCutoffs && !root) {
+            int lowest = INFINITY;
+            int highest = -INFINITY;
+            for(long cells = board.getEmptyCells(); cells != 0; cells &= cells - 1) {
+                int cell = Long.numberOfTrailingZeros(cells);
+                highest = Math.max(highest, board.getScoreUpperBound(cell, turn) - SuperNova.DEFAULTSCORE);
+                lowest = Math.min(lowest, board.getScoreLowerBound(cell, turn) - SuperNova.DEFAULTSCORE);
+            }
+            if(highest <= alpha) {
+                boundCutoffCount++;
+                return highest;
+            }
+            if(lowest >= beta) {
+                boundCutoffCount++;
+                return lowest;
+            }
+        }
+
+        int symmetries = symmetry && root ? board.getSelfSymmetries() : 0;
+        int count = generateMoves(ply, turn, hashMove, symmetries);
+        int bestScore = -INFINITY;
+        int bestNodeMove = Move.INVALID;
+
+        for(int i=0; i<count; i++) {
+            int move = moveOrdering ? pickMove(ply, i, count) : moves[ply][i];
+            board.makeMove(move);
+            int score = -alphaBeta(-beta, -alpha, depth - 1, false);
+            board.unmakeMove();
+
+            //The score is a placeholder then, it must not reach the best move, killers, history or the table
+            if(aborted) {
+                return 0;
+            }
+
+            if(score > bestScore) {
+                bestScore = score;
+                bestNodeMove = move;
+                if(root) {
+                    iterationMove = move;
+                }
+                if(score > alpha) {
+                    alpha = score;
+                    if(alpha >= beta) {
+                        storeCutoff(ply, depth, move, i);
+                        break;
+                    }
+                }
+            }
+        }
+
+        if(transpositionTable != null) {
+            int flag = bestScore <= alphaOrig ? TranspositionTable.UPPER
+                    : bestScore >= beta ? TranspositionTable.LOWER : TranspositionTable.EXACT;
+            transpositionTable.store(board.getHash(canonical), bestScore, depth, flag, Symmetry.mapMove(bestNodeMove, canonical));
+        }
+
+        return bestScore;
+    }
+
+    // Fills the move list of this ply, in board order or with ordering scores,
+    // leaving out moves that one of the given self symmetries maps to a lower one
+    private int generateMoves(int ply, Color turn, int hashMove, int symmetries) {
+        int[] plyMoves = moves[ply];
+        int[] plyScores = moveScores[ply];
+        int remainingCoins = board.getRemainingCoins(turn);
+        int numCoins = Integer.bitCount(remainingCoins);
+        int count = 0;
+
+        for(long cells = board.getEmptyCells(); cells != 0; cells &= cells - 1) {
+            int cell = Long.numberOfTrailingZeros(cells);
+
+            // Cells that would be a bad hole for us are the ones to fill first
+            int holeScore = board.getScore(cell, turn) - SuperNova.DEFAULTSCORE;
+            int cellScore = (INFINITY - holeScore) << 4;
+
+            int coinIndex = 0;
+            for(int coins = remainingCoins; coins != 0; coins &= coins - 1) {
+                int move = Move.encode(cell, Integer.numberOfTrailingZeros(coins) + 1);
+                if(symmetries != 0 && !Symmetry.isCanonicalMove(move, symmetries)) {
+                    coinIndex++;
+                    continue;
+                }
+                plyMoves[count] = move;
+
+                if(moveOrdering) {
+                    // Extremes first: highest, lowest, second highest, second lowest, ...
+                    int extremeRank = Math.min(2 * (numCoins - 1 - coinIndex), 2 * coinIndex + 1);
+                    int score = cellScore + 15 - extremeRank + (history[move] << 14);
+                    if(move == hashMove) {
+                        score = HASHMOVESCORE;
+                    } else if(move == killers[ply][0]) {
+                        score = KILLERSCORE + 1;
+                    } else if(move == killers[ply][1]) {
+                        score = KILLERSCORE;
+                    }
+                    plyScores[count] = score;
+                }
+
+                count++;
+                coinIndex++;
+            }
+        }
+
+        return count;
+    }
+
+    // Moves the best scoring remaining move to position i and returns it
+    private int pickMove(int ply, int i, int count) {
+        int[] plyMoves = moves[ply];
+        int[] plyScores = moveScores[ply];
+
+        int best = i;
+        for(int j=i+1; j<count; j++) {
+            if(plyScores[j] > plyScores[best]) {
+                best = j;
+            }
+        }
+
+        int move = plyMoves[best];
+        plyMoves[best] = plyMoves[i];
+        plyMoves[i] = move;
+        int score = plyScores[best];
+        plyScores[best] = plyScores[i];
+        plyScores[i] = score;
+
+        return move;
+    }
+
+    private void storeCutoff(int ply, int depth, int move, int moveNumber) {
+        cutoffs++;
+        if(moveNumber == 0) {
+            firstMoveCutoffs++;
+        }
+
+        if(moveOrdering) {
+            if(killers[ply][0] != move) {
+                killers[ply][1] = killers[ply][0];
+                killers[ply][0] = move;
+            }
+
+            history[move] = Math.min(history[move] + depth * depth, 1 << 13);
+        }
+    }
+
+    public void setStopped(boolean stopped) {
+        this.stopped = stopped;
+    }
+
+    // Score of the last search, relative to the player on turn
+    public int getBestScore() {
+        return rootScore;
+    }
+
+    // Depth of the last completed iteration, the search was exact if it reached the end of the game
+    public int getCompletedDepth() {
+        return completedDepth;
+    }
+
+    public long getNodes() {
+        return nodes;
+    }
+
+    // Fraction of cutoffs that happened on the first move tried
+    public double getFirstMoveCutoffRate() {
+        return cutoffs == 0 ? 0 : (double) firstMoveCutoffs / cutoffs;
+    }
+
+    // Nodes cut off by the score bounds alone
+    public long getBoundCutoffs() {
+        return boundCutoffCount;
+    }
+
+    private void countProbe(long data) {
+        probes++;
+        if(data == TranspositionTable.COLLISION) {
+            collisions++;
+        } else if(data == TranspositionTable.TORN) {
+            tornWrites++;
+        } else if(data != 0) {
+            hits++;
+        }
+    }
+
+    public long getProbes() {
+        return probes;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    // Probes that found a slot holding another position
+    public long getCollisions() {
+        return collisions;
+    }
+
+    // Probes that found the halves of two different writes, from threads racing on the slot
+    public long getTornWrites() {
+        return tornWrites;
+    }
+}
@@ -2,6 +2,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 class SuperNova {
 
@@ -17,6 +18,9 @@ class SuperNova {
     private static final int TESTCASES = 100; // Amount of testcases in experimental mode
 
     private final static boolean TRAIN = false; //true if trian, false if experiment
+    private final static boolean BENCHMARK = false; //true to measure the search on reference positions
+    private final static boolean GENERATEBOOK = false; //true to search the opening book of all brown layouts
+    public final static String BOOKFILE = "openingbook.bin";
 
     public static final int DEFAULTSCORE = 75;
     public static final int TOTALCELLS = 36;
@@ -25,6 +29,10 @@ class SuperNova {
     public static final int COINS = 15;
 
     public final static int TURNS = 15;
+    public final static int TIMELIMIT = 30000; // Thinking time per game in ms
+
+    public static final int THREADS = Runtime.getRuntime().availableProcessors();
+    public static final ForkJoinPool POOL = new ForkJoinPool(THREADS); // Shared by all multi-threaded searches
 
     public static void main(String[] args) {
         if(SINGLEMODE) {
@@ -32,7 +40,11 @@ class SuperNova {
             neuralNetwork.initializeWeights();
             new GameHandler(STRAT_SINGLE, neuralNetwork).run();
         } else {
-            if(TRAIN) {
+            if(BENCHMARK) {
+                Benchmark.run();
+            } else if(GENERATEBOOK) {
+                OpeningBook.generate(BOOKFILE);
+            } else if(TRAIN) {
                 trainNN();
             } else {
                 NeuralNetwork neuralNetwork = new NeuralNetwork(new int[]{72, 50, 40, 36});
@@ -134,38 +146,18 @@ class SuperNova {
                 NeuralNetwork two = testSet[keep + 2*i + 1];
 
 
-                for(int k=0; k<daddyOne.w0.length; k++) {
-                    for(int j=0; j<daddyOne.w0[0].length; j++) {
-                        if(random.nextBoolean()) {
-                            one.w0[k][j] = daddyOne.w0[k][j];
-                            two.w0[k][j] = daddyTwo.w0[k][j];
-                        } else {
-                            two.w0[k][j] = daddyOne.w0[k][j];
-                            one.w0[k][j] = daddyTwo.w0[k][j];
-                        }
-                    }
-                }
-
-                for(int k=0; k<daddyOne.w1.length; k++) {
-                    for(int j=0; j<daddyOne.w1[0].length; j++) {
-                        if(random.nextBoolean()) {
-                            one.w1[k][j] = daddyOne.w1[k][j];
-                            two.w1[k][j] = daddyTwo.w1[k][j];
-                        } else {
-                            two.w1[k][j] = daddyOne.w1[k][j];
-                            one.w1[k][j] = daddyTwo.w1[k][j];
-                        }
-                    }
-                }
-
-                for(int k=0; k<daddyOne.w2.length; k++) {
-                    for(int j=0; j<daddyOne.w2[0].length; j++) {
+                double[][] blocksOne = one.getWeightBlocks();
+                double[][] blocksTwo = two.getWeightBlocks();
+                double[][] daddyBlocksOne = daddyOne.getWeightBlocks();
+                double[][] daddyBlocksTwo = daddyTwo.getWeightBlocks();
+                for(int block=0; block<daddyBlocksOne.length; block++) {
+                    for(int k=0; k<daddyBlocksOne[block].length; k++) {
                         if(random.nextBoolean()) {
-                            one.w2[k][j] = daddyOne.w2[k][j];
-                            two.w2[k][j] = daddyTwo.w2[k][j];
+                            blocksOne[block][k] = daddyBlocksOne[block][k];
+                            blocksTwo[block][k] = daddyBlocksTwo[block][k];
                         } else {
-                            two.w2[k][j] = daddyOne.w2[k][j];
-                            one.w2[k][j] = daddyTwo.w2[k][j];
+                            blocksTwo[block][k] = daddyBlocksOne[block][k];
+                            blocksOne[block][k] = daddyBlocksTwo[block][k];
                         }
                     }
                 }
@@ -180,38 +172,16 @@ class SuperNova {
                     NeuralNetwork daddy = testSet[mod];
                     NeuralNetwork baby = testSet[i];
 
-                    for(int k=0; k<daddy.w0.length; k++) {
-                        for(int j=0; j<daddy.w0[0].length; j++) {
-                            if(random.nextDouble() < KEEPMUTATION) {
-                                baby.w0[k][j] = daddy.w0[k][j];
-                            } else if(random.nextBoolean()) {
-                                baby.w0[k][j] = (random.nextDouble() * 4 - 2) * daddy.w0[k][j];
-                            } else {
-                                baby.w0[k][j] = random.nextDouble() * 2 - 1;
-                            }
-                        }
-                    }
-
-                    for(int k=0; k<daddy.w1.length; k++) {
-                        for(int j=0; j<daddy.w1[0].length; j++) {
-                            if(random.nextDouble() < KEEPMUTATION) {
-                                baby.w1[k][j] = daddy.w1[k][j];
-                            } else if(random.nextBoolean()) {
-                                baby.w1[k][j] = (random.nextDouble() * 4 - 2) * daddy.w1[k][j];
-                            } else {
-                                baby.w1[k][j] = random.nextDouble() * 2 - 1;
-                            }
-                        }
-                    }
-
-                    for(int k=0; k<daddy.w2.length; k++) {
-                        for(int j=0; j<daddy.w2[0].length; j++) {
+                    double[][] babyBlocks = baby.getWeightBlocks();
+                    double[][] daddyBlocks = daddy.getWeightBlocks();
+                    for(int block=0; block<daddyBlocks.length; block++) {
+                        for(int k=0; k<daddyBlocks[block].length; k++) {
                             if(random.nextDouble() < KEEPMUTATION) {
-                                baby.w2[k][j] = daddy.w2[k][j];
+                                babyBlocks[block][k] = daddyBlocks[block][k];
                             } else if(random.nextBoolean()) {
-                                baby.w2[k][j] = (random.nextDouble() * 4 - 2) * daddy.w2[k][j];
+                                babyBlocks[block][k] = (random.nextDouble() * 4 - 2) * daddyBlocks[block][k];
                             } else {
-                                baby.w2[k][j] = random.nextDouble() * 2 - 1;
+                                babyBlocks[block][k] = random.nextDouble() * 2 - 1;
                             }
                         }
                     }
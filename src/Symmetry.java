@@ -0,0 +1,66 @@
+// The six symmetries of the triangle. Cell (i, j) has the coordinates a = i, b = j, c = 7 - i - j that sum
+// to 7, and every permutation of them maps the board onto itself with neighbours staying neighbours.
+// Swapping red and blue is no symmetry of this game: red always moves on even plies and blue on odd ones,
+// so the swapped position would need the other player on turn.
+final class Symmetry {
+
+    public static final int COUNT = 6;
+    public static final int IDENTITY = 0;
+
+    private static final int[][] PERMUTATIONS = {{0, 1, 2}, {1, 0, 2}, {0, 2, 1}, {2, 1, 0}, {1, 2, 0}, {2, 0, 1}};
+
+    // Image of every cell under every symmetry, and the symmetry that undoes each one
+    public static final int[][] CELLS = new int[COUNT][SuperNova.TOTALCELLS];
+    public static final int[] INVERSE = new int[COUNT];
+
+    static {
+        int[] coordinates = new int[3];
+        for(int s=0; s<COUNT; s++) {
+            for(int i = 0; i< SuperNova.ROWS; i++) {
+                for(int j = 0; j< SuperNova.ROWS-i; j++) {
+                    coordinates[0] = i;
+                    coordinates[1] = j;
+                    coordinates[2] = SuperNova.ROWS - 1 - i - j;
+                    CELLS[s][Cell.getIndex(i, j)] =
+                            Cell.getIndex(coordinates[PERMUTATIONS[s][0]], coordinates[PERMUTATIONS[s][1]]);
+                }
+            }
+        }
+        for(int s=0; s<COUNT; s++) {
+            for(int t=0; t<COUNT; t++) {
+                if(CELLS[t][CELLS[s][0]] == 0 && CELLS[t][CELLS[s][1]] == 1) {
+                    INVERSE[s] = t;
+                }
+            }
+        }
+    }
+
+    private Symmetry() {
+    }
+
+    public static long mapCells(long cells, int symmetry) {
+        long mapped = 0;
+        for(; cells != 0; cells &= cells - 1) {
+            mapped |= 1L << CELLS[symmetry][Long.numberOfTrailingZeros(cells)];
+        }
+        return mapped;
+    }
+
+    public static int mapMove(int move, int symmetry) {
+        if(move < 0) {
+            return move;
+        }
+        return Move.encode(CELLS[symmetry][Move.getCell(move)], Move.getValue(move));
+    }
+
+    // True if no symmetry in the mask (bit s for symmetry s) maps the move to a lower one. Keeping only
+    // these moves leaves one move of every group that the symmetries of a position make equivalent.
+    public static boolean isCanonicalMove(int move, int symmetries) {
+        for(int s=1; s<COUNT; s++) {
+            if((symmetries & (1 << s)) != 0 && mapMove(move, s) < move) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
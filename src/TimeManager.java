@@ -0,0 +1,48 @@
+// Splits the total thinking time of a game over our turns and hands out per move deadlines
+class TimeManager {
+
+    // Relative share of the remaining time per turn, the middle game profits most from deeper searches
+    private static final int[] WEIGHTS = {1, 1, 2, 2, 3, 3, 4, 4, 4, 4, 3, 2, 1, 1, 1};
+
+    // Part of the budget we never plan to use, to absorb JVM and IO hiccups
+    private static final double SAFETY = 0.9;
+
+    private final long budget;
+    // Fixed thinking time per move instead of a share of the budget, 0 if not used
+    private final long moveTime;
+    private long used = 0;
+    private long turnStart;
+
+    public TimeManager(long budgetMillis) {
+        this(budgetMillis, 0);
+    }
+
+    public TimeManager(long budgetMillis, long moveMillis) {
+        budget = (long) (budgetMillis * SAFETY) * 1000000;
+        moveTime = moveMillis * 1000000;
+    }
+
+    // Starts the clock of a turn and returns its deadline in System.nanoTime() terms
+    public long startTurn(int turn) {
+        turnStart = System.nanoTime();
+        if(moveTime > 0) {
+            return turnStart + moveTime;
+        }
+
+        int weightLeft = 0;
+        for(int i = turn; i < WEIGHTS.length; i++) {
+            weightLeft += WEIGHTS[i];
+        }
+
+        long remaining = Math.max(0, budget - used);
+        return turnStart + remaining * WEIGHTS[Math.min(turn, WEIGHTS.length - 1)] / Math.max(1, weightLeft);
+    }
+
+    public void endTurn() {
+        used += System.nanoTime() - turnStart;
+    }
+
+    public long getUsedMillis() {
+        return used / 1000000;
+    }
+}
@@ -0,0 +1,54 @@
+// Adjacency of the triangular board, built once and shared by every Board
+final class Topology {
+
+    public static final int[][] ADJ = new int[SuperNova.TOTALCELLS][];
+    public static final long[] ADJMASK = new long[SuperNova.TOTALCELLS];
+
+    static {
+        int[] buffer = new int[6];
+        for(int i = 0; i< SuperNova.ROWS; i++) {
+            for(int j = 0; j< SuperNova.ROWS-i; j++) {
+                int count = 0;
+
+                //Up
+                if(i>0) {
+                    buffer[count++] = Cell.getIndex(i-1, j);
+                    buffer[count++] = Cell.getIndex(i-1, j+1);
+                }
+
+                //Left
+                if(j>0) {
+                    buffer[count++] = Cell.getIndex(i, j-1);
+                }
+
+                //Right
+                if(j< SuperNova.ROWS-i-1){
+                    buffer[count++] = Cell.getIndex(i, j+1);
+                }
+
+                //Down
+                if(i< SuperNova.ROWS-1){
+                    //Left down
+                    if(j>0) {
+                        buffer[count++] = Cell.getIndex(i+1, j-1);
+                    }
+
+                    //Right down
+                    if(j< SuperNova.ROWS-i-1) {
+                        buffer[count++] = Cell.getIndex(i+1, j);
+                    }
+                }
+
+                int cell = Cell.getIndex(i, j);
+                ADJ[cell] = new int[count];
+                for(int k=0; k<count; k++) {
+                    ADJ[cell][k] = buffer[k];
+                    ADJMASK[cell] |= 1L << buffer[k];
+                }
+            }
+        }
+    }
+
+    private Topology() {
+    }
+}
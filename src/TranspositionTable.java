@@ -0,0 +1,97 @@
+import java.util.Arrays;
+
+// Fixed size hash table of search results, two longs per entry: the key xor the packed data, and the data.
+// Any number of threads can use it without locks: an entry whose two halves come from different writes fails
+// the xor check. The key it gives then is garbage, so it almost never has the index bits of its slot, while an
+// intact entry of another position always has them. That tells a torn write from a plain replacement.
+class TranspositionTable {
+
+    public static final int EXACT = 1;
+    public static final int LOWER = 2;
+    public static final int UPPER = 3;
+
+    // Returned by probe for a slot that holds another position, or the halves of two different writes.
+    // Data is never negative, so a hit is always a positive value.
+    public static final long COLLISION = -1;
+    public static final long TORN = -2;
+
+    private static final int SCOREOFFSET = 1 << 15;
+
+    private final long[] table;
+    private final int mask;
+
+    // Entries of older searches are replaced regardless of their depth,
+    // only changed between searches while no other thread uses the table
+    private int generation = 0;
+
+    public TranspositionTable(int bits) {
+        table = new long[2 << bits];
+        mask = (1 << bits) - 1;
+    }
+
+    public void newSearch() {
+        generation = (generation + 1) & 63;
+    }
+
+    // Returns the data stored for the hash, 0 if the slot is empty, COLLISION if it holds another position
+    // or TORN if its halves come from different writes
+    public long probe(long hash) {
+        int slot = (int) hash & mask;
+        int index = slot << 1;
+        long data = table[index + 1];
+        if(data == 0) {
+            return 0;
+        }
+        long key = table[index] ^ data;
+        if(key == hash) {
+            return data;
+        }
+        return ((int) key & mask) == slot ? COLLISION : TORN;
+    }
+
+    // True if probe found the position itself
+    public static boolean isHit(long data) {
+        return data > 0;
+    }
+
+    public void store(long hash, int score, int depth, int flag, int move) {
+        int index = ((int) hash & mask) << 1;
+        long stored = table[index + 1];
+        if(stored != 0 && (table[index] ^ stored) != hash
+                && getGeneration(stored) == generation && getDepth(stored) > depth) {
+            return;
+        }
+
+        long data = (score + SCOREOFFSET)
+                | (long) depth << 16
+                | (long) flag << 24
+                | (long) generation << 26
+                | (long) (move & 0xFFFF) << 32;
+        table[index] = hash ^ data;
+        table[index + 1] = data;
+    }
+
+    public void clear() {
+        Arrays.fill(table, 0);
+    }
+
+    public static int getScore(long data) {
+        return (int) (data & 0xFFFF) - SCOREOFFSET;
+    }
+
+    public static int getDepth(long data) {
+        return (int) (data >>> 16) & 0xFF;
+    }
+
+    public static int getFlag(long data) {
+        return (int) (data >>> 24) & 3;
+    }
+
+    public static int getMove(long data) {
+        return (short) (data >>> 32);
+    }
+
+    private static int getGeneration(long data) {
+        return (int) (data >>> 26) & 63;
+    }
+}